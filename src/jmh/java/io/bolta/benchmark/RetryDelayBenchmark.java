@@ -0,0 +1,86 @@
+package io.bolta.benchmark;
+
+import io.bolta.model.RetryOption;
+import io.bolta.retry.RandomBackoffStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures retry delay computation from 64 threads at once, comparing random
+ * numbers drawn from one shared generator, as {@code Math.random()} and a
+ * shared {@link Random} do, against {@code ThreadLocalRandom}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+public class RetryDelayBenchmark {
+    private static final double JITTER_FACTOR = 0.2;
+
+    private final RetryOption exponentialWithJitter = RetryOption.builder()
+            .maxAttempts(5)
+            .exponentialBackoff(1000, 2.0, 30_000)
+            .enableJitter(JITTER_FACTOR)
+            .build();
+    private final RetryOption decorrelatedJitter = RetryOption.builder()
+            .maxAttempts(5)
+            .decorrelatedJitterBackoff(1000, 30_000)
+            .build();
+    private final RetryOption fullJitter = RetryOption.builder()
+            .maxAttempts(5)
+            .fullJitterBackoff(1000, 30_000)
+            .build();
+    private final RandomBackoffStrategy sharedRandom = new RandomBackoffStrategy(500, 1500, new Random());
+    private final RandomBackoffStrategy threadLocalRandom = new RandomBackoffStrategy(500, 1500);
+
+    private long previousDelay = 4000;
+
+    /**
+     * The jitter calculation as it was before, drawing from {@code Math.random()}.
+     */
+    @Benchmark
+    public long mathRandomJitter() {
+        long baseDelay = Math.min((long) (1000 * Math.pow(2.0, 2)), 30_000);
+        double jitter = (Math.random() * 2 - 1) * JITTER_FACTOR;
+        return (long) (baseDelay * (1 + jitter));
+    }
+
+    @Benchmark
+    public long threadLocalJitter() {
+        return exponentialWithJitter.calculateDelay(3, null);
+    }
+
+    @Benchmark
+    public long randomBackoffSharedRandom() {
+        return sharedRandom.calculateDelay(3);
+    }
+
+    @Benchmark
+    public long randomBackoffThreadLocalRandom() {
+        return threadLocalRandom.calculateDelay(3);
+    }
+
+    @Benchmark
+    public long decorrelatedJitter() {
+        return decorrelatedJitter.calculateDelay(3, previousDelay, null);
+    }
+
+    @Benchmark
+    public long fullJitter() {
+        return fullJitter.calculateDelay(3, null);
+    }
+}
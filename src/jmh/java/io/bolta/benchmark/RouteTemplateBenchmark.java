@@ -0,0 +1,43 @@
+package io.bolta.benchmark;
+
+import io.bolta.http.RouteTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building a request URL with {@code String.format}, as the
+ * deprecated {@code BoltaClient.buildUrl(String, Object...)} does, against
+ * expanding a precompiled {@link RouteTemplate}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteTemplateBenchmark {
+    private static final String BASE_URL = "https://xapi.bolta.io";
+    private static final RouteTemplate AMEND_TERMINATION =
+            RouteTemplate.compile("/v1/taxInvoices/{issuanceKey}/amend/termination");
+
+    private String issuanceKey = "IK_20240101_0000000001";
+
+    @Benchmark
+    public String stringFormat() {
+        return BASE_URL + String.format("/v1/taxInvoices/%s/amend/termination", issuanceKey);
+    }
+
+    @Benchmark
+    public String routeTemplate() {
+        return AMEND_TERMINATION.expandUrl(BASE_URL, issuanceKey);
+    }
+}
@@ -1,9 +1,12 @@
 package io.bolta;
 
+import io.bolta.http.VirtualThreads;
 import io.bolta.resource.CustomerResource;
 import io.bolta.resource.TaxInvoiceIssuanceRequestResource;
 import io.bolta.resource.TaxInvoiceResource;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * High-level entry point for the Bolta SDK.
  * 볼타 SDK의 고수준 진입점입니다.
@@ -25,7 +28,7 @@ import io.bolta.resource.TaxInvoiceResource;
  * IssuanceKey key = app.taxInvoices().issue(invoice);
  * }</pre>
  */
-public final class BoltaApp {
+public final class BoltaApp implements AutoCloseable {
     private final BoltaClient client;
 
     private BoltaApp(Builder builder) {
@@ -65,6 +68,94 @@ public final class BoltaApp {
         return new CustomerResource(client);
     }
 
+    /**
+     * Returns a facade that runs blocking calls on a new virtual thread each
+     * (Java 21+). Closing it waits for the submitted calls to finish.
+     * <p>
+     * Pair it with {@link io.bolta.http.HttpClients#jdkBuilder()} so that
+     * blocked calls do not pin their carrier threads.
+     * <p>
+     * 블로킹 호출을 각각 새 가상 스레드(Java 21+)에서 실행하는 파사드를 반환합니다.
+     * 닫으면 제출된 호출이 끝날 때까지 기다립니다. 블로킹 호출이 캐리어 스레드를 고정하지
+     * 않도록 {@link io.bolta.http.HttpClients#jdkBuilder()}와 함께 사용하세요.
+     *
+     * @return a virtual-thread backed BoltaExecutor
+     * @throws UnsupportedOperationException if virtual threads are not available
+     */
+    public BoltaExecutor newVirtualThreadExecutor() {
+        return new BoltaExecutor(this, VirtualThreads.newThreadPerTaskExecutor("bolta-vt-"), true);
+    }
+
+    /**
+     * Returns a facade that runs blocking calls on the given executor. The
+     * executor is not shut down when the facade is closed.
+     * <p>
+     * 블로킹 호출을 주어진 executor에서 실행하는 파사드를 반환합니다.
+     * 파사드를 닫아도 executor는 종료되지 않습니다.
+     *
+     * @param executor the executor that runs the calls
+     * @return an executor-backed BoltaExecutor
+     */
+    public BoltaExecutor newExecutor(ExecutorService executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+        return new BoltaExecutor(this, executor, false);
+    }
+
+    /**
+     * Opens connections to the API host ahead of traffic, so that the first
+     * calls after a deploy do not pay for DNS, TCP and TLS handshakes.
+     * <p>
+     * 배포 직후의 첫 호출이 DNS, TCP, TLS 핸드셰이크 비용을 치르지 않도록 트래픽 전에 API
+     * 호스트로 연결을 엽니다.
+     *
+     * @param connections the number of connections to open
+     * @return the number of warm-up requests that were answered
+     * @see BoltaClient#warmUp(int)
+     */
+    public int warmUp(int connections) {
+        return client.warmUp(connections);
+    }
+
+    /**
+     * Keeps connections to the API host open by refreshing them in the
+     * background every {@code intervalMillis}.
+     * <p>
+     * {@code intervalMillis}마다 백그라운드에서 갱신하여 API 호스트로의 연결을 유지합니다.
+     * <p>
+     * <strong>Refreshes continue until the returned handle or this app is
+     * closed.</strong> They run on a scheduler shared by the whole JVM, so a
+     * handle that is dropped without being closed keeps sending requests for
+     * the life of the JVM.
+     * <p>
+     * <strong>갱신은 반환된 핸들이나 이 앱을 닫을 때까지 계속됩니다.</strong> JVM 전체가
+     * 공유하는 스케줄러에서 실행되므로, 닫지 않고 버린 핸들은 JVM이 종료될 때까지 요청을
+     * 계속 보냅니다.
+     *
+     * @param connections    the number of connections to keep open
+     * @param intervalMillis the time between refreshes in milliseconds
+     * @return a handle that stops the refreshes when closed
+     * @throws IllegalStateException if the app has been closed
+     * @see BoltaClient#keepAlive(int, long)
+     */
+    public ConnectionKeepAlive keepAlive(int connections, long intervalMillis) {
+        return client.keepAlive(connections, intervalMillis);
+    }
+
+    /**
+     * Stops the background work of the underlying client, such as keep-alive
+     * refreshes.
+     * <p>
+     * keep-alive 갱신 같은 하위 클라이언트의 백그라운드 작업을 중지합니다.
+     *
+     * @see BoltaClient#close()
+     */
+    @Override
+    public void close() {
+        client.close();
+    }
+
     public static class Builder {
         private BoltaClient client;
 
@@ -1,23 +1,58 @@
 package io.bolta;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.bolta.cache.CustomerCache;
+import io.bolta.circuitbreaker.CircuitBreaker;
+import io.bolta.cache.TaxInvoiceCache;
 import io.bolta.exception.BoltaApiException;
 import io.bolta.exception.BoltaException;
+import io.bolta.exception.CircuitBreakerOpenException;
+import io.bolta.exception.DeadlineExceededException;
 import io.bolta.http.BoltaHttpHeader;
 import io.bolta.http.HttpClient;
 import io.bolta.http.HttpHeaders;
+import io.bolta.http.HttpMethod;
 import io.bolta.http.HttpRequest;
 import io.bolta.http.HttpResponse;
+import io.bolta.http.RouteTemplate;
+import io.bolta.idempotency.IdempotencyRegistry;
 import io.bolta.model.BoltaApiKey;
 import io.bolta.model.RequestOptions;
 import io.bolta.model.RetryOption;
+import io.bolta.ratelimit.ConcurrencyLimiter;
+import io.bolta.ratelimit.RateLimiter;
+import io.bolta.retry.HedgingPolicy;
+import io.bolta.retry.RetryBudget;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Low-level HTTP client for the Bolta API.
@@ -35,19 +70,52 @@ import java.util.concurrent.CompletableFuture;
  * Most users should use {@link BoltaApp} instead of this class directly.
  * 대부분의 사용자는 이 클래스를 직접 사용하는 대신 {@link BoltaApp}을 사용해야 합니다.
  */
-public final class BoltaClient {
+public final class BoltaClient implements AutoCloseable {
     private static final Logger logger = LoggerFactory.getLogger(BoltaClient.class);
 
+    /**
+     * Upper bound on the number of per Customer-Key header templates kept by a
+     * client. Requests for further customers build their headers on the fly.
+     * 클라이언트가 보관하는 Customer-Key별 헤더 템플릿의 최대 개수
+     */
+    private static final int MAX_CUSTOMER_HEADER_TEMPLATES = 1024;
+
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
     private final String baseUrl;
     private final BoltaApiKey apiKey;
+    private final ScheduledExecutorService retryScheduler;
+    private final IdempotencyRegistry idempotencyRegistry;
+    private final TaxInvoiceCache taxInvoiceCache;
+    private final CustomerCache customerCache;
+    private final RateLimiter rateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final RetryBudget retryBudget;
+    private final CircuitBreaker circuitBreaker;
+    private final HedgingPolicy hedgingPolicy;
+    private final Map<String, String> defaultHeaders;
+    private final ConcurrentMap<String, Map<String, String>> customerHeaderTemplates = new ConcurrentHashMap<>();
+    private final boolean coalesceReads;
+    private final ConcurrentMap<CoalescingKey, InFlightRead> inFlightReads = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedReadCount = new AtomicLong();
+    private final Set<ConnectionKeepAlive> keepAlives = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
 
     public static class Builder {
         private HttpClient httpClient;
         private ObjectMapper objectMapper;
         private String baseUrl;
         private BoltaApiKey apiKey;
+        private ScheduledExecutorService retryScheduler;
+        private IdempotencyRegistry idempotencyRegistry;
+        private TaxInvoiceCache taxInvoiceCache;
+        private CustomerCache customerCache;
+        private RateLimiter rateLimiter;
+        private ConcurrencyLimiter concurrencyLimiter;
+        private RetryBudget retryBudget;
+        private CircuitBreaker circuitBreaker;
+        private HedgingPolicy hedgingPolicy;
+        private boolean coalesceReads = true;
 
         public Builder httpClient(HttpClient httpClient) {
             this.httpClient = httpClient;
@@ -69,6 +137,174 @@ public final class BoltaClient {
             return this;
         }
 
+        /**
+         * Sets the scheduler used to delay asynchronous retry attempts and
+         * rate-limited requests.
+         * <p>
+         * 비동기 재시도와 속도 제한된 요청의 지연에 사용할 스케줄러를 설정합니다.
+         * <p>
+         * The scheduler only hands the next attempt back to the {@link HttpClient},
+         * so a single thread is enough for any number of in-flight requests. When
+         * not set, a daemon scheduler shared by all clients is used. The client
+         * never shuts down a scheduler passed in here.
+         *
+         * @param retryScheduler the scheduler for delayed retry attempts
+         * @return this builder
+         */
+        public Builder retryScheduler(ScheduledExecutorService retryScheduler) {
+            this.retryScheduler = retryScheduler;
+            return this;
+        }
+
+        /**
+         * Sets a registry that deduplicates tax invoice issuances by client
+         * reference ID. Without one, every issuance is sent.
+         * <p>
+         * 클라이언트 관리번호로 세금계산서 발행 중복을 제거하는 레지스트리를 설정합니다. 설정하지
+         * 않으면 모든 발행 요청이 전송됩니다.
+         *
+         * @param idempotencyRegistry the registry
+         * @return this builder
+         * @see IdempotencyRegistry
+         */
+        public Builder idempotencyRegistry(IdempotencyRegistry idempotencyRegistry) {
+            this.idempotencyRegistry = idempotencyRegistry;
+            return this;
+        }
+
+        /**
+         * Sets a cache that serves repeated tax invoice lookups by issuance key.
+         * Without one, every lookup is sent.
+         * <p>
+         * 발급 키로 반복되는 세금계산서 조회를 처리하는 캐시를 설정합니다. 설정하지 않으면 모든
+         * 조회 요청이 전송됩니다.
+         *
+         * @param taxInvoiceCache the cache
+         * @return this builder
+         * @see TaxInvoiceCache
+         */
+        public Builder taxInvoiceCache(TaxInvoiceCache taxInvoiceCache) {
+            this.taxInvoiceCache = taxInvoiceCache;
+            return this;
+        }
+
+        /**
+         * Sets a cache that remembers customers, including ones that do not
+         * exist, for a limited time. Without one, every customer lookup is sent.
+         * <p>
+         * 존재하지 않는 고객을 포함하여 고객을 일정 시간 동안 기억하는 캐시를 설정합니다. 설정하지
+         * 않으면 모든 고객 조회 요청이 전송됩니다.
+         *
+         * @param customerCache the cache
+         * @return this builder
+         * @see CustomerCache
+         */
+        public Builder customerCache(CustomerCache customerCache) {
+            this.customerCache = customerCache;
+            return this;
+        }
+
+        /**
+         * Sets a rate limiter that paces every attempt before it is sent.
+         * Without one, requests are sent as soon as they are made.
+         * <p>
+         * 모든 시도를 전송 전에 조절하는 속도 제한기를 설정합니다. 설정하지 않으면 요청은 즉시
+         * 전송됩니다.
+         *
+         * @param rateLimiter the rate limiter
+         * @return this builder
+         * @see RateLimiter
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Sets a limiter that caps how many attempts are in flight at once,
+         * adapting the cap to observed latency and errors. Without one, the
+         * number of requests in flight is not limited.
+         * <p>
+         * 동시에 진행 중인 시도 수를 제한하고, 관찰된 지연 시간과 오류에 따라 한도를 조정하는
+         * 리미터를 설정합니다. 설정하지 않으면 진행 중인 요청 수는 제한되지 않습니다.
+         *
+         * @param concurrencyLimiter the concurrency limiter
+         * @return this builder
+         * @see ConcurrencyLimiter
+         */
+        public Builder concurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+            this.concurrencyLimiter = concurrencyLimiter;
+            return this;
+        }
+
+        /**
+         * Sets a retry budget shared by every request on this client. A retry
+         * that the request's {@link RetryOption} allows is only attempted if the
+         * budget has one left. Without a budget, every request retries on its
+         * own.
+         * <p>
+         * 이 클라이언트의 모든 요청이 공유하는 재시도 예산을 설정합니다. 요청의
+         * {@link RetryOption}이 허용하는 재시도는 예산이 남아 있을 때만 수행됩니다. 예산이
+         * 없으면 각 요청이 개별적으로 재시도합니다.
+         *
+         * @param retryBudget the retry budget
+         * @return this builder
+         * @see RetryBudget
+         */
+        public Builder retryBudget(RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
+        /**
+         * Sets a circuit breaker that fails requests fast while their route
+         * keeps failing. Synchronous and asynchronous requests share its
+         * circuits, and every attempt, including retries, asks it first.
+         * <p>
+         * 경로가 계속 실패하는 동안 요청을 즉시 실패시키는 서킷 브레이커를 설정합니다. 동기 및
+         * 비동기 요청이 서킷을 공유하며, 재시도를 포함한 모든 시도가 먼저 서킷을 확인합니다.
+         *
+         * @param circuitBreaker the circuit breaker
+         * @return this builder
+         * @see CircuitBreaker
+         */
+        public Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        /**
+         * Sets a hedging policy that sends a second copy of slow GET requests
+         * and takes the first response. Other methods are never hedged.
+         * <p>
+         * 느린 GET 요청의 사본을 하나 더 보내 먼저 도착한 응답을 사용하는 헤지 정책을 설정합니다.
+         * 다른 메서드는 헤지하지 않습니다.
+         *
+         * @param hedgingPolicy the hedging policy
+         * @return this builder
+         * @see HedgingPolicy
+         */
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+        /**
+         * Sets whether concurrent identical GET requests share a single HTTP
+         * round trip. Enabled by default.
+         * <p>
+         * 동시에 실행되는 동일한 GET 요청이 하나의 HTTP 왕복을 공유할지 설정합니다.
+         * 기본값은 활성화입니다.
+         *
+         * @param coalesceReads whether to coalesce in-flight reads
+         * @return this builder
+         * @see BoltaClient#executeCoalesced(HttpRequest, Class, RequestOptions)
+         */
+        public Builder coalesceReads(boolean coalesceReads) {
+            this.coalesceReads = coalesceReads;
+            return this;
+        }
+
         public BoltaClient build() {
             if (apiKey == null) {
                 throw new IllegalArgumentException("API key is required");
@@ -92,6 +328,19 @@ public final class BoltaClient {
         this.objectMapper = builder.objectMapper != null ? builder.objectMapper : defaultObjectMapper();
         this.baseUrl = builder.baseUrl;
         this.apiKey = builder.apiKey;
+        this.defaultHeaders = defaultHeaders(builder.apiKey);
+        this.retryScheduler = builder.retryScheduler != null
+                ? builder.retryScheduler
+                : SharedRetryScheduler.INSTANCE;
+        this.idempotencyRegistry = builder.idempotencyRegistry;
+        this.taxInvoiceCache = builder.taxInvoiceCache;
+        this.customerCache = builder.customerCache;
+        this.rateLimiter = builder.rateLimiter;
+        this.concurrencyLimiter = builder.concurrencyLimiter;
+        this.retryBudget = builder.retryBudget;
+        this.circuitBreaker = builder.circuitBreaker;
+        this.hedgingPolicy = builder.hedgingPolicy;
+        this.coalesceReads = builder.coalesceReads;
 
         if (builder.httpClient != null) {
             this.httpClient = builder.httpClient;
@@ -104,6 +353,265 @@ public final class BoltaClient {
         return objectMapper;
     }
 
+    /**
+     * Returns the idempotency registry, or null if none is configured.
+     * <p>
+     * 멱등성 레지스트리를 반환하며, 설정되지 않았으면 null을 반환합니다.
+     *
+     * @return the idempotency registry
+     */
+    public IdempotencyRegistry getIdempotencyRegistry() {
+        return idempotencyRegistry;
+    }
+
+    /**
+     * Returns the tax invoice cache, or null if none is configured.
+     * <p>
+     * 세금계산서 캐시를 반환하며, 설정되지 않았으면 null을 반환합니다.
+     *
+     * @return the tax invoice cache
+     */
+    public TaxInvoiceCache getTaxInvoiceCache() {
+        return taxInvoiceCache;
+    }
+
+    /**
+     * Returns the customer cache, or null if none is configured.
+     * <p>
+     * 고객 캐시를 반환하며, 설정되지 않았으면 null을 반환합니다.
+     *
+     * @return the customer cache
+     */
+    public CustomerCache getCustomerCache() {
+        return customerCache;
+    }
+
+    /**
+     * Returns the rate limiter, or null if none is configured.
+     * <p>
+     * 속도 제한기를 반환하며, 설정되지 않았으면 null을 반환합니다.
+     *
+     * @return the rate limiter
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Returns the concurrency limiter, or null if none is configured.
+     * <p>
+     * 동시성 리미터를 반환하며, 설정되지 않았으면 null을 반환합니다.
+     *
+     * @return the concurrency limiter
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Returns the retry budget, or null if none is configured.
+     * <p>
+     * 재시도 예산을 반환하며, 설정되지 않았으면 null을 반환합니다.
+     *
+     * @return the retry budget
+     */
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Returns the circuit breaker, or null if none is configured.
+     * <p>
+     * 서킷 브레이커를 반환하며, 설정되지 않았으면 null을 반환합니다.
+     *
+     * @return the circuit breaker
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Returns the hedging policy, or null if none is configured.
+     * <p>
+     * 헤지 정책을 반환하며, 설정되지 않았으면 null을 반환합니다.
+     *
+     * @return the hedging policy
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * Returns the number of reads that joined a request already in flight
+     * instead of sending their own.
+     * <p>
+     * 자체 요청을 보내는 대신 이미 진행 중인 요청에 합류한 조회 횟수를 반환합니다.
+     *
+     * @return the number of coalesced reads
+     */
+    public long getCoalescedReadCount() {
+        return coalescedReadCount.get();
+    }
+
+    /**
+     * Opens connections to the API host ahead of traffic, so that the first
+     * requests after a deploy do not pay for DNS, TCP and TLS.
+     * <p>
+     * Sends {@code connections} GET requests for the base URL at once and
+     * waits for them. They carry no API key and do not go through the rate
+     * limiter, the retry option or the circuit breaker. Each request that is
+     * answered leaves its connection idle in the HTTP client's pool. Over
+     * HTTP/2 the requests share one connection. With the OkHttp client, the
+     * dispatcher's {@code maxRequestsPerHost} limits how many connections are
+     * opened at once, and the pool keeps at most {@code maxIdleConnections}.
+     * <p>
+     * 배포 직후의 첫 요청이 DNS, TCP, TLS 비용을 치르지 않도록 트래픽 전에 API 호스트로 연결을
+     * 엽니다. 기본 URL에 대한 GET 요청 {@code connections}개를 동시에 보내고 완료를 기다립니다.
+     * 이 요청은 API 키를 포함하지 않으며 속도 제한기, 재시도 옵션, 서킷 브레이커를 거치지
+     * 않습니다. 응답을 받은 요청마다 연결이 HTTP 클라이언트의 풀에 유휴 상태로 남습니다. HTTP/2에서는
+     * 요청이 하나의 연결을 공유합니다. OkHttp 클라이언트에서는 디스패처의
+     * {@code maxRequestsPerHost}가 동시에 여는 연결 수를, 풀의 {@code maxIdleConnections}가
+     * 유지되는 연결 수를 제한합니다.
+     *
+     * @param connections the number of connections to open
+     * @return the number of warm-up requests that were answered
+     * @throws BoltaException if interrupted while waiting
+     */
+    public int warmUp(int connections) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("connections must be at least 1");
+        }
+        try {
+            int answered = openConnections(connections).get();
+            if (answered < connections) {
+                logger.warn("Only {} of {} warm-up requests were answered", answered, connections);
+            }
+            return answered;
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new BoltaException("Interrupted while warming up connections", interruptedException);
+        } catch (ExecutionException executionException) {
+            throw new BoltaException("Failed to warm up connections", executionException.getCause());
+        }
+    }
+
+    /**
+     * Keeps connections to the API host open by repeating {@link #warmUp(int)}
+     * every {@code intervalMillis} on the retry scheduler, without waiting for
+     * the responses. Idle connections are reused by the refresh, which resets
+     * their idle time, and connections that were closed are reopened. Choose
+     * an interval shorter than the pool's keep-alive duration and the server's
+     * idle timeout.
+     * <p>
+     * {@link #warmUp(int)}을 재시도 스케줄러에서 {@code intervalMillis}마다 응답을 기다리지 않고
+     * 반복하여 API 호스트로의 연결을 유지합니다. 유휴 연결은 재사용되면서 유휴 시간이 초기화되고,
+     * 닫힌 연결은 다시 열립니다. 간격은 풀의 keep-alive 시간과 서버의 유휴 타임아웃보다 짧게
+     * 설정하세요.
+     *
+     * <p>
+     * The refreshes run until the returned handle or this client is closed.
+     * The scheduler is shared by every client in the JVM, so a keep-alive that
+     * is never closed refreshes for the life of the JVM.
+     * <p>
+     * 갱신은 반환된 핸들이나 이 클라이언트를 닫을 때까지 계속됩니다. 스케줄러는 JVM의 모든
+     * 클라이언트가 공유하므로, 닫지 않은 keep-alive는 JVM이 종료될 때까지 갱신합니다.
+     *
+     * @param connections    the number of connections to keep open
+     * @param intervalMillis the time between refreshes in milliseconds
+     * @return a handle that stops the refreshes when closed
+     * @throws IllegalStateException if the client has been closed
+     */
+    public ConnectionKeepAlive keepAlive(int connections, long intervalMillis) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("connections must be at least 1");
+        }
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("intervalMillis must be positive");
+        }
+        if (closed) {
+            throw new IllegalStateException("Client is closed");
+        }
+        ConnectionKeepAlive keepAlive = new ConnectionKeepAlive(this, connections, intervalMillis, retryScheduler);
+        keepAlives.add(keepAlive);
+        if (closed) {
+            // Closed while the keep-alive was being started.
+            // keep-alive를 시작하는 동안 닫혔습니다.
+            keepAlive.close();
+            throw new IllegalStateException("Client is closed");
+        }
+        return keepAlive;
+    }
+
+    void removeKeepAlive(ConnectionKeepAlive keepAlive) {
+        keepAlives.remove(keepAlive);
+    }
+
+    /**
+     * Stops the client's background work: every {@link ConnectionKeepAlive}
+     * started with {@link #keepAlive(int, long)} is closed, and no new one can
+     * be started. Requests can still be sent. The HTTP client and the retry
+     * scheduler are not shut down, since they may be shared.
+     * <p>
+     * 클라이언트의 백그라운드 작업을 중지합니다. {@link #keepAlive(int, long)}로 시작한 모든
+     * {@link ConnectionKeepAlive}를 닫으며 새로 시작할 수 없습니다. 요청은 계속 보낼 수
+     * 있습니다. HTTP 클라이언트와 재시도 스케줄러는 공유될 수 있으므로 종료하지 않습니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (ConnectionKeepAlive keepAlive : keepAlives) {
+            keepAlive.close();
+        }
+    }
+
+    /**
+     * Sends the warm-up requests and completes with how many were answered.
+     * <p>
+     * 워밍업 요청을 전송하고 응답을 받은 수로 완료됩니다.
+     */
+    CompletableFuture<Integer> openConnections(int connections) {
+        HttpRequest request = HttpRequest.builder()
+                .url(baseUrl + "/")
+                .method(HttpMethod.GET)
+                .build();
+        AtomicInteger answered = new AtomicInteger();
+        CompletableFuture<?>[] sent = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            CompletableFuture<HttpResponse> response;
+            try {
+                response = httpClient.executeAsync(request);
+            } catch (RuntimeException exception) {
+                response = new CompletableFuture<>();
+                response.completeExceptionally(exception);
+            }
+            sent[i] = response.handle((ignored, throwable) -> {
+                if (throwable == null) {
+                    answered.incrementAndGet();
+                } else {
+                    logger.debug("Warm-up request failed: {}", unwrap(throwable).toString());
+                }
+                return null;
+            });
+        }
+        return CompletableFuture.allOf(sent).thenApply(ignored -> answered.get());
+    }
+
+    /**
+     * Builds a full URL from the base URL and a compiled route template.
+     * Variable values are URL-encoded as path segments.
+     * <p>
+     * 기본 URL과 컴파일된 경로 템플릿을 사용하여 전체 URL을 생성합니다.
+     * 변수 값은 경로 세그먼트로 URL 인코딩됩니다.
+     *
+     * @param route  the compiled route (e.g., "/v1/customers/{identificationNumber}")
+     * @param values values for the route variables, in template order
+     * @return the full URL
+     * @throws IllegalArgumentException if a value is missing
+     */
+    public String buildUrl(RouteTemplate route, String... values) {
+        return route.expandUrl(baseUrl, values);
+    }
+
     /**
      * Builds a full URL from the base URL and a path template with arguments.
      * <p>
@@ -112,7 +620,10 @@ public final class BoltaClient {
      * @param path the path template (e.g., "/v1/customers/%s")
      * @param args arguments to substitute into the path template
      * @return the full URL
+     * @deprecated arguments are neither encoded nor validated; use
+     *             {@link #buildUrl(RouteTemplate, String...)} instead
      */
+    @Deprecated
     public String buildUrl(String path, Object... args) {
         String formattedPath = String.format(path, args);
         return baseUrl + formattedPath;
@@ -148,24 +659,20 @@ public final class BoltaClient {
      *                           all retries
      */
     public <T> T execute(HttpRequest request, Class<T> responseType, RequestOptions options) {
-        HttpHeaders headers = buildHeaders(options);
+        RetryOption effectiveRetryOption = (options != null) ? options.getRetryOption() : null;
+        int maxAttempts = (effectiveRetryOption != null) ? effectiveRetryOption.getMaxAttempts() : 1;
 
-        HttpRequest newRequest = request.newBuilder()
-                .headers(headers)
-                .build();
+        Deadline deadline = Deadline.of(options);
+        HttpRequest newRequest = prepareRequest(request, options, maxAttempts);
 
         logger.debug("Executing API request: {} {}", newRequest.getMethod(), newRequest.getUrl());
 
-        RetryOption effectiveRetryOption = (options != null) ? options.getRetryOption() : null;
-        int maxAttempts = (effectiveRetryOption != null) ? effectiveRetryOption.getMaxAttempts() : 1;
         Exception lastException = null;
+        long delay = 0;
 
         for (int attempt = 1; attempt <= maxAttempts; attempt++) {
             try {
                 if (attempt > 1) {
-                    long delay;
-                    delay = effectiveRetryOption.calculateDelayWithJitter(attempt - 1);
-
                     logger.warn("Retrying request (attempt {}/{}): {} {}",
                             attempt, maxAttempts, newRequest.getMethod(), newRequest.getUrl());
                     try {
@@ -176,16 +683,24 @@ public final class BoltaClient {
                     }
                 }
 
-                return executeOnce(newRequest, responseType);
+                return executeOnce(newRequest, responseType, deadline);
 
+            } catch (JsonProcessingException serializationException) {
+                throw new BoltaException("Failed to serialize request body", serializationException);
             } catch (IOException ioException) {
                 lastException = ioException;
                 boolean shouldRetry = effectiveRetryOption != null
                         && effectiveRetryOption.shouldRetry(attempt, null, true);
+                long nextDelay = shouldRetry
+                        ? retryDelay(effectiveRetryOption, attempt, delay, null, deadline, newRequest)
+                        : -1;
 
-                if (attempt < maxAttempts && shouldRetry) {
+                if (attempt < maxAttempts && nextDelay >= 0 && takeRetry(newRequest)) {
                     logger.warn("Network error on attempt {}/{}: {}",
                             attempt, maxAttempts, ioException.getMessage());
+                    delay = nextDelay;
+                } else if (deadline.isExpired()) {
+                    throw deadline.exceeded(ioException);
                 } else {
                     logger.error("Network error occurred while executing request: {} {} (attempt {}/{})",
                             newRequest.getMethod(), newRequest.getUrl(), attempt, maxAttempts, ioException);
@@ -194,14 +709,21 @@ public final class BoltaClient {
             } catch (BoltaApiException exception) {
                 boolean shouldRetry = effectiveRetryOption != null
                         && effectiveRetryOption.shouldRetry(attempt, exception.getStatusCode(), false);
+                long nextDelay = shouldRetry
+                        ? retryDelay(effectiveRetryOption, attempt, delay, exception, deadline, newRequest)
+                        : -1;
 
-                if (attempt < maxAttempts && shouldRetry) {
+                if (attempt < maxAttempts && nextDelay >= 0 && takeRetry(newRequest)) {
                     logger.warn("API error on attempt {}/{}, status {}, will retry: {}",
                             attempt, maxAttempts, exception.getStatusCode(), exception.getMessage());
                     lastException = exception;
+                    delay = nextDelay;
                     continue;
                 }
 
+                throw exception;
+            } catch (CircuitBreakerOpenException exception) {
+                logger.debug("Request rejected by circuit breaker: {} {}", newRequest.getMethod(), newRequest.getUrl());
                 throw exception;
             } catch (BoltaException exception) {
                 logger.error("Bolta SDK error on attempt {}/{}: {}", attempt, maxAttempts, exception.getMessage(),
@@ -213,18 +735,382 @@ public final class BoltaClient {
         throw new BoltaException("Request failed after " + maxAttempts + " attempts", lastException);
     }
 
-    private <T> T executeOnce(HttpRequest request, Class<T> responseType) throws IOException, BoltaApiException {
-        HttpResponse response = httpClient.execute(request);
+    /**
+     * Blocks until the rate limiter lets the request go, failing if that would
+     * be after the deadline.
+     * <p>
+     * 속도 제한기가 요청을 허용할 때까지 대기하며, 기한을 넘기게 되면 실패합니다.
+     */
+    private void awaitPermit(HttpRequest request, Deadline deadline) {
+        if (rateLimiter != null && !rateLimiter.tryAcquire(apiKey.getValue(),
+                request.getHeaders().getHeaders().get(BoltaHttpHeader.CUSTOMER_KEY), deadline.remainingMillis())) {
+            throw deadline.exceeded(null);
+        }
+    }
+
+    /**
+     * Blocks until the concurrency limiter has room for the request, failing
+     * at the deadline.
+     * <p>
+     * 동시성 제한기에 요청을 위한 자리가 생길 때까지 대기하며, 기한이 되면 실패합니다.
+     */
+    private ConcurrencyLimiter.Permit awaitConcurrency(Deadline deadline) {
+        if (concurrencyLimiter == null) {
+            return null;
+        }
+        ConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire(deadline.remainingMillis(),
+                TimeUnit.MILLISECONDS);
+        if (permit == null) {
+            throw deadline.exceeded(null);
+        }
+        return permit;
+    }
+
+    private <T> T executeOnce(HttpRequest request, Class<T> responseType, Deadline deadline)
+            throws IOException, BoltaApiException {
+        ConcurrencyLimiter.Permit permit = null;
+        CircuitBreaker.Permit circuit = null;
+        long sentAt = 0;
+        HttpResponse response;
+        try {
+            awaitPermit(request, deadline);
+            permit = awaitConcurrency(deadline);
+            if (deadline.isExpired()) {
+                throw deadline.exceeded(null);
+            }
+            // Taken last, so a half-open trial slot is not held while the request waits.
+            // 반개방 상태의 시험 호출 자리를 대기 중에 점유하지 않도록 마지막에 획득합니다.
+            circuit = acquireCircuit(request);
+            sentAt = System.nanoTime();
+            response = send(deadline.limit(request), deadline);
+        } catch (Throwable throwable) {
+            releasePermit(permit, null, throwable, deadline);
+            recordCall(circuit, sentAt, null, throwable, deadline);
+            throw throwable;
+        }
+        releasePermit(permit, response, null, deadline);
+        recordCall(circuit, sentAt, response, null, deadline);
+        recordOutcome(response);
+        return toResult(response, responseType);
+    }
+
+    private boolean isHedgeable(HttpRequest request) {
+        return hedgingPolicy != null && request.getMethod() == HttpMethod.GET;
+    }
+
+    /**
+     * Sends one attempt, hedging it if the request is a GET and the hedging
+     * policy knows how long to wait.
+     * <p>
+     * 시도 하나를 전송하며, GET 요청이고 헤지 정책이 대기 시간을 알고 있으면 헤지합니다.
+     */
+    private HttpResponse send(HttpRequest request, Deadline deadline) throws IOException {
+        if (!isHedgeable(request)) {
+            return httpClient.execute(request);
+        }
+        hedgingPolicy.recordRequest();
+        long delay = hedgingPolicy.getHedgeDelayMillis();
+        if (delay < 0) {
+            long sentAt = System.nanoTime();
+            HttpResponse response = httpClient.execute(request);
+            hedgingPolicy.recordLatency(System.nanoTime() - sentAt);
+            return response;
+        }
+
+        CompletableFuture<HttpResponse> hedged = hedge(request, delay, deadline);
+        try {
+            return hedged.get();
+        } catch (InterruptedException interruptedException) {
+            hedged.cancel(true);
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Request interrupted");
+            interrupted.initCause(interruptedException);
+            throw interrupted;
+        } catch (ExecutionException executionException) {
+            Throwable cause = executionException.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Sends one attempt asynchronously, hedging it as {@link #send} does.
+     * <p>
+     * {@link #send}와 같이 헤지하며 시도 하나를 비동기로 전송합니다.
+     */
+    private CompletableFuture<HttpResponse> sendAsync(HttpRequest request, Deadline deadline) {
+        if (!isHedgeable(request)) {
+            return httpClient.executeAsync(request);
+        }
+        hedgingPolicy.recordRequest();
+        long delay = hedgingPolicy.getHedgeDelayMillis();
+        if (delay < 0) {
+            return timed(request);
+        }
+        return hedge(request, delay, deadline);
+    }
+
+    /**
+     * Sends the request and records its response time with the hedging
+     * policy.
+     * <p>
+     * 요청을 전송하고 응답 시간을 헤지 정책에 기록합니다.
+     */
+    private CompletableFuture<HttpResponse> timed(HttpRequest request) {
+        long sentAt = System.nanoTime();
+        CompletableFuture<HttpResponse> sent = httpClient.executeAsync(request);
+        sent.whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                hedgingPolicy.recordLatency(System.nanoTime() - sentAt);
+            }
+        });
+        return sent;
+    }
+
+    /**
+     * Sends the request, and a second copy if no response has arrived after
+     * the delay and the budget allows it. The first response wins and the
+     * other request is cancelled; the result fails only if both requests
+     * fail. The copy is counted like any attempt: it is sent only if the
+     * concurrency limiter has room and the rate limiter has a permit right
+     * away, so hedging never queues behind, or adds to, the load the limiters
+     * hold back.
+     * <p>
+     * 요청을 전송하고, 지연 시간 후에도 응답이 없고 예산이 허용하면 사본을 하나 더 전송합니다.
+     * 먼저 도착한 응답을 사용하고 다른 요청은 취소하며, 두 요청이 모두 실패한 경우에만 결과가
+     * 실패합니다. 사본도 다른 시도처럼 계산되어, 동시성 리미터에 여유가 있고 속도 제한기의 허가를
+     * 바로 받을 수 있을 때만 전송되므로 헤지가 리미터가 억제하는 부하 뒤에서 대기하거나 부하를
+     * 늘리지 않습니다.
+     */
+    private CompletableFuture<HttpResponse> hedge(HttpRequest request, long delay, Deadline deadline) {
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        CompletableFuture<HttpResponse> primary = timed(request);
+        AtomicReference<CompletableFuture<HttpResponse>> hedgeRef = new AtomicReference<>();
+        AtomicBoolean answered = new AtomicBoolean();
+
+        ScheduledFuture<?> timer;
+        try {
+            timer = retryScheduler.schedule(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                ConcurrencyLimiter.Permit permit = null;
+                if (concurrencyLimiter != null) {
+                    permit = concurrencyLimiter.tryAcquire();
+                    if (permit == null) {
+                        return;
+                    }
+                }
+                if (!hedgingPolicy.tryAcquire() || !tryPaceHedge(request)) {
+                    if (permit != null) {
+                        permit.ignore();
+                    }
+                    return;
+                }
+                logger.debug("No response after {} ms, hedging request: {} {}",
+                        delay, request.getMethod(), request.getUrl());
+                hedgingPolicy.recordHedge();
+                ConcurrencyLimiter.Permit hedgePermit = permit;
+                CompletableFuture<HttpResponse> hedge = timed(request);
+                hedgeRef.set(hedge);
+                hedge.whenComplete((response, throwable) -> {
+                    releasePermit(hedgePermit, response, throwable != null ? unwrap(throwable) : null, deadline);
+                    if (throwable == null) {
+                        if (answered.compareAndSet(false, true)) {
+                            hedgingPolicy.recordHedgeWin();
+                            result.complete(response);
+                        }
+                    } else if (primary.isCompletedExceptionally()) {
+                        result.completeExceptionally(unwrap(throwable));
+                    }
+                });
+                if (result.isDone()) {
+                    hedge.cancel(true);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException exception) {
+            // Without a timer there is no hedge; the request goes on alone.
+            // 타이머가 없으면 헤지하지 않고 요청만 진행합니다.
+            return primary;
+        }
+
+        primary.whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                if (answered.compareAndSet(false, true)) {
+                    result.complete(response);
+                }
+                return;
+            }
+            CompletableFuture<HttpResponse> hedge = hedgeRef.get();
+            if (hedge == null || hedge.isCompletedExceptionally()) {
+                result.completeExceptionally(unwrap(throwable));
+            }
+        });
+        result.whenComplete((response, throwable) -> {
+            timer.cancel(false);
+            primary.cancel(true);
+            CompletableFuture<HttpResponse> hedge = hedgeRef.get();
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Takes a rate-limit permit for a hedge if one is free right away; a hedge
+     * that would have to wait for one is not sent.
+     * <p>
+     * 헤지를 위한 속도 제한 허가를 바로 받을 수 있으면 받습니다. 허가를 기다려야 하는 헤지는
+     * 전송하지 않습니다.
+     */
+    private boolean tryPaceHedge(HttpRequest request) {
+        if (rateLimiter == null) {
+            return true;
+        }
+        try {
+            return rateLimiter.tryAcquire(apiKey.getValue(),
+                    request.getHeaders().getHeaders().get(BoltaHttpHeader.CUSTOMER_KEY), 0);
+        } catch (BoltaException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Asks the circuit breaker whether the request's route may be called.
+     * <p>
+     * 요청 경로를 호출해도 되는지 서킷 브레이커에 확인합니다.
+     */
+    private CircuitBreaker.Permit acquireCircuit(HttpRequest request) {
+        return circuitBreaker != null ? circuitBreaker.acquire(request.getRoute()) : null;
+    }
+
+    /**
+     * Returns whether a failure is a network error that reflects on the
+     * route. An attempt that fails once the caller's deadline has passed was
+     * cut short by the call timeout the deadline set, so it is not one.
+     * <p>
+     * 실패가 경로의 상태를 나타내는 네트워크 오류인지 반환합니다. 호출자의 기한이 지난 뒤 실패한
+     * 시도는 기한이 설정한 호출 타임아웃으로 중단된 것이므로 해당하지 않습니다.
+     */
+    private static boolean isNetworkFailure(Throwable failure, Deadline deadline) {
+        return failure instanceof IOException && !(failure instanceof JsonProcessingException)
+                && !deadline.isExpired();
+    }
+
+    /**
+     * Records the outcome of a call with the circuit breaker. Network errors
+     * and 5xx responses are failures; 429 responses, failures before the
+     * request was sent and attempts cut short by the deadline are not
+     * recorded.
+     * <p>
+     * 호출 결과를 서킷 브레이커에 기록합니다. 네트워크 오류와 5xx 응답은 실패이며, 429 응답,
+     * 요청 전송 전의 실패, 기한으로 중단된 시도는 기록하지 않습니다.
+     */
+    private static void recordCall(CircuitBreaker.Permit circuit, long sentAt, HttpResponse response,
+            Throwable failure, Deadline deadline) {
+        if (circuit == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - sentAt;
+        if (failure != null) {
+            if (isNetworkFailure(failure, deadline)) {
+                circuit.failure(elapsed);
+            } else {
+                circuit.ignore();
+            }
+        } else if (response.getStatusCode() >= 500) {
+            circuit.failure(elapsed);
+        } else if (response.getStatusCode() == 429) {
+            circuit.ignore();
+        } else {
+            circuit.success(elapsed);
+        }
+    }
 
+    /**
+     * Returns the delay before retrying, or -1 if the retry could not start
+     * before the deadline.
+     * <p>
+     * 재시도 전 지연 시간을 반환하며, 기한 전에 재시도를 시작할 수 없으면 -1을 반환합니다.
+     */
+    private static long retryDelay(RetryOption retryOption, int failedAttempt, long previousDelay,
+            BoltaApiException failure, Deadline deadline, HttpRequest request) {
+        long delay = retryOption.calculateDelay(failedAttempt, previousDelay, failure);
+        if (!deadline.allows(delay)) {
+            logger.warn("Not retrying, a {} ms delay would outlast the deadline: {} {}",
+                    delay, request.getMethod(), request.getUrl());
+            return -1;
+        }
+        return delay;
+    }
+
+    /**
+     * Refills the retry budget when a response is successful.
+     * <p>
+     * 응답이 성공하면 재시도 예산을 채웁니다.
+     */
+    private void recordOutcome(HttpResponse response) {
+        if (retryBudget != null && response.isSuccessful()) {
+            retryBudget.recordSuccess();
+        }
+    }
+
+    /**
+     * Takes a retry from the budget, if one is configured.
+     * <p>
+     * 재시도 예산이 설정되어 있으면 예산에서 재시도 하나를 가져옵니다.
+     */
+    private boolean takeRetry(HttpRequest request) {
+        if (retryBudget == null || retryBudget.tryAcquire()) {
+            return true;
+        }
+        logger.warn("Retry budget exhausted, not retrying: {} {}", request.getMethod(), request.getUrl());
+        return false;
+    }
+
+    /**
+     * Releases a concurrency permit with the outcome of its attempt. Network
+     * errors, 429 and 5xx responses count as overload; other failures,
+     * including attempts cut short by the deadline, leave the limit unchanged.
+     * <p>
+     * 동시성 허가를 시도 결과와 함께 반납합니다. 네트워크 오류, 429 및 5xx 응답은 과부하로
+     * 간주하며, 기한으로 중단된 시도를 포함한 그 밖의 실패는 한도를 바꾸지 않습니다.
+     */
+    private static void releasePermit(ConcurrencyLimiter.Permit permit, HttpResponse response, Throwable failure,
+            Deadline deadline) {
+        if (permit == null) {
+            return;
+        }
+        if (failure != null) {
+            if (isNetworkFailure(failure, deadline)) {
+                permit.dropped();
+            } else {
+                permit.ignore();
+            }
+        } else if (response.getStatusCode() == 429 || response.getStatusCode() >= 500) {
+            permit.dropped();
+        } else {
+            permit.success();
+        }
+    }
+
+    private <T> T toResult(HttpResponse response, Class<T> responseType) {
         if (!response.isSuccessful()) {
             String body = response.getBody() != null ? response.getBody() : "";
             throw new BoltaApiException(
                     response.getStatusCode(),
                     "API request failed",
-                    body);
+                    body,
+                    response.getHeaders());
         }
 
-        if (response.getBody() == null || response.getBody().isEmpty()) {
+        if (!response.hasBody()) {
             if (responseType == Void.class || responseType == void.class) {
                 return null;
             }
@@ -232,7 +1118,7 @@ public final class BoltaClient {
         }
 
         try {
-            return objectMapper.readValue(response.getBody(), responseType);
+            return objectMapper.readValue(response.getBodyBytes(), responseType);
         } catch (Exception exception) {
             throw new BoltaException("Failed to parse response", exception);
         }
@@ -265,56 +1151,699 @@ public final class BoltaClient {
      */
     public <T> void enqueueRequest(HttpRequest request, Class<T> responseType, RequestOptions options,
             CompletableFuture<T> future) {
-        HttpHeaders headers = buildHeaders(options);
+        RetryOption effectiveRetryOption = (options != null) ? options.getRetryOption() : null;
+        int maxAttempts = (effectiveRetryOption != null) ? effectiveRetryOption.getMaxAttempts() : 1;
 
-        HttpRequest newRequest = request.newBuilder()
-                .headers(headers)
-                .build();
+        HttpRequest newRequest;
+        try {
+            newRequest = prepareRequest(request, options, maxAttempts);
+        } catch (BoltaException exception) {
+            future.completeExceptionally(exception);
+            return;
+        }
 
-        httpClient.executeAsync(newRequest).whenComplete((response, throwable) -> {
-            if (throwable != null) {
-                future.completeExceptionally(new BoltaException("Network error", throwable));
-                return;
+        logger.debug("Enqueueing API request: {} {}", newRequest.getMethod(), newRequest.getUrl());
+
+        new AsyncCall<>(newRequest, responseType, effectiveRetryOption, Deadline.of(options), future).start();
+    }
+
+    /**
+     * Executes a GET request synchronously, sharing the round trip with any
+     * identical request already in flight on this client.
+     * <p>
+     * GET 요청을 동기적으로 실행하며, 이 클라이언트에서 이미 진행 중인 동일한 요청이 있으면
+     * 그 왕복을 공유합니다.
+     * <p>
+     * Requests are identical when their URL, headers, option headers (including
+     * the Customer-Key), timeout, retry option and response type match. Callers
+     * that join share the leader's result, including its exception, and must
+     * treat the result as read-only. A caller only joins a read that
+     * started no later than itself with the same timeout, so the shared read
+     * ends by the caller's own deadline. Other methods, and all requests when
+     * coalescing is disabled, are executed as by
+     * {@link #execute(HttpRequest, Class, RequestOptions)}.
+     * <p>
+     * URL, 헤더, 옵션 헤더(Customer-Key 포함), 타임아웃, 재시도 옵션, 응답 타입이 같으면 동일한
+     * 요청입니다. 합류한 호출자는 선행 요청의 결과(예외 포함)를 공유하며 결과를 읽기 전용으로
+     * 다루어야 합니다. 호출자는 자신보다 먼저 같은 타임아웃으로 시작된 조회에만 합류하므로, 공유된
+     * 조회는 호출자 자신의 기한 안에 끝납니다. 다른 메서드와, 병합이 비활성화된 경우의 모든 요청은
+     * {@link #execute(HttpRequest, Class, RequestOptions)}와 같이 실행됩니다.
+     *
+     * @param request      the HTTP request
+     * @param responseType the class of the response object
+     * @param options      request options, or null
+     * @param <T>          the type of the response object
+     * @return the deserialized response object
+     * @throws BoltaApiException if the API returns an error response
+     * @throws BoltaException    if a network or serialization error occurs
+     */
+    public <T> T executeCoalesced(HttpRequest request, Class<T> responseType, RequestOptions options) {
+        if (!isCoalescable(request)) {
+            return execute(request, responseType, options);
+        }
+
+        CoalescingKey key = new CoalescingKey(request, responseType, options);
+        InFlightRead leader = new InFlightRead(null);
+        InFlightRead joined = joinRead(key, leader);
+        if (joined == null) {
+            T result;
+            try {
+                result = execute(request, responseType, options);
+            } catch (RuntimeException | Error exception) {
+                inFlightReads.remove(key, leader);
+                leader.shared.completeExceptionally(exception);
+                throw exception;
             }
+            inFlightReads.remove(key, leader);
+            leader.shared.complete(result);
+            return result;
+        }
 
+        coalescedReadCount.incrementAndGet();
+        try {
+            return responseType.cast(joined.shared.get());
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new BoltaException("Interrupted while waiting for a shared request", interruptedException);
+        } catch (ExecutionException executionException) {
+            Throwable cause = executionException.getCause();
+            if (cause instanceof BoltaException) {
+                throw (BoltaException) cause;
+            }
+            throw new BoltaException("Shared request failed", cause);
+        }
+    }
+
+    /**
+     * Enqueues a GET request, sharing the round trip with any identical request
+     * already in flight on this client. Each caller's future is completed with
+     * the shared result or exception, so completing or cancelling one future
+     * does not affect the others. The shared round trip is cancelled once every
+     * caller waiting for it has cancelled.
+     * <p>
+     * GET 요청을 큐에 넣으며, 이 클라이언트에서 이미 진행 중인 동일한 요청이 있으면 그 왕복을
+     * 공유합니다. 각 호출자의 future는 공유된 결과나 예외로 완료되므로 하나의 future를
+     * 완료하거나 취소해도 다른 future에 영향을 주지 않습니다. 공유된 왕복은 기다리던 모든
+     * 호출자가 취소하면 취소됩니다.
+     *
+     * @param request      the HTTP request
+     * @param responseType the class of the response object
+     * @param options      request options, or null
+     * @param future       the CompletableFuture to complete
+     * @param <T>          the type of the response object
+     * @see #executeCoalesced(HttpRequest, Class, RequestOptions)
+     */
+    public <T> void enqueueCoalescedRequest(HttpRequest request, Class<T> responseType, RequestOptions options,
+            CompletableFuture<T> future) {
+        if (!isCoalescable(request)) {
+            enqueueRequest(request, responseType, options, future);
+            return;
+        }
+
+        CoalescingKey key = new CoalescingKey(request, responseType, options);
+        CompletableFuture<T> response = new CompletableFuture<>();
+        InFlightRead leader = new InFlightRead(response);
+        InFlightRead read = joinRead(key, leader);
+        if (read == null) {
+            read = leader;
+            response.whenComplete((result, throwable) -> {
+                // Removing before the callers are completed keeps a caller that reads
+                // again in its callback from joining the finished request.
+                // 호출자를 완료하기 전에 제거해야 콜백에서 다시 조회하는 호출자가 끝난 요청에 합류하지 않습니다.
+                inFlightReads.remove(key, leader);
+                if (throwable != null) {
+                    leader.shared.completeExceptionally(throwable);
+                } else {
+                    leader.shared.complete(result);
+                }
+            });
             try {
-                if (!response.isSuccessful()) {
-                    String body = response.getBody() != null ? response.getBody() : "";
-                    future.completeExceptionally(new BoltaApiException(
-                            response.getStatusCode(),
-                            "API request failed",
-                            body));
+                enqueueRequest(request, responseType, options, response);
+            } catch (RuntimeException exception) {
+                response.completeExceptionally(exception);
+            }
+        } else {
+            coalescedReadCount.incrementAndGet();
+        }
+
+        InFlightRead joined = read;
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) {
+                joined.leave();
+            }
+        });
+        joined.shared.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(unwrap(throwable));
+            } else {
+                future.complete(responseType.cast(result));
+            }
+        });
+    }
+
+    private boolean isCoalescable(HttpRequest request) {
+        return coalesceReads && request.getMethod() == HttpMethod.GET;
+    }
+
+    /**
+     * Joins the identical read in flight, or registers {@code leader} and
+     * returns null if there is none. A read whose callers have all cancelled
+     * is replaced rather than joined.
+     * <p>
+     * 진행 중인 동일한 조회에 합류하거나, 없으면 {@code leader}를 등록하고 null을 반환합니다.
+     * 모든 호출자가 취소한 조회는 합류하지 않고 대체합니다.
+     */
+    private InFlightRead joinRead(CoalescingKey key, InFlightRead leader) {
+        while (true) {
+            InFlightRead existing = inFlightReads.putIfAbsent(key, leader);
+            if (existing == null) {
+                return null;
+            }
+            if (existing.join()) {
+                return existing;
+            }
+            inFlightReads.remove(key, existing);
+        }
+    }
+
+    /**
+     * One asynchronous request, carried from attempt to attempt until its
+     * future completes. Each attempt is sent once the rate limiter and the
+     * concurrency limiter let it go. Failed attempts that the retry option
+     * allows to be retried are re-enqueued on {@link #retryScheduler} after the
+     * backoff delay, so no thread is held while waiting.
+     * <p>
+     * When the future completes from outside, because the caller cancelled it
+     * or the deadline passed, the limiter wait, the attempt in flight and any
+     * pending retry are cancelled with it.
+     * <p>
+     * future가 완료될 때까지 시도에서 시도로 이어지는 하나의 비동기 요청입니다. 각 시도는 속도
+     * 제한기와 동시성 리미터가 허용하면 전송됩니다. 재시도 가능한 실패는 백오프 지연 후
+     * {@link #retryScheduler}에서 다시 큐에 넣으므로 대기 중에 스레드를 점유하지 않습니다.
+     * <p>
+     * 호출자가 취소하거나 기한이 지나 future가 외부에서 완료되면, 리미터 대기, 진행 중인 시도와
+     * 대기 중인 재시도도 함께 취소됩니다.
+     */
+    private final class AsyncCall<T> {
+        private final HttpRequest request;
+        private final Class<T> responseType;
+        private final RetryOption retryOption;
+        private final int maxAttempts;
+        private final Deadline deadline;
+        private final CompletableFuture<T> future;
+        private volatile CompletableFuture<?> limiterWait;
+        private volatile CompletableFuture<HttpResponse> inFlight;
+        private volatile ScheduledFuture<?> retryTimer;
+
+        AsyncCall(HttpRequest request, Class<T> responseType, RetryOption retryOption, Deadline deadline,
+                CompletableFuture<T> future) {
+            this.request = request;
+            this.responseType = responseType;
+            this.retryOption = retryOption;
+            this.maxAttempts = (retryOption != null) ? retryOption.getMaxAttempts() : 1;
+            this.deadline = deadline;
+            this.future = future;
+        }
+
+        void start() {
+            ScheduledFuture<?> deadlineTimer = null;
+            if (deadline.isBounded()) {
+                try {
+                    deadlineTimer = retryScheduler.schedule(() -> CompletableFuture.runAsync(this::expire),
+                            deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+                } catch (Exception exception) {
+                    future.completeExceptionally(new BoltaException("Failed to schedule request deadline", exception));
                     return;
                 }
-                if (response.getBody() == null || response.getBody().isEmpty()) {
-                    if (responseType == Void.class || responseType == void.class) {
-                        future.complete(null);
+            }
+            ScheduledFuture<?> timer = deadlineTimer;
+            future.whenComplete((result, throwable) -> {
+                if (timer != null) {
+                    timer.cancel(false);
+                }
+                cancelPending();
+            });
+            enqueueAttempt(1, 0);
+        }
+
+        /**
+         * Fails the future at the deadline. Runs on the common pool rather than
+         * the scheduler, because completing the future runs the caller's
+         * callbacks, and a slow one would hold up the retries, hedges and
+         * keep-alive refreshes of every client sharing the scheduler.
+         * <p>
+         * 기한이 되면 future를 실패시킵니다. future를 완료하면 호출자의 콜백이 실행되고, 느린
+         * 콜백은 스케줄러를 공유하는 모든 클라이언트의 재시도, 헤지, keep-alive 갱신을 지연시키므로
+         * 스케줄러가 아닌 공용 풀에서 실행합니다.
+         */
+        private void expire() {
+            if (future.completeExceptionally(deadline.exceeded(null))) {
+                logger.warn("Request deadline passed: {} {}", request.getMethod(), request.getUrl());
+            }
+        }
+
+        /**
+         * Cancels the limiter wait, the attempt in flight and the pending retry,
+         * if any. Cancelling the wait gives back its rate-limit permits and its
+         * place in the concurrency queue. All are already done when the future
+         * was completed by the last attempt.
+         * <p>
+         * 리미터 대기, 진행 중인 시도, 대기 중인 재시도가 있으면 취소합니다. 대기를 취소하면 속도
+         * 제한 허가와 동시성 큐의 자리를 돌려줍니다. 마지막 시도가 future를 완료한 경우에는 모두
+         * 이미 끝난 상태입니다.
+         */
+        private void cancelPending() {
+            CompletableFuture<?> waiting = limiterWait;
+            if (waiting != null) {
+                waiting.cancel(false);
+            }
+            CompletableFuture<HttpResponse> sent = inFlight;
+            if (sent != null) {
+                sent.cancel(true);
+            }
+            ScheduledFuture<?> timer = retryTimer;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+        }
+
+        private void enqueueAttempt(int attempt, long delay) {
+            if (future.isDone()) {
+                // Cancelled, or completed at the deadline, while the retry was waiting.
+                // 재시도가 대기하는 동안 취소되었거나 기한이 지나 완료되었습니다.
+                return;
+            }
+            if (rateLimiter == null && concurrencyLimiter == null) {
+                sendAttempt(attempt, delay, null);
+                return;
+            }
+
+            CompletableFuture<Void> paced = rateLimiter != null
+                    ? awaitLimiter(rateLimiter.acquireAsync(apiKey.getValue(),
+                            request.getHeaders().getHeaders().get(BoltaHttpHeader.CUSTOMER_KEY), retryScheduler))
+                    : CompletableFuture.completedFuture(null);
+            paced.thenCompose(ignored -> concurrencyLimiter != null
+                    ? awaitLimiter(concurrencyLimiter.acquireAsync())
+                    : CompletableFuture.<ConcurrencyLimiter.Permit>completedFuture(null))
+                    .whenComplete((permit, throwable) -> {
+                        if (throwable != null) {
+                            future.completeExceptionally(unwrap(throwable));
+                        } else {
+                            sendAttempt(attempt, delay, permit);
+                        }
+                    });
+        }
+
+        /**
+         * Remembers a limiter wait so that {@link #cancelPending} can give it up.
+         * <p>
+         * {@link #cancelPending}이 포기할 수 있도록 리미터 대기를 기억합니다.
+         */
+        private <W> CompletableFuture<W> awaitLimiter(CompletableFuture<W> wait) {
+            limiterWait = wait;
+            if (future.isDone()) {
+                // Cancelled while the wait was being started.
+                // 대기를 시작하는 동안 취소되었습니다.
+                wait.cancel(false);
+            }
+            return wait;
+        }
+
+        private void sendAttempt(int attempt, long delay, ConcurrencyLimiter.Permit permit) {
+            if (future.isDone()) {
+                releasePermit(permit, null, new CancellationException(), deadline);
+                return;
+            }
+            if (deadline.isExpired()) {
+                DeadlineExceededException exceeded = deadline.exceeded(null);
+                releasePermit(permit, null, exceeded, deadline);
+                future.completeExceptionally(exceeded);
+                return;
+            }
+            // Taken last, so a half-open trial slot is not held while the attempt waits.
+            // 반개방 상태의 시험 호출 자리를 대기 중에 점유하지 않도록 마지막에 획득합니다.
+            CircuitBreaker.Permit circuit;
+            try {
+                circuit = acquireCircuit(request);
+            } catch (BoltaException exception) {
+                releasePermit(permit, null, exception, deadline);
+                future.completeExceptionally(exception);
+                return;
+            }
+
+            long sentAt = System.nanoTime();
+            CompletableFuture<HttpResponse> sent;
+            try {
+                sent = sendAsync(deadline.limit(request), deadline);
+            } catch (RuntimeException exception) {
+                releasePermit(permit, null, exception, deadline);
+                recordCall(circuit, sentAt, null, exception, deadline);
+                throw exception;
+            }
+            inFlight = sent;
+            if (future.isDone()) {
+                // Cancelled while the attempt was being sent.
+                // 시도를 전송하는 동안 취소되었습니다.
+                sent.cancel(true);
+            }
+            sent.whenComplete((response, throwable) -> {
+                releasePermit(permit, response, throwable != null ? unwrap(throwable) : null, deadline);
+                recordCall(circuit, sentAt, response, throwable != null ? unwrap(throwable) : null, deadline);
+                if (throwable != null) {
+                    Throwable cause = unwrap(throwable);
+                    if (cause instanceof JsonProcessingException) {
+                        future.completeExceptionally(new BoltaException("Failed to serialize request body", cause));
                         return;
                     }
-                    future.completeExceptionally(new BoltaException("Empty response"));
+                    if (!(cause instanceof IOException)) {
+                        future.completeExceptionally(new BoltaException("Network error", cause));
+                        return;
+                    }
+
+                    boolean shouldRetry = retryOption != null && retryOption.shouldRetry(attempt, null, true);
+                    long nextDelay = shouldRetry
+                            ? retryDelay(retryOption, attempt, delay, null, deadline, request)
+                            : -1;
+                    if (attempt < maxAttempts && nextDelay >= 0 && takeRetry(request)) {
+                        logger.warn("Network error on attempt {}/{}: {}", attempt, maxAttempts, cause.getMessage());
+                        scheduleRetry(attempt, nextDelay);
+                    } else if (deadline.isExpired()) {
+                        future.completeExceptionally(deadline.exceeded(cause));
+                    } else {
+                        logger.error("Network error occurred while executing request: {} {} (attempt {}/{})",
+                                request.getMethod(), request.getUrl(), attempt, maxAttempts, cause);
+                        future.completeExceptionally(
+                                new BoltaException("Network error occurred after " + attempt + " attempt(s)", cause));
+                    }
                     return;
                 }
-                T result = objectMapper.readValue(response.getBody(), responseType);
-                future.complete(result);
+
+                recordOutcome(response);
+                try {
+                    future.complete(toResult(response, responseType));
+                } catch (BoltaApiException exception) {
+                    boolean shouldRetry = retryOption != null
+                            && retryOption.shouldRetry(attempt, exception.getStatusCode(), false);
+                    long nextDelay = shouldRetry
+                            ? retryDelay(retryOption, attempt, delay, exception, deadline, request)
+                            : -1;
+
+                    if (attempt < maxAttempts && nextDelay >= 0 && takeRetry(request)) {
+                        logger.warn("API error on attempt {}/{}, status {}, will retry: {}",
+                                attempt, maxAttempts, exception.getStatusCode(), exception.getMessage());
+                        scheduleRetry(attempt, nextDelay);
+                    } else {
+                        future.completeExceptionally(exception);
+                    }
+                } catch (Exception exception) {
+                    future.completeExceptionally(exception);
+                }
+            });
+        }
+
+        private void scheduleRetry(int failedAttempt, long delay) {
+            int nextAttempt = failedAttempt + 1;
+
+            logger.warn("Retrying request (attempt {}/{}) in {} ms: {} {}",
+                    nextAttempt, maxAttempts, delay, request.getMethod(), request.getUrl());
+            try {
+                retryTimer = retryScheduler.schedule(() -> enqueueAttempt(nextAttempt, delay), delay,
+                        TimeUnit.MILLISECONDS);
             } catch (Exception exception) {
-                future.completeExceptionally(new BoltaException("Failed to parse response", exception));
+                future.completeExceptionally(new BoltaException("Failed to schedule retry", exception));
+                return;
             }
-        });
+            if (future.isDone()) {
+                retryTimer.cancel(false);
+            }
+        }
     }
 
-    private HttpHeaders buildHeaders(RequestOptions options) {
-        HttpHeaders headers = new HttpHeaders();
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
 
-        String credentials = apiKey.getValue() + ":";
-        String encoded = java.util.Base64.getEncoder()
-                .encodeToString(credentials.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        headers.add(BoltaHttpHeader.AUTHORIZATION, "Basic " + encoded);
-        headers.add(BoltaHttpHeader.CONTENT_TYPE, BoltaHttpHeader.APPLICATION_JSON_UTF8);
+    /**
+     * Adds the default headers to the request. When the request may be sent more
+     * than once, a streaming body is serialized once up front so that every
+     * attempt sends the same bytes.
+     * <p>
+     * 요청에 기본 헤더를 추가합니다. 요청이 여러 번 전송될 수 있는 경우 스트리밍 본문을
+     * 미리 한 번 직렬화하여 모든 시도가 같은 바이트를 전송하도록 합니다.
+     */
+    private HttpRequest prepareRequest(HttpRequest request, RequestOptions options, int maxAttempts) {
+        HttpRequest prepared = request.withHeaders(buildHeaders(request, options));
 
-        if (options != null && options.getHeaders() != null) {
-            headers.addAll(options.getHeaders());
+        if (maxAttempts > 1 && request.getBody() != null) {
+            try {
+                prepared = prepared.withBody(request.getBody().buffered());
+            } catch (IOException ioException) {
+                throw new BoltaException("Failed to serialize request body", ioException);
+            }
         }
 
+        return prepared;
+    }
+
+    /**
+     * Merges the request headers, the precomputed default headers and the option
+     * headers, in increasing order of precedence, into a single map sized up
+     * front.
+     * <p>
+     * 요청 헤더, 미리 계산된 기본 헤더, 옵션 헤더를 우선순위 순서대로 미리 크기를 지정한
+     * 하나의 맵으로 병합합니다.
+     */
+    private HttpHeaders buildHeaders(HttpRequest request, RequestOptions options) {
+        Map<String, String> requestHeaders = request.getHeaders().getHeaders();
+        Map<String, String> optionHeaders = (options != null && options.getHeaders() != null)
+                ? options.getHeaders()
+                : Collections.<String, String>emptyMap();
+        Map<String, String> template = headerTemplate(optionHeaders.get(BoltaHttpHeader.CUSTOMER_KEY));
+
+        HttpHeaders headers = new HttpHeaders(requestHeaders.size() + template.size() + optionHeaders.size());
+        headers.addAll(requestHeaders);
+        headers.addAll(template);
+        headers.addAll(optionHeaders);
         return headers;
     }
+
+    private Map<String, String> headerTemplate(String customerKey) {
+        if (customerKey == null) {
+            return defaultHeaders;
+        }
+
+        Map<String, String> template = customerHeaderTemplates.get(customerKey);
+        if (template == null) {
+            template = withHeader(defaultHeaders, BoltaHttpHeader.CUSTOMER_KEY, customerKey);
+            if (customerHeaderTemplates.size() < MAX_CUSTOMER_HEADER_TEMPLATES) {
+                customerHeaderTemplates.putIfAbsent(customerKey, template);
+            }
+        }
+        return template;
+    }
+
+    private static Map<String, String> defaultHeaders(BoltaApiKey apiKey) {
+        String credentials = apiKey.getValue() + ":";
+        String encoded = Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+
+        Map<String, String> headers = new HashMap<>(4);
+        headers.put(BoltaHttpHeader.AUTHORIZATION, "Basic " + encoded);
+        headers.put(BoltaHttpHeader.CONTENT_TYPE, BoltaHttpHeader.APPLICATION_JSON_UTF8);
+        return Collections.unmodifiableMap(headers);
+    }
+
+    private static Map<String, String> withHeader(Map<String, String> template, String name, String value) {
+        Map<String, String> headers = new HashMap<>(template.size() < 3 ? 4 : 8);
+        headers.putAll(template);
+        headers.put(name, value);
+        return Collections.unmodifiableMap(headers);
+    }
+
+    /**
+     * The time budget of one call, taken from
+     * {@link RequestOptions#getTimeoutMillis()} when the call starts.
+     * <p>
+     * 호출이 시작될 때 {@link RequestOptions#getTimeoutMillis()}에서 가져온 호출 하나의 시간
+     * 예산입니다.
+     */
+    private static final class Deadline {
+        private static final Deadline NONE = new Deadline(0, 0);
+
+        private final long timeoutMillis;
+        private final long expiresAtNanos;
+
+        private Deadline(long timeoutMillis, long expiresAtNanos) {
+            this.timeoutMillis = timeoutMillis;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        static Deadline of(RequestOptions options) {
+            if (options == null || options.getTimeoutMillis() <= 0) {
+                return NONE;
+            }
+            long timeoutMillis = options.getTimeoutMillis();
+            return new Deadline(timeoutMillis, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        }
+
+        boolean isBounded() {
+            return timeoutMillis > 0;
+        }
+
+        long remainingNanos() {
+            return isBounded() ? expiresAtNanos - System.nanoTime() : Long.MAX_VALUE;
+        }
+
+        long remainingMillis() {
+            return isBounded() ? Math.max(0, TimeUnit.NANOSECONDS.toMillis(remainingNanos())) : Long.MAX_VALUE;
+        }
+
+        boolean isExpired() {
+            return remainingNanos() <= 0;
+        }
+
+        /**
+         * Returns whether an attempt made after the delay would start before
+         * the deadline.
+         */
+        boolean allows(long delayMillis) {
+            return !isBounded() || TimeUnit.MILLISECONDS.toNanos(delayMillis) < remainingNanos();
+        }
+
+        /**
+         * Shortens the request's call timeout to the time left.
+         */
+        HttpRequest limit(HttpRequest request) {
+            if (!isBounded()) {
+                return request;
+            }
+            long remainingMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos() + 999_999));
+            if (request.getTimeoutMillis() > 0 && request.getTimeoutMillis() <= remainingMillis) {
+                return request;
+            }
+            return request.withTimeoutMillis(remainingMillis);
+        }
+
+        DeadlineExceededException exceeded(Throwable cause) {
+            return new DeadlineExceededException(timeoutMillis, cause);
+        }
+    }
+
+    /**
+     * A coalesced read in flight, with the number of callers still waiting for
+     * it. Callers of {@link #executeCoalesced} cannot cancel, so they never
+     * leave.
+     * <p>
+     * 진행 중인 병합된 조회와, 그 결과를 기다리는 호출자 수입니다.
+     * {@link #executeCoalesced}의 호출자는 취소할 수 없으므로 떠나지 않습니다.
+     */
+    private static final class InFlightRead {
+        final CompletableFuture<Object> shared = new CompletableFuture<>();
+        private final CompletableFuture<?> response;
+        private final AtomicInteger waiters = new AtomicInteger(1);
+
+        InFlightRead(CompletableFuture<?> response) {
+            this.response = response;
+        }
+
+        /**
+         * Adds a caller, or returns false if every caller has already left.
+         */
+        boolean join() {
+            while (true) {
+                int current = waiters.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (waiters.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Removes a caller that cancelled, cancelling the round trip when it
+         * was the last one.
+         */
+        void leave() {
+            if (waiters.decrementAndGet() == 0 && response != null) {
+                response.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Identifies requests that can share a round trip.
+     * <p>
+     * 왕복을 공유할 수 있는 요청을 식별합니다.
+     */
+    private static final class CoalescingKey {
+        private final String url;
+        private final Class<?> responseType;
+        private final Map<String, String> requestHeaders;
+        private final Map<String, String> optionHeaders;
+        private final long timeoutMillis;
+        private final RetryOption retryOption;
+        private final int hashCode;
+
+        CoalescingKey(HttpRequest request, Class<?> responseType, RequestOptions options) {
+            this.url = request.getUrl();
+            this.responseType = responseType;
+            this.requestHeaders = request.getHeaders().getHeaders();
+            this.optionHeaders = (options != null && options.getHeaders() != null)
+                    ? options.getHeaders()
+                    : Collections.<String, String>emptyMap();
+            this.timeoutMillis = options != null ? options.getTimeoutMillis() : 0;
+            this.retryOption = options != null ? options.getRetryOption() : null;
+            this.hashCode = Objects.hash(url, responseType, requestHeaders, optionHeaders, timeoutMillis,
+                    retryOption);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof CoalescingKey)) {
+                return false;
+            }
+            CoalescingKey that = (CoalescingKey) other;
+            return hashCode == that.hashCode
+                    && url.equals(that.url)
+                    && responseType == that.responseType
+                    && requestHeaders.equals(that.requestHeaders)
+                    && optionHeaders.equals(that.optionHeaders)
+                    && timeoutMillis == that.timeoutMillis
+                    && Objects.equals(retryOption, that.retryOption);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Lazily created daemon scheduler shared by every client that does not
+     * provide its own.
+     * <p>
+     * 자체 스케줄러를 지정하지 않은 모든 클라이언트가 공유하는 데몬 스케줄러입니다.
+     */
+    private static final class SharedRetryScheduler {
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            AtomicInteger threadNumber = new AtomicInteger(1);
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "bolta-retry-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package io.bolta;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs blocking SDK calls on an executor, typically one virtual thread per call.
+ * 블로킹 SDK 호출을 executor에서 실행합니다. 보통 호출마다 하나의 가상 스레드를 사용합니다.
+ * <p>
+ * Each task receives the {@link BoltaApp} and uses the ordinary synchronous
+ * API, so retries, error handling and control flow read like sequential code
+ * while thousands of calls run concurrently.
+ * <p>
+ * 각 작업은 {@link BoltaApp}을 받아 일반 동기 API를 사용하므로, 수천 개의 호출이 동시에
+ * 실행되는 동안에도 재시도, 오류 처리, 제어 흐름을 순차 코드처럼 작성할 수 있습니다.
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * try (BoltaExecutor executor = app.newVirtualThreadExecutor()) {
+ *     List<CompletableFuture<IssuanceKey>> results = new ArrayList<>();
+ *     for (TaxInvoice invoice : invoices) {
+ *         results.add(executor.submit(bolta -> bolta.taxInvoices().issue(invoice)));
+ *     }
+ * } // waits for all submitted calls
+ * }</pre>
+ *
+ * @see BoltaApp#newVirtualThreadExecutor()
+ * @see BoltaApp#newExecutor(ExecutorService)
+ */
+public final class BoltaExecutor implements AutoCloseable {
+    private final BoltaApp app;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    BoltaExecutor(BoltaApp app, ExecutorService executor, boolean ownsExecutor) {
+        this.app = app;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Returns the app that tasks are run against.
+     * <p>
+     * 작업이 사용하는 앱을 반환합니다.
+     *
+     * @return the BoltaApp instance
+     */
+    public BoltaApp app() {
+        return app;
+    }
+
+    /**
+     * Runs a blocking call on the executor.
+     * <p>
+     * executor에서 블로킹 호출을 실행합니다.
+     *
+     * @param call the call to run
+     * @param <T>  the result type
+     * @return a CompletableFuture completed with the call's result or exception
+     * @throws RejectedExecutionException if the executor has been closed
+     */
+    public <T> CompletableFuture<T> submit(Function<? super BoltaApp, ? extends T> call) {
+        if (call == null) {
+            throw new IllegalArgumentException("call cannot be null");
+        }
+        return CompletableFuture.supplyAsync(() -> call.apply(app), executor);
+    }
+
+    /**
+     * Runs a blocking call that returns no result on the executor.
+     * <p>
+     * 결과를 반환하지 않는 블로킹 호출을 executor에서 실행합니다.
+     *
+     * @param call the call to run
+     * @return a CompletableFuture completed when the call finishes
+     * @throws RejectedExecutionException if the executor has been closed
+     */
+    public CompletableFuture<Void> run(Consumer<? super BoltaApp> call) {
+        if (call == null) {
+            throw new IllegalArgumentException("call cannot be null");
+        }
+        return CompletableFuture.runAsync(() -> call.accept(app), executor);
+    }
+
+    /**
+     * Stops accepting tasks and waits for submitted ones to finish. An executor
+     * passed to {@link BoltaApp#newExecutor(ExecutorService)} is left running.
+     * <p>
+     * 새 작업을 받지 않고 제출된 작업이 끝날 때까지 기다립니다.
+     * {@link BoltaApp#newExecutor(ExecutorService)}에 전달된 executor는 종료하지 않습니다.
+     */
+    @Override
+    public void close() {
+        if (!ownsExecutor) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.DAYS)) {
+                // keep waiting
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
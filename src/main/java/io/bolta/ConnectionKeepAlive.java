@@ -0,0 +1,103 @@
+package io.bolta;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically refreshes connections to the API host so that they are still
+ * open when traffic arrives.
+ * 트래픽이 도착했을 때 연결이 열려 있도록 API 호스트로의 연결을 주기적으로 갱신합니다.
+ * <p>
+ * A refresh is skipped while the previous one is still waiting for
+ * responses. Closing the handle, or the client that started it, stops further
+ * refreshes; connections already in the pool are left to expire on their own.
+ * <p>
+ * 이전 갱신이 아직 응답을 기다리는 중이면 갱신을 건너뜁니다. 핸들이나 이를 시작한
+ * 클라이언트를 닫으면 이후 갱신을 멈추며, 이미 풀에 있는 연결은 스스로 만료되도록 둡니다.
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * app.warmUp(16);
+ * ConnectionKeepAlive keepAlive = app.keepAlive(16, 30_000);
+ * // ...
+ * keepAlive.close();
+ * }</pre>
+ *
+ * @see BoltaApp#warmUp(int)
+ * @see BoltaApp#keepAlive(int, long)
+ */
+public final class ConnectionKeepAlive implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionKeepAlive.class);
+
+    private final BoltaClient client;
+    private final int connections;
+    private final ScheduledFuture<?> task;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicLong refreshes = new AtomicLong();
+
+    ConnectionKeepAlive(BoltaClient client, int connections, long intervalMillis,
+            ScheduledExecutorService scheduler) {
+        this.client = client;
+        this.connections = connections;
+        this.task = scheduler.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            client.openConnections(connections).whenComplete((answered, throwable) -> {
+                refreshes.incrementAndGet();
+                refreshing.set(false);
+                if (answered != null && answered < connections) {
+                    logger.debug("Keep-alive refreshed {} of {} connections", answered, connections);
+                }
+            });
+        } catch (RuntimeException exception) {
+            refreshing.set(false);
+            logger.warn("Keep-alive refresh failed", exception);
+        }
+    }
+
+    /**
+     * Returns the number of refreshes completed so far.
+     * <p>
+     * 지금까지 완료된 갱신 수를 반환합니다.
+     *
+     * @return the refresh count
+     */
+    public long getRefreshCount() {
+        return refreshes.get();
+    }
+
+    /**
+     * Returns whether refreshes have been stopped.
+     * <p>
+     * 갱신이 중지되었는지 반환합니다.
+     *
+     * @return true once closed
+     */
+    public boolean isClosed() {
+        return task.isCancelled();
+    }
+
+    /**
+     * Stops further refreshes.
+     * <p>
+     * 이후 갱신을 중지합니다.
+     */
+    @Override
+    public void close() {
+        task.cancel(false);
+        client.removeKeepAlive(this);
+    }
+}
@@ -0,0 +1,585 @@
+package io.bolta.cache;
+
+import io.bolta.exception.BoltaApiException;
+import io.bolta.exception.BoltaException;
+import io.bolta.model.Customer;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A size-bounded cache of customers with a time-to-live, which also remembers
+ * customers that do not exist and customers known to have been created.
+ * <p>
+ * 유효 시간(TTL)이 있는 크기 제한 고객 캐시로, 존재하지 않는 고객과 생성된 것으로 알려진 고객도
+ * 기억합니다.
+ * <p>
+ * Register it on a {@link io.bolta.BoltaClient} and:
+ * <ul>
+ * <li>{@code customers().get} and {@code getAsync} return cached customers for
+ * {@link Builder#ttlMillis(long)}, and rethrow a cached 404 for
+ * {@link Builder#negativeTtlMillis(long)};</li>
+ * <li>{@code customers().create} records the customer as existing, replacing a
+ * cached 404;</li>
+ * <li>{@code customers().ensureExists} returns at once for customers known to
+ * exist, and concurrent calls for the same customer share one check-and-create.</li>
+ * </ul>
+ * Entries are scoped by Customer-Key and evicted as a segmented LRU. A lookup
+ * that was in flight when an entry was invalidated or created is returned to
+ * its callers but not cached.
+ * <p>
+ * {@link io.bolta.BoltaClient}에 등록하면 {@code customers().get}과 {@code getAsync}는 TTL 동안
+ * 캐시된 고객을 반환하고 부정 TTL 동안 캐시된 404를 다시 던집니다. {@code customers().create}는
+ * 고객을 존재하는 것으로 기록하여 캐시된 404를 대체합니다. {@code customers().ensureExists}는
+ * 존재하는 것으로 알려진 고객이면 즉시 반환하며, 같은 고객에 대한 동시 호출은 하나의 확인 및
+ * 생성을 공유합니다. 항목은 Customer-Key별로 구분되며 세그먼트 LRU로 제거됩니다. 무효화나 생성
+ * 시점에 진행 중이던 조회 결과는 호출자에게 반환되지만 캐시되지 않습니다.
+ *
+ * <pre>{@code
+ * CustomerCache cache = CustomerCache.builder()
+ *         .ttlMillis(600_000)
+ *         .negativeTtlMillis(30_000)
+ *         .build();
+ *
+ * BoltaClient client = BoltaClient.builder()
+ *         .apiKey(apiKey)
+ *         .httpClient(httpClient)
+ *         .customerCache(cache)
+ *         .build();
+ * }</pre>
+ */
+public final class CustomerCache {
+
+    /**
+     * Default number of cached customers.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    /**
+     * Default time a found or created customer is cached, in milliseconds.
+     */
+    public static final long DEFAULT_TTL_MILLIS = 300_000;
+
+    /**
+     * Default time a 404 is cached, in milliseconds.
+     */
+    public static final long DEFAULT_NEGATIVE_TTL_MILLIS = 30_000;
+
+    private final SegmentedLruCache<Key, Entry> entries;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final LongSupplier clock;
+    private final ConcurrentMap<Key, CompletableFuture<Void>> creating = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented by every invalidation and creation, so that a lookup which
+     * started before it can tell that its result may be stale.
+     */
+    private final AtomicLong changes = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong skippedCreates = new AtomicLong();
+
+    private CustomerCache(Builder builder) {
+        this.entries = new SegmentedLruCache<>(builder.maxEntries);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(builder.ttlMillis);
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(builder.negativeTtlMillis);
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Returns the cached customer, or loads it with {@code loader} on the
+     * calling thread and caches the result. A 404 from the loader is cached and
+     * rethrown.
+     * <p>
+     * 캐시된 고객을 반환하거나, 현재 스레드에서 {@code loader}로 조회하여 결과를 캐시합니다.
+     * {@code loader}의 404는 캐시된 뒤 다시 던져집니다.
+     *
+     * @param customerKey          the Customer-Key, or null
+     * @param identificationNumber the business registration number
+     * @param loader               fetches the customer on a miss
+     * @return the customer
+     * @throws BoltaApiException if the customer does not exist or the API returns
+     *                           another error
+     * @throws BoltaException    if the load fails
+     */
+    public Customer get(String customerKey, String identificationNumber, Function<String, Customer> loader) {
+        Key key = new Key(customerKey, identificationNumber);
+        Customer cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = changes.get();
+        Customer customer;
+        try {
+            customer = loader.apply(identificationNumber);
+        } catch (BoltaApiException exception) {
+            storeMissing(key, exception, stamp);
+            throw exception;
+        }
+        store(key, customer, stamp);
+        return customer;
+    }
+
+    /**
+     * Returns the cached customer, or loads it with {@code loader} and caches the
+     * result when the load completes. A 404 from the loader is cached.
+     * Cancelling the returned future cancels the load.
+     * <p>
+     * 캐시된 고객을 반환하거나, {@code loader}로 조회하고 완료되면 결과를 캐시합니다.
+     * {@code loader}의 404는 캐시됩니다. 반환된 future를 취소하면 조회도 취소됩니다.
+     *
+     * @param customerKey          the Customer-Key, or null
+     * @param identificationNumber the business registration number
+     * @param loader               fetches the customer on a miss
+     * @return a future completed with the customer
+     */
+    public CompletableFuture<Customer> getAsync(String customerKey, String identificationNumber,
+            Function<String, CompletableFuture<Customer>> loader) {
+        Key key = new Key(customerKey, identificationNumber);
+        Customer cached;
+        try {
+            cached = lookup(key);
+        } catch (BoltaApiException exception) {
+            CompletableFuture<Customer> failed = new CompletableFuture<>();
+            failed.completeExceptionally(exception);
+            return failed;
+        }
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        long stamp = changes.get();
+        CompletableFuture<Customer> future = new CompletableFuture<>();
+        CompletableFuture<Customer> loading = loader.apply(identificationNumber);
+        future.whenComplete((customer, throwable) -> {
+            if (future.isCancelled()) {
+                loading.cancel(false);
+            }
+        });
+        loading.whenComplete((customer, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = unwrap(throwable);
+                if (cause instanceof BoltaApiException) {
+                    storeMissing(key, (BoltaApiException) cause, stamp);
+                }
+                future.completeExceptionally(cause);
+                return;
+            }
+            store(key, customer, stamp);
+            future.complete(customer);
+        });
+        return future;
+    }
+
+    /**
+     * Runs {@code create} unless the customer is known to exist or a call for
+     * the same customer is already running, in which case its outcome is shared.
+     * The customer is recorded as existing when {@code create} returns.
+     * <p>
+     * 고객이 존재하는 것으로 알려져 있지 않으면 {@code create}를 실행합니다. 같은 고객에 대한
+     * 호출이 이미 진행 중이면 그 결과를 공유합니다. {@code create}가 반환되면 고객을 존재하는
+     * 것으로 기록합니다.
+     *
+     * @param customerKey          the Customer-Key, or null
+     * @param identificationNumber the business registration number
+     * @param create               makes sure the customer exists
+     * @throws BoltaException if {@code create} fails
+     */
+    public void ensureExists(String customerKey, String identificationNumber, Runnable create) {
+        Key key = new Key(customerKey, identificationNumber);
+        if (isKnownToExist(key)) {
+            skippedCreates.incrementAndGet();
+            return;
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        CompletableFuture<Void> existing = creating.putIfAbsent(key, future);
+        if (existing != null) {
+            skippedCreates.incrementAndGet();
+            join(existing);
+            return;
+        }
+
+        try {
+            create.run();
+        } catch (RuntimeException | Error exception) {
+            creating.remove(key, future);
+            future.completeExceptionally(exception);
+            throw exception;
+        }
+        recordCreated(customerKey, identificationNumber);
+        creating.remove(key, future);
+        future.complete(null);
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link #ensureExists(String, String, Runnable)}.
+     * <p>
+     * {@link #ensureExists(String, String, Runnable)}의 비동기 버전입니다.
+     *
+     * @param customerKey          the Customer-Key, or null
+     * @param identificationNumber the business registration number
+     * @param create               makes sure the customer exists
+     * @return a future completed once the customer exists
+     */
+    public CompletableFuture<Void> ensureExistsAsync(String customerKey, String identificationNumber,
+            Supplier<CompletableFuture<Void>> create) {
+        Key key = new Key(customerKey, identificationNumber);
+        if (isKnownToExist(key)) {
+            skippedCreates.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        CompletableFuture<Void> existing = creating.putIfAbsent(key, future);
+        if (existing != null) {
+            skippedCreates.incrementAndGet();
+            return existing.thenApply(ignored -> null);
+        }
+
+        CompletableFuture<Void> created;
+        try {
+            created = create.get();
+        } catch (RuntimeException exception) {
+            created = new CompletableFuture<>();
+            created.completeExceptionally(exception);
+        }
+        created.whenComplete((ignored, throwable) -> {
+            if (throwable == null) {
+                recordCreated(customerKey, identificationNumber);
+            }
+            creating.remove(key, future);
+            if (throwable != null) {
+                future.completeExceptionally(unwrap(throwable));
+            } else {
+                future.complete(null);
+            }
+        });
+        return future.thenApply(ignored -> null);
+    }
+
+    /**
+     * Records that a customer exists, replacing a cached 404.
+     * <p>
+     * 고객이 존재함을 기록하며, 캐시된 404를 대체합니다.
+     *
+     * @param customerKey          the Customer-Key, or null
+     * @param identificationNumber the business registration number
+     */
+    public void recordCreated(String customerKey, String identificationNumber) {
+        Key key = new Key(customerKey, identificationNumber);
+        synchronized (entries) {
+            changes.incrementAndGet();
+            Entry current = entries.get(key);
+            if (current == null || current.customer == null || isExpired(current)) {
+                entries.put(key, new Entry(null, null, clock.getAsLong() + ttlNanos));
+            }
+        }
+    }
+
+    /**
+     * Removes a customer from the cache.
+     * <p>
+     * 고객을 캐시에서 제거합니다.
+     *
+     * @param customerKey          the Customer-Key, or null
+     * @param identificationNumber the business registration number
+     */
+    public void invalidate(String customerKey, String identificationNumber) {
+        Key key = new Key(customerKey, identificationNumber);
+        synchronized (entries) {
+            changes.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes every customer from the cache.
+     * <p>
+     * 모든 고객을 캐시에서 제거합니다.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            changes.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached entries, including expired entries that
+     * have not been looked up since.
+     * <p>
+     * 캐시된 항목 수를 반환하며, 만료된 뒤 아직 조회되지 않은 항목도 포함합니다.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of lookups answered with a cached customer.
+     * <p>
+     * 캐시된 고객으로 응답한 조회 수를 반환합니다.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups answered with a cached 404.
+     * <p>
+     * 캐시된 404로 응답한 조회 수를 반환합니다.
+     *
+     * @return the negative hit count
+     */
+    public long getNegativeHitCount() {
+        return negativeHits.get();
+    }
+
+    /**
+     * Returns the number of lookups that were not cached.
+     * <p>
+     * 캐시에 없던 조회 수를 반환합니다.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of {@code ensureExists} calls that did not need their
+     * own check-and-create.
+     * <p>
+     * 자체 확인 및 생성이 필요하지 않았던 {@code ensureExists} 호출 수를 반환합니다.
+     *
+     * @return the skipped create count
+     */
+    public long getSkippedCreateCount() {
+        return skippedCreates.get();
+    }
+
+    private Customer lookup(Key key) {
+        Entry entry = liveEntry(key);
+        if (entry != null && entry.customer != null) {
+            hits.incrementAndGet();
+            return entry.customer;
+        }
+        if (entry != null && entry.missing != null) {
+            negativeHits.incrementAndGet();
+            // A fresh exception per hit, so that callers do not share a stack trace.
+            // 호출자들이 스택 트레이스를 공유하지 않도록 조회마다 새 예외를 만듭니다.
+            throw new BoltaApiException(entry.missing.getStatusCode(), entry.missing.getMessage(),
+                    entry.missing.getResponseBody(), entry.missing.getHeaders());
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    private boolean isKnownToExist(Key key) {
+        Entry entry = liveEntry(key);
+        return entry != null && entry.missing == null;
+    }
+
+    private Entry liveEntry(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null && isExpired(entry)) {
+            synchronized (entries) {
+                if (entries.get(key) == entry) {
+                    entries.remove(key);
+                }
+            }
+            return null;
+        }
+        return entry;
+    }
+
+    private boolean isExpired(Entry entry) {
+        return clock.getAsLong() - entry.expiresAt >= 0;
+    }
+
+    private void store(Key key, Customer customer, long stamp) {
+        if (customer == null || ttlNanos == 0) {
+            return;
+        }
+        put(key, new Entry(customer, null, clock.getAsLong() + ttlNanos), stamp);
+    }
+
+    private void storeMissing(Key key, BoltaApiException exception, long stamp) {
+        if (exception.getStatusCode() != 404 || negativeTtlNanos == 0) {
+            return;
+        }
+        put(key, new Entry(null, exception, clock.getAsLong() + negativeTtlNanos), stamp);
+    }
+
+    private void put(Key key, Entry entry, long stamp) {
+        // Creations and invalidations take the same lock, so none can slip in between the check and the put.
+        // 생성과 무효화도 같은 락을 잡으므로 확인과 put 사이에 끼어들 수 없습니다.
+        synchronized (entries) {
+            if (changes.get() == stamp) {
+                entries.put(key, entry);
+            }
+        }
+    }
+
+    private static void join(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof BoltaException) {
+                throw (BoltaException) cause;
+            }
+            throw new BoltaException("Customer creation failed", cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A cached customer, a cached 404, or a customer known to exist whose
+     * details have not been fetched.
+     */
+    private static final class Entry {
+        final Customer customer;
+        final BoltaApiException missing;
+        final long expiresAt;
+
+        Entry(Customer customer, BoltaApiException missing, long expiresAt) {
+            this.customer = customer;
+            this.missing = missing;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Key {
+        private final String customerKey;
+        private final String identificationNumber;
+
+        Key(String customerKey, String identificationNumber) {
+            if (identificationNumber == null || identificationNumber.isEmpty()) {
+                throw new IllegalArgumentException("identificationNumber is required");
+            }
+            this.customerKey = customerKey;
+            this.identificationNumber = identificationNumber;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) other;
+            return identificationNumber.equals(that.identificationNumber)
+                    && Objects.equals(customerKey, that.customerKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * identificationNumber.hashCode() + Objects.hashCode(customerKey);
+        }
+    }
+
+    /**
+     * Builder for {@link CustomerCache}.
+     * <p>
+     * {@link CustomerCache} 빌더입니다.
+     */
+    public static final class Builder {
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private long ttlMillis = DEFAULT_TTL_MILLIS;
+        private long negativeTtlMillis = DEFAULT_NEGATIVE_TTL_MILLIS;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how many customers are cached. Defaults to
+         * {@value #DEFAULT_MAX_ENTRIES}.
+         * <p>
+         * 캐시할 고객 수를 설정합니다.
+         *
+         * @param maxEntries the maximum number of entries
+         * @return this builder
+         */
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be at least 1");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets how long a found or created customer is cached. Defaults to
+         * {@value #DEFAULT_TTL_MILLIS} ms.
+         * <p>
+         * 조회되거나 생성된 고객을 캐시할 시간을 설정합니다.
+         *
+         * @param ttlMillis the time-to-live in milliseconds
+         * @return this builder
+         */
+        public Builder ttlMillis(long ttlMillis) {
+            if (ttlMillis < 0) {
+                throw new IllegalArgumentException("ttlMillis cannot be negative");
+            }
+            this.ttlMillis = ttlMillis;
+            return this;
+        }
+
+        /**
+         * Sets how long a 404 is cached; 0 disables negative caching. Defaults
+         * to {@value #DEFAULT_NEGATIVE_TTL_MILLIS} ms.
+         * <p>
+         * 404를 캐시할 시간을 설정하며, 0이면 부정 캐싱을 사용하지 않습니다.
+         *
+         * @param negativeTtlMillis the negative time-to-live in milliseconds
+         * @return this builder
+         */
+        public Builder negativeTtlMillis(long negativeTtlMillis) {
+            if (negativeTtlMillis < 0) {
+                throw new IllegalArgumentException("negativeTtlMillis cannot be negative");
+            }
+            this.negativeTtlMillis = negativeTtlMillis;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public CustomerCache build() {
+            return new CustomerCache(this);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.bolta.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A size-bounded map with segmented LRU eviction.
+ * <p>
+ * 세그먼트 LRU 방식으로 제거하는 크기 제한 맵입니다.
+ * <p>
+ * New entries enter a probationary segment and are promoted to a protected
+ * segment on their second access. Eviction takes the least recently used
+ * probationary entry first, so a burst of keys read only once cannot flush the
+ * entries that are read repeatedly. Entries demoted from the full protected
+ * segment get another chance in the probationary segment.
+ * <p>
+ * 새 항목은 수습 세그먼트에 들어가고 두 번째 접근 시 보호 세그먼트로 승격됩니다. 제거는
+ * 가장 오래 사용되지 않은 수습 항목부터 이루어지므로, 한 번만 읽히는 키가 몰려도 반복해서
+ * 읽히는 항목이 밀려나지 않습니다. 가득 찬 보호 세그먼트에서 강등된 항목은 수습 세그먼트에서
+ * 다시 기회를 얻습니다.
+ * <p>
+ * All methods are synchronized.
+ * <p>
+ * 모든 메서드는 동기화됩니다.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class SegmentedLruCache<K, V> {
+    private final int maximumSize;
+    private final int protectedCapacity;
+    private final LinkedHashMap<K, V> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, V> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private long evictionCount;
+
+    SegmentedLruCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1");
+        }
+        this.maximumSize = maximumSize;
+        this.protectedCapacity = Math.max(1, (int) (maximumSize * 0.8));
+    }
+
+    synchronized V get(K key) {
+        V value = protectedSegment.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = probation.remove(key);
+        if (value != null) {
+            protectedSegment.put(key, value);
+            if (protectedSegment.size() > protectedCapacity) {
+                Iterator<Map.Entry<K, V>> eldest = protectedSegment.entrySet().iterator();
+                Map.Entry<K, V> demoted = eldest.next();
+                eldest.remove();
+                probation.put(demoted.getKey(), demoted.getValue());
+            }
+        }
+        return value;
+    }
+
+    synchronized void put(K key, V value) {
+        if (protectedSegment.containsKey(key)) {
+            protectedSegment.put(key, value);
+            return;
+        }
+
+        probation.put(key, value);
+        while (probation.size() + protectedSegment.size() > maximumSize) {
+            LinkedHashMap<K, V> victims = probation.isEmpty() ? protectedSegment : probation;
+            Iterator<K> eldest = victims.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    synchronized void remove(K key) {
+        if (probation.remove(key) == null) {
+            protectedSegment.remove(key);
+        }
+    }
+
+    synchronized void clear() {
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    synchronized int size() {
+        return probation.size() + protectedSegment.size();
+    }
+
+    synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+}
@@ -0,0 +1,381 @@
+package io.bolta.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bolta.exception.BoltaException;
+import io.bolta.model.TaxInvoice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A size-bounded, read-through cache of tax invoices by issuance key.
+ * <p>
+ * 발급 키별 세금계산서를 보관하는 크기 제한 read-through 캐시입니다.
+ * <p>
+ * An issued tax invoice does not change; an amendment is issued under a new
+ * key. Register the cache on a {@link io.bolta.BoltaClient} and
+ * {@code taxInvoices().get} and {@code getAsync} serve repeated lookups from
+ * memory. The amendment methods invalidate the original invoice's entry, and
+ * {@link #invalidate(String)} covers changes made elsewhere. A load that was in
+ * flight when an entry was invalidated is returned to its callers but not
+ * cached.
+ * <p>
+ * 발행된 세금계산서는 변하지 않으며 수정발행은 새 키로 발급됩니다.
+ * {@link io.bolta.BoltaClient}에 등록하면 {@code taxInvoices().get}과 {@code getAsync}가
+ * 반복 조회를 메모리에서 처리합니다. 수정발행 메서드는 원본 세금계산서의 항목을 무효화하며,
+ * 다른 곳에서 변경한 경우에는 {@link #invalidate(String)}을 사용합니다. 무효화 시점에 진행 중이던
+ * 조회 결과는 호출자에게 반환되지만 캐시되지 않습니다.
+ * <p>
+ * Eviction is segmented LRU: invoices read at least twice are protected from a
+ * scan of invoices read once. With {@link Builder#serialized(boolean)} each
+ * entry is held as a compact JSON byte array instead of an object graph, and
+ * every hit returns a fresh copy.
+ * <p>
+ * 제거는 세그먼트 LRU 방식으로, 두 번 이상 읽힌 세금계산서는 한 번만 읽히는 세금계산서의 연속
+ * 조회로부터 보호됩니다. {@link Builder#serialized(boolean)}을 사용하면 각 항목을 객체 그래프
+ * 대신 압축된 JSON 바이트 배열로 보관하며, 조회할 때마다 새 복사본을 반환합니다.
+ *
+ * <pre>{@code
+ * TaxInvoiceCache cache = TaxInvoiceCache.builder()
+ *         .maxEntries(50_000)
+ *         .serialized(true)
+ *         .build();
+ *
+ * BoltaClient client = BoltaClient.builder()
+ *         .apiKey(apiKey)
+ *         .httpClient(httpClient)
+ *         .taxInvoiceCache(cache)
+ *         .build();
+ * }</pre>
+ */
+public final class TaxInvoiceCache {
+    private static final Logger logger = LoggerFactory.getLogger(TaxInvoiceCache.class);
+
+    /**
+     * Default number of cached tax invoices.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final SegmentedLruCache<String, Object> entries;
+    private final ObjectMapper serializer;
+
+    /**
+     * Incremented by every invalidation, so that a load which started before it
+     * can tell that its result may be stale.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private TaxInvoiceCache(Builder builder) {
+        this.entries = new SegmentedLruCache<>(builder.maxEntries);
+        this.serializer = builder.serialized ? serializer() : null;
+    }
+
+    /**
+     * Returns the cached invoice, or loads it with {@code loader} on the calling
+     * thread and caches the result.
+     * <p>
+     * 캐시된 세금계산서를 반환하거나, 현재 스레드에서 {@code loader}로 조회하여 결과를
+     * 캐시합니다.
+     *
+     * @param issuanceKey the issuance key
+     * @param loader      fetches the invoice on a miss
+     * @return the tax invoice
+     * @throws BoltaException if the load fails
+     */
+    public TaxInvoice get(String issuanceKey, Function<String, TaxInvoice> loader) {
+        TaxInvoice cached = getIfPresent(issuanceKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = invalidations.get();
+        TaxInvoice invoice = loader.apply(issuanceKey);
+        store(issuanceKey, invoice, stamp);
+        return invoice;
+    }
+
+    /**
+     * Returns the cached invoice, or loads it with {@code loader} and caches the
+     * result when the load completes. Cancelling the returned future cancels
+     * the load.
+     * <p>
+     * 캐시된 세금계산서를 반환하거나, {@code loader}로 조회하고 완료되면 결과를 캐시합니다.
+     * 반환된 future를 취소하면 조회도 취소됩니다.
+     *
+     * @param issuanceKey the issuance key
+     * @param loader      fetches the invoice on a miss
+     * @return a future completed with the tax invoice
+     */
+    public CompletableFuture<TaxInvoice> getAsync(String issuanceKey,
+            Function<String, CompletableFuture<TaxInvoice>> loader) {
+        TaxInvoice cached = getIfPresent(issuanceKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        long stamp = invalidations.get();
+        CompletableFuture<TaxInvoice> future = new CompletableFuture<>();
+        CompletableFuture<TaxInvoice> loading = loader.apply(issuanceKey);
+        future.whenComplete((invoice, throwable) -> {
+            if (future.isCancelled()) {
+                loading.cancel(false);
+            }
+        });
+        loading.whenComplete((invoice, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+                return;
+            }
+            store(issuanceKey, invoice, stamp);
+            future.complete(invoice);
+        });
+        return future;
+    }
+
+    /**
+     * Returns the cached invoice, or null if it is not cached.
+     * <p>
+     * 캐시된 세금계산서를 반환하며, 캐시되어 있지 않으면 null을 반환합니다.
+     *
+     * @param issuanceKey the issuance key
+     * @return the cached tax invoice, or null
+     */
+    public TaxInvoice getIfPresent(String issuanceKey) {
+        requireKey(issuanceKey);
+        Object entry = entries.get(issuanceKey);
+        TaxInvoice invoice = entry != null ? toInvoice(issuanceKey, entry) : null;
+        if (invoice != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return invoice;
+    }
+
+    /**
+     * Caches an invoice, e.g. one that was just issued.
+     * <p>
+     * 방금 발행한 세금계산서 등을 캐시합니다.
+     *
+     * @param issuanceKey the issuance key
+     * @param invoice     the tax invoice
+     */
+    public void put(String issuanceKey, TaxInvoice invoice) {
+        requireKey(issuanceKey);
+        if (invoice == null) {
+            throw new IllegalArgumentException("invoice cannot be null");
+        }
+        Object entry = toEntry(invoice);
+        if (entry != null) {
+            entries.put(issuanceKey, entry);
+        }
+    }
+
+    /**
+     * Removes an invoice from the cache.
+     * <p>
+     * 세금계산서를 캐시에서 제거합니다.
+     *
+     * @param issuanceKey the issuance key
+     */
+    public void invalidate(String issuanceKey) {
+        requireKey(issuanceKey);
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(issuanceKey);
+        }
+    }
+
+    /**
+     * Removes every invoice from the cache.
+     * <p>
+     * 모든 세금계산서를 캐시에서 제거합니다.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached invoices.
+     * <p>
+     * 캐시된 세금계산서 수를 반환합니다.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     * <p>
+     * 캐시에서 응답한 조회 수를 반환합니다.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups that were not cached.
+     * <p>
+     * 캐시에 없던 조회 수를 반환합니다.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the fraction of lookups answered from the cache, or 0 if there
+     * have been none.
+     * <p>
+     * 캐시에서 응답한 조회의 비율을 반환하며, 조회가 없었으면 0을 반환합니다.
+     *
+     * @return the hit rate
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the number of invoices evicted to stay within the size bound.
+     * <p>
+     * 크기 제한을 지키기 위해 제거된 세금계산서 수를 반환합니다.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return entries.getEvictionCount();
+    }
+
+    private void store(String issuanceKey, TaxInvoice invoice, long stamp) {
+        if (invoice == null) {
+            return;
+        }
+        Object entry = toEntry(invoice);
+        if (entry == null) {
+            return;
+        }
+        // Invalidations take the same lock, so none can slip in between the check and the put.
+        // 무효화도 같은 락을 잡으므로 확인과 put 사이에 끼어들 수 없습니다.
+        synchronized (entries) {
+            if (invalidations.get() == stamp) {
+                entries.put(issuanceKey, entry);
+            }
+        }
+    }
+
+    private Object toEntry(TaxInvoice invoice) {
+        if (serializer == null) {
+            return invoice;
+        }
+        try {
+            return serializer.writeValueAsBytes(invoice);
+        } catch (IOException exception) {
+            logger.warn("Failed to serialize tax invoice for caching; it will not be cached", exception);
+            return null;
+        }
+    }
+
+    private TaxInvoice toInvoice(String issuanceKey, Object entry) {
+        if (!(entry instanceof byte[])) {
+            return (TaxInvoice) entry;
+        }
+        try {
+            return serializer.readValue((byte[]) entry, TaxInvoice.class);
+        } catch (IOException exception) {
+            logger.warn("Failed to read cached tax invoice {}; dropping it", issuanceKey, exception);
+            entries.remove(issuanceKey);
+            return null;
+        }
+    }
+
+    private static void requireKey(String issuanceKey) {
+        if (issuanceKey == null || issuanceKey.isEmpty()) {
+            throw new IllegalArgumentException("issuanceKey is required");
+        }
+    }
+
+    /**
+     * Entries store the model's fields directly, so they do not depend on how
+     * its getters map to the API's JSON.
+     */
+    private static ObjectMapper serializer() {
+        return new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link TaxInvoiceCache}.
+     * <p>
+     * {@link TaxInvoiceCache} 빌더입니다.
+     */
+    public static final class Builder {
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private boolean serialized;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how many invoices are cached. Defaults to
+         * {@value #DEFAULT_MAX_ENTRIES}.
+         * <p>
+         * 캐시할 세금계산서 수를 설정합니다.
+         *
+         * @param maxEntries the maximum number of entries
+         * @return this builder
+         */
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be at least 1");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Holds entries as serialized bytes rather than object graphs, trading
+         * a deserialization per hit for a smaller heap footprint. Disabled by
+         * default.
+         * <p>
+         * 항목을 객체 그래프 대신 직렬화된 바이트로 보관하여, 조회마다 역직렬화하는 대신 힙
+         * 사용량을 줄입니다. 기본값은 비활성화입니다.
+         *
+         * @param serialized whether to store serialized bytes
+         * @return this builder
+         */
+        public Builder serialized(boolean serialized) {
+            this.serialized = serialized;
+            return this;
+        }
+
+        public TaxInvoiceCache build() {
+            return new TaxInvoiceCache(this);
+        }
+    }
+}
@@ -0,0 +1,570 @@
+package io.bolta.circuitbreaker;
+
+import io.bolta.exception.CircuitBreakerOpenException;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops sending requests to an endpoint that keeps failing or answering
+ * slowly, so that callers fail fast instead of piling up behind it.
+ * <p>
+ * 계속 실패하거나 느리게 응답하는 엔드포인트로의 요청 전송을 멈추어, 호출자가 그 뒤에 쌓이지
+ * 않고 즉시 실패하도록 합니다.
+ * <p>
+ * Each route, such as {@code /v1/taxInvoices/issue} or
+ * {@code /v1/customers/{identificationNumber}}, has its own circuit. A closed
+ * circuit lets every call through and records the outcome of the latest
+ * {@link Builder#windowSize(int)} calls. Once the window holds
+ * {@link Builder#minimumCalls(int)} calls and the share of failures reaches
+ * {@link Builder#failureRateThreshold(double)}, or the share of calls slower
+ * than {@link Builder#slowCallDurationMillis(long)} reaches
+ * {@link Builder#slowCallRateThreshold(double)}, the circuit opens and rejects
+ * calls with a {@link CircuitBreakerOpenException} for
+ * {@link Builder#openDurationMillis(long)}. It then turns half-open and lets
+ * {@link Builder#halfOpenCalls(int)} trial calls through: if their rates stay
+ * below the thresholds the circuit closes, otherwise it opens again. Network
+ * errors and 5xx responses are failures; 429 responses are left out, since
+ * they report throttling rather than a broken endpoint.
+ * <p>
+ * {@code /v1/taxInvoices/issue}나 {@code /v1/customers/{identificationNumber}} 같은
+ * 경로마다 별도의 서킷이 있습니다. 닫힌 서킷은 모든 호출을 허용하며 최근
+ * {@link Builder#windowSize(int)}개 호출의 결과를 기록합니다. 기록된 호출이
+ * {@link Builder#minimumCalls(int)}개 이상이고 실패 비율이
+ * {@link Builder#failureRateThreshold(double)}에 도달하거나,
+ * {@link Builder#slowCallDurationMillis(long)}보다 느린 호출의 비율이
+ * {@link Builder#slowCallRateThreshold(double)}에 도달하면 서킷이 열리고
+ * {@link Builder#openDurationMillis(long)} 동안 호출을 {@link CircuitBreakerOpenException}으로
+ * 거절합니다. 이후 반열림 상태가 되어 {@link Builder#halfOpenCalls(int)}개의 시험 호출을
+ * 허용하며, 그 비율이 임계값 미만이면 서킷이 닫히고 그렇지 않으면 다시 열립니다. 네트워크 오류와
+ * 5xx 응답은 실패이며, 429 응답은 엔드포인트 장애가 아닌 속도 제한을 알리므로 제외됩니다.
+ *
+ * <pre>{@code
+ * CircuitBreaker breaker = CircuitBreaker.builder()
+ *         .failureRateThreshold(0.5)
+ *         .slowCallDurationMillis(5_000)
+ *         .openDurationMillis(30_000)
+ *         .build();
+ * breaker.addListener((route, from, to) -> logger.warn("{}: {} -> {}", route, from, to));
+ *
+ * BoltaClient client = BoltaClient.builder()
+ *         .apiKey(apiKey)
+ *         .httpClient(httpClient)
+ *         .circuitBreaker(breaker)
+ *         .build();
+ * }</pre>
+ */
+public final class CircuitBreaker {
+
+    /**
+     * Default share of failed calls that opens the circuit.
+     */
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+
+    /**
+     * Default share of slow calls that opens the circuit.
+     */
+    public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 0.8;
+
+    /**
+     * Default duration above which a call counts as slow.
+     */
+    public static final long DEFAULT_SLOW_CALL_DURATION_MILLIS = 10_000;
+
+    /**
+     * Default number of latest calls the rates are taken over.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 50;
+
+    /**
+     * Default number of calls needed before the rates are evaluated.
+     */
+    public static final int DEFAULT_MINIMUM_CALLS = 20;
+
+    /**
+     * Default time an open circuit rejects calls.
+     */
+    public static final long DEFAULT_OPEN_DURATION_MILLIS = 30_000;
+
+    /**
+     * Default number of trial calls let through by a half-open circuit.
+     */
+    public static final int DEFAULT_HALF_OPEN_CALLS = 5;
+
+    /**
+     * The state of one route's circuit.
+     * <p>
+     * 경로별 서킷의 상태입니다.
+     */
+    public enum State {
+        /**
+         * Calls go through. 호출이 허용됩니다.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected. 호출이 거절됩니다.
+         */
+        OPEN,
+        /**
+         * A few trial calls go through. 소수의 시험 호출만 허용됩니다.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Receives state transitions. Listeners run on the thread that caused the
+     * transition, after the circuit has changed, so they should return
+     * quickly.
+     * <p>
+     * 상태 전환을 전달받습니다. 리스너는 서킷이 바뀐 뒤 전환을 일으킨 스레드에서 실행되므로
+     * 빨리 반환해야 합니다.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called when a route's circuit changes state.
+         * <p>
+         * 경로의 서킷 상태가 바뀌면 호출됩니다.
+         *
+         * @param route the route
+         * @param from  the previous state
+         * @param to    the new state
+         */
+        void onStateChange(String route, State from, State to);
+    }
+
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private CircuitBreaker(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallDurationNanos = TimeUnit.MILLISECONDS.toNanos(builder.slowCallDurationMillis);
+        this.windowSize = builder.windowSize;
+        this.minimumCalls = Math.min(builder.minimumCalls, builder.windowSize);
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(builder.openDurationMillis);
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Asks to send a call on the route.
+     * <p>
+     * 경로로 호출을 전송해도 되는지 요청합니다.
+     *
+     * @param route the route of the call
+     * @return the permit, to be released once the call completes
+     * @throws CircuitBreakerOpenException if the circuit rejects the call
+     */
+    public Permit acquire(String route) {
+        Circuit circuit = circuits.computeIfAbsent(route, Circuit::new);
+        long now = clock.getAsLong();
+        long generation;
+        boolean halfOpened = false;
+        synchronized (circuit) {
+            if (circuit.state == State.OPEN) {
+                long remaining = circuit.openedAt + openDurationNanos - now;
+                if (remaining > 0) {
+                    rejected.incrementAndGet();
+                    throw new CircuitBreakerOpenException(route,
+                            Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+                }
+                circuit.transition(State.HALF_OPEN, now);
+                halfOpened = true;
+            }
+            if (circuit.state == State.HALF_OPEN) {
+                if (circuit.trialsLeft == 0) {
+                    rejected.incrementAndGet();
+                    throw new CircuitBreakerOpenException(route, 0);
+                }
+                circuit.trialsLeft--;
+            }
+            generation = circuit.generation;
+        }
+        if (halfOpened) {
+            notifyListeners(route, State.OPEN, State.HALF_OPEN);
+        }
+        return new Permit(circuit, generation);
+    }
+
+    /**
+     * Registers a listener for state transitions.
+     * <p>
+     * 상태 전환 리스너를 등록합니다.
+     *
+     * @param listener the listener
+     */
+    public void addListener(Listener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the state of a route's circuit. A route that has not been called
+     * is closed. An open circuit whose open duration has passed reports
+     * {@link State#OPEN} until the next call turns it half-open.
+     * <p>
+     * 경로의 서킷 상태를 반환합니다. 호출된 적이 없는 경로는 닫혀 있습니다. 열림 시간이 지난
+     * 서킷은 다음 호출이 반열림으로 바꿀 때까지 {@link State#OPEN}을 반환합니다.
+     *
+     * @param route the route
+     * @return the state
+     */
+    public State getState(String route) {
+        Circuit circuit = circuits.get(route);
+        if (circuit == null) {
+            return State.CLOSED;
+        }
+        synchronized (circuit) {
+            return circuit.state;
+        }
+    }
+
+    /**
+     * Returns the number of calls rejected by open or half-open circuits.
+     * <p>
+     * 열림 또는 반열림 서킷이 거절한 호출 수를 반환합니다.
+     *
+     * @return the rejected count
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    private void notifyListeners(String route, State from, State to) {
+        for (Listener listener : listeners) {
+            listener.onStateChange(route, from, to);
+        }
+    }
+
+    private void record(Circuit circuit, long generation, int outcome) {
+        State from;
+        State to;
+        synchronized (circuit) {
+            if (generation != circuit.generation) {
+                // Sent before the last transition; says nothing about the current state.
+                // 마지막 전환 이전에 전송된 호출이므로 현재 상태와 무관합니다.
+                return;
+            }
+            from = circuit.state;
+            if (outcome == Permit.IGNORED) {
+                if (from == State.HALF_OPEN) {
+                    circuit.trialsLeft++;
+                }
+                return;
+            }
+            circuit.add(outcome);
+            to = circuit.evaluate();
+            if (to == from) {
+                return;
+            }
+            circuit.transition(to, clock.getAsLong());
+        }
+        notifyListeners(circuit.route, from, to);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * One route's circuit, with a count-based sliding window of outcomes.
+     */
+    private final class Circuit {
+        private final String route;
+        private final byte[] outcomes = new byte[windowSize];
+        private State state = State.CLOSED;
+        private long generation;
+        private long openedAt;
+        private int trialsLeft;
+        private int next;
+        private int count;
+        private int failures;
+        private int slowCalls;
+
+        Circuit(String route) {
+            this.route = route;
+        }
+
+        void add(int outcome) {
+            if (count == windowSize) {
+                remove(outcomes[next]);
+            } else {
+                count++;
+            }
+            outcomes[next] = (byte) outcome;
+            next = (next + 1) % windowSize;
+            if ((outcome & Permit.FAILED) != 0) {
+                failures++;
+            }
+            if ((outcome & Permit.SLOW) != 0) {
+                slowCalls++;
+            }
+        }
+
+        private void remove(int outcome) {
+            if ((outcome & Permit.FAILED) != 0) {
+                failures--;
+            }
+            if ((outcome & Permit.SLOW) != 0) {
+                slowCalls--;
+            }
+        }
+
+        State evaluate() {
+            int needed = state == State.HALF_OPEN ? Math.min(halfOpenCalls, windowSize) : minimumCalls;
+            if (count < needed) {
+                return state;
+            }
+            boolean unhealthy = failures >= failureRateThreshold * count
+                    || slowCalls >= slowCallRateThreshold * count;
+            if (unhealthy) {
+                return State.OPEN;
+            }
+            return state == State.HALF_OPEN ? State.CLOSED : state;
+        }
+
+        void transition(State to, long now) {
+            state = to;
+            generation++;
+            openedAt = now;
+            trialsLeft = halfOpenCalls;
+            next = 0;
+            count = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+
+    /**
+     * Leave to send one call. Release it exactly once with the outcome of the
+     * call; later calls are ignored.
+     * <p>
+     * 호출 하나를 전송할 수 있는 허가입니다. 호출 결과와 함께 정확히 한 번 반납하며, 이후
+     * 호출은 무시됩니다.
+     */
+    public final class Permit {
+        private static final int SUCCEEDED = 0;
+        private static final int FAILED = 1;
+        private static final int SLOW = 2;
+        private static final int IGNORED = 4;
+
+        private final Circuit circuit;
+        private final long generation;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Circuit circuit, long generation) {
+            this.circuit = circuit;
+            this.generation = generation;
+        }
+
+        /**
+         * Records a call the endpoint handled, such as a 2xx or 4xx response.
+         * <p>
+         * 2xx나 4xx 응답처럼 엔드포인트가 처리한 호출을 기록합니다.
+         *
+         * @param durationNanos how long the call took
+         */
+        public void success(long durationNanos) {
+            release(slow(durationNanos));
+        }
+
+        /**
+         * Records a call the endpoint failed, such as a network error or a 5xx
+         * response.
+         * <p>
+         * 네트워크 오류나 5xx 응답처럼 엔드포인트가 실패한 호출을 기록합니다.
+         *
+         * @param durationNanos how long the call took
+         */
+        public void failure(long durationNanos) {
+            release(FAILED | slow(durationNanos));
+        }
+
+        /**
+         * Releases the permit without recording the call, for outcomes that
+         * say nothing about the endpoint's health.
+         * <p>
+         * 엔드포인트 상태와 무관한 결과에 대해 호출을 기록하지 않고 허가를 반납합니다.
+         */
+        public void ignore() {
+            release(IGNORED);
+        }
+
+        private int slow(long durationNanos) {
+            return durationNanos >= slowCallDurationNanos ? SLOW : SUCCEEDED;
+        }
+
+        private void release(int outcome) {
+            if (released.compareAndSet(false, true)) {
+                record(circuit, generation, outcome);
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link CircuitBreaker}.
+     * <p>
+     * {@link CircuitBreaker} 빌더입니다.
+     */
+    public static final class Builder {
+        private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+        private double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+        private long slowCallDurationMillis = DEFAULT_SLOW_CALL_DURATION_MILLIS;
+        private int windowSize = DEFAULT_WINDOW_SIZE;
+        private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+        private long openDurationMillis = DEFAULT_OPEN_DURATION_MILLIS;
+        private int halfOpenCalls = DEFAULT_HALF_OPEN_CALLS;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the share of failed calls that opens the circuit. Defaults to
+         * {@value #DEFAULT_FAILURE_RATE_THRESHOLD}.
+         * <p>
+         * 서킷을 여는 실패 호출 비율을 설정합니다.
+         *
+         * @param failureRateThreshold a share between 0, exclusive, and 1
+         * @return this builder
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+                throw new IllegalArgumentException("failureRateThreshold must be greater than 0 and at most 1");
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the share of slow calls that opens the circuit. Defaults to
+         * {@value #DEFAULT_SLOW_CALL_RATE_THRESHOLD}.
+         * <p>
+         * 서킷을 여는 느린 호출 비율을 설정합니다.
+         *
+         * @param slowCallRateThreshold a share between 0, exclusive, and 1
+         * @return this builder
+         */
+        public Builder slowCallRateThreshold(double slowCallRateThreshold) {
+            if (!(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1)) {
+                throw new IllegalArgumentException("slowCallRateThreshold must be greater than 0 and at most 1");
+            }
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the duration from which a call counts as slow. Defaults to
+         * {@value #DEFAULT_SLOW_CALL_DURATION_MILLIS} ms.
+         * <p>
+         * 느린 호출로 간주할 소요 시간을 설정합니다.
+         *
+         * @param slowCallDurationMillis the duration in milliseconds
+         * @return this builder
+         */
+        public Builder slowCallDurationMillis(long slowCallDurationMillis) {
+            if (slowCallDurationMillis < 1) {
+                throw new IllegalArgumentException("slowCallDurationMillis must be at least 1");
+            }
+            this.slowCallDurationMillis = slowCallDurationMillis;
+            return this;
+        }
+
+        /**
+         * Sets how many of the latest calls the rates are taken over. Defaults
+         * to {@value #DEFAULT_WINDOW_SIZE}.
+         * <p>
+         * 비율을 계산할 최근 호출 수를 설정합니다.
+         *
+         * @param windowSize the number of calls
+         * @return this builder
+         */
+        public Builder windowSize(int windowSize) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("windowSize must be at least 1");
+            }
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Sets how many calls the window must hold before the circuit may
+         * open. Defaults to {@value #DEFAULT_MINIMUM_CALLS}, capped at the
+         * window size.
+         * <p>
+         * 서킷이 열리기 위해 필요한 최소 호출 수를 설정합니다. 창 크기를 넘을 수 없습니다.
+         *
+         * @param minimumCalls the number of calls
+         * @return this builder
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            if (minimumCalls < 1) {
+                throw new IllegalArgumentException("minimumCalls must be at least 1");
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets how long an open circuit rejects calls before letting trial
+         * calls through. Defaults to {@value #DEFAULT_OPEN_DURATION_MILLIS} ms.
+         * <p>
+         * 열린 서킷이 시험 호출을 허용하기 전까지 호출을 거절하는 시간을 설정합니다.
+         *
+         * @param openDurationMillis the duration in milliseconds
+         * @return this builder
+         */
+        public Builder openDurationMillis(long openDurationMillis) {
+            if (openDurationMillis < 1) {
+                throw new IllegalArgumentException("openDurationMillis must be at least 1");
+            }
+            this.openDurationMillis = openDurationMillis;
+            return this;
+        }
+
+        /**
+         * Sets how many trial calls a half-open circuit lets through. Defaults
+         * to {@value #DEFAULT_HALF_OPEN_CALLS}.
+         * <p>
+         * 반열림 서킷이 허용하는 시험 호출 수를 설정합니다.
+         *
+         * @param halfOpenCalls the number of trial calls
+         * @return this builder
+         */
+        public Builder halfOpenCalls(int halfOpenCalls) {
+            if (halfOpenCalls < 1) {
+                throw new IllegalArgumentException("halfOpenCalls must be at least 1");
+            }
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
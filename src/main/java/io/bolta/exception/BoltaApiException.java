@@ -1,5 +1,11 @@
 package io.bolta.exception;
 
+import io.bolta.retry.RetryAfter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
 /**
  * Exception thrown when the Bolta API returns an error response.
  * 볼타 API가 오류 응답을 반환할 때 발생하는 예외입니다.
@@ -9,6 +15,8 @@ package io.bolta.exception;
  * <ul>
  * <li>HTTP status code (HTTP 상태 코드)</li>
  * <li>Error response body for debugging (디버깅을 위한 오류 응답 본문)</li>
+ * <li>Response headers relevant to retrying, such as {@code Retry-After}
+ * (재시도와 관련된 응답 헤더, 예: {@code Retry-After})</li>
  * </ul>
  */
 public final class BoltaApiException extends BoltaException {
@@ -24,10 +32,43 @@ public final class BoltaApiException extends BoltaException {
      */
     private final String responseBody;
 
+    /**
+     * Retry-related response headers, looked up case-insensitively
+     * 대소문자 구분 없이 조회되는 재시도 관련 응답 헤더
+     */
+    private final Map<String, String> headers;
+
+    /**
+     * Delay requested by {@code Retry-After} when the response arrived, or -1
+     * 응답 도착 시점의 {@code Retry-After} 요청 지연 시간, 없으면 -1
+     */
+    private final long retryAfterMillis;
+
     public BoltaApiException(int statusCode, String message, String responseBody) {
+        this(statusCode, message, responseBody, Collections.emptyMap());
+    }
+
+    /**
+     * Creates an exception that keeps the {@code Retry-After} and rate limit
+     * headers of the response.
+     * 응답의 {@code Retry-After} 헤더와 속도 제한 헤더를 보관하는 예외를 생성합니다.
+     *
+     * @param statusCode      the HTTP status code
+     *                        HTTP 상태 코드
+     * @param message         the error message
+     *                        오류 메시지
+     * @param responseBody    the response body
+     *                        응답 본문
+     * @param responseHeaders the response headers
+     *                        응답 헤더
+     */
+    public BoltaApiException(int statusCode, String message, String responseBody,
+            Map<String, String> responseHeaders) {
         super(message);
         this.statusCode = statusCode;
         this.responseBody = responseBody;
+        this.headers = relevantHeaders(responseHeaders);
+        this.retryAfterMillis = RetryAfter.parseMillis(headers.get(RetryAfter.HEADER), System.currentTimeMillis());
     }
 
     public int getStatusCode() {
@@ -37,4 +78,49 @@ public final class BoltaApiException extends BoltaException {
     public String getResponseBody() {
         return responseBody;
     }
+
+    /**
+     * Returns the retry-related response headers: {@code Retry-After} and any
+     * {@code RateLimit-*} or {@code X-RateLimit-*} header. Names are matched
+     * case-insensitively.
+     * 재시도 관련 응답 헤더({@code Retry-After}, {@code RateLimit-*},
+     * {@code X-RateLimit-*})를 반환합니다. 이름은 대소문자를 구분하지 않습니다.
+     *
+     * @return an unmodifiable map of headers
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the delay the {@code Retry-After} header asked for, measured from
+     * when the response arrived.
+     * {@code Retry-After} 헤더가 요청한 지연 시간을 응답 도착 시점 기준으로 반환합니다.
+     *
+     * @return the delay in milliseconds, or -1 if the header was absent or
+     *         malformed
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    private static Map<String, String> relevantHeaders(Map<String, String> responseHeaders) {
+        if (responseHeaders == null || responseHeaders.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> relevant = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, String> header : responseHeaders.entrySet()) {
+            String name = header.getKey();
+            if (name != null && isRelevant(name)) {
+                relevant.put(name, header.getValue());
+            }
+        }
+        return relevant.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(relevant);
+    }
+
+    private static boolean isRelevant(String name) {
+        return name.equalsIgnoreCase(RetryAfter.HEADER)
+                || name.regionMatches(true, 0, "RateLimit-", 0, 10)
+                || name.regionMatches(true, 0, "X-RateLimit-", 0, 12);
+    }
 }
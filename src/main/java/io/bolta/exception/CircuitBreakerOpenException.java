@@ -0,0 +1,55 @@
+package io.bolta.exception;
+
+/**
+ * Exception thrown without sending a request because the circuit breaker for
+ * its route is open.
+ * 경로의 서킷 브레이커가 열려 있어 요청을 전송하지 않고 발생하는 예외입니다.
+ * <p>
+ * The request never reached the API, so it is always safe to send again once
+ * the circuit lets calls through.
+ * 요청이 API에 도달하지 않았으므로, 서킷이 호출을 허용한 뒤 다시 전송해도 항상 안전합니다.
+ */
+public final class CircuitBreakerOpenException extends BoltaException {
+    /**
+     * Route whose circuit rejected the request
+     * 요청을 거절한 서킷의 경로
+     */
+    private final String route;
+
+    /**
+     * Time until the circuit lets trial calls through, or 0 if it already does
+     * 서킷이 시험 호출을 허용하기까지 남은 시간, 이미 허용 중이면 0
+     */
+    private final long remainingMillis;
+
+    /**
+     * Creates an exception for a rejected request.
+     * 거절된 요청에 대한 예외를 생성합니다.
+     *
+     * @param route           the route of the request
+     *                        요청의 경로
+     * @param remainingMillis the time until trial calls are let through
+     *                        시험 호출이 허용되기까지 남은 시간
+     */
+    public CircuitBreakerOpenException(String route, long remainingMillis) {
+        super(remainingMillis > 0
+                ? "Circuit breaker is open for " + route + ", retry in " + remainingMillis + " ms"
+                : "Circuit breaker is half-open for " + route + " and its trial calls are in flight");
+        this.route = route;
+        this.remainingMillis = remainingMillis;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * Returns how long until the circuit lets trial calls through.
+     * 서킷이 시험 호출을 허용하기까지 남은 시간을 반환합니다.
+     *
+     * @return the time in milliseconds, or 0 if the circuit is half-open
+     */
+    public long getRemainingMillis() {
+        return remainingMillis;
+    }
+}
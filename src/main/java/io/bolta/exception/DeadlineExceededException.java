@@ -0,0 +1,38 @@
+package io.bolta.exception;
+
+/**
+ * Exception thrown when a call runs out of the time budget set with
+ * {@code RequestOptions.Builder.timeoutMillis}.
+ * {@code RequestOptions.Builder.timeoutMillis}로 설정한 시간 예산을 호출이 모두 소진했을 때
+ * 발생하는 예외입니다.
+ * <p>
+ * The cause, if any, is the failure of the last attempt. A request that was
+ * being sent when the deadline passed may still have reached the API.
+ * 원인이 있다면 마지막 시도의 실패입니다. 기한이 지날 때 전송 중이던 요청은 API에 도달했을
+ * 수도 있습니다.
+ */
+public final class DeadlineExceededException extends BoltaException {
+    /**
+     * Time budget the call was given
+     * 호출에 주어진 시간 예산
+     */
+    private final long timeoutMillis;
+
+    /**
+     * Creates an exception for a call that ran out of time.
+     * 시간을 모두 소진한 호출에 대한 예외를 생성합니다.
+     *
+     * @param timeoutMillis the time budget of the call
+     *                      호출의 시간 예산
+     * @param cause         the failure of the last attempt, or null
+     *                      마지막 시도의 실패 또는 null
+     */
+    public DeadlineExceededException(long timeoutMillis, Throwable cause) {
+        super("Request deadline of " + timeoutMillis + " ms exceeded", cause);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+}
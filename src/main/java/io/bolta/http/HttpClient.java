@@ -24,6 +24,13 @@ public interface HttpClient {
      * Executes an HTTP request asynchronously.
      * <p>
      * HTTP 요청을 비동기적으로 실행합니다.
+     * <p>
+     * Cancelling the returned future should abort the request if it is still
+     * in flight, so that the connection is not held for a result nobody waits
+     * for.
+     * <p>
+     * 반환된 future를 취소하면 진행 중인 요청을 중단해야 합니다. 그래야 아무도 기다리지 않는
+     * 결과를 위해 연결을 점유하지 않습니다.
      *
      * @param request the HTTP request
      * @return a CompletableFuture containing the HTTP response
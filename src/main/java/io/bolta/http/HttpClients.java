@@ -1,8 +1,13 @@
 package io.bolta.http;
 
 import io.bolta.http.impl.DefaultHttpClient;
+import io.bolta.http.impl.JdkHttpClient;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -17,6 +22,31 @@ import java.util.concurrent.TimeUnit;
  * 기본 구현 세부 사항(OkHttp)을 숨깁니다.
  */
 public final class HttpClients {
+    /**
+     * Default maximum number of concurrent requests across all hosts.
+     * 모든 호스트에 대한 기본 최대 동시 요청 수
+     */
+    public static final int DEFAULT_MAX_REQUESTS = 256;
+
+    /**
+     * Default maximum number of concurrent requests per host.
+     * All Bolta API calls go to a single host, so this is the effective
+     * concurrency limit.
+     * 호스트당 기본 최대 동시 요청 수 (볼타 API는 단일 호스트이므로 실질적인 동시성 한도입니다)
+     */
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 256;
+
+    /**
+     * Default maximum number of idle connections kept in the pool.
+     * 풀에 유지되는 기본 최대 유휴 연결 수
+     */
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 64;
+
+    /**
+     * Default keep-alive duration for idle connections, in milliseconds.
+     * 유휴 연결의 기본 keep-alive 시간 (밀리초)
+     */
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = TimeUnit.MINUTES.toMillis(5);
 
     private HttpClients() {
         // Utility class
@@ -25,12 +55,16 @@ public final class HttpClients {
     /**
      * Creates a default HttpClient with standard timeout settings.
      * <p>
+     * The dispatcher and connection pool are sized for high-concurrency server
+     * use (see {@link #builder()}).
+     * <p>
      * 표준 타임아웃 설정으로 기본 HttpClient를 생성합니다.
+     * 디스패처와 커넥션 풀은 높은 동시성의 서버 환경에 맞게 설정됩니다.
      *
      * @return the default HttpClient instance
      */
     public static HttpClient createDefault() {
-        return new DefaultHttpClient(new OkHttpClient());
+        return builder().build();
     }
 
     /**
@@ -44,11 +78,390 @@ public final class HttpClients {
      * @return the configured HttpClient instance
      */
     public static HttpClient create(long connectTimeoutMillis, long readTimeoutMillis, long writeTimeoutMillis) {
-        OkHttpClient okHttpClient = new OkHttpClient.Builder()
-                .connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
-                .readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
-                .writeTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS)
+        return builder()
+                .connectTimeoutMillis(connectTimeoutMillis)
+                .readTimeoutMillis(readTimeoutMillis)
+                .writeTimeoutMillis(writeTimeoutMillis)
                 .build();
-        return new DefaultHttpClient(okHttpClient);
+    }
+
+    /**
+     * Creates a new builder for a configurable HttpClient.
+     * <p>
+     * 설정 가능한 HttpClient를 위한 새 빌더를 생성합니다.
+     * <p>
+     * Example:
+     *
+     * <pre>{@code
+     * ConnectionPool pool = HttpClients.newConnectionPool(128, 5, TimeUnit.MINUTES);
+     *
+     * HttpClient httpClient = HttpClients.builder()
+     *         .maxRequestsPerHost(512)
+     *         .connectionPool(pool)
+     *         .build();
+     * }</pre>
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a new builder for an HttpClient backed by the JDK's
+     * {@code java.net.http.HttpClient}, which multiplexes concurrent requests
+     * over HTTP/2. Requires Java 11 or later; services that only use this client
+     * can exclude the OkHttp dependency.
+     * <p>
+     * JDK의 {@code java.net.http.HttpClient} 기반 HttpClient를 위한 새 빌더를 생성합니다.
+     * 동시 요청은 HTTP/2로 다중화됩니다. Java 11 이상이 필요하며, 이 클라이언트만 사용하는
+     * 서비스는 OkHttp 의존성을 제외할 수 있습니다.
+     * <p>
+     * Example:
+     *
+     * <pre>{@code
+     * HttpClient httpClient = HttpClients.jdkBuilder()
+     *         .connectTimeoutMillis(10_000)
+     *         .requestTimeoutMillis(30_000)
+     *         .executor(executor)
+     *         .build();
+     * }</pre>
+     *
+     * @return a new JdkBuilder instance
+     * @see JdkHttpClient#isSupported()
+     */
+    public static JdkBuilder jdkBuilder() {
+        return new JdkBuilder();
+    }
+
+    /**
+     * Creates a connection pool that can be shared by several HttpClients
+     * (and therefore several BoltaClient instances).
+     * <p>
+     * 여러 HttpClient(따라서 여러 BoltaClient 인스턴스)가 공유할 수 있는 커넥션 풀을 생성합니다.
+     *
+     * @param maxIdleConnections maximum number of idle connections to keep
+     * @param keepAliveDuration  how long an idle connection is kept
+     * @param timeUnit           the unit of {@code keepAliveDuration}
+     * @return a new connection pool
+     */
+    public static ConnectionPool newConnectionPool(int maxIdleConnections, long keepAliveDuration,
+            TimeUnit timeUnit) {
+        return new ConnectionPool(maxIdleConnections, keepAliveDuration, timeUnit);
+    }
+
+    /**
+     * Builder for OkHttp-backed HttpClient instances.
+     * <p>
+     * OkHttp 기반 HttpClient 인스턴스를 위한 빌더입니다.
+     */
+    public static final class Builder {
+        private long connectTimeoutMillis = -1;
+        private long readTimeoutMillis = -1;
+        private long writeTimeoutMillis = -1;
+        private int maxRequests = DEFAULT_MAX_REQUESTS;
+        private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+        private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+        private long keepAliveMillis = DEFAULT_KEEP_ALIVE_MILLIS;
+        private ExecutorService dispatcherExecutor;
+        private ConnectionPool connectionPool;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the connect timeout.
+         * 연결 타임아웃을 설정합니다.
+         *
+         * @param connectTimeoutMillis connection timeout in milliseconds
+         * @return this builder
+         */
+        public Builder connectTimeoutMillis(long connectTimeoutMillis) {
+            if (connectTimeoutMillis < 0) {
+                throw new IllegalArgumentException("connectTimeoutMillis must be non-negative");
+            }
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Sets the read timeout.
+         * 읽기 타임아웃을 설정합니다.
+         *
+         * @param readTimeoutMillis read timeout in milliseconds
+         * @return this builder
+         */
+        public Builder readTimeoutMillis(long readTimeoutMillis) {
+            if (readTimeoutMillis < 0) {
+                throw new IllegalArgumentException("readTimeoutMillis must be non-negative");
+            }
+            this.readTimeoutMillis = readTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Sets the write timeout.
+         * 쓰기 타임아웃을 설정합니다.
+         *
+         * @param writeTimeoutMillis write timeout in milliseconds
+         * @return this builder
+         */
+        public Builder writeTimeoutMillis(long writeTimeoutMillis) {
+            if (writeTimeoutMillis < 0) {
+                throw new IllegalArgumentException("writeTimeoutMillis must be non-negative");
+            }
+            this.writeTimeoutMillis = writeTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of asynchronous requests executed concurrently.
+         * 동시에 실행되는 비동기 요청의 최대 수를 설정합니다.
+         *
+         * @param maxRequests maximum concurrent requests (must be at least 1)
+         * @return this builder
+         */
+        public Builder maxRequests(int maxRequests) {
+            if (maxRequests < 1) {
+                throw new IllegalArgumentException("maxRequests must be at least 1");
+            }
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of asynchronous requests executed concurrently
+         * against a single host.
+         * 단일 호스트에 대해 동시에 실행되는 비동기 요청의 최대 수를 설정합니다.
+         *
+         * @param maxRequestsPerHost maximum concurrent requests per host (must be at
+         *                           least 1)
+         * @return this builder
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            if (maxRequestsPerHost < 1) {
+                throw new IllegalArgumentException("maxRequestsPerHost must be at least 1");
+            }
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of idle connections kept in the pool.
+         * Ignored when a shared {@link #connectionPool(ConnectionPool)} is set.
+         * 풀에 유지되는 최대 유휴 연결 수를 설정합니다.
+         * 공유 커넥션 풀이 설정된 경우 무시됩니다.
+         *
+         * @param maxIdleConnections maximum idle connections (must be non-negative)
+         * @return this builder
+         */
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            if (maxIdleConnections < 0) {
+                throw new IllegalArgumentException("maxIdleConnections must be non-negative");
+            }
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * Sets how long idle connections are kept alive in the pool.
+         * Ignored when a shared {@link #connectionPool(ConnectionPool)} is set.
+         * 유휴 연결이 풀에 유지되는 시간을 설정합니다.
+         * 공유 커넥션 풀이 설정된 경우 무시됩니다.
+         *
+         * @param keepAliveMillis keep-alive duration in milliseconds (must be
+         *                        positive)
+         * @return this builder
+         */
+        public Builder keepAliveMillis(long keepAliveMillis) {
+            if (keepAliveMillis <= 0) {
+                throw new IllegalArgumentException("keepAliveMillis must be positive");
+            }
+            this.keepAliveMillis = keepAliveMillis;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs asynchronous calls and their callbacks.
+         * The executor is not shut down by the SDK.
+         * 비동기 호출과 콜백을 실행할 executor를 설정합니다.
+         * SDK는 이 executor를 종료하지 않습니다.
+         *
+         * @param dispatcherExecutor the executor for asynchronous calls
+         * @return this builder
+         */
+        public Builder dispatcherExecutor(ExecutorService dispatcherExecutor) {
+            this.dispatcherExecutor = dispatcherExecutor;
+            return this;
+        }
+
+        /**
+         * Runs asynchronous calls on virtual threads (Java 21+) instead of the
+         * dispatcher's platform thread pool.
+         * <p>
+         * OkHttp 4 guards some connection state with {@code synchronized}, which
+         * pins virtual threads on Java 21 to 23. For blocking calls from large
+         * numbers of virtual threads prefer {@link HttpClients#jdkBuilder()}.
+         * <p>
+         * 비동기 호출을 디스패처의 플랫폼 스레드 풀 대신 가상 스레드(Java 21+)에서 실행합니다.
+         * OkHttp 4는 일부 연결 상태를 {@code synchronized}로 보호하므로 Java 21~23에서 가상
+         * 스레드가 고정될 수 있습니다. 많은 가상 스레드에서 블로킹 호출을 하는 경우
+         * {@link HttpClients#jdkBuilder()}를 권장합니다.
+         *
+         * @return this builder
+         * @throws UnsupportedOperationException if virtual threads are not available
+         */
+        public Builder virtualThreads() {
+            this.dispatcherExecutor = VirtualThreads.newThreadPerTaskExecutor("bolta-okhttp-");
+            return this;
+        }
+
+        /**
+         * Sets a connection pool shared with other HttpClients, typically created
+         * with {@link HttpClients#newConnectionPool(int, long, TimeUnit)}.
+         * 다른 HttpClient와 공유할 커넥션 풀을 설정합니다.
+         *
+         * @param connectionPool the shared connection pool
+         * @return this builder
+         */
+        public Builder connectionPool(ConnectionPool connectionPool) {
+            this.connectionPool = connectionPool;
+            return this;
+        }
+
+        public HttpClient build() {
+            return new DefaultHttpClient(newOkHttpClient());
+        }
+
+        OkHttpClient newOkHttpClient() {
+            Dispatcher dispatcher = dispatcherExecutor != null
+                    ? new Dispatcher(dispatcherExecutor)
+                    : new Dispatcher();
+            dispatcher.setMaxRequests(maxRequests);
+            dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+            ConnectionPool pool = connectionPool != null
+                    ? connectionPool
+                    : new ConnectionPool(maxIdleConnections, keepAliveMillis, TimeUnit.MILLISECONDS);
+
+            OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                    .dispatcher(dispatcher)
+                    .connectionPool(pool);
+
+            if (connectTimeoutMillis >= 0) {
+                builder.connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            if (readTimeoutMillis >= 0) {
+                builder.readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            if (writeTimeoutMillis >= 0) {
+                builder.writeTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+
+            return builder.build();
+        }
+    }
+
+    /**
+     * Builder for HttpClient instances backed by {@code java.net.http.HttpClient}.
+     * <p>
+     * {@code java.net.http.HttpClient} 기반 HttpClient 인스턴스를 위한 빌더입니다.
+     */
+    public static final class JdkBuilder {
+        private long connectTimeoutMillis = -1;
+        private long requestTimeoutMillis = -1;
+        private Executor executor;
+        private boolean http2 = true;
+
+        private JdkBuilder() {
+        }
+
+        /**
+         * Sets the connect timeout.
+         * 연결 타임아웃을 설정합니다.
+         *
+         * @param connectTimeoutMillis connection timeout in milliseconds
+         * @return this builder
+         */
+        public JdkBuilder connectTimeoutMillis(long connectTimeoutMillis) {
+            if (connectTimeoutMillis < 0) {
+                throw new IllegalArgumentException("connectTimeoutMillis must be non-negative");
+            }
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Sets the timeout for each request, from sending until the response
+         * headers are received.
+         * 요청 전송부터 응답 헤더 수신까지의 요청별 타임아웃을 설정합니다.
+         *
+         * @param requestTimeoutMillis request timeout in milliseconds
+         * @return this builder
+         */
+        public JdkBuilder requestTimeoutMillis(long requestTimeoutMillis) {
+            if (requestTimeoutMillis < 0) {
+                throw new IllegalArgumentException("requestTimeoutMillis must be non-negative");
+            }
+            this.requestTimeoutMillis = requestTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Sets the executor used for asynchronous calls and their callbacks.
+         * The executor is not shut down by the SDK.
+         * 비동기 호출과 콜백에 사용할 executor를 설정합니다.
+         * SDK는 이 executor를 종료하지 않습니다.
+         *
+         * @param executor the executor for asynchronous calls
+         * @return this builder
+         */
+        public JdkBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Runs asynchronous work on virtual threads (Java 21+). The JDK client
+         * does not hold monitors while blocked on I/O, so it can also serve
+         * blocking calls made from virtual threads without pinning them.
+         * <p>
+         * 비동기 작업을 가상 스레드(Java 21+)에서 실행합니다. JDK 클라이언트는 I/O 대기 중
+         * 모니터를 점유하지 않으므로 가상 스레드에서의 블로킹 호출도 고정 없이 처리합니다.
+         *
+         * @return this builder
+         * @throws UnsupportedOperationException if virtual threads are not available
+         */
+        public JdkBuilder virtualThreads() {
+            this.executor = VirtualThreads.newThreadPerTaskExecutor("bolta-http-");
+            return this;
+        }
+
+        /**
+         * Sets whether HTTP/2 is preferred (default: true). When the server does
+         * not support HTTP/2 the client falls back to HTTP/1.1.
+         * HTTP/2 사용 여부를 설정합니다 (기본값: true). 서버가 HTTP/2를 지원하지 않으면
+         * HTTP/1.1로 대체됩니다.
+         *
+         * @param http2 whether to prefer HTTP/2
+         * @return this builder
+         */
+        public JdkBuilder http2(boolean http2) {
+            this.http2 = http2;
+            return this;
+        }
+
+        /**
+         * Builds the HttpClient.
+         *
+         * @return the configured HttpClient instance
+         * @throws UnsupportedOperationException if running on Java 8
+         */
+        public HttpClient build() {
+            if (!JdkHttpClient.isSupported()) {
+                throw new UnsupportedOperationException("JdkHttpClient requires Java 11 or later");
+            }
+            return new JdkHttpClient(connectTimeoutMillis, requestTimeoutMillis, executor, http2);
+        }
     }
 }
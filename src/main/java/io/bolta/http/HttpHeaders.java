@@ -1,5 +1,6 @@
 package io.bolta.http;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -10,9 +11,53 @@ import java.util.Map;
  */
 public class HttpHeaders {
     private final Map<String, String> headers;
+    private final boolean readOnly;
 
     public HttpHeaders() {
         this.headers = new HashMap<>();
+        this.readOnly = false;
+    }
+
+    /**
+     * Creates empty headers sized to hold the expected number of entries without
+     * resizing.
+     * <p>
+     * 예상 개수의 항목을 크기 조정 없이 담을 수 있는 빈 헤더를 생성합니다.
+     *
+     * @param expectedSize the expected number of headers
+     */
+    public HttpHeaders(int expectedSize) {
+        this.headers = new HashMap<>(capacityFor(expectedSize));
+        this.readOnly = false;
+    }
+
+    private HttpHeaders(Map<String, String> headers, boolean readOnly) {
+        this.headers = headers;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Returns a read-only view of these headers. The entries are not copied.
+     * <p>
+     * 이 헤더의 읽기 전용 뷰를 반환합니다. 항목은 복사되지 않습니다.
+     */
+    HttpHeaders unmodifiable() {
+        return readOnly ? this : new HttpHeaders(Collections.unmodifiableMap(headers), true);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return expectedSize < 3 ? 4 : (int) (expectedSize / 0.75f) + 1;
+    }
+
+    /**
+     * Returns the number of headers.
+     * <p>
+     * 헤더 개수를 반환합니다.
+     *
+     * @return the number of headers
+     */
+    public int size() {
+        return headers.size();
     }
 
     /**
@@ -33,6 +78,7 @@ public class HttpHeaders {
      *
      * @param name  the header name
      * @param value the header value
+     * @throws UnsupportedOperationException if these are the headers of a built request
      */
     public void add(String name, String value) {
         if (name != null && value != null) {
@@ -46,6 +92,7 @@ public class HttpHeaders {
      * 맵에서 여러 헤더를 추가합니다.
      *
      * @param headersToAdd the headers to add
+     * @throws UnsupportedOperationException if these are the headers of a built request
      */
     public void addAll(Map<String, String> headersToAdd) {
         if (headersToAdd != null) {
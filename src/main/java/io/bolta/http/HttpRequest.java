@@ -9,16 +9,18 @@ public final class HttpRequest {
     private final String url;
     private final HttpMethod method;
     private final HttpHeaders headers;
-    private final String body;
+    private final HttpRequestBody body;
+    private final String route;
+    private final long timeoutMillis;
 
-    private HttpRequest(Builder builder) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.addAll(builder.headers.getHeaders());
-
-        this.url = builder.url;
-        this.method = builder.method;
-        this.headers = headers;
-        this.body = builder.body;
+    private HttpRequest(String url, HttpMethod method, HttpHeaders headers, HttpRequestBody body, String route,
+            long timeoutMillis) {
+        this.url = url;
+        this.method = method;
+        this.headers = headers.unmodifiable();
+        this.body = body;
+        this.route = route;
+        this.timeoutMillis = timeoutMillis;
     }
 
     public String getUrl() {
@@ -29,20 +31,109 @@ public final class HttpRequest {
         return method;
     }
 
+    /**
+     * Returns the request headers. They are read-only, because the same headers
+     * may be shared by several requests built from one builder.
+     * <p>
+     * 요청 헤더를 반환합니다. 하나의 빌더로 생성된 여러 요청이 같은 헤더를 공유할 수 있으므로
+     * 읽기 전용입니다.
+     *
+     * @return the request headers
+     */
     public HttpHeaders getHeaders() {
         return headers;
     }
 
-    public String getBody() {
+    /**
+     * Returns the request body, or null if the request has none.
+     * <p>
+     * 요청 본문을 반환하며, 본문이 없으면 null을 반환합니다.
+     *
+     * @return the request body
+     */
+    public HttpRequestBody getBody() {
         return body;
     }
 
+    /**
+     * Returns the route pattern the URL was built from, such as
+     * {@code /v1/customers/{identificationNumber}}, or the URL path when the
+     * request was built without one. Requests to the same endpoint share a
+     * route whatever their path variables.
+     * <p>
+     * URL을 만든 경로 패턴(예: {@code /v1/customers/{identificationNumber}})을 반환하며,
+     * 패턴 없이 생성된 요청은 URL 경로를 반환합니다. 같은 엔드포인트에 대한 요청은 경로 변수와
+     * 관계없이 같은 경로를 가집니다.
+     *
+     * @return the route
+     */
+    public String getRoute() {
+        return route != null ? route : pathOf(url);
+    }
+
+    /**
+     * Returns the time limit for the whole HTTP call, or 0 to use the HTTP
+     * client's own timeouts. {@link HttpClient} implementations fail the call
+     * with an {@link java.io.IOException} once it runs longer.
+     * <p>
+     * 전체 HTTP 호출의 시간 제한을 반환하며, 0이면 HTTP 클라이언트 자체의 타임아웃을
+     * 사용합니다. {@link HttpClient} 구현은 호출이 이보다 오래 걸리면
+     * {@link java.io.IOException}으로 실패시킵니다.
+     *
+     * @return the timeout in milliseconds
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Returns a copy of this request with the given call timeout.
+     * <p>
+     * 주어진 호출 타임아웃을 가진 이 요청의 사본을 반환합니다.
+     *
+     * @param timeoutMillis the timeout in milliseconds, or 0 for none
+     * @return the new request
+     */
+    public HttpRequest withTimeoutMillis(long timeoutMillis) {
+        return new HttpRequest(url, method, headers, body, route, timeoutMillis);
+    }
+
+    /**
+     * Returns a copy of this request that uses the given headers in place of its
+     * own. The headers are not copied, so the caller must not modify them
+     * afterwards.
+     * <p>
+     * 이 요청의 헤더를 주어진 헤더로 대체한 사본을 반환합니다. 헤더는 복사되지 않으므로
+     * 호출자는 이후에 헤더를 수정하면 안 됩니다.
+     *
+     * @param headers the headers of the new request
+     * @return the new request
+     */
+    public HttpRequest withHeaders(HttpHeaders headers) {
+        return new HttpRequest(url, method, headers, body, route, timeoutMillis);
+    }
+
+    /**
+     * Returns a copy of this request with the given body.
+     * <p>
+     * 주어진 본문을 가진 이 요청의 사본을 반환합니다.
+     *
+     * @param body the body of the new request
+     * @return the new request
+     */
+    public HttpRequest withBody(HttpRequestBody body) {
+        return new HttpRequest(url, method, headers, body, route, timeoutMillis);
+    }
+
     public Builder newBuilder() {
         Builder builder = new Builder()
                 .url(this.url)
                 .method(this.method)
-                .headers(this.headers)
                 .body(this.body);
+        builder.route = this.route;
+        builder.timeoutMillis = this.timeoutMillis;
+        builder.headers = this.headers;
+        builder.headersShared = true;
         return builder;
     }
 
@@ -50,43 +141,119 @@ public final class HttpRequest {
         return new Builder();
     }
 
+    private static String pathOf(String url) {
+        int scheme = url.indexOf("://");
+        int start = url.indexOf('/', scheme >= 0 ? scheme + 3 : 0);
+        if (start < 0) {
+            return "/";
+        }
+        int end = url.length();
+        for (int i = start; i < end; i++) {
+            char c = url.charAt(i);
+            if (c == '?' || c == '#') {
+                end = i;
+            }
+        }
+        return url.substring(start, end);
+    }
+
+    /**
+     * Builder for HttpRequest instances.
+     * <p>
+     * The header map is handed to the built request as a read-only view rather
+     * than copied. The builder only copies it if it is modified again after {@link #build()}, or
+     * after being created by {@link HttpRequest#newBuilder()}.
+     * <p>
+     * HttpRequest 인스턴스를 위한 빌더입니다. 헤더 맵은 복사되지 않고 읽기 전용 뷰로 생성된 요청에 전달되며,
+     * {@link #build()} 이후 또는 {@link HttpRequest#newBuilder()}로 생성된 후 다시 수정될 때만
+     * 복사됩니다.
+     */
     public static class Builder {
         private String url;
         private HttpMethod method;
         private HttpHeaders headers = new HttpHeaders();
-        private String body;
+        private boolean headersShared;
+        private HttpRequestBody body;
+        private String route;
+        private long timeoutMillis;
 
         public Builder url(String url) {
             this.url = url;
             return this;
         }
 
+        /**
+         * Sets the route the URL was built from, which identifies the endpoint
+         * regardless of its path variables.
+         * <p>
+         * URL을 만든 경로 템플릿을 설정합니다. 경로 변수와 관계없이 엔드포인트를 식별합니다.
+         *
+         * @param route the route template
+         * @return this builder
+         */
+        public Builder route(RouteTemplate route) {
+            this.route = route != null ? route.getPattern() : null;
+            return this;
+        }
+
+        /**
+         * Sets a time limit for the whole HTTP call.
+         * <p>
+         * 전체 HTTP 호출의 시간 제한을 설정합니다.
+         *
+         * @param timeoutMillis the timeout in milliseconds, or 0 for none
+         * @return this builder
+         */
+        public Builder timeoutMillis(long timeoutMillis) {
+            if (timeoutMillis < 0) {
+                throw new IllegalArgumentException("timeoutMillis cannot be negative");
+            }
+            this.timeoutMillis = timeoutMillis;
+            return this;
+        }
+
         public Builder method(HttpMethod method) {
             this.method = method;
             return this;
         }
 
         public Builder headers(HttpHeaders headers) {
-            this.headers.addAll(headers.getHeaders());
+            mutableHeaders(headers.size()).addAll(headers.getHeaders());
             return this;
         }
 
         public Builder header(String name, String value) {
-            this.headers.add(name, value);
+            mutableHeaders(1).add(name, value);
             return this;
         }
 
         public Builder body(String body) {
+            this.body = body != null ? HttpRequestBody.of(body) : null;
+            return this;
+        }
+
+        public Builder body(HttpRequestBody body) {
             this.body = body;
             return this;
         }
 
+        private HttpHeaders mutableHeaders(int additional) {
+            if (headersShared) {
+                HttpHeaders copy = new HttpHeaders(headers.size() + additional);
+                copy.addAll(headers.getHeaders());
+                headers = copy;
+                headersShared = false;
+            }
+            return headers;
+        }
+
         public HttpRequest build() {
             if (url == null)
                 throw new IllegalStateException("URL is required");
             if (method == null)
                 throw new IllegalStateException("Method is required");
-            return new HttpRequest(this);
+            headersShared = true;
+            return new HttpRequest(url, method, headers, body, route, timeoutMillis);
         }
     }
 }
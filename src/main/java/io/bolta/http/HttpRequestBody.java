@@ -0,0 +1,193 @@
+package io.bolta.http;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Represents the body of an HTTP request.
+ * <p>
+ * HTTP 요청 본문을 나타냅니다.
+ * <p>
+ * A body is either a fixed byte array or a JSON body that serializes a model
+ * straight into the transport's output stream through a {@link JsonGenerator},
+ * without building an intermediate {@code String}. Both kinds can be written
+ * more than once, so a request can be replayed on retry.
+ * <p>
+ * 본문은 고정된 바이트 배열이거나, 중간 {@code String} 없이 {@link JsonGenerator}를 통해
+ * 모델을 전송 계층의 출력 스트림에 직접 직렬화하는 JSON 본문입니다. 두 종류 모두 여러 번
+ * 쓸 수 있으므로 재시도 시 요청을 다시 보낼 수 있습니다.
+ */
+public abstract class HttpRequestBody {
+    private static final HttpRequestBody EMPTY = new BytesBody(new byte[0]);
+
+    HttpRequestBody() {
+    }
+
+    /**
+     * Writes the body to the given stream. The stream is flushed but not closed.
+     * <p>
+     * 주어진 스트림에 본문을 씁니다. 스트림은 flush되지만 닫히지 않습니다.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing or serialization fails
+     */
+    public abstract void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Returns the number of bytes in the body, or -1 if unknown until written.
+     * <p>
+     * 본문의 바이트 수를 반환하며, 쓰기 전까지 알 수 없으면 -1을 반환합니다.
+     *
+     * @return the content length, or -1
+     */
+    public abstract long contentLength();
+
+    /**
+     * Returns the body as a byte array, serializing it if necessary.
+     * <p>
+     * 필요한 경우 직렬화하여 본문을 바이트 배열로 반환합니다.
+     *
+     * @return the body bytes
+     * @throws IOException if serialization fails
+     */
+    public abstract byte[] toByteArray() throws IOException;
+
+    /**
+     * Returns a byte-array backed copy of this body, serializing it once so that
+     * every retry sends identical bytes and serialization errors surface before
+     * the first attempt.
+     * <p>
+     * 본문을 한 번 직렬화한 바이트 배열 기반 본문을 반환합니다. 모든 재시도가 동일한
+     * 바이트를 전송하며 직렬화 오류는 첫 시도 전에 드러납니다.
+     *
+     * @return a byte-array backed body
+     * @throws IOException if serialization fails
+     */
+    public HttpRequestBody buffered() throws IOException {
+        return new BytesBody(toByteArray());
+    }
+
+    /**
+     * Creates an empty body.
+     * <p>
+     * 빈 본문을 생성합니다.
+     *
+     * @return an empty body
+     */
+    public static HttpRequestBody empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a body from a string, encoded as UTF-8.
+     * <p>
+     * 문자열을 UTF-8로 인코딩한 본문을 생성합니다.
+     *
+     * @param content the body content
+     * @return the request body
+     */
+    public static HttpRequestBody of(String content) {
+        if (content == null) {
+            throw new IllegalArgumentException("content cannot be null");
+        }
+        return content.isEmpty() ? EMPTY : new BytesBody(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a body from a byte array. The array is not copied.
+     * <p>
+     * 바이트 배열로 본문을 생성합니다. 배열은 복사되지 않습니다.
+     *
+     * @param content the body content
+     * @return the request body
+     */
+    public static HttpRequestBody of(byte[] content) {
+        if (content == null) {
+            throw new IllegalArgumentException("content cannot be null");
+        }
+        return new BytesBody(content);
+    }
+
+    /**
+     * Creates a JSON body that serializes the value with the given mapper each
+     * time it is written.
+     * <p>
+     * 쓸 때마다 주어진 매퍼로 값을 직렬화하는 JSON 본문을 생성합니다.
+     *
+     * @param objectMapper the mapper used for serialization
+     * @param value        the value to serialize
+     * @return the request body
+     */
+    public static HttpRequestBody json(ObjectMapper objectMapper, Object value) {
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("objectMapper cannot be null");
+        }
+        return new JsonBody(objectMapper, value);
+    }
+
+    private static final class BytesBody extends HttpRequestBody {
+        private final byte[] content;
+
+        BytesBody(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            out.write(content);
+            out.flush();
+        }
+
+        @Override
+        public long contentLength() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] toByteArray() {
+            return content;
+        }
+
+        @Override
+        public HttpRequestBody buffered() {
+            return this;
+        }
+    }
+
+    private static final class JsonBody extends HttpRequestBody {
+        private final ObjectMapper objectMapper;
+        private final Object value;
+
+        JsonBody(ObjectMapper objectMapper, Object value) {
+            this.objectMapper = objectMapper;
+            this.value = value;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            // The transport owns the stream, so the generator must not close it.
+            // 스트림은 전송 계층이 소유하므로 generator가 닫지 않아야 합니다.
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                objectMapper.writeValue(generator, value);
+            }
+        }
+
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public byte[] toByteArray() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+            writeTo(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.bolta.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 
@@ -7,18 +10,44 @@ import java.util.Map;
  * Represents an HTTP response.
  * <p>
  * HTTP 응답을 나타냅니다.
+ * <p>
+ * The body is kept as the raw bytes read from the connection so that it can be
+ * deserialized without first being decoded into a {@code String}.
+ * <p>
+ * 본문은 연결에서 읽은 원시 바이트로 보관되므로 {@code String}으로 디코딩하지 않고
+ * 역직렬화할 수 있습니다.
  */
 public final class HttpResponse {
     private final int statusCode;
     private final Map<String, String> headers;
-    private final String body;
+    private final byte[] body;
 
     public HttpResponse(int statusCode, Map<String, String> headers, String body) {
+        this(statusCode, headers, body != null ? body.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private HttpResponse(int statusCode, Map<String, String> headers, byte[] body) {
         this.statusCode = statusCode;
         this.headers = headers != null ? Collections.unmodifiableMap(headers) : Collections.emptyMap();
         this.body = body;
     }
 
+    /**
+     * Creates a response whose body is the given bytes. Neither the header map
+     * nor the array is copied, so the header map may be a lazy view.
+     * <p>
+     * 주어진 바이트를 본문으로 하는 응답을 생성합니다. 헤더 맵과 배열은 복사되지 않으므로
+     * 헤더 맵은 지연 뷰일 수 있습니다.
+     *
+     * @param statusCode the HTTP status code
+     * @param headers    the response headers
+     * @param body       the response body, or null
+     * @return the HTTP response
+     */
+    public static HttpResponse of(int statusCode, Map<String, String> headers, byte[] body) {
+        return new HttpResponse(statusCode, headers, body);
+    }
+
     public int getStatusCode() {
         return statusCode;
     }
@@ -27,10 +56,52 @@ public final class HttpResponse {
         return headers;
     }
 
+    /**
+     * Returns the body decoded as UTF-8, or null if the response has no body.
+     * <p>
+     * UTF-8로 디코딩한 본문을 반환하며, 본문이 없으면 null을 반환합니다.
+     *
+     * @return the body as a string
+     */
     public String getBody() {
+        return body != null ? new String(body, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Returns the raw body bytes, or null if the response has no body.
+     * The returned array must not be modified.
+     * <p>
+     * 원시 본문 바이트를 반환하며, 본문이 없으면 null을 반환합니다.
+     * 반환된 배열은 수정하면 안 됩니다.
+     *
+     * @return the body bytes
+     */
+    public byte[] getBodyBytes() {
         return body;
     }
 
+    /**
+     * Returns a stream over the body, or null if the response has no body.
+     * <p>
+     * 본문에 대한 스트림을 반환하며, 본문이 없으면 null을 반환합니다.
+     *
+     * @return the body stream
+     */
+    public InputStream getBodyStream() {
+        return body != null ? new ByteArrayInputStream(body) : null;
+    }
+
+    /**
+     * Returns true if the response has a non-empty body.
+     * <p>
+     * 응답에 비어 있지 않은 본문이 있으면 true를 반환합니다.
+     *
+     * @return whether the body is non-empty
+     */
+    public boolean hasBody() {
+        return body != null && body.length > 0;
+    }
+
     public boolean isSuccessful() {
         return statusCode >= 200 && statusCode < 300;
     }
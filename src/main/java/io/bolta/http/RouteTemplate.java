@@ -0,0 +1,194 @@
+package io.bolta.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compiled API path template such as
+ * {@code /v1/taxInvoices/{issuanceKey}/amend/termination}.
+ * <p>
+ * API 경로 템플릿을 컴파일한 형태입니다.
+ * <p>
+ * Templates are compiled once, typically into a {@code static final} field,
+ * and expanded per request. Each variable is URL-encoded as a single path
+ * segment, so values such as {@code "a/b"} cannot change the route.
+ * <p>
+ * 템플릿은 보통 {@code static final} 필드에 한 번 컴파일되고 요청마다 확장됩니다. 각 변수는
+ * 단일 경로 세그먼트로 URL 인코딩되므로 {@code "a/b"} 같은 값이 경로를 바꿀 수 없습니다.
+ *
+ * <pre>{@code
+ * private static final RouteTemplate TAX_INVOICE = RouteTemplate.compile("/v1/taxInvoices/{issuanceKey}");
+ *
+ * String url = TAX_INVOICE.expandUrl("https://xapi.bolta.io", issuanceKey);
+ * }</pre>
+ */
+public final class RouteTemplate {
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final String pattern;
+    private final String[] literals;
+    private final String[] variableNames;
+    private final int literalLength;
+
+    private RouteTemplate(String pattern, String[] literals, String[] variableNames) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.variableNames = variableNames;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles a path template. Variables are written as {@code {name}}.
+     * <p>
+     * 경로 템플릿을 컴파일합니다. 변수는 {@code {name}} 형식으로 작성합니다.
+     *
+     * @param pattern the path template
+     * @return the compiled template
+     * @throws IllegalArgumentException if the pattern is malformed
+     */
+    public static RouteTemplate compile(String pattern) {
+        if (pattern == null || !pattern.startsWith("/")) {
+            throw new IllegalArgumentException("pattern must start with '/': " + pattern);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> variableNames = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = pattern.indexOf('{', position);
+            if (open < 0) {
+                literals.add(pattern.substring(position));
+                break;
+            }
+            int close = pattern.indexOf('}', open);
+            int nested = pattern.indexOf('{', open + 1);
+            if (close < 0 || close == open + 1 || (nested >= 0 && nested < close)) {
+                throw new IllegalArgumentException("Malformed variable in pattern: " + pattern);
+            }
+            literals.add(pattern.substring(position, open));
+            variableNames.add(pattern.substring(open + 1, close));
+            position = close + 1;
+        }
+
+        return new RouteTemplate(pattern,
+                literals.toArray(new String[0]),
+                variableNames.toArray(new String[0]));
+    }
+
+    /**
+     * Expands the template into a path.
+     * <p>
+     * 템플릿을 경로로 확장합니다.
+     *
+     * @param values the variable values, in template order
+     * @return the expanded, encoded path
+     * @throws IllegalArgumentException if the number of values does not match or a
+     *                                  value is null, empty or a dot segment
+     */
+    public String expand(String... values) {
+        return expandUrl("", values);
+    }
+
+    /**
+     * Expands the template into a URL by appending the path to the base URL.
+     * <p>
+     * 기본 URL 뒤에 경로를 붙여 템플릿을 URL로 확장합니다.
+     *
+     * @param baseUrl the base URL (e.g., "https://xapi.bolta.io")
+     * @param values  the variable values, in template order
+     * @return the expanded URL
+     * @throws IllegalArgumentException if the number of values does not match or a
+     *                                  value is null, empty or a dot segment
+     */
+    public String expandUrl(String baseUrl, String... values) {
+        int valueCount = values != null ? values.length : 0;
+        if (valueCount != variableNames.length) {
+            throw new IllegalArgumentException("Route " + pattern + " expects " + variableNames.length
+                    + " value(s) but got " + valueCount);
+        }
+
+        String base = baseUrl != null ? baseUrl : "";
+        int capacity = base.length() + literalLength;
+        for (int i = 0; i < valueCount; i++) {
+            String value = values[i];
+            if (value == null || value.isEmpty()) {
+                throw new IllegalArgumentException(variableNames[i] + " is required");
+            }
+            if (value.equals(".") || value.equals("..")) {
+                // Dot segments would be resolved by the HTTP client and change the route.
+                // 점 세그먼트는 HTTP 클라이언트가 해석하여 경로를 바꾸게 됩니다.
+                throw new IllegalArgumentException("Invalid " + variableNames[i] + ": " + value);
+            }
+            capacity += value.length();
+        }
+
+        StringBuilder url = new StringBuilder(capacity).append(base).append(literals[0]);
+        for (int i = 0; i < valueCount; i++) {
+            appendEncoded(url, values[i]);
+            url.append(literals[i + 1]);
+        }
+        return url.toString();
+    }
+
+    /**
+     * Returns the original template, which identifies the route independently of
+     * its variable values.
+     * <p>
+     * 변수 값과 무관하게 경로를 식별하는 원본 템플릿을 반환합니다.
+     *
+     * @return the template pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the number of variables in the template.
+     * <p>
+     * 템플릿의 변수 개수를 반환합니다.
+     *
+     * @return the variable count
+     */
+    public int getVariableCount() {
+        return variableNames.length;
+    }
+
+    private static void appendEncoded(StringBuilder out, String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && isUnreserved(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            out.append(value);
+            return;
+        }
+
+        out.append(value, 0, i);
+        byte[] bytes = value.substring(i).getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            char c = (char) (b & 0xFF);
+            if (isUnreserved(c)) {
+                out.append(c);
+            } else {
+                out.append('%').append(HEX_DIGITS[(b >> 4) & 0x0F]).append(HEX_DIGITS[b & 0x0F]);
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
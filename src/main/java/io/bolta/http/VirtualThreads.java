@@ -0,0 +1,110 @@
+package io.bolta.http;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to Java 21 virtual threads from code compiled for Java 8.
+ * <p>
+ * Java 8용으로 컴파일된 코드에서 Java 21 가상 스레드를 사용하기 위한 유틸리티입니다.
+ * <p>
+ * The virtual thread API is looked up reflectively once; on older JVMs
+ * {@link #isAvailable()} returns false and the factory methods throw
+ * {@link UnsupportedOperationException}.
+ * <p>
+ * 가상 스레드 API는 한 번만 리플렉션으로 조회됩니다. 이전 JVM에서는 {@link #isAvailable()}이
+ * false를 반환하고 팩토리 메서드는 {@link UnsupportedOperationException}을 던집니다.
+ */
+public final class VirtualThreads {
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // Java 19 and 20 expose the API only as a preview feature.
+            // Java 19과 20에서는 프리뷰 기능으로만 제공됩니다.
+            ofVirtual.invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+        // Utility class
+    }
+
+    /**
+     * Returns true if the running JVM supports virtual threads.
+     * <p>
+     * 실행 중인 JVM이 가상 스레드를 지원하면 true를 반환합니다.
+     *
+     * @return whether virtual threads are available
+     */
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a thread factory for virtual threads named {@code prefix0},
+     * {@code prefix1}, and so on.
+     * <p>
+     * {@code prefix0}, {@code prefix1} 등의 이름을 갖는 가상 스레드 팩토리를 생성합니다.
+     *
+     * @param namePrefix the thread name prefix
+     * @return a virtual thread factory
+     * @throws UnsupportedOperationException if virtual threads are not available
+     */
+    public static ThreadFactory newThreadFactory(String namePrefix) {
+        requireAvailable();
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 0L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException("Failed to create a virtual thread factory", e);
+        }
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     * The executor holds no threads while idle, so it need not be shut down.
+     * <p>
+     * 작업마다 새 가상 스레드를 시작하는 executor를 생성합니다.
+     * 유휴 상태에서는 스레드를 보유하지 않으므로 종료하지 않아도 됩니다.
+     *
+     * @param namePrefix the thread name prefix
+     * @return a virtual-thread-per-task executor
+     * @throws UnsupportedOperationException if virtual threads are not available
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        ThreadFactory threadFactory = newThreadFactory(namePrefix);
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException("Failed to create a virtual thread executor", e);
+        }
+    }
+
+    private static void requireAvailable() {
+        if (!isAvailable()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+    }
+}
@@ -2,14 +2,16 @@ package io.bolta.http.impl;
 
 import io.bolta.http.HttpClient;
 import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpRequestBody;
 import io.bolta.http.HttpResponse;
 import okhttp3.*;
+import okio.BufferedSink;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Default implementation of HttpClient using OkHttp.
@@ -17,6 +19,9 @@ import java.util.concurrent.CompletableFuture;
  * provided.
  */
 public final class DefaultHttpClient implements HttpClient {
+    private static final MediaType APPLICATION_JSON = MediaType.get("application/json; charset=utf-8");
+    private static final RequestBody EMPTY_BODY = RequestBody.create(new byte[0], null);
+
     private final OkHttpClient client;
 
     /**
@@ -30,8 +35,7 @@ public final class DefaultHttpClient implements HttpClient {
 
     @Override
     public HttpResponse execute(HttpRequest request) throws IOException {
-        Request okHttpRequest = toOkHttpRequest(request);
-        try (Response response = client.newCall(okHttpRequest).execute()) {
+        try (Response response = newCall(request).execute()) {
             return toHttpResponse(response);
         }
     }
@@ -39,8 +43,13 @@ public final class DefaultHttpClient implements HttpClient {
     @Override
     public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
         CompletableFuture<HttpResponse> future = new CompletableFuture<>();
-        Request okHttpRequest = toOkHttpRequest(request);
-        client.newCall(okHttpRequest).enqueue(new Callback() {
+        Call call = newCall(request);
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new Callback() {
             @Override
             public void onFailure(@NotNull Call call, @NotNull IOException e) {
                 future.completeExceptionally(e);
@@ -60,6 +69,19 @@ public final class DefaultHttpClient implements HttpClient {
         return future;
     }
 
+    /**
+     * Creates the call, shortening its timeout to the request's own when that
+     * is stricter than the client's.
+     */
+    private Call newCall(HttpRequest request) {
+        Call call = client.newCall(toOkHttpRequest(request));
+        long timeoutMillis = request.getTimeoutMillis();
+        if (timeoutMillis > 0 && (client.callTimeoutMillis() == 0 || timeoutMillis < client.callTimeoutMillis())) {
+            call.timeout().timeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        return call;
+    }
+
     private Request toOkHttpRequest(HttpRequest request) {
         Request.Builder builder = new Request.Builder()
                 .url(request.getUrl());
@@ -72,7 +94,7 @@ public final class DefaultHttpClient implements HttpClient {
 
         RequestBody body = null;
         if (request.getBody() != null) {
-            body = RequestBody.create(request.getBody(), MediaType.get("application/json"));
+            body = new StreamingRequestBody(request.getBody());
         }
 
         switch (request.getMethod()) {
@@ -80,24 +102,47 @@ public final class DefaultHttpClient implements HttpClient {
                 builder.get();
                 break;
             case POST:
-                builder.post(body != null ? body : RequestBody.create(new byte[0], null));
+                builder.post(body != null ? body : EMPTY_BODY);
                 break;
             case PUT:
-                builder.put(body != null ? body : RequestBody.create(new byte[0], null));
+                builder.put(body != null ? body : EMPTY_BODY);
                 break;
             case DELETE:
-                builder.delete(body != null ? body : RequestBody.create(new byte[0], null));
+                builder.delete(body != null ? body : EMPTY_BODY);
                 break;
         }
         return builder.build();
     }
 
     private HttpResponse toHttpResponse(Response response) throws IOException {
-        Map<String, String> headers = new HashMap<>();
-        for (String name : response.headers().names()) {
-            headers.put(name, response.header(name));
+        byte[] body = response.body() != null ? response.body().bytes() : null;
+        return HttpResponse.of(response.code(), new OkHttpHeaderMap(response.headers()), body);
+    }
+
+    /**
+     * Adapts an {@link HttpRequestBody} to OkHttp, writing it directly into the
+     * connection's sink.
+     */
+    private static final class StreamingRequestBody extends RequestBody {
+        private final HttpRequestBody body;
+
+        StreamingRequestBody(HttpRequestBody body) {
+            this.body = body;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return APPLICATION_JSON;
+        }
+
+        @Override
+        public long contentLength() {
+            return body.contentLength();
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException {
+            body.writeTo(sink.outputStream());
         }
-        String body = response.body() != null ? response.body().string() : null;
-        return new HttpResponse(response.code(), headers, body);
     }
 }
@@ -0,0 +1,64 @@
+package io.bolta.http.impl;
+
+import io.bolta.http.HttpClient;
+import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * HttpClient implementation backed by {@code java.net.http.HttpClient}.
+ * <p>
+ * {@code java.net.http.HttpClient} 기반의 HttpClient 구현입니다.
+ * <p>
+ * The SDK is published as a multi-release JAR: on Java 11 and later this class
+ * is replaced by the implementation under {@code META-INF/versions/11}. This
+ * Java 8 version only reports that the JDK client is unavailable.
+ * <p>
+ * SDK는 멀티 릴리스 JAR로 배포됩니다. Java 11 이상에서는 이 클래스가
+ * {@code META-INF/versions/11} 아래의 구현으로 대체되며, 이 Java 8 버전은 JDK 클라이언트를
+ * 사용할 수 없음을 알리기만 합니다.
+ *
+ * @see io.bolta.http.HttpClients#jdkBuilder()
+ */
+public final class JdkHttpClient implements HttpClient {
+    private static final String UNSUPPORTED_MESSAGE = "JdkHttpClient requires Java 11 or later";
+
+    /**
+     * Creates a JdkHttpClient.
+     *
+     * @param connectTimeoutMillis connection timeout in milliseconds, or a
+     *                             non-positive value for the JDK default
+     * @param requestTimeoutMillis per-request timeout in milliseconds, or a
+     *                             non-positive value for no timeout
+     * @param executor             executor for asynchronous work, or null for
+     *                             the JDK default
+     * @param http2                whether to prefer HTTP/2
+     * @throws UnsupportedOperationException always, on Java 8
+     */
+    public JdkHttpClient(long connectTimeoutMillis, long requestTimeoutMillis, Executor executor, boolean http2) {
+        throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
+    }
+
+    /**
+     * Returns true if the running JVM provides {@code java.net.http}.
+     * <p>
+     * 실행 중인 JVM이 {@code java.net.http}를 제공하면 true를 반환합니다.
+     *
+     * @return whether JdkHttpClient can be created
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) {
+        throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+        throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
+    }
+}
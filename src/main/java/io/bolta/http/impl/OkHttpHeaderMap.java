@@ -0,0 +1,95 @@
+package io.bolta.http.impl;
+
+import okhttp3.Headers;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only {@code Map} view over OkHttp {@link Headers}.
+ * <p>
+ * Lookups by name go straight to the underlying headers and are
+ * case-insensitive; for repeated headers the last value wins, as it did when
+ * headers were copied into a map. No copy is made unless the map is iterated.
+ */
+final class OkHttpHeaderMap extends AbstractMap<String, String> {
+    private final Headers headers;
+    private Set<Entry<String, String>> entrySet;
+
+    OkHttpHeaderMap(Headers headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public String get(Object key) {
+        return key instanceof String ? lastValue((String) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return headers.names().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return headers.size() == 0;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private String lastValue(String name) {
+        for (int i = headers.size() - 1; i >= 0; i--) {
+            if (headers.name(i).equalsIgnoreCase(name)) {
+                return headers.value(i);
+            }
+        }
+        return null;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, String>> {
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+            Map<String, String> snapshot = new LinkedHashMap<>();
+            for (String name : headers.names()) {
+                snapshot.put(name, lastValue(name));
+            }
+            Iterator<Entry<String, String>> delegate = snapshot.entrySet().iterator();
+            return new Iterator<Entry<String, String>>() {
+                @Override
+                public boolean hasNext() {
+                    return delegate.hasNext();
+                }
+
+                @Override
+                public Entry<String, String> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, String> entry = delegate.next();
+                    return new SimpleImmutableEntry<>(entry);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return OkHttpHeaderMap.this.size();
+        }
+    }
+}
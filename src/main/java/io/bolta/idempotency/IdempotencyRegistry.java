@@ -0,0 +1,602 @@
+package io.bolta.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.bolta.exception.BoltaException;
+import io.bolta.model.IssuanceKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Remembers which issuance key each client reference ID produced, and collapses
+ * concurrent issuances with the same reference ID into one request.
+ * <p>
+ * 각 클라이언트 관리번호로 발급된 발급 키를 기억하고, 같은 관리번호로 동시에 들어온 발행 요청을
+ * 하나의 요청으로 합칩니다.
+ * <p>
+ * Register it on a {@link io.bolta.BoltaClient} and every
+ * {@code taxInvoices().issue} call whose options carry a client reference ID
+ * goes through it:
+ * <ul>
+ * <li>if the reference ID has already been issued, the remembered key is
+ * returned without a request;</li>
+ * <li>if an issuance with the same reference ID is in flight, the caller shares
+ * its result (singleflight);</li>
+ * <li>otherwise the request is sent and, on success, its key is remembered.</li>
+ * </ul>
+ * Failures are shared with the callers waiting at the time but are not
+ * remembered, so a later call tries again. Reference IDs are scoped by customer
+ * key. The most recently used {@code maxEntries} keys are kept; with
+ * {@link Builder#persistTo(Path)} they are also appended to a file and reloaded
+ * on startup.
+ * <p>
+ * {@link io.bolta.BoltaClient}에 등록하면 옵션에 클라이언트 관리번호가 있는 모든
+ * {@code taxInvoices().issue} 호출이 이 레지스트리를 거칩니다. 이미 발행된 관리번호는 요청 없이
+ * 기억된 키를 반환하고, 같은 관리번호의 발행이 진행 중이면 그 결과를 공유하며, 그렇지 않으면
+ * 요청을 보내고 성공 시 키를 기억합니다. 실패는 그 시점에 기다리던 호출자와 공유되지만 기억되지
+ * 않으므로 이후 호출에서 다시 시도합니다. 관리번호는 고객 키별로 구분됩니다. 최근 사용된
+ * {@code maxEntries}개의 키를 보관하며, {@link Builder#persistTo(Path)}를 사용하면 파일에도
+ * 기록되어 시작 시 다시 읽습니다.
+ *
+ * <pre>{@code
+ * IdempotencyRegistry registry = IdempotencyRegistry.builder()
+ *         .maxEntries(100_000)
+ *         .persistTo(Paths.get("/var/lib/myapp/issued.jsonl"))
+ *         .build();
+ *
+ * BoltaClient client = BoltaClient.builder()
+ *         .apiKey(apiKey)
+ *         .httpClient(httpClient)
+ *         .idempotencyRegistry(registry)
+ *         .build();
+ * }</pre>
+ */
+public final class IdempotencyRegistry implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyRegistry.class);
+
+    /**
+     * Default number of remembered issuance keys.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private final int maxEntries;
+    private final Map<Key, IssuanceKey> completed;
+    private final ConcurrentMap<Key, CompletableFuture<IssuanceKey>> inFlight = new ConcurrentHashMap<>();
+    private final Store store;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private IdempotencyRegistry(Builder builder) throws IOException {
+        this.maxEntries = builder.maxEntries;
+        this.completed = new LinkedHashMap<Key, IssuanceKey>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, IssuanceKey> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.store = builder.persistPath != null ? new Store(builder.persistPath, builder.objectMapper) : null;
+        if (store != null) {
+            store.load(completed);
+        }
+    }
+
+    /**
+     * Issues through {@code call} unless the reference ID is already known or
+     * in flight. The call runs on the calling thread.
+     * <p>
+     * 관리번호가 이미 알려져 있거나 진행 중이 아니면 {@code call}로 발행합니다. 호출은 현재
+     * 스레드에서 실행됩니다.
+     *
+     * @param customerKey       the customer key, or null
+     * @param clientReferenceId the client reference ID
+     * @param call              performs the issuance
+     * @return the issuance key
+     * @throws BoltaException if the issuance fails
+     */
+    public IssuanceKey execute(String customerKey, String clientReferenceId, Supplier<IssuanceKey> call) {
+        Key key = new Key(customerKey, clientReferenceId);
+        IssuanceKey known = lookup(key);
+        if (known != null) {
+            hits.incrementAndGet();
+            return known;
+        }
+
+        CompletableFuture<IssuanceKey> future = new CompletableFuture<>();
+        CompletableFuture<IssuanceKey> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return join(existing);
+        }
+
+        known = lookup(key);
+        if (known != null) {
+            // Another caller finished between the first lookup and taking the slot.
+            hits.incrementAndGet();
+            release(key, future, known);
+            return known;
+        }
+
+        misses.incrementAndGet();
+        try {
+            IssuanceKey issuanceKey = call.get();
+            succeed(key, future, issuanceKey);
+            return issuanceKey;
+        } catch (RuntimeException e) {
+            fail(key, future, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link #execute(String, String, Supplier)}.
+     * <p>
+     * {@link #execute(String, String, Supplier)}의 비동기 버전입니다.
+     * <p>
+     * Each caller gets its own future, so cancelling it stops only that
+     * caller's wait; the issuance carries on and its key is still remembered.
+     * <p>
+     * 호출자마다 별도의 future를 받으므로 취소하면 해당 호출자의 대기만 멈추며, 발행은 계속되어
+     * 그 키가 기억됩니다.
+     *
+     * @param customerKey       the customer key, or null
+     * @param clientReferenceId the client reference ID
+     * @param call              starts the issuance
+     * @return a CompletableFuture containing the issuance key
+     */
+    public CompletableFuture<IssuanceKey> executeAsync(String customerKey, String clientReferenceId,
+            Supplier<CompletableFuture<IssuanceKey>> call) {
+        Key key = new Key(customerKey, clientReferenceId);
+        IssuanceKey known = lookup(key);
+        if (known != null) {
+            hits.incrementAndGet();
+            return CompletableFuture.completedFuture(known);
+        }
+
+        CompletableFuture<IssuanceKey> future = new CompletableFuture<>();
+        CompletableFuture<IssuanceKey> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return follow(existing);
+        }
+
+        known = lookup(key);
+        if (known != null) {
+            hits.incrementAndGet();
+            release(key, future, known);
+            return CompletableFuture.completedFuture(known);
+        }
+
+        misses.incrementAndGet();
+        CompletableFuture<IssuanceKey> started;
+        try {
+            started = call.get();
+        } catch (RuntimeException e) {
+            fail(key, future, e);
+            return future;
+        }
+        started.whenComplete((issuanceKey, throwable) -> {
+            if (throwable == null) {
+                succeed(key, future, issuanceKey);
+            } else {
+                fail(key, future, throwable);
+            }
+        });
+        return follow(future);
+    }
+
+    /**
+     * Returns the remembered issuance key for a reference ID, or null.
+     * <p>
+     * 관리번호에 대해 기억된 발급 키를 반환하며, 없으면 null을 반환합니다.
+     *
+     * @param customerKey       the customer key, or null
+     * @param clientReferenceId the client reference ID
+     * @return the issuance key, or null
+     */
+    public IssuanceKey get(String customerKey, String clientReferenceId) {
+        return lookup(new Key(customerKey, clientReferenceId));
+    }
+
+    /**
+     * Records an issuance made elsewhere (e.g., found by reconciliation).
+     * <p>
+     * 다른 경로로 이루어진 발행(예: 대조로 확인된 발행)을 기록합니다.
+     *
+     * @param customerKey       the customer key, or null
+     * @param clientReferenceId the client reference ID
+     * @param issuanceKey       the issuance key
+     */
+    public void put(String customerKey, String clientReferenceId, IssuanceKey issuanceKey) {
+        if (issuanceKey == null) {
+            throw new IllegalArgumentException("issuanceKey cannot be null");
+        }
+        remember(new Key(customerKey, clientReferenceId), issuanceKey);
+    }
+
+    /**
+     * Returns the number of remembered issuance keys.
+     * <p>
+     * 기억된 발급 키의 수를 반환합니다.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        synchronized (completed) {
+            return completed.size();
+        }
+    }
+
+    /**
+     * Returns how many calls were answered from remembered keys.
+     * <p>
+     * 기억된 키로 응답한 호출 수를 반환합니다.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how many calls shared a request already in flight.
+     * <p>
+     * 진행 중인 요청을 공유한 호출 수를 반환합니다.
+     *
+     * @return the coalesced count
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Returns how many calls sent a request.
+     * <p>
+     * 요청을 전송한 호출 수를 반환합니다.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private IssuanceKey lookup(Key key) {
+        synchronized (completed) {
+            return completed.get(key);
+        }
+    }
+
+    private void succeed(Key key, CompletableFuture<IssuanceKey> future, IssuanceKey issuanceKey) {
+        if (issuanceKey != null) {
+            remember(key, issuanceKey);
+        }
+        // Remembered before leaving the in-flight map, so a new caller sees one or the other.
+        // 진행 중 맵에서 제거하기 전에 기억하므로 새 호출자는 둘 중 하나를 보게 됩니다.
+        release(key, future, issuanceKey);
+    }
+
+    private void release(Key key, CompletableFuture<IssuanceKey> future, IssuanceKey issuanceKey) {
+        inFlight.remove(key, future);
+        future.complete(issuanceKey);
+    }
+
+    private void fail(Key key, CompletableFuture<IssuanceKey> future, Throwable throwable) {
+        inFlight.remove(key, future);
+        future.completeExceptionally(throwable);
+    }
+
+    private void remember(Key key, IssuanceKey issuanceKey) {
+        synchronized (completed) {
+            completed.put(key, issuanceKey);
+        }
+        if (store != null) {
+            try {
+                store.append(key, issuanceKey, this);
+            } catch (IOException e) {
+                logger.warn("Failed to persist issuance key for {}", key.clientReferenceId, e);
+            }
+        }
+    }
+
+    /**
+     * Returns a future completed from {@code shared}, so that a caller
+     * completing or cancelling it leaves the other callers alone.
+     */
+    private static CompletableFuture<IssuanceKey> follow(CompletableFuture<IssuanceKey> shared) {
+        CompletableFuture<IssuanceKey> future = new CompletableFuture<>();
+        shared.whenComplete((issuanceKey, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else {
+                future.complete(issuanceKey);
+            }
+        });
+        return future;
+    }
+
+    private static IssuanceKey join(CompletableFuture<IssuanceKey> future) {
+        try {
+            return future.join();
+        } catch (CancellationException e) {
+            throw new BoltaException("Tax invoice issuance was cancelled", e);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new BoltaException("Failed to issue tax invoice", cause);
+        }
+    }
+
+    /**
+     * Flushes and closes the persistence file, if any.
+     * <p>
+     * 영속화 파일이 있으면 flush 후 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private Path persistPath;
+        private ObjectMapper objectMapper;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how many issuance keys are remembered; the least recently used
+         * are forgotten first. Defaults to {@value #DEFAULT_MAX_ENTRIES}.
+         * <p>
+         * 기억할 발급 키 수를 설정합니다. 가장 오래 사용되지 않은 키부터 잊습니다.
+         *
+         * @param maxEntries the maximum number of entries
+         * @return this builder
+         */
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be at least 1");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Persists remembered keys to a JSON-lines file, which is read back when
+         * the registry is built. The file is compacted when it grows to twice
+         * the number of remembered keys.
+         * <p>
+         * 기억된 키를 JSON-lines 파일에 영속화하며, 레지스트리 생성 시 다시 읽습니다. 파일이
+         * 기억된 키 수의 두 배로 커지면 압축됩니다.
+         *
+         * @param path the persistence file
+         * @return this builder
+         */
+        public Builder persistTo(Path path) {
+            this.persistPath = path;
+            return this;
+        }
+
+        /**
+         * Sets the mapper used for the persistence file.
+         * <p>
+         * 영속화 파일에 사용할 매퍼를 설정합니다.
+         *
+         * @param objectMapper the object mapper
+         * @return this builder
+         */
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Builds the registry, loading the persistence file if one is set.
+         * <p>
+         * 레지스트리를 생성하며, 영속화 파일이 설정되어 있으면 읽어 들입니다.
+         *
+         * @return the registry
+         * @throws BoltaException if the persistence file cannot be read
+         */
+        public IdempotencyRegistry build() {
+            if (objectMapper == null) {
+                objectMapper = new ObjectMapper();
+            }
+            try {
+                return new IdempotencyRegistry(this);
+            } catch (IOException e) {
+                throw new BoltaException("Failed to load idempotency registry from " + persistPath, e);
+            }
+        }
+    }
+
+    private static final class Key {
+        final String customerKey;
+        final String clientReferenceId;
+        private final int hash;
+
+        Key(String customerKey, String clientReferenceId) {
+            if (clientReferenceId == null || clientReferenceId.isEmpty()) {
+                throw new IllegalArgumentException("clientReferenceId is required");
+            }
+            this.customerKey = customerKey;
+            this.clientReferenceId = clientReferenceId;
+            this.hash = 31 * Objects.hashCode(customerKey) + clientReferenceId.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key that = (Key) o;
+            return clientReferenceId.equals(that.clientReferenceId)
+                    && Objects.equals(customerKey, that.customerKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Append-only JSON-lines file of remembered keys, rewritten from the cache
+     * once it holds twice as many lines as the cache. File writes are serialized
+     * by a lock rather than a monitor, so a virtual thread writing does not pin
+     * its carrier thread.
+     */
+    private static final class Store {
+        private final Path path;
+        private final ObjectMapper objectMapper;
+        private final ReentrantLock lock = new ReentrantLock();
+        private BufferedWriter writer;
+        private int lines;
+        private boolean closed;
+
+        Store(Path path, ObjectMapper objectMapper) {
+            this.path = path;
+            this.objectMapper = objectMapper;
+        }
+
+        void load(Map<Key, IssuanceKey> completed) throws IOException {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines++;
+                    try {
+                        JsonNode node = objectMapper.readTree(line);
+                        completed.put(new Key(node.path("customerKey").asText(null),
+                                node.path("clientReferenceId").asText(null)),
+                                IssuanceKey.of(node.path("issuanceKey").asText()));
+                    } catch (JsonProcessingException | IllegalArgumentException e) {
+                        // Most likely a line cut short by a crash.
+                        logger.warn("Skipping unreadable line {} of {}", lines, path);
+                    }
+                }
+            } catch (NoSuchFileException e) {
+                // Nothing persisted yet.
+            }
+            boolean unterminated = endsWithoutNewline();
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (unterminated) {
+                // Keep the next entry off a line cut short by a crash.
+                writer.newLine();
+                writer.flush();
+            }
+        }
+
+        private boolean endsWithoutNewline() throws IOException {
+            if (!Files.exists(path)) {
+                return false;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size == 0) {
+                    return false;
+                }
+                ByteBuffer last = ByteBuffer.allocate(1);
+                channel.read(last, size - 1);
+                return last.get(0) != '\n';
+            }
+        }
+
+        void append(Key key, IssuanceKey issuanceKey, IdempotencyRegistry registry) throws IOException {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                writer.write(line(key, issuanceKey));
+                writer.newLine();
+                writer.flush();
+                lines++;
+                if (lines > 2 * registry.maxEntries) {
+                    compact(registry);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void compact(IdempotencyRegistry registry) throws IOException {
+            // Copied first so the cache is not locked while the file is written.
+            // 파일을 쓰는 동안 캐시를 잠그지 않도록 먼저 복사합니다.
+            Map<Key, IssuanceKey> snapshot;
+            synchronized (registry.completed) {
+                snapshot = new LinkedHashMap<>(registry.completed);
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            int written = 0;
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<Key, IssuanceKey> entry : snapshot.entrySet()) {
+                    out.write(line(entry.getKey(), entry.getValue()));
+                    out.newLine();
+                    written++;
+                }
+            }
+            writer.close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            lines = written;
+        }
+
+        private String line(Key key, IssuanceKey issuanceKey) throws JsonProcessingException {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("customerKey", key.customerKey);
+            node.put("clientReferenceId", key.clientReferenceId);
+            node.put("issuanceKey", issuanceKey.getValue());
+            return objectMapper.writeValueAsString(node);
+        }
+
+        void close() throws IOException {
+            lock.lock();
+            try {
+                if (!closed) {
+                    closed = true;
+                    writer.close();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package io.bolta.ingest;
+
+import io.bolta.model.IssuancePurpose;
+import io.bolta.model.Manager;
+import io.bolta.model.Supplied;
+import io.bolta.model.Supplier;
+import io.bolta.model.TaxInvoice;
+import io.bolta.model.TaxInvoiceLineItem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads CSV batch files with one row per line item.
+ * <p>
+ * 한 행에 하나의 품목이 있는 CSV 일괄 파일을 읽습니다.
+ * <p>
+ * The first row is a header naming the columns, in any order. Consecutive rows
+ * with the same non-empty {@code invoiceId} form one invoice; invoice, supplier
+ * and supplied columns are taken from the first of those rows. Quoted fields
+ * may contain commas, doubled quotes and line breaks (RFC 4180).
+ * <p>
+ * 첫 행은 열 이름을 지정하는 헤더이며 순서는 자유롭습니다. 같은 {@code invoiceId}를 가진
+ * 연속된 행은 하나의 세금계산서가 되며, 세금계산서/공급자/공급받는자 열은 그 중 첫 행에서
+ * 가져옵니다. 따옴표로 묶인 필드에는 쉼표, 이중 따옴표, 줄바꿈을 포함할 수 있습니다 (RFC 4180).
+ * <p>
+ * Columns:
+ * <ul>
+ * <li>{@code invoiceId}, {@code date}, {@code purpose}, {@code description},
+ * {@code customerKey}, {@code clientReferenceId}</li>
+ * <li>{@code supplier.identificationNumber}, {@code supplier.taxRegistrationId},
+ * {@code supplier.organizationName}, {@code supplier.representativeName},
+ * {@code supplier.address}, {@code supplier.businessItem},
+ * {@code supplier.businessType}, {@code supplier.manager.email},
+ * {@code supplier.manager.name}, {@code supplier.manager.telephone}</li>
+ * <li>the same {@code supplied.*} columns, where {@code supplied.manager.*} is
+ * optional</li>
+ * <li>{@code item.date}, {@code item.name}, {@code item.unitPrice},
+ * {@code item.quantity}, {@code item.supplyCost}, {@code item.tax},
+ * {@code item.specification}, {@code item.description}</li>
+ * </ul>
+ */
+public final class CsvInvoiceReader implements InvoiceRecordReader {
+    private final BufferedReader reader;
+    private Map<String, Integer> columns;
+    private long lineNumber;
+    private Row lookahead;
+
+    public CsvInvoiceReader(BufferedReader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("reader cannot be null");
+        }
+        this.reader = reader;
+    }
+
+    @Override
+    public InvoiceRecord read() throws IOException {
+        if (columns == null) {
+            readHeader();
+        }
+
+        Row first = lookahead != null ? lookahead : nextRow();
+        lookahead = null;
+        if (first == null) {
+            return null;
+        }
+
+        List<Row> rows = new ArrayList<>(1);
+        rows.add(first);
+        String invoiceId = first.get("invoiceId");
+        if (invoiceId != null) {
+            Row row;
+            while ((row = nextRow()) != null) {
+                if (!invoiceId.equals(row.get("invoiceId"))) {
+                    lookahead = row;
+                    break;
+                }
+                rows.add(row);
+            }
+        }
+        return toRecord(rows);
+    }
+
+    private void readHeader() throws IOException {
+        Row header = nextRow();
+        columns = new HashMap<>();
+        if (header == null) {
+            return;
+        }
+        for (int i = 0; i < header.values.size(); i++) {
+            columns.put(header.values.get(i).trim(), i);
+        }
+    }
+
+    private InvoiceRecord toRecord(List<Row> rows) {
+        Row first = rows.get(0);
+        if (first.error != null) {
+            return InvoiceRecord.invalid(first.lineNumber, first.error);
+        }
+        try {
+            List<TaxInvoiceLineItem> items = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                if (row.error != null) {
+                    return InvoiceRecord.invalid(row.lineNumber, row.error);
+                }
+                items.add(TaxInvoiceLineItem.builder()
+                        .date(row.required("item.date"))
+                        .name(row.required("item.name"))
+                        .unitPrice(row.getLong("item.unitPrice"))
+                        .quantity(row.getInteger("item.quantity"))
+                        .supplyCost(row.requiredLong("item.supplyCost"))
+                        .tax(row.getLong("item.tax"))
+                        .specification(row.get("item.specification"))
+                        .description(row.get("item.description"))
+                        .build());
+            }
+
+            TaxInvoice invoice = TaxInvoice.builder()
+                    .date(first.required("date"))
+                    .purpose(purpose(first.required("purpose")))
+                    .description(first.get("description"))
+                    .supplier(supplier(first))
+                    .supplied(supplied(first))
+                    .items(items)
+                    .build();
+
+            String error = InvoiceValidator.validate(invoice);
+            if (error != null) {
+                return InvoiceRecord.invalid(first.lineNumber, error);
+            }
+            return InvoiceRecord.valid(first.lineNumber, invoice,
+                    InvoiceRecord.options(first.get("customerKey"), first.get("clientReferenceId")));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            // The model builders reject missing mandatory fields with a NullPointerException.
+            // 모델 빌더는 누락된 필수 필드를 NullPointerException으로 거부합니다.
+            return InvoiceRecord.invalid(first.lineNumber, e.getMessage());
+        }
+    }
+
+    private static Supplier supplier(Row row) {
+        return Supplier.builder()
+                .identificationNumber(row.required("supplier.identificationNumber"))
+                .taxRegistrationId(row.get("supplier.taxRegistrationId"))
+                .organizationName(row.required("supplier.organizationName"))
+                .representativeName(row.required("supplier.representativeName"))
+                .address(row.get("supplier.address"))
+                .businessItem(row.get("supplier.businessItem"))
+                .businessType(row.get("supplier.businessType"))
+                .manager(Manager.builder()
+                        .email(row.required("supplier.manager.email"))
+                        .name(row.get("supplier.manager.name"))
+                        .telephone(row.get("supplier.manager.telephone"))
+                        .build())
+                .build();
+    }
+
+    private static Supplied supplied(Row row) {
+        String managerEmail = row.get("supplied.manager.email");
+        return Supplied.builder()
+                .identificationNumber(row.required("supplied.identificationNumber"))
+                .taxRegistrationId(row.get("supplied.taxRegistrationId"))
+                .organizationName(row.required("supplied.organizationName"))
+                .representativeName(row.required("supplied.representativeName"))
+                .address(row.get("supplied.address"))
+                .businessItem(row.get("supplied.businessItem"))
+                .businessType(row.get("supplied.businessType"))
+                .managers(managerEmail == null ? null : Collections.singletonList(Manager.builder()
+                        .email(managerEmail)
+                        .name(row.get("supplied.manager.name"))
+                        .telephone(row.get("supplied.manager.telephone"))
+                        .build()))
+                .build();
+    }
+
+    private static IssuancePurpose purpose(String value) {
+        try {
+            return IssuancePurpose.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("purpose must be RECEIPT or CLAIM: " + value);
+        }
+    }
+
+    /**
+     * Reads one CSV row, continuing onto following lines while inside a quoted
+     * field. Returns null at the end of the input.
+     */
+    private Row nextRow() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        long startLine = ++lineNumber;
+
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                return new Row(startLine, values, "Unterminated quoted field");
+            }
+            lineNumber++;
+            field.append('\n');
+        }
+        values.add(field.toString());
+        return new Row(startLine, values, null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private final class Row {
+        final long lineNumber;
+        final List<String> values;
+        final String error;
+
+        Row(long lineNumber, List<String> values, String error) {
+            this.lineNumber = lineNumber;
+            this.values = values;
+            this.error = error;
+        }
+
+        /**
+         * Returns the trimmed value of a column, or null if the column is absent
+         * or empty.
+         */
+        String get(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        String required(String column) {
+            String value = get(column);
+            if (value == null) {
+                throw new IllegalArgumentException(column + " is required");
+            }
+            return value;
+        }
+
+        Long getLong(String column) {
+            String value = get(column);
+            try {
+                return value != null ? Long.valueOf(value) : null;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " is not a number: " + value);
+            }
+        }
+
+        Long requiredLong(String column) {
+            required(column);
+            return getLong(column);
+        }
+
+        Integer getInteger(String column) {
+            String value = get(column);
+            try {
+                return value != null ? Integer.valueOf(value) : null;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " is not a number: " + value);
+            }
+        }
+    }
+}
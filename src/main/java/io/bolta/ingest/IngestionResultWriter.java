@@ -0,0 +1,104 @@
+package io.bolta.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.bolta.exception.BoltaApiException;
+import io.bolta.exception.BoltaException;
+import io.bolta.model.IssuanceKey;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes one JSON line per input record to the result file:
+ *
+ * <pre>{@code
+ * {"line":1,"status":"ISSUED","issuanceKey":"..."}
+ * {"line":4,"status":"INVALID","error":"supplier.organizationName is required"}
+ * {"line":7,"status":"FAILED","httpStatus":400,"error":"...","responseBody":"..."}
+ * }</pre>
+ *
+ * Lines are written in completion order, which is not necessarily input order.
+ * Outcomes arrive from request completion threads, so writes are serialized by
+ * a lock.
+ */
+final class IngestionResultWriter implements Closeable {
+    static final String ISSUED = "ISSUED";
+    static final String INVALID = "INVALID";
+    static final String FAILED = "FAILED";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final JsonGenerator generator;
+
+    IngestionResultWriter(JsonFactory jsonFactory, Writer writer) throws IOException {
+        this.generator = jsonFactory.createGenerator(writer);
+        // Each record is its own line rather than a space-separated root value.
+        // 각 레코드는 공백으로 구분된 루트 값이 아닌 별도의 줄로 기록합니다.
+        this.generator.setRootValueSeparator(null);
+    }
+
+    void writeIssued(long lineNumber, IssuanceKey issuanceKey) throws IOException {
+        lock.lock();
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("line", lineNumber);
+            generator.writeStringField("status", ISSUED);
+            generator.writeStringField("issuanceKey", issuanceKey != null ? issuanceKey.getValue() : null);
+            endLine();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void writeInvalid(long lineNumber, String error) throws IOException {
+        lock.lock();
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("line", lineNumber);
+            generator.writeStringField("status", INVALID);
+            generator.writeStringField("error", error);
+            endLine();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void writeFailed(long lineNumber, BoltaException exception) throws IOException {
+        lock.lock();
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("line", lineNumber);
+            generator.writeStringField("status", FAILED);
+            if (exception instanceof BoltaApiException) {
+                generator.writeNumberField("httpStatus", ((BoltaApiException) exception).getStatusCode());
+            }
+            generator.writeStringField("error", exception.getMessage());
+            if (exception instanceof BoltaApiException) {
+                String responseBody = ((BoltaApiException) exception).getResponseBody();
+                if (responseBody != null) {
+                    generator.writeStringField("responseBody", responseBody);
+                }
+            }
+            endLine();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void endLine() throws IOException {
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            generator.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.bolta.ingest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts of what happened to the records of an ingested file.
+ * <p>
+ * 수집한 파일의 레코드 처리 결과 집계입니다.
+ */
+public final class IngestionSummary {
+    private final long recordsRead;
+    private final long invalidCount;
+    private final long issuedCount;
+    private final long failedCount;
+    private final long elapsedNanos;
+
+    public IngestionSummary(long recordsRead, long invalidCount, long issuedCount, long failedCount,
+            long elapsedNanos) {
+        this.recordsRead = recordsRead;
+        this.invalidCount = invalidCount;
+        this.issuedCount = issuedCount;
+        this.failedCount = failedCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of records read, valid or not.
+     * <p>
+     * 유효 여부와 관계없이 읽은 레코드 수를 반환합니다.
+     *
+     * @return the number of records read
+     */
+    public long getRecordsRead() {
+        return recordsRead;
+    }
+
+    /**
+     * Returns the number of records rejected before issuance.
+     * <p>
+     * 발행 전에 거부된 레코드 수를 반환합니다.
+     *
+     * @return the number of invalid records
+     */
+    public long getInvalidCount() {
+        return invalidCount;
+    }
+
+    public long getIssuedCount() {
+        return issuedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Returns true if every record was read and issued successfully.
+     * <p>
+     * 모든 레코드를 읽고 정상적으로 발행했으면 true를 반환합니다.
+     *
+     * @return whether nothing was invalid or failed
+     */
+    public boolean isAllIssued() {
+        return invalidCount == 0 && failedCount == 0;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * Returns the number of records processed per second.
+     * <p>
+     * 초당 처리한 레코드 수를 반환합니다.
+     *
+     * @return the throughput, or 0 if no time has elapsed
+     */
+    public double getThroughputPerSecond() {
+        return elapsedNanos > 0 ? recordsRead * 1_000_000_000.0 / elapsedNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionSummary{" +
+                "recordsRead=" + recordsRead +
+                ", invalid=" + invalidCount +
+                ", issued=" + issuedCount +
+                ", failed=" + failedCount +
+                ", elapsedMillis=" + getElapsedMillis() +
+                '}';
+    }
+}
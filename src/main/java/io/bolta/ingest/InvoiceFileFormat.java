@@ -0,0 +1,29 @@
+package io.bolta.ingest;
+
+/**
+ * Supported invoice batch file formats.
+ * <p>
+ * 지원되는 세금계산서 일괄 파일 형식입니다.
+ */
+public enum InvoiceFileFormat {
+    /**
+     * One JSON object per line, in the shape of {@link io.bolta.model.TaxInvoice},
+     * optionally with top-level {@code customerKey} and {@code clientReferenceId}
+     * fields.
+     * <p>
+     * 한 줄에 하나의 JSON 객체 ({@link io.bolta.model.TaxInvoice} 형식, 선택적으로 최상위
+     * {@code customerKey} 및 {@code clientReferenceId} 필드 포함)
+     */
+    JSON_LINES,
+
+    /**
+     * Comma-separated values with a header row; one row per line item.
+     * Consecutive rows with the same {@code invoiceId} form one invoice.
+     * <p>
+     * 헤더 행이 있는 쉼표로 구분된 값이며, 한 행은 하나의 품목입니다.
+     * 같은 {@code invoiceId}를 가진 연속된 행은 하나의 세금계산서가 됩니다.
+     *
+     * @see CsvInvoiceReader
+     */
+    CSV
+}
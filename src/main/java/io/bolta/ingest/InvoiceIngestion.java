@@ -0,0 +1,449 @@
+package io.bolta.ingest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bolta.exception.BoltaException;
+import io.bolta.model.BulkIssueResult;
+import io.bolta.model.BulkOptions;
+import io.bolta.model.TaxInvoice;
+import io.bolta.model.TaxInvoiceIssuanceRequestOptions;
+import io.bolta.resource.TaxInvoiceResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Issues every invoice in a JSON-lines or CSV batch file and records the
+ * outcome of each record in a result file.
+ * <p>
+ * JSON-lines 또는 CSV 일괄 파일의 모든 세금계산서를 정발행하고 각 레코드의 결과를 결과 파일에
+ * 기록합니다.
+ * <p>
+ * The file is read one record at a time, only as fast as issuance completes:
+ * at most {@link BulkOptions#getMaxConcurrency()} invoices are held in memory,
+ * however large the file is. Records that fail to parse or validate are written
+ * to the result file as {@code INVALID} and never sent.
+ * <p>
+ * 파일은 발행이 완료되는 속도에 맞춰 한 레코드씩 읽으므로 파일 크기와 관계없이 최대
+ * {@link BulkOptions#getMaxConcurrency()}개의 세금계산서만 메모리에 보관됩니다. 파싱이나
+ * 검증에 실패한 레코드는 전송되지 않고 결과 파일에 {@code INVALID}로 기록됩니다.
+ *
+ * <pre>{@code
+ * IngestionSummary summary = InvoiceIngestion.builder()
+ *         .taxInvoices(app.taxInvoices())
+ *         .input(Paths.get("invoices.jsonl"), InvoiceFileFormat.JSON_LINES)
+ *         .resultFile(Paths.get("invoices.result.jsonl"))
+ *         .bulkOptions(BulkOptions.builder().maxConcurrency(32).build())
+ *         .build()
+ *         .run();
+ * }</pre>
+ *
+ * An instance runs once.
+ * <p>
+ * 인스턴스는 한 번만 실행할 수 있습니다.
+ */
+public final class InvoiceIngestion {
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceIngestion.class);
+
+    private final TaxInvoiceResource taxInvoices;
+    private final InvoiceRecordReader reader;
+    private final Writer resultWriter;
+    private final ObjectMapper objectMapper;
+    private final BulkOptions bulkOptions;
+
+    private final AtomicLong recordsRead = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong issued = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicReference<IOException> writeError = new AtomicReference<>();
+    // Records sent but not yet completed, keyed by the invoice instance handed to the bulk issuance.
+    private final Map<TaxInvoice, InvoiceRecord> pending = Collections.synchronizedMap(new IdentityHashMap<>());
+    private boolean started;
+
+    private InvoiceIngestion(Builder builder, InvoiceRecordReader reader, Writer resultWriter) {
+        this.taxInvoices = builder.taxInvoices;
+        this.reader = reader;
+        this.resultWriter = resultWriter;
+        this.objectMapper = builder.objectMapper;
+        this.bulkOptions = builder.bulkOptions != null ? builder.bulkOptions : BulkOptions.defaults();
+    }
+
+    /**
+     * Runs the ingestion and waits for it to finish.
+     * <p>
+     * 수집을 실행하고 완료될 때까지 기다립니다.
+     *
+     * @return the summary of the run
+     * @throws BoltaException if reading the input or writing the result file fails
+     */
+    public IngestionSummary run() {
+        try {
+            return runAsync().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BoltaException) {
+                throw (BoltaException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the ingestion asynchronously. The input and result file are closed
+     * when the returned future completes.
+     * <p>
+     * 수집을 비동기적으로 실행합니다. 반환된 future가 완료되면 입력 및 결과 파일이 닫힙니다.
+     *
+     * @return a CompletableFuture completed with the summary of the run
+     */
+    public synchronized CompletableFuture<IngestionSummary> runAsync() {
+        if (started) {
+            throw new IllegalStateException("Ingestion has already been run");
+        }
+        started = true;
+
+        long startNanos = System.nanoTime();
+        IngestionResultWriter results;
+        try {
+            results = new IngestionResultWriter(objectMapper.getFactory(), resultWriter);
+        } catch (IOException e) {
+            closeQuietly();
+            CompletableFuture<IngestionSummary> future = new CompletableFuture<>();
+            future.completeExceptionally(new BoltaException("Failed to open result file", e));
+            return future;
+        }
+
+        BulkOptions options = BulkOptions.builder()
+                .maxConcurrency(bulkOptions.getMaxConcurrency())
+                .requestOptions(this::optionsFor)
+                .progressListener(bulkOptions.getProgressListener())
+                .build();
+
+        CompletableFuture<IngestionSummary> future = new CompletableFuture<>();
+        CompletableFuture<?> issuance;
+        try {
+            issuance = taxInvoices.issueEachAsync(() -> new RecordIterator(results), options,
+                    item -> writeOutcome(results, item));
+        } catch (RuntimeException e) {
+            issuance = failedFuture(e);
+        }
+        issuance.whenComplete((progress, throwable) -> {
+            IOException closeError = closeAll(results);
+            IOException error = writeError.get() != null ? writeError.get() : closeError;
+            if (throwable != null) {
+                future.completeExceptionally(unwrap(throwable));
+            } else if (error != null) {
+                future.completeExceptionally(new BoltaException("Failed to write result file", error));
+            } else {
+                IngestionSummary summary = new IngestionSummary(recordsRead.get(), invalid.get(),
+                        issued.get(), failed.get(), System.nanoTime() - startNanos);
+                logger.info("Invoice ingestion finished: {}", summary);
+                future.complete(summary);
+            }
+        });
+        return future;
+    }
+
+    private TaxInvoiceIssuanceRequestOptions optionsFor(TaxInvoice invoice) {
+        InvoiceRecord record = pending.get(invoice);
+        if (record != null && record.getOptions() != null) {
+            return record.getOptions();
+        }
+        return bulkOptions.optionsFor(invoice);
+    }
+
+    private void writeOutcome(IngestionResultWriter results, BulkIssueResult.Item item) {
+        InvoiceRecord record = pending.remove(item.getInvoice());
+        long lineNumber = record != null ? record.getLineNumber() : -1;
+        try {
+            if (item.isSuccess()) {
+                issued.incrementAndGet();
+                results.writeIssued(lineNumber, item.getIssuanceKey());
+            } else {
+                failed.incrementAndGet();
+                logger.warn("Failed to issue tax invoice from line {}: {}", lineNumber,
+                        item.getException().getMessage());
+                results.writeFailed(lineNumber, item.getException());
+            }
+        } catch (IOException e) {
+            writeError.compareAndSet(null, e);
+        }
+    }
+
+    private IOException closeAll(IngestionResultWriter results) {
+        IOException error = null;
+        try {
+            results.close();
+        } catch (IOException e) {
+            error = e;
+        }
+        try {
+            reader.close();
+        } catch (IOException e) {
+            if (error == null) {
+                error = e;
+            }
+        }
+        return error;
+    }
+
+    private void closeQuietly() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close invoice reader", e);
+        }
+        try {
+            resultWriter.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close result writer", e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    /**
+     * Pulls valid invoices from the reader, writing invalid records straight to
+     * the result file. The bulk issuance only calls it from one thread at a time.
+     */
+    private final class RecordIterator implements Iterator<TaxInvoice> {
+        private final IngestionResultWriter results;
+        private InvoiceRecord next;
+
+        RecordIterator(IngestionResultWriter results) {
+            this.results = results;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            try {
+                InvoiceRecord record;
+                while ((record = reader.read()) != null) {
+                    recordsRead.incrementAndGet();
+                    if (record.isValid()) {
+                        next = record;
+                        return true;
+                    }
+                    invalid.incrementAndGet();
+                    logger.warn("Skipping invalid record at line {}: {}", record.getLineNumber(), record.getError());
+                    results.writeInvalid(record.getLineNumber(), record.getError());
+                }
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public TaxInvoice next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            InvoiceRecord record = next;
+            next = null;
+            pending.put(record.getInvoice(), record);
+            return record.getInvoice();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private TaxInvoiceResource taxInvoices;
+        private Path inputPath;
+        private InvoiceFileFormat inputFormat;
+        private InvoiceRecordReader reader;
+        private Path resultPath;
+        private Writer resultWriter;
+        private BulkOptions bulkOptions;
+        private ObjectMapper objectMapper;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the resource used to issue the invoices (e.g.,
+         * {@code app.taxInvoices()}).
+         * <p>
+         * 세금계산서 발행에 사용할 리소스를 설정합니다.
+         *
+         * @param taxInvoices the tax invoice resource
+         * @return this builder
+         */
+        public Builder taxInvoices(TaxInvoiceResource taxInvoices) {
+            this.taxInvoices = taxInvoices;
+            return this;
+        }
+
+        /**
+         * Sets the UTF-8 batch file to read.
+         * <p>
+         * 읽을 UTF-8 일괄 파일을 설정합니다.
+         *
+         * @param path   the input file
+         * @param format the file format
+         * @return this builder
+         */
+        public Builder input(Path path, InvoiceFileFormat format) {
+            this.inputPath = path;
+            this.inputFormat = format;
+            this.reader = null;
+            return this;
+        }
+
+        /**
+         * Sets a custom record source instead of an input file. It is closed when
+         * the run finishes.
+         * <p>
+         * 입력 파일 대신 사용자 정의 레코드 소스를 설정합니다. 실행이 끝나면 닫힙니다.
+         *
+         * @param reader the record reader
+         * @return this builder
+         */
+        public Builder reader(InvoiceRecordReader reader) {
+            this.reader = reader;
+            this.inputPath = null;
+            this.inputFormat = null;
+            return this;
+        }
+
+        /**
+         * Sets the file the per-record results are written to, as UTF-8 JSON
+         * lines. An existing file is replaced.
+         * <p>
+         * 레코드별 결과를 UTF-8 JSON lines로 기록할 파일을 설정합니다. 기존 파일은 대체됩니다.
+         *
+         * @param path the result file
+         * @return this builder
+         */
+        public Builder resultFile(Path path) {
+            this.resultPath = path;
+            this.resultWriter = null;
+            return this;
+        }
+
+        /**
+         * Sets the writer the per-record results are written to. It is closed
+         * when the run finishes.
+         * <p>
+         * 레코드별 결과를 기록할 writer를 설정합니다. 실행이 끝나면 닫힙니다.
+         *
+         * @param writer the result writer
+         * @return this builder
+         */
+        public Builder resultWriter(Writer writer) {
+            this.resultWriter = writer;
+            this.resultPath = null;
+            return this;
+        }
+
+        /**
+         * Sets the concurrency cap, default request options and progress
+         * listener. Request options given in a record take precedence.
+         * <p>
+         * 동시성 한도, 기본 요청 옵션, 진행 리스너를 설정합니다. 레코드에 지정된 요청 옵션이
+         * 우선합니다.
+         *
+         * @param bulkOptions the bulk options
+         * @return this builder
+         */
+        public Builder bulkOptions(BulkOptions bulkOptions) {
+            this.bulkOptions = bulkOptions;
+            return this;
+        }
+
+        /**
+         * Sets the mapper used to parse JSON lines and write the result file.
+         * <p>
+         * JSON lines 파싱과 결과 파일 작성에 사용할 매퍼를 설정합니다.
+         *
+         * @param objectMapper the object mapper
+         * @return this builder
+         */
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Opens the input and result files and builds the ingestion.
+         * <p>
+         * 입력 및 결과 파일을 열고 수집 작업을 생성합니다.
+         *
+         * @return the ingestion
+         * @throws BoltaException if a file cannot be opened
+         */
+        public InvoiceIngestion build() {
+            if (taxInvoices == null) {
+                throw new IllegalArgumentException("taxInvoices is required");
+            }
+            if (reader == null && (inputPath == null || inputFormat == null)) {
+                throw new IllegalArgumentException("input or reader is required");
+            }
+            if (resultWriter == null && resultPath == null) {
+                throw new IllegalArgumentException("resultFile or resultWriter is required");
+            }
+            if (objectMapper == null) {
+                objectMapper = new ObjectMapper()
+                        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            }
+
+            InvoiceRecordReader recordReader = reader;
+            try {
+                if (recordReader == null) {
+                    recordReader = InvoiceRecordReader.open(inputPath, inputFormat, objectMapper);
+                }
+                Writer writer = resultWriter;
+                if (writer == null) {
+                    writer = openResultFile(recordReader);
+                }
+                return new InvoiceIngestion(this, recordReader, writer);
+            } catch (IOException e) {
+                throw new BoltaException("Failed to open invoice file " + inputPath, e);
+            }
+        }
+
+        private BufferedWriter openResultFile(InvoiceRecordReader recordReader) {
+            try {
+                return Files.newBufferedWriter(resultPath, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                try {
+                    recordReader.close();
+                } catch (IOException closeError) {
+                    e.addSuppressed(closeError);
+                }
+                throw new BoltaException("Failed to open result file " + resultPath, e);
+            }
+        }
+    }
+}
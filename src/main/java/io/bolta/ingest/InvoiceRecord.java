@@ -0,0 +1,106 @@
+package io.bolta.ingest;
+
+import io.bolta.model.TaxInvoice;
+import io.bolta.model.TaxInvoiceIssuanceRequestOptions;
+
+/**
+ * A single invoice read from a batch file, or the reason it could not be read.
+ * <p>
+ * 일괄 파일에서 읽은 단일 세금계산서 또는 읽지 못한 이유입니다.
+ */
+public final class InvoiceRecord {
+    private final long lineNumber;
+    private final TaxInvoice invoice;
+    private final TaxInvoiceIssuanceRequestOptions options;
+    private final String error;
+
+    private InvoiceRecord(long lineNumber, TaxInvoice invoice, TaxInvoiceIssuanceRequestOptions options,
+            String error) {
+        this.lineNumber = lineNumber;
+        this.invoice = invoice;
+        this.options = options;
+        this.error = error;
+    }
+
+    /**
+     * Creates a record for a valid invoice.
+     *
+     * @param lineNumber the line the record starts on (1-based)
+     * @param invoice    the invoice
+     * @param options    request options from the record, or null
+     * @return the record
+     */
+    public static InvoiceRecord valid(long lineNumber, TaxInvoice invoice, TaxInvoiceIssuanceRequestOptions options) {
+        if (invoice == null) {
+            throw new IllegalArgumentException("invoice cannot be null");
+        }
+        return new InvoiceRecord(lineNumber, invoice, options, null);
+    }
+
+    /**
+     * Creates a record for input that could not be parsed or failed validation.
+     *
+     * @param lineNumber the line the record starts on (1-based)
+     * @param error      a description of the problem
+     * @return the record
+     */
+    public static InvoiceRecord invalid(long lineNumber, String error) {
+        if (error == null) {
+            throw new IllegalArgumentException("error cannot be null");
+        }
+        return new InvoiceRecord(lineNumber, null, null, error);
+    }
+
+    static TaxInvoiceIssuanceRequestOptions options(String customerKey, String clientReferenceId) {
+        if (customerKey == null && clientReferenceId == null) {
+            return null;
+        }
+        return TaxInvoiceIssuanceRequestOptions.builder()
+                .customerKey(customerKey)
+                .clientReferenceId(clientReferenceId)
+                .build();
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * Returns the invoice, or null if the record is invalid.
+     *
+     * @return the invoice
+     */
+    public TaxInvoice getInvoice() {
+        return invoice;
+    }
+
+    /**
+     * Returns the request options given in the record, or null if none.
+     *
+     * @return the request options
+     */
+    public TaxInvoiceIssuanceRequestOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Returns the validation or parse error, or null if the record is valid.
+     *
+     * @return the error
+     */
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "InvoiceRecord{" +
+                "lineNumber=" + lineNumber +
+                (isValid() ? "" : ", error='" + error + '\'') +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+package io.bolta.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads invoice records one at a time from a batch file.
+ * <p>
+ * 일괄 파일에서 세금계산서 레코드를 하나씩 읽습니다.
+ * <p>
+ * Readers hold at most one record in memory, so files of any size can be
+ * processed. Records that cannot be parsed or fail validation are returned as
+ * invalid records rather than thrown, so one bad line does not stop a batch.
+ * <p>
+ * 리더는 최대 하나의 레코드만 메모리에 보관하므로 크기에 관계없이 파일을 처리할 수 있습니다.
+ * 파싱이나 검증에 실패한 레코드는 예외 대신 유효하지 않은 레코드로 반환되므로 잘못된 줄 하나가
+ * 일괄 처리를 중단시키지 않습니다.
+ */
+public interface InvoiceRecordReader extends Closeable {
+    /**
+     * Reads the next record.
+     * <p>
+     * 다음 레코드를 읽습니다.
+     *
+     * @return the next record, or null at the end of the input
+     * @throws IOException if reading the input fails
+     */
+    InvoiceRecord read() throws IOException;
+
+    /**
+     * Opens a UTF-8 encoded batch file.
+     * <p>
+     * UTF-8로 인코딩된 일괄 파일을 엽니다.
+     *
+     * @param path         the file to read
+     * @param format       the file format
+     * @param objectMapper the mapper used for JSON lines
+     * @return a reader for the file
+     * @throws IOException if the file cannot be opened
+     */
+    static InvoiceRecordReader open(Path path, InvoiceFileFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        switch (format) {
+            case JSON_LINES:
+                return new JsonLinesInvoiceReader(reader, objectMapper);
+            case CSV:
+                return new CsvInvoiceReader(reader);
+            default:
+                reader.close();
+                throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+    }
+}
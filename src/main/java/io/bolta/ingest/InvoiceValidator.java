@@ -0,0 +1,112 @@
+package io.bolta.ingest;
+
+import io.bolta.model.Manager;
+import io.bolta.model.Supplied;
+import io.bolta.model.Supplier;
+import io.bolta.model.TaxInvoice;
+import io.bolta.model.TaxInvoiceLineItem;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Checks the mandatory fields of an invoice read from a file.
+ * <p>
+ * Deserialized models bypass the builders' null checks, so the same
+ * requirements (see {@code TaxInvoiceValidationTest}) are verified here, with
+ * messages that name the field's path.
+ */
+final class InvoiceValidator {
+    private static final Pattern DATE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+
+    private InvoiceValidator() {
+    }
+
+    /**
+     * Returns a description of the first problem found, or null if the invoice
+     * is valid.
+     */
+    static String validate(TaxInvoice invoice) {
+        String error = checkDate("date", invoice.getDate());
+        if (error != null) {
+            return error;
+        }
+        if (invoice.getPurpose() == null) {
+            return "purpose is required";
+        }
+
+        Supplier supplier = invoice.getSupplier();
+        if (supplier == null) {
+            return "supplier is required";
+        }
+        error = firstMissing("supplier.",
+                "identificationNumber", supplier.getIdentificationNumber(),
+                "organizationName", supplier.getOrganizationName(),
+                "representativeName", supplier.getRepresentativeName());
+        if (error != null) {
+            return error;
+        }
+        Manager manager = supplier.getManager();
+        if (manager == null || isBlank(manager.getEmail())) {
+            return "supplier.manager.email is required";
+        }
+
+        Supplied supplied = invoice.getSupplied();
+        if (supplied == null) {
+            return "supplied is required";
+        }
+        error = firstMissing("supplied.",
+                "identificationNumber", supplied.getIdentificationNumber(),
+                "organizationName", supplied.getOrganizationName(),
+                "representativeName", supplied.getRepresentativeName());
+        if (error != null) {
+            return error;
+        }
+
+        List<TaxInvoiceLineItem> items = invoice.getTaxInvoiceLineItems();
+        if (items == null || items.isEmpty()) {
+            return "items must not be empty";
+        }
+        for (int i = 0; i < items.size(); i++) {
+            TaxInvoiceLineItem item = items.get(i);
+            String prefix = "items[" + i + "].";
+            if (item == null) {
+                return "items[" + i + "] is required";
+            }
+            error = checkDate(prefix + "date", item.getDate());
+            if (error == null) {
+                error = firstMissing(prefix, "name", item.getName());
+            }
+            if (error == null && item.getSupplyCost() == null) {
+                error = prefix + "supplyCost is required";
+            }
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    private static String checkDate(String field, String value) {
+        if (isBlank(value)) {
+            return field + " is required";
+        }
+        if (!DATE.matcher(value).matches()) {
+            return field + " must be in yyyy-MM-dd format: " + value;
+        }
+        return null;
+    }
+
+    private static String firstMissing(String prefix, String... namesAndValues) {
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (isBlank(namesAndValues[i + 1])) {
+                return prefix + namesAndValues[i] + " is required";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
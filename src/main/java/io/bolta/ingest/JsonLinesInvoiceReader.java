@@ -0,0 +1,117 @@
+package io.bolta.ingest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.bolta.model.TaxInvoice;
+import io.bolta.model.TaxInvoiceLineItem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reads JSON-lines batch files: one {@link TaxInvoice} JSON object per line.
+ * <p>
+ * JSON-lines 일괄 파일을 읽습니다. 한 줄에 하나의 {@link TaxInvoice} JSON 객체가 있습니다.
+ * <p>
+ * Each line may also carry top-level {@code customerKey} and
+ * {@code clientReferenceId} fields, which become the request options for that
+ * invoice. Blank lines are skipped. A malformed line is reported as an invalid
+ * record and reading continues with the next line.
+ * <p>
+ * 각 줄에는 최상위 {@code customerKey} 및 {@code clientReferenceId} 필드가 있을 수 있으며,
+ * 해당 세금계산서의 요청 옵션이 됩니다. 빈 줄은 건너뜁니다. 잘못된 줄은 유효하지 않은 레코드로
+ * 보고되고 다음 줄부터 계속 읽습니다.
+ *
+ * <pre>{@code
+ * {"customerKey":"customer_bf8paz","date":"2024-01-01","purpose":"RECEIPT","supplier":{...},"supplied":{...},"items":[...]}
+ * }</pre>
+ */
+public final class JsonLinesInvoiceReader implements InvoiceRecordReader {
+    private static final String CUSTOMER_KEY = "customerKey";
+    private static final String CLIENT_REFERENCE_ID = "clientReferenceId";
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    public JsonLinesInvoiceReader(BufferedReader reader, ObjectMapper objectMapper) {
+        if (reader == null) {
+            throw new IllegalArgumentException("reader cannot be null");
+        }
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("objectMapper cannot be null");
+        }
+        this.reader = reader;
+        this.objectMapper = objectMapper.copy().addMixIn(TaxInvoice.class, TaxInvoiceMixIn.class);
+    }
+
+    @Override
+    public InvoiceRecord read() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.trim().isEmpty());
+
+        return parse(lineNumber, line);
+    }
+
+    private InvoiceRecord parse(long number, String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return InvoiceRecord.invalid(number, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (!(node instanceof ObjectNode)) {
+            return InvoiceRecord.invalid(number, "Expected a JSON object");
+        }
+
+        ObjectNode object = (ObjectNode) node;
+        String customerKey = textOrNull(object.remove(CUSTOMER_KEY));
+        String clientReferenceId = textOrNull(object.remove(CLIENT_REFERENCE_ID));
+
+        TaxInvoice invoice;
+        try {
+            invoice = objectMapper.treeToValue(object, TaxInvoice.class);
+        } catch (JsonProcessingException e) {
+            return InvoiceRecord.invalid(number, "Invalid tax invoice: " + e.getOriginalMessage());
+        }
+
+        String error = InvoiceValidator.validate(invoice);
+        if (error != null) {
+            return InvoiceRecord.invalid(number, error);
+        }
+        return InvoiceRecord.valid(number, invoice, InvoiceRecord.options(customerKey, clientReferenceId));
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Binds the line items from {@code items}, as in the API request body.
+     * {@link TaxInvoice} only exposes them through a getter with a different
+     * name and no setter, so the default mapping cannot read them.
+     */
+    private abstract static class TaxInvoiceMixIn {
+        @JsonProperty("items")
+        List<TaxInvoiceLineItem> items;
+
+        @JsonIgnore
+        abstract List<TaxInvoiceLineItem> getTaxInvoiceLineItems();
+    }
+}
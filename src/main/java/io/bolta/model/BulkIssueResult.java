@@ -0,0 +1,201 @@
+package io.bolta.model;
+
+import io.bolta.exception.BoltaApiException;
+import io.bolta.exception.BoltaException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a bulk tax invoice issuance.
+ * <p>
+ * 세금계산서 일괄 발행 결과입니다.
+ * <p>
+ * Every input invoice has an {@link Item}, in input order, holding either its
+ * issuance key or the exception that made it fail. A failed item does not stop
+ * the others.
+ * <p>
+ * 모든 입력 세금계산서는 입력 순서대로 발급 키 또는 실패 원인 예외를 담은 {@link Item}을
+ * 가집니다. 일부 항목이 실패해도 나머지 항목은 계속 처리됩니다.
+ */
+public final class BulkIssueResult {
+    private final List<Item> items;
+    private final int failedCount;
+    private final long elapsedNanos;
+
+    public BulkIssueResult(List<Item> items, long elapsedNanos) {
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+        int failed = 0;
+        for (Item item : items) {
+            if (!item.isSuccess()) {
+                failed++;
+            }
+        }
+        this.failedCount = failed;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns every item, in input order.
+     * <p>
+     * 모든 항목을 입력 순서대로 반환합니다.
+     *
+     * @return the items
+     */
+    public List<Item> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the items that failed, in input order.
+     * <p>
+     * 실패한 항목을 입력 순서대로 반환합니다.
+     *
+     * @return the failed items
+     */
+    public List<Item> getFailures() {
+        List<Item> failures = new ArrayList<>(failedCount);
+        for (Item item : items) {
+            if (!item.isSuccess()) {
+                failures.add(item);
+            }
+        }
+        return failures;
+    }
+
+    public int getTotalCount() {
+        return items.size();
+    }
+
+    public int getSucceededCount() {
+        return items.size() - failedCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public boolean isAllSucceeded() {
+        return failedCount == 0;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000L;
+    }
+
+    /**
+     * Returns the number of invoices processed per second.
+     * <p>
+     * 초당 처리된 세금계산서 수를 반환합니다.
+     *
+     * @return the throughput in invoices per second
+     */
+    public double getThroughputPerSecond() {
+        return elapsedNanos > 0 ? items.size() * 1_000_000_000.0 / elapsedNanos : 0.0;
+    }
+
+    /**
+     * Outcome of issuing a single invoice.
+     * <p>
+     * 단일 세금계산서 발행 결과입니다.
+     */
+    public static final class Item {
+        private final int index;
+        private final TaxInvoice invoice;
+        private final IssuanceKey issuanceKey;
+        private final BoltaException exception;
+
+        private Item(int index, TaxInvoice invoice, IssuanceKey issuanceKey, BoltaException exception) {
+            this.index = index;
+            this.invoice = invoice;
+            this.issuanceKey = issuanceKey;
+            this.exception = exception;
+        }
+
+        public static Item success(int index, TaxInvoice invoice, IssuanceKey issuanceKey) {
+            return new Item(index, invoice, issuanceKey, null);
+        }
+
+        public static Item failure(int index, TaxInvoice invoice, BoltaException exception) {
+            if (exception == null) {
+                throw new IllegalArgumentException("exception cannot be null");
+            }
+            return new Item(index, invoice, null, exception);
+        }
+
+        /**
+         * Returns the position of the invoice in the input, starting at 0.
+         * <p>
+         * 입력에서 세금계산서의 위치를 반환합니다 (0부터 시작).
+         *
+         * @return the input index
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public TaxInvoice getInvoice() {
+            return invoice;
+        }
+
+        public boolean isSuccess() {
+            return exception == null;
+        }
+
+        /**
+         * Returns the issuance key, or null if the invoice failed.
+         * <p>
+         * 발급 키를 반환하며, 실패한 경우 null을 반환합니다.
+         *
+         * @return the issuance key
+         */
+        public IssuanceKey getIssuanceKey() {
+            return issuanceKey;
+        }
+
+        /**
+         * Returns the failure, or null if the invoice was issued. API errors are
+         * {@link BoltaApiException}s; network and serialization errors are plain
+         * {@link BoltaException}s.
+         * <p>
+         * 실패 원인을 반환하며, 발행된 경우 null을 반환합니다. API 오류는
+         * {@link BoltaApiException}이고, 네트워크 및 직렬화 오류는 {@link BoltaException}입니다.
+         *
+         * @return the exception
+         */
+        public BoltaException getException() {
+            return exception;
+        }
+
+        /**
+         * Returns the API error, or null if the invoice was issued or failed for
+         * another reason.
+         * <p>
+         * API 오류를 반환하며, 발행되었거나 다른 이유로 실패한 경우 null을 반환합니다.
+         *
+         * @return the API exception
+         */
+        public BoltaApiException getApiException() {
+            return exception instanceof BoltaApiException ? (BoltaApiException) exception : null;
+        }
+
+        @Override
+        public String toString() {
+            return "Item{" +
+                    "index=" + index +
+                    (isSuccess() ? ", issuanceKey=" + issuanceKey : ", exception=" + exception) +
+                    '}';
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BulkIssueResult{" +
+                "total=" + getTotalCount() +
+                ", succeeded=" + getSucceededCount() +
+                ", failed=" + failedCount +
+                ", elapsedMillis=" + getElapsedMillis() +
+                '}';
+    }
+}
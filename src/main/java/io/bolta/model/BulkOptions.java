@@ -0,0 +1,151 @@
+package io.bolta.model;
+
+import java.util.function.Function;
+
+/**
+ * Configuration options for bulk tax invoice issuance.
+ * <p>
+ * 세금계산서 일괄 발행을 위한 구성 옵션입니다.
+ *
+ * @see io.bolta.resource.TaxInvoiceResource#issueAll(Iterable, BulkOptions)
+ */
+public final class BulkOptions {
+    /**
+     * Default maximum number of issuance requests in flight at once.
+     * 동시에 진행되는 발행 요청의 기본 최대 수
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    private static final BulkOptions DEFAULTS = builder().build();
+
+    private final int maxConcurrency;
+    private final Function<? super TaxInvoice, ? extends TaxInvoiceIssuanceRequestOptions> optionsProvider;
+    private final BulkProgress.Listener progressListener;
+
+    private BulkOptions(Builder builder) {
+        this.maxConcurrency = builder.maxConcurrency;
+        this.optionsProvider = builder.optionsProvider;
+        this.progressListener = builder.progressListener;
+    }
+
+    /**
+     * Returns the default options.
+     * <p>
+     * 기본 옵션을 반환합니다.
+     *
+     * @return the default BulkOptions
+     */
+    public static BulkOptions defaults() {
+        return DEFAULTS;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the request options for the given invoice, or null if none.
+     * <p>
+     * 주어진 세금계산서의 요청 옵션을 반환하며, 없으면 null을 반환합니다.
+     *
+     * @param invoice the invoice about to be issued
+     * @return the request options for the invoice
+     */
+    public TaxInvoiceIssuanceRequestOptions optionsFor(TaxInvoice invoice) {
+        return optionsProvider != null ? optionsProvider.apply(invoice) : null;
+    }
+
+    public BulkProgress.Listener getProgressListener() {
+        return progressListener;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for constructing BulkOptions instances.
+     * <p>
+     * BulkOptions 인스턴스를 생성하기 위한 빌더입니다.
+     */
+    public static final class Builder {
+        private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+        private Function<? super TaxInvoice, ? extends TaxInvoiceIssuanceRequestOptions> optionsProvider;
+        private BulkProgress.Listener progressListener;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of issuance requests in flight at once.
+         * The HTTP client's own per-host limit still applies.
+         * <p>
+         * 동시에 진행되는 발행 요청의 최대 수를 설정합니다.
+         * HTTP 클라이언트의 호스트당 제한도 함께 적용됩니다.
+         *
+         * @param maxConcurrency the concurrency cap (must be at least 1)
+         * @return the builder instance
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be at least 1");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Uses the same request options for every invoice.
+         * <p>
+         * 모든 세금계산서에 동일한 요청 옵션을 사용합니다.
+         *
+         * @param options the request options
+         * @return the builder instance
+         */
+        public Builder requestOptions(TaxInvoiceIssuanceRequestOptions options) {
+            this.optionsProvider = options != null ? invoice -> options : null;
+            return this;
+        }
+
+        /**
+         * Derives the request options (e.g., customer key, client reference ID)
+         * from each invoice.
+         * <p>
+         * 각 세금계산서로부터 요청 옵션(예: 고객 키, 클라이언트 참조 ID)을 생성합니다.
+         *
+         * @param optionsProvider function returning the options for an invoice
+         * @return the builder instance
+         */
+        public Builder requestOptions(
+                Function<? super TaxInvoice, ? extends TaxInvoiceIssuanceRequestOptions> optionsProvider) {
+            this.optionsProvider = optionsProvider;
+            return this;
+        }
+
+        /**
+         * Sets a listener notified after each invoice completes. It is called
+         * from the threads that complete the requests and must not block.
+         * <p>
+         * 각 세금계산서 처리가 끝날 때마다 호출되는 리스너를 설정합니다. 요청을 완료한 스레드에서
+         * 호출되므로 블로킹하면 안 됩니다.
+         *
+         * @param progressListener the progress listener
+         * @return the builder instance
+         */
+        public Builder progressListener(BulkProgress.Listener progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        public BulkOptions build() {
+            return new BulkOptions(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOptions{" +
+                "maxConcurrency=" + maxConcurrency +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+package io.bolta.model;
+
+/**
+ * Snapshot of the progress of a bulk operation.
+ * <p>
+ * 일괄 작업 진행 상황의 스냅샷입니다.
+ */
+public final class BulkProgress {
+    private final int succeeded;
+    private final int failed;
+    private final int inFlight;
+    private final long elapsedNanos;
+
+    public BulkProgress(int succeeded, int failed, int inFlight, long elapsedNanos) {
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.inFlight = inFlight;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getCompleted() {
+        return succeeded + failed;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000L;
+    }
+
+    /**
+     * Returns the number of completed items per second so far.
+     * <p>
+     * 지금까지 초당 완료된 항목 수를 반환합니다.
+     *
+     * @return the throughput in items per second
+     */
+    public double getThroughputPerSecond() {
+        return elapsedNanos > 0 ? getCompleted() * 1_000_000_000.0 / elapsedNanos : 0.0;
+    }
+
+    /**
+     * Receives progress updates from a bulk operation.
+     * <p>
+     * 일괄 작업의 진행 상황을 수신합니다.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called after each item completes.
+         * <p>
+         * 각 항목이 완료된 후 호출됩니다.
+         *
+         * @param progress the current progress
+         */
+        void onProgress(BulkProgress progress);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkProgress{" +
+                "succeeded=" + succeeded +
+                ", failed=" + failed +
+                ", inFlight=" + inFlight +
+                ", elapsedMillis=" + getElapsedMillis() +
+                '}';
+    }
+}
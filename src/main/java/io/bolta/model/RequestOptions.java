@@ -35,9 +35,18 @@ public class RequestOptions {
      */
     private final java.util.Map<String, String> headers;
 
+    /**
+     * Time budget for the whole call, including every attempt and the delays
+     * between them, or 0 for none.
+     * <p>
+     * 모든 시도와 그 사이의 지연을 포함한 전체 호출의 시간 예산이며, 없으면 0입니다.
+     */
+    private final long timeoutMillis;
+
     protected RequestOptions(Builder<?> builder) {
         this.retryOption = builder.retryOption;
         this.headers = java.util.Collections.unmodifiableMap(new java.util.HashMap<>(builder.headers));
+        this.timeoutMillis = builder.timeoutMillis;
     }
 
     public RetryOption getRetryOption() {
@@ -48,6 +57,17 @@ public class RequestOptions {
         return headers;
     }
 
+    /**
+     * Returns the time budget for the whole call, or 0 if there is none.
+     * <p>
+     * 전체 호출의 시간 예산을 반환하며, 없으면 0을 반환합니다.
+     *
+     * @return the timeout in milliseconds
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
     public static Builder<?> builder() {
         return new Builder<>();
     }
@@ -60,6 +80,7 @@ public class RequestOptions {
     public static class Builder<T extends Builder<T>> {
         protected RetryOption retryOption;
         protected java.util.Map<String, String> headers = new java.util.HashMap<>();
+        protected long timeoutMillis;
 
         /**
          * Sets the retry policy for this request.
@@ -94,6 +115,29 @@ public class RequestOptions {
             return (T) this;
         }
 
+        /**
+         * Sets a time budget for the whole call, counted from when it starts.
+         * Every attempt and every delay between attempts must fit in it: each
+         * attempt's HTTP call times out when the budget runs out, a retry whose
+         * delay would outlast the budget is not made, and the call fails with
+         * {@link io.bolta.exception.DeadlineExceededException} once the budget
+         * is spent. Asynchronous calls complete exceptionally at the deadline.
+         * <p>
+         * 호출이 시작된 시점부터 계산되는 전체 호출의 시간 예산을 설정합니다. 모든 시도와 시도
+         * 사이의 지연이 이 예산 안에 들어가야 합니다. 각 시도의 HTTP 호출은 예산이 소진되면
+         * 타임아웃되고, 지연이 예산을 넘기는 재시도는 수행되지 않으며, 예산을 모두 쓰면 호출은
+         * {@link io.bolta.exception.DeadlineExceededException}으로 실패합니다. 비동기 호출은
+         * 기한에 예외와 함께 완료됩니다.
+         */
+        @SuppressWarnings("unchecked")
+        public T timeoutMillis(long timeoutMillis) {
+            if (timeoutMillis <= 0) {
+                throw new IllegalArgumentException("timeoutMillis must be positive");
+            }
+            this.timeoutMillis = timeoutMillis;
+            return (T) this;
+        }
+
         public RequestOptions build() {
             return new RequestOptions(this);
         }
@@ -103,6 +147,7 @@ public class RequestOptions {
     public String toString() {
         return "RequestOptions{" +
                 "retryOption=" + retryOption +
+                ", timeoutMillis=" + timeoutMillis +
                 '}';
     }
 
@@ -113,11 +158,12 @@ public class RequestOptions {
         if (o == null || getClass() != o.getClass())
             return false;
         RequestOptions that = (RequestOptions) o;
-        return Objects.equals(retryOption, that.retryOption);
+        return timeoutMillis == that.timeoutMillis &&
+                Objects.equals(retryOption, that.retryOption);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(retryOption);
+        return Objects.hash(retryOption, timeoutMillis);
     }
 }
@@ -1,10 +1,12 @@
 package io.bolta.model;
 
+import io.bolta.exception.BoltaApiException;
 import io.bolta.retry.BackoffStrategy;
 import io.bolta.retry.FixedBackoffStrategy;
 import io.bolta.retry.StatusCodeMatcher;
 
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Configuration for retry behavior when making API requests.
@@ -23,16 +25,40 @@ import java.util.Objects;
  *         .exponentialBackoff(1000, 2.0, 30000)
  *         .enableJitter(0.2)
  *         .retryOnStatusCodes(RangeStatusCodeMatcher.of(500, 599))
+ *         .maxRetryAfterMillis(60000)
  *         .build();
  * }</pre>
+ * <p>
+ * When a 429 or 503 response carries a {@code Retry-After} header, the next
+ * attempt waits as long as the header asks, up to
+ * {@link Builder#maxRetryAfterMillis(long)}, instead of using the backoff
+ * strategy.
+ * 429 또는 503 응답에 {@code Retry-After} 헤더가 있으면 다음 시도는 백오프 전략 대신
+ * 헤더가 요청한 시간만큼, 최대 {@link Builder#maxRetryAfterMillis(long)}까지 기다립니다.
+ * <p>
+ * For many clients retrying against the same API, prefer
+ * {@link Builder#decorrelatedJitterBackoff(long, long)} or
+ * {@link Builder#fullJitterBackoff(long, long)}, which spread retries further
+ * apart than ±factor jitter.
+ * 여러 클라이언트가 같은 API에 재시도하는 경우 ±계수 jitter보다 재시도를 더 넓게 분산하는
+ * {@link Builder#decorrelatedJitterBackoff(long, long)} 또는
+ * {@link Builder#fullJitterBackoff(long, long)}을 사용하는 것이 좋습니다.
  */
 public final class RetryOption {
+    /**
+     * Default upper bound on a delay requested by {@code Retry-After}.
+     * {@code Retry-After}가 요청하는 지연 시간의 기본 상한입니다.
+     */
+    public static final long DEFAULT_MAX_RETRY_AFTER_MILLIS = 60_000;
+
     private final int maxAttempts;
     private final BackoffStrategy backoffStrategy;
     private final boolean jitterEnabled;
     private final double jitterFactor;
     private final StatusCodeMatcher statusCodeMatcher;
     private final boolean retryOnNetworkError;
+    private final boolean respectRetryAfter;
+    private final long maxRetryAfterMillis;
 
     private RetryOption(Builder builder) {
         this.maxAttempts = builder.maxAttempts;
@@ -41,6 +67,8 @@ public final class RetryOption {
         this.jitterFactor = builder.jitterFactor;
         this.statusCodeMatcher = builder.statusCodeMatcher;
         this.retryOnNetworkError = builder.retryOnNetworkError;
+        this.respectRetryAfter = builder.respectRetryAfter;
+        this.maxRetryAfterMillis = builder.maxRetryAfterMillis;
     }
 
     /**
@@ -54,18 +82,67 @@ public final class RetryOption {
      *         밀리초 단위의 지연 시간
      */
     public long calculateDelayWithJitter(int attemptNumber) {
-        long baseDelay = backoffStrategy.calculateDelay(attemptNumber);
+        return applyJitter(backoffStrategy.calculateDelay(attemptNumber));
+    }
 
+    private long applyJitter(long baseDelay) {
         if (!jitterEnabled) {
             return baseDelay;
         }
 
         // Apply jitter: random value within ±jitterFactor
         // jitter 적용: ±jitterFactor 범위 내의 무작위 값
-        double jitter = (Math.random() * 2 - 1) * jitterFactor;
+        double jitter = ThreadLocalRandom.current().nextDouble(-1.0, 1.0) * jitterFactor;
         return (long) (baseDelay * (1 + jitter));
     }
 
+    /**
+     * Calculates the delay before the next retry attempt after the given
+     * failure. A {@code Retry-After} header on a 429 or 503 response takes
+     * precedence over the backoff strategy, capped at the maximum.
+     * 주어진 실패 후 다음 재시도 전 지연 시간을 계산합니다. 429 또는 503 응답의
+     * {@code Retry-After} 헤더는 백오프 전략보다 우선하며, 최대값으로 제한됩니다.
+     *
+     * @param attemptNumber the current attempt number (1-based)
+     *                      현재 시도 횟수 (1부터 시작)
+     * @param failure       the API error of the failed attempt, or null for
+     *                      network errors
+     *                      실패한 시도의 API 오류, 네트워크 에러의 경우 null
+     * @return delay in milliseconds
+     *         밀리초 단위의 지연 시간
+     */
+    public long calculateDelay(int attemptNumber, BoltaApiException failure) {
+        return calculateDelay(attemptNumber, 0, failure);
+    }
+
+    /**
+     * Calculates the delay before the next retry attempt after the given
+     * failure, passing the delay that preceded the failed attempt to backoff
+     * strategies that depend on it.
+     * 주어진 실패 후 다음 재시도 전 지연 시간을 계산하며, 실패한 시도 이전의 지연 시간을 그
+     * 값에 따라 달라지는 백오프 전략에 전달합니다.
+     *
+     * @param attemptNumber       the current attempt number (1-based)
+     *                            현재 시도 횟수 (1부터 시작)
+     * @param previousDelayMillis the delay before the failed attempt, or 0 for
+     *                            the first retry
+     *                            실패한 시도 이전의 지연 시간, 첫 재시도의 경우 0
+     * @param failure             the API error of the failed attempt, or null
+     *                            for network errors
+     *                            실패한 시도의 API 오류, 네트워크 에러의 경우 null
+     * @return delay in milliseconds
+     *         밀리초 단위의 지연 시간
+     * @see BackoffStrategy#calculateDelay(int, long)
+     */
+    public long calculateDelay(int attemptNumber, long previousDelayMillis, BoltaApiException failure) {
+        if (respectRetryAfter && failure != null
+                && (failure.getStatusCode() == 429 || failure.getStatusCode() == 503)
+                && failure.getRetryAfterMillis() >= 0) {
+            return Math.min(failure.getRetryAfterMillis(), maxRetryAfterMillis);
+        }
+        return applyJitter(backoffStrategy.calculateDelay(attemptNumber, previousDelayMillis));
+    }
+
     /**
      * Determines whether a retry should be attempted based on the current state.
      * 현재 상태에 따라 재시도를 수행해야 하는지 결정합니다.
@@ -119,6 +196,14 @@ public final class RetryOption {
         return retryOnNetworkError;
     }
 
+    public boolean isRespectRetryAfter() {
+        return respectRetryAfter;
+    }
+
+    public long getMaxRetryAfterMillis() {
+        return maxRetryAfterMillis;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -130,6 +215,8 @@ public final class RetryOption {
         private double jitterFactor = 0.1;
         private StatusCodeMatcher statusCodeMatcher;
         private boolean retryOnNetworkError = true;
+        private boolean respectRetryAfter = true;
+        private long maxRetryAfterMillis = DEFAULT_MAX_RETRY_AFTER_MILLIS;
 
         private Builder() {
         }
@@ -195,6 +282,42 @@ public final class RetryOption {
             return this;
         }
 
+        /**
+         * Sets a decorrelated jitter backoff strategy, where each delay is
+         * drawn between the base delay and three times the previous delay.
+         * 각 지연 시간을 기본 지연 시간과 이전 지연 시간의 세 배 사이에서 정하는 decorrelated
+         * jitter 백오프 전략을 설정합니다.
+         *
+         * @param baseMillis base delay in milliseconds
+         *                   밀리초 단위의 기본 지연 시간
+         * @param maxMillis  maximum delay in milliseconds
+         *                   밀리초 단위의 최대 지연 시간
+         * @return this builder
+         * @see io.bolta.retry.DecorrelatedJitterBackoffStrategy
+         */
+        public Builder decorrelatedJitterBackoff(long baseMillis, long maxMillis) {
+            this.backoffStrategy = new io.bolta.retry.DecorrelatedJitterBackoffStrategy(baseMillis, maxMillis);
+            return this;
+        }
+
+        /**
+         * Sets a full jitter backoff strategy, where each delay is drawn
+         * between zero and an exponentially growing ceiling.
+         * 각 지연 시간을 0과 지수적으로 증가하는 상한 사이에서 정하는 full jitter 백오프 전략을
+         * 설정합니다.
+         *
+         * @param baseMillis base delay in milliseconds
+         *                   밀리초 단위의 기본 지연 시간
+         * @param maxMillis  maximum delay in milliseconds
+         *                   밀리초 단위의 최대 지연 시간
+         * @return this builder
+         * @see io.bolta.retry.FullJitterBackoffStrategy
+         */
+        public Builder fullJitterBackoff(long baseMillis, long maxMillis) {
+            this.backoffStrategy = new io.bolta.retry.FullJitterBackoffStrategy(baseMillis, maxMillis);
+            return this;
+        }
+
         /**
          * Enables jitter with the specified factor.
          * 지정된 계수로 jitter를 활성화합니다.
@@ -239,6 +362,38 @@ public final class RetryOption {
             return this;
         }
 
+        /**
+         * Sets whether a {@code Retry-After} header on a 429 or 503 response
+         * overrides the backoff strategy. Enabled by default.
+         * 429 또는 503 응답의 {@code Retry-After} 헤더가 백오프 전략보다 우선하는지
+         * 설정합니다. 기본값은 활성화입니다.
+         *
+         * @param respectRetryAfter true to wait as long as the server asks
+         *                          서버가 요청한 만큼 기다리려면 true
+         * @return this builder
+         */
+        public Builder respectRetryAfter(boolean respectRetryAfter) {
+            this.respectRetryAfter = respectRetryAfter;
+            return this;
+        }
+
+        /**
+         * Sets the longest delay a {@code Retry-After} header can impose before
+         * the next attempt. Defaults to {@value #DEFAULT_MAX_RETRY_AFTER_MILLIS} ms.
+         * {@code Retry-After} 헤더로 인한 다음 시도 전 최대 지연 시간을 설정합니다.
+         *
+         * @param maxRetryAfterMillis maximum delay in milliseconds
+         *                            밀리초 단위의 최대 지연 시간
+         * @return this builder
+         */
+        public Builder maxRetryAfterMillis(long maxRetryAfterMillis) {
+            if (maxRetryAfterMillis < 0) {
+                throw new IllegalArgumentException("maxRetryAfterMillis must be non-negative");
+            }
+            this.maxRetryAfterMillis = maxRetryAfterMillis;
+            return this;
+        }
+
         public RetryOption build() {
             return new RetryOption(this);
         }
@@ -255,6 +410,8 @@ public final class RetryOption {
                 jitterEnabled == that.jitterEnabled &&
                 Double.compare(that.jitterFactor, jitterFactor) == 0 &&
                 retryOnNetworkError == that.retryOnNetworkError &&
+                respectRetryAfter == that.respectRetryAfter &&
+                maxRetryAfterMillis == that.maxRetryAfterMillis &&
                 Objects.equals(backoffStrategy, that.backoffStrategy) &&
                 Objects.equals(statusCodeMatcher, that.statusCodeMatcher);
     }
@@ -262,7 +419,7 @@ public final class RetryOption {
     @Override
     public int hashCode() {
         return Objects.hash(maxAttempts, backoffStrategy, jitterEnabled, jitterFactor, statusCodeMatcher,
-                retryOnNetworkError);
+                retryOnNetworkError, respectRetryAfter, maxRetryAfterMillis);
     }
 
     @Override
@@ -274,6 +431,8 @@ public final class RetryOption {
                 ", jitterFactor=" + jitterFactor +
                 ", statusCodeMatcher=" + statusCodeMatcher +
                 ", retryOnNetworkError=" + retryOnNetworkError +
+                ", respectRetryAfter=" + respectRetryAfter +
+                ", maxRetryAfterMillis=" + maxRetryAfterMillis +
                 '}';
     }
 }
@@ -29,10 +29,32 @@ public final class TaxInvoiceIssuanceRequestOptions extends RequestOptions {
      */
     private final String clientReferenceId;
 
+    /**
+     * Custom headers merged with the customer key and client reference ID headers,
+     * computed once since options are read on every request.
+     */
+    private final java.util.Map<String, String> headers;
+
     private TaxInvoiceIssuanceRequestOptions(Builder builder) {
         super(builder);
         this.customerKey = builder.customerKey;
         this.clientReferenceId = builder.clientReferenceId;
+        this.headers = mergeHeaders(super.getHeaders(), customerKey, clientReferenceId);
+    }
+
+    private static java.util.Map<String, String> mergeHeaders(java.util.Map<String, String> base,
+            String customerKey, String clientReferenceId) {
+        if (customerKey == null && clientReferenceId == null) {
+            return base;
+        }
+        java.util.Map<String, String> headers = new java.util.HashMap<>(base);
+        if (customerKey != null) {
+            headers.put("Customer-Key", customerKey);
+        }
+        if (clientReferenceId != null) {
+            headers.put("Bolta-Client-Reference-Id", clientReferenceId);
+        }
+        return java.util.Collections.unmodifiableMap(headers);
     }
 
     public String getCustomerKey() {
@@ -45,14 +67,7 @@ public final class TaxInvoiceIssuanceRequestOptions extends RequestOptions {
 
     @Override
     public java.util.Map<String, String> getHeaders() {
-        java.util.Map<String, String> headers = new java.util.HashMap<>(super.getHeaders());
-        if (customerKey != null) {
-            headers.put("Customer-Key", customerKey);
-        }
-        if (clientReferenceId != null) {
-            headers.put("Bolta-Client-Reference-Id", clientReferenceId);
-        }
-        return java.util.Collections.unmodifiableMap(headers);
+        return headers;
     }
 
     public static Builder builder() {
@@ -0,0 +1,535 @@
+package io.bolta.outbox;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.bolta.exception.BoltaApiException;
+import io.bolta.exception.BoltaException;
+import io.bolta.model.IssuanceKey;
+import io.bolta.model.RetryOption;
+import io.bolta.model.TaxInvoice;
+import io.bolta.model.TaxInvoiceIssuanceRequestOptions;
+import io.bolta.resource.TaxInvoiceResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A durable outbox for tax invoice issuance.
+ * <p>
+ * 세금계산서 정발행을 위한 내구성 있는 outbox입니다.
+ * <p>
+ * {@link #submit(TaxInvoice, TaxInvoiceIssuanceRequestOptions)} appends the
+ * invoice to a memory-mapped journal and returns, so invoices are accepted at
+ * local-disk speed. A pool of workers drains the journal through
+ * {@link TaxInvoiceResource#issue}, retrying transient failures, and journals
+ * each outcome. When an outbox is opened on a directory that already holds a
+ * journal, every issuance without a journaled outcome is sent again.
+ * <p>
+ * {@link #submit(TaxInvoice, TaxInvoiceIssuanceRequestOptions)}는 세금계산서를 메모리 매핑된
+ * 저널에 추가한 후 바로 반환하므로 로컬 디스크 속도로 요청을 받을 수 있습니다. 작업 스레드 풀이
+ * {@link TaxInvoiceResource#issue}로 저널을 처리하며 일시적인 실패는 재시도하고 각 결과를 저널에
+ * 기록합니다. 기존 저널이 있는 디렉터리로 outbox를 열면 결과가 기록되지 않은 모든 발행 요청을
+ * 다시 전송합니다.
+ * <p>
+ * Delivery is at least once: if the process stops after Bolta accepted an
+ * invoice but before the outcome was journaled, the invoice is sent again on
+ * restart. Every attempt carries the same client reference ID (generated if the
+ * options have none) so such duplicates can be reconciled. By default records
+ * survive a process crash but not a power failure; enable
+ * {@link Builder#syncWrites(boolean)} to flush each record to the device.
+ * <p>
+ * 전송은 최소 한 번 보장됩니다. Bolta가 세금계산서를 접수한 후 결과가 기록되기 전에 프로세스가
+ * 중단되면 재시작 시 다시 전송됩니다. 모든 시도에는 동일한 클라이언트 관리번호(옵션에 없으면 자동
+ * 생성)가 포함되므로 중복을 대조할 수 있습니다. 기본적으로 레코드는 프로세스 비정상 종료에는
+ * 유지되지만 전원 장애에는 유지되지 않습니다. 각 레코드를 장치에 기록하려면
+ * {@link Builder#syncWrites(boolean)}를 활성화하세요.
+ *
+ * <pre>{@code
+ * try (IssuanceOutbox outbox = IssuanceOutbox.builder()
+ *         .taxInvoices(app.taxInvoices())
+ *         .directory(Paths.get("/var/lib/myapp/outbox"))
+ *         .workers(8)
+ *         .listener(new OutboxListener() {
+ *             public void onIssued(PendingIssuance issuance, IssuanceKey key) {
+ *                 orders.markIssued(issuance.getClientReferenceId(), key);
+ *             }
+ *         })
+ *         .build()) {
+ *     PendingIssuance issuance = outbox.submit(invoice, options);
+ * }
+ * }</pre>
+ */
+public final class IssuanceOutbox implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(IssuanceOutbox.class);
+
+    /**
+     * Default size of a journal segment file (64 MiB).
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Default number of worker threads.
+     */
+    public static final int DEFAULT_WORKERS = 4;
+
+    private static final int MIN_SEGMENT_SIZE = 4096;
+    private static final PendingIssuance SHUTDOWN = new PendingIssuance(-1, null, null, null, false);
+
+    private final TaxInvoiceResource taxInvoices;
+    private final RetryOption retryOption;
+    private final OutboxListener listener;
+    private final ObjectMapper journalMapper;
+    private final OutboxJournal journal;
+    private final BlockingQueue<PendingIssuance> queue = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService retryScheduler;
+    private final List<Thread> workers;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private IssuanceOutbox(Builder builder) throws IOException {
+        this.taxInvoices = builder.taxInvoices;
+        this.retryOption = builder.retryOption != null ? builder.retryOption : defaultRetryOption();
+        this.listener = builder.listener;
+        this.journalMapper = journalMapper();
+
+        List<OutboxJournal.Record> recovered = new ArrayList<>();
+        this.journal = OutboxJournal.open(builder.directory, builder.segmentSize, builder.syncWrites, recovered);
+        try {
+            for (OutboxJournal.Record record : recovered) {
+                PendingIssuance issuance = decode(record);
+                if (issuance != null) {
+                    queue.add(issuance);
+                }
+            }
+        } catch (IOException e) {
+            journal.close();
+            throw e;
+        }
+
+        ThreadFactory threadFactory = builder.threadFactory != null
+                ? builder.threadFactory
+                : daemonThreadFactory("bolta-outbox-");
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("bolta-outbox-retry-"));
+        this.workers = new ArrayList<>(builder.workers);
+        for (int i = 0; i < builder.workers; i++) {
+            Thread worker = threadFactory.newThread(this::drain);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Journals an invoice for issuance and returns once it has been recorded.
+     * <p>
+     * 세금계산서를 발행 대기열 저널에 기록하고 기록이 끝나면 반환합니다.
+     *
+     * @param invoice the invoice to issue
+     * @return the pending issuance
+     * @throws BoltaException if the journal cannot be written
+     */
+    public PendingIssuance submit(TaxInvoice invoice) {
+        return submit(invoice, null);
+    }
+
+    /**
+     * Journals an invoice for issuance and returns once it has been recorded.
+     * Only the customer key and client reference ID of the options are kept;
+     * retries are governed by the outbox's retry option.
+     * <p>
+     * 세금계산서를 발행 대기열 저널에 기록하고 기록이 끝나면 반환합니다. 옵션 중 고객 키와
+     * 클라이언트 관리번호만 보관되며, 재시도는 outbox의 재시도 옵션을 따릅니다.
+     *
+     * @param invoice the invoice to issue
+     * @param options request options, or null
+     * @return the pending issuance
+     * @throws BoltaException if the journal cannot be written
+     */
+    public PendingIssuance submit(TaxInvoice invoice, TaxInvoiceIssuanceRequestOptions options) {
+        if (invoice == null) {
+            throw new IllegalArgumentException("invoice cannot be null");
+        }
+        if (closed.get()) {
+            throw new IllegalStateException("Outbox is closed");
+        }
+        String clientReferenceId = options != null && options.getClientReferenceId() != null
+                ? options.getClientReferenceId()
+                : UUID.randomUUID().toString();
+        String customerKey = options != null ? options.getCustomerKey() : null;
+
+        long sequence;
+        try {
+            sequence = journal.appendPending(encode(clientReferenceId, customerKey, invoice));
+        } catch (IOException e) {
+            throw new BoltaException("Failed to write outbox journal", e);
+        }
+        PendingIssuance issuance = new PendingIssuance(sequence, clientReferenceId, customerKey, invoice, false);
+        queue.add(issuance);
+        return issuance;
+    }
+
+    /**
+     * Returns the number of journaled issuances without an outcome yet,
+     * including those being sent or waiting for a retry.
+     * <p>
+     * 전송 중이거나 재시도를 기다리는 요청을 포함하여 아직 결과가 없는 발행 요청 수를 반환합니다.
+     *
+     * @return the number of pending issuances
+     */
+    public int getPendingCount() {
+        return journal.pendingCount();
+    }
+
+    private void drain() {
+        while (true) {
+            PendingIssuance issuance;
+            try {
+                issuance = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (issuance == SHUTDOWN) {
+                return;
+            }
+            process(issuance);
+        }
+    }
+
+    private void process(PendingIssuance issuance) {
+        int attempt = issuance.nextAttempt();
+        IssuanceKey issuanceKey;
+        try {
+            issuanceKey = taxInvoices.issue(issuance.getInvoice(), issuance.requestOptions());
+        } catch (BoltaException e) {
+            handleFailure(issuance, attempt, e);
+            return;
+        } catch (RuntimeException e) {
+            handleFailure(issuance, attempt, new BoltaException("Failed to issue tax invoice", e));
+            return;
+        }
+
+        complete(issuance, OutboxJournal.ISSUED, issuanceKey != null ? issuanceKey.getValue() : "");
+        issuance.getResult().complete(issuanceKey);
+        if (listener != null) {
+            try {
+                listener.onIssued(issuance, issuanceKey);
+            } catch (RuntimeException e) {
+                logger.warn("Outbox listener threw an exception", e);
+            }
+        }
+    }
+
+    private void handleFailure(PendingIssuance issuance, int attempt, BoltaException exception) {
+        Integer statusCode = exception instanceof BoltaApiException
+                ? ((BoltaApiException) exception).getStatusCode()
+                : null;
+        if (retryOption.shouldRetry(attempt, statusCode, isNetworkError(exception))) {
+            if (closed.get()) {
+                // Not a verdict; the issuance stays in the journal for the next start.
+                return;
+            }
+            long delay = retryOption.calculateDelay(attempt, issuance.lastRetryDelayMillis(),
+                    exception instanceof BoltaApiException ? (BoltaApiException) exception : null);
+            issuance.lastRetryDelayMillis(delay);
+            logger.warn("Issuance {} failed on attempt {}, retrying in {}ms: {}",
+                    issuance.getClientReferenceId(), attempt, delay, exception.getMessage());
+            try {
+                retryScheduler.schedule(() -> queue.add(issuance), delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // Closed concurrently; left in the journal as above.
+            }
+            return;
+        }
+
+        logger.error("Issuance {} failed after {} attempt(s)", issuance.getClientReferenceId(), attempt, exception);
+        complete(issuance, OutboxJournal.FAILED, String.valueOf(exception.getMessage()));
+        issuance.getResult().completeExceptionally(exception);
+        if (listener != null) {
+            try {
+                listener.onFailed(issuance, exception);
+            } catch (RuntimeException e) {
+                logger.warn("Outbox listener threw an exception", e);
+            }
+        }
+    }
+
+    private void complete(PendingIssuance issuance, byte type, String detail) {
+        try {
+            journal.appendCompletion(issuance.getSequence(), type, detail.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // The outcome is still reported; the issuance will be replayed on the next start.
+            logger.error("Failed to journal the outcome of issuance {}", issuance.getClientReferenceId(), e);
+        }
+    }
+
+    /**
+     * Returns true for transport failures, where the request may be sent again.
+     * A response that could not be parsed means the invoice may have been
+     * issued, so it is not retried.
+     */
+    private static boolean isNetworkError(BoltaException exception) {
+        Throwable cause = exception.getCause();
+        return !(exception instanceof BoltaApiException)
+                && cause instanceof IOException
+                && !(cause instanceof JsonProcessingException);
+    }
+
+    private byte[] encode(String clientReferenceId, String customerKey, TaxInvoice invoice) {
+        ObjectNode node = journalMapper.createObjectNode();
+        node.put("clientReferenceId", clientReferenceId);
+        node.put("customerKey", customerKey);
+        node.set("invoice", journalMapper.valueToTree(invoice));
+        try {
+            return journalMapper.writeValueAsBytes(node);
+        } catch (JsonProcessingException e) {
+            throw new BoltaException("Failed to serialize tax invoice for the outbox", e);
+        }
+    }
+
+    private PendingIssuance decode(OutboxJournal.Record record) throws IOException {
+        try {
+            JsonNode node = journalMapper.readTree(record.payload);
+            TaxInvoice invoice = journalMapper.treeToValue(node.get("invoice"), TaxInvoice.class);
+            return new PendingIssuance(record.sequence, node.path("clientReferenceId").asText(null),
+                    node.path("customerKey").asText(null), invoice, true);
+        } catch (JsonProcessingException e) {
+            logger.error("Discarding unreadable outbox record {}", record.sequence, e);
+            journal.appendCompletion(record.sequence, OutboxJournal.FAILED,
+                    "Unreadable record".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }
+    }
+
+    /**
+     * Stops the workers after their current request and closes the journal.
+     * Issuances without an outcome are sent again when the outbox is next
+     * opened on the same directory.
+     * <p>
+     * 작업 스레드를 현재 요청 처리 후 중지하고 저널을 닫습니다. 결과가 없는 발행 요청은 같은
+     * 디렉터리로 outbox를 다시 열 때 재전송됩니다.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        retryScheduler.shutdownNow();
+        queue.clear();
+        for (int i = 0; i < workers.size(); i++) {
+            queue.add(SHUTDOWN);
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close outbox journal", e);
+        }
+    }
+
+    /**
+     * The journal stores the models' fields directly, so it does not depend on
+     * how their getters map to the API's JSON.
+     */
+    private static ObjectMapper journalMapper() {
+        return new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+    }
+
+    private static RetryOption defaultRetryOption() {
+        return RetryOption.builder()
+                .maxAttempts(8)
+                .exponentialBackoff(1000, 2.0, 60000)
+                .enableJitter(0.2)
+                .retryOnStatusCodes(statusCode -> statusCode == 429 || statusCode >= 500)
+                .build();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private TaxInvoiceResource taxInvoices;
+        private Path directory;
+        private int workers = DEFAULT_WORKERS;
+        private int segmentSize = DEFAULT_SEGMENT_SIZE;
+        private boolean syncWrites;
+        private RetryOption retryOption;
+        private OutboxListener listener;
+        private ThreadFactory threadFactory;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the resource used to issue the invoices (e.g.,
+         * {@code app.taxInvoices()}).
+         * <p>
+         * 세금계산서 발행에 사용할 리소스를 설정합니다.
+         *
+         * @param taxInvoices the tax invoice resource
+         * @return this builder
+         */
+        public Builder taxInvoices(TaxInvoiceResource taxInvoices) {
+            this.taxInvoices = taxInvoices;
+            return this;
+        }
+
+        /**
+         * Sets the directory holding the journal. It is created if it does not
+         * exist, and must not be shared by two open outboxes.
+         * <p>
+         * 저널을 보관할 디렉터리를 설정합니다. 없으면 생성되며, 열려 있는 두 outbox가 공유하면
+         * 안 됩니다.
+         *
+         * @param directory the journal directory
+         * @return this builder
+         */
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * Sets the number of worker threads, which bounds the number of issuance
+         * requests in flight. Defaults to {@value #DEFAULT_WORKERS}.
+         * <p>
+         * 동시에 진행되는 발행 요청 수를 제한하는 작업 스레드 수를 설정합니다.
+         *
+         * @param workers the number of workers
+         * @return this builder
+         */
+        public Builder workers(int workers) {
+            if (workers < 1) {
+                throw new IllegalArgumentException("workers must be at least 1");
+            }
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * Sets the size of each journal segment file. A segment is deleted once
+         * every issuance in it has an outcome. Defaults to 64 MiB.
+         * <p>
+         * 저널 세그먼트 파일의 크기를 설정합니다. 세그먼트의 모든 발행 요청에 결과가 기록되면
+         * 삭제됩니다.
+         *
+         * @param segmentSize the segment size in bytes
+         * @return this builder
+         */
+        public Builder segmentSize(int segmentSize) {
+            if (segmentSize < MIN_SEGMENT_SIZE) {
+                throw new IllegalArgumentException("segmentSize must be at least " + MIN_SEGMENT_SIZE);
+            }
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Sets whether every journal record is flushed to the storage device
+         * before {@code submit} returns. Defaults to false.
+         * <p>
+         * {@code submit}이 반환되기 전에 모든 저널 레코드를 저장 장치에 기록할지 설정합니다.
+         *
+         * @param syncWrites true to flush each record
+         * @return this builder
+         */
+        public Builder syncWrites(boolean syncWrites) {
+            this.syncWrites = syncWrites;
+            return this;
+        }
+
+        /**
+         * Sets how failed issuances are retried. Defaults to 8 attempts with
+         * exponential backoff on network errors, 429 and 5xx responses.
+         * <p>
+         * 실패한 발행 요청의 재시도 방식을 설정합니다.
+         *
+         * @param retryOption the retry option
+         * @return this builder
+         */
+        public Builder retryOption(RetryOption retryOption) {
+            this.retryOption = retryOption;
+            return this;
+        }
+
+        public Builder listener(OutboxListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Sets the factory for worker threads. Defaults to daemon platform
+         * threads.
+         * <p>
+         * 작업 스레드 팩토리를 설정합니다. 기본값은 데몬 플랫폼 스레드입니다.
+         *
+         * @param threadFactory the thread factory
+         * @return this builder
+         */
+        public Builder threadFactory(ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        /**
+         * Opens the journal, queues the issuances recovered from it and starts
+         * the workers.
+         * <p>
+         * 저널을 열고 복구된 발행 요청을 대기열에 넣은 후 작업 스레드를 시작합니다.
+         *
+         * @return the outbox
+         * @throws BoltaException if the journal cannot be opened
+         */
+        public IssuanceOutbox build() {
+            if (taxInvoices == null) {
+                throw new IllegalArgumentException("taxInvoices is required");
+            }
+            if (directory == null) {
+                throw new IllegalArgumentException("directory is required");
+            }
+            try {
+                return new IssuanceOutbox(this);
+            } catch (IOException e) {
+                throw new BoltaException("Failed to open outbox journal in " + directory, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package io.bolta.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of pending issuances, stored in memory-mapped segment
+ * files.
+ * <p>
+ * A segment starts with an 8-byte header (magic, version) followed by records:
+ *
+ * <pre>
+ * int  length    total record size, written last so a torn record reads as the end
+ * byte type      PENDING, ISSUED or FAILED
+ * long sequence  the pending record's sequence; completions repeat it
+ * byte[] payload
+ * int  crc32     over type, sequence and payload
+ * </pre>
+ *
+ * Completions are always appended to the newest segment, and segments are
+ * deleted oldest first once none of their pending records is outstanding, so a
+ * completion is never deleted before the record it completes. A new segment is
+ * started on every open, so appends never land after a torn record.
+ * <p>
+ * Appends are serialized by a lock rather than a monitor, so a virtual thread
+ * forcing a segment to disk does not pin its carrier thread.
+ */
+final class OutboxJournal implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxJournal.class);
+
+    static final byte PENDING = 1;
+    static final byte ISSUED = 2;
+    static final byte FAILED = 3;
+
+    private static final int MAGIC = 0x424F5831; // "BOX1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_OVERHEAD = 4 + 1 + 8 + 4;
+    private static final String PREFIX = "outbox-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean syncWrites;
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private final Map<Long, Segment> pending = new HashMap<>();
+    private final CRC32 crc = new CRC32();
+    private final ReentrantLock lock = new ReentrantLock();
+    private Segment current;
+    private long nextSequence = 1;
+    private long nextSegmentId = 1;
+    private boolean closed;
+
+    private OutboxJournal(Path directory, int segmentSize, boolean syncWrites) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncWrites = syncWrites;
+    }
+
+    /**
+     * Opens the journal in {@code directory}, creating it if needed, and adds
+     * every pending record without a completion to {@code recovered} in
+     * sequence order.
+     */
+    static OutboxJournal open(Path directory, int segmentSize, boolean syncWrites, List<Record> recovered)
+            throws IOException {
+        Files.createDirectories(directory);
+        OutboxJournal journal = new OutboxJournal(directory, segmentSize, syncWrites);
+        try {
+            journal.recover(recovered);
+            journal.roll();
+        } catch (IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    private void recover(List<Record> recovered) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path path : stream) {
+                paths.add(path);
+            }
+        }
+        paths.sort(Comparator.comparing(path -> path.getFileName().toString()));
+
+        TreeMap<Long, Record> records = new TreeMap<>();
+        long lastId = 0;
+        for (Path path : paths) {
+            Segment segment = new Segment(segmentId(path), path);
+            scan(segment, records);
+            segments.addLast(segment);
+            lastId = segment.id;
+        }
+        nextSegmentId = lastId + 1;
+
+        recovered.addAll(records.values());
+        trim();
+        if (!records.isEmpty()) {
+            logger.info("Recovered {} pending issuance(s) from outbox journal {}", records.size(), directory);
+        }
+    }
+
+    private void scan(Segment segment, TreeMap<Long, Record> records) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                // Created but never written; nothing to recover.
+                return;
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not an outbox journal segment: " + segment.path);
+            }
+
+            int position = HEADER_SIZE;
+            while (position + 4 <= size) {
+                int length = buffer.getInt(position);
+                if (length == 0) {
+                    break;
+                }
+                if (length < RECORD_OVERHEAD || position + (long) length > size) {
+                    logger.warn("Ignoring torn record at {}:{}", segment.path, position);
+                    break;
+                }
+                byte type = buffer.get(position + 4);
+                long sequence = buffer.getLong(position + 5);
+                byte[] payload = new byte[length - RECORD_OVERHEAD];
+                ByteBuffer slice = buffer.duplicate();
+                slice.position(position + 13);
+                slice.get(payload);
+                if (slice.getInt() != checksum(type, sequence, payload)) {
+                    logger.warn("Ignoring corrupt record at {}:{}", segment.path, position);
+                    break;
+                }
+
+                if (type == PENDING) {
+                    records.put(sequence, new Record(sequence, payload));
+                    pending.put(sequence, segment);
+                    segment.live++;
+                } else {
+                    records.remove(sequence);
+                    Segment owner = pending.remove(sequence);
+                    if (owner != null) {
+                        owner.live--;
+                    }
+                }
+                nextSequence = Math.max(nextSequence, sequence + 1);
+                position += length;
+            }
+        }
+    }
+
+    /**
+     * Appends a pending record and returns its sequence number.
+     */
+    long appendPending(byte[] payload) throws IOException {
+        lock.lock();
+        try {
+            long sequence = nextSequence++;
+            Segment segment = append(PENDING, sequence, payload);
+            pending.put(sequence, segment);
+            segment.live++;
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the completion of a pending record, then deletes the segments
+     * that no longer hold anything outstanding.
+     */
+    void appendCompletion(long sequence, byte type, byte[] payload) throws IOException {
+        lock.lock();
+        try {
+            append(type, sequence, payload);
+            Segment owner = pending.remove(sequence);
+            if (owner != null) {
+                owner.live--;
+                trim();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int pendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Segment append(byte type, long sequence, byte[] payload) throws IOException {
+        if (closed) {
+            throw new IOException("Outbox journal is closed");
+        }
+        int length = RECORD_OVERHEAD + payload.length;
+        if (length > segmentSize - HEADER_SIZE - 4) {
+            throw new IllegalArgumentException("Record of " + payload.length
+                    + " bytes does not fit in a journal segment of " + segmentSize + " bytes");
+        }
+        // Keep room for a zero length after the last record so a scan always finds the end.
+        if (current.position + length + 4 > segmentSize) {
+            roll();
+        }
+
+        MappedByteBuffer buffer = current.buffer;
+        int position = current.position;
+        buffer.put(position + 4, type);
+        buffer.putLong(position + 5, sequence);
+        buffer.position(position + 13);
+        buffer.put(payload);
+        buffer.putInt(checksum(type, sequence, payload));
+        // The length makes the record visible to a scan, so it is written last.
+        // 길이가 기록되어야 스캔에서 레코드가 보이므로 마지막에 씁니다.
+        buffer.putInt(position, length);
+        if (syncWrites) {
+            buffer.force();
+        }
+        current.position = position + length;
+        return current;
+    }
+
+    private void roll() throws IOException {
+        long id = nextSegmentId++;
+        Segment segment = new Segment(id, directory.resolve(String.format("%s%020d%s", PREFIX, id, SUFFIX)));
+        segment.channel = FileChannel.open(segment.path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment.buffer = segment.channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.buffer.putInt(0, MAGIC);
+        segment.buffer.putInt(4, VERSION);
+        segment.position = HEADER_SIZE;
+        if (syncWrites) {
+            segment.buffer.force();
+        }
+        segments.addLast(segment);
+        current = segment;
+        trim();
+    }
+
+    private void trim() throws IOException {
+        while (segments.size() > 1 && segments.peekFirst().live == 0 && segments.peekFirst() != current) {
+            Segment segment = segments.removeFirst();
+            segment.close();
+            Files.deleteIfExists(segment.path);
+            logger.debug("Deleted outbox journal segment {}", segment.path);
+        }
+    }
+
+    private int checksum(byte type, long sequence, byte[] payload) {
+        crc.reset();
+        crc.update(type);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (sequence >>> shift));
+        }
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+
+    private static long segmentId(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IOException("Unexpected file in outbox journal directory: " + path, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            IOException error = null;
+            for (Segment segment : segments) {
+                try {
+                    if (syncWrites && segment.buffer != null) {
+                        segment.buffer.force();
+                    }
+                    segment.close();
+                } catch (IOException e) {
+                    error = e;
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A pending record recovered when the journal was opened.
+     */
+    static final class Record {
+        final long sequence;
+        final byte[] payload;
+
+        Record(long sequence, byte[] payload) {
+            this.sequence = sequence;
+            this.payload = payload;
+        }
+    }
+
+    private static final class Segment {
+        final long id;
+        final Path path;
+        FileChannel channel;
+        MappedByteBuffer buffer;
+        int position;
+        // Pending records in this segment that have not been completed.
+        int live;
+
+        Segment(long id, Path path) {
+            this.id = id;
+            this.path = path;
+        }
+
+        void close() throws IOException {
+            buffer = null;
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+}
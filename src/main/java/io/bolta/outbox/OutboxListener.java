@@ -0,0 +1,41 @@
+package io.bolta.outbox;
+
+import io.bolta.exception.BoltaException;
+import io.bolta.model.IssuanceKey;
+
+/**
+ * Receives the final outcome of each issuance drained from an
+ * {@link IssuanceOutbox}, including issuances replayed after a restart.
+ * <p>
+ * {@link IssuanceOutbox}에서 처리된 각 발행 요청의 최종 결과를 받습니다. 재시작 후 재전송된
+ * 발행 요청도 포함됩니다.
+ * <p>
+ * Callbacks run on outbox worker threads after the outcome has been journaled,
+ * and must not block.
+ * <p>
+ * 콜백은 결과가 저널에 기록된 후 outbox 작업 스레드에서 실행되며, 블로킹되면 안 됩니다.
+ */
+public interface OutboxListener {
+    /**
+     * Called when an invoice has been issued.
+     * <p>
+     * 세금계산서가 발행되었을 때 호출됩니다.
+     *
+     * @param issuance    the issuance
+     * @param issuanceKey the issuance key returned by Bolta
+     */
+    default void onIssued(PendingIssuance issuance, IssuanceKey issuanceKey) {
+    }
+
+    /**
+     * Called when an issuance failed with a non-retryable error or ran out of
+     * attempts. It will not be replayed.
+     * <p>
+     * 재시도할 수 없는 오류로 실패했거나 시도 횟수를 모두 사용했을 때 호출됩니다. 재전송되지 않습니다.
+     *
+     * @param issuance  the issuance
+     * @param exception the last error
+     */
+    default void onFailed(PendingIssuance issuance, BoltaException exception) {
+    }
+}
@@ -0,0 +1,116 @@
+package io.bolta.outbox;
+
+import io.bolta.model.IssuanceKey;
+import io.bolta.model.TaxInvoice;
+import io.bolta.model.TaxInvoiceIssuanceRequestOptions;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An issuance recorded in an {@link IssuanceOutbox} journal.
+ * <p>
+ * {@link IssuanceOutbox} 저널에 기록된 발행 요청입니다.
+ * <p>
+ * The client reference ID is sent with every attempt, including attempts
+ * replayed after a restart, so the outcome can be reconciled with Bolta even if
+ * the process stopped before the response was recorded.
+ * <p>
+ * 클라이언트 관리번호는 재시작 후 재전송을 포함한 모든 시도에 함께 전송되므로, 응답이 기록되기
+ * 전에 프로세스가 중단되더라도 Bolta와 결과를 대조할 수 있습니다.
+ */
+public final class PendingIssuance {
+    private final long sequence;
+    private final String clientReferenceId;
+    private final String customerKey;
+    private final TaxInvoice invoice;
+    private final boolean replayed;
+    private final CompletableFuture<IssuanceKey> result = new CompletableFuture<>();
+    private int attempts;
+    private long lastRetryDelayMillis;
+
+    PendingIssuance(long sequence, String clientReferenceId, String customerKey, TaxInvoice invoice,
+            boolean replayed) {
+        this.sequence = sequence;
+        this.clientReferenceId = clientReferenceId;
+        this.customerKey = customerKey;
+        this.invoice = invoice;
+        this.replayed = replayed;
+    }
+
+    /**
+     * Returns the journal sequence number, which increases with every submission.
+     * <p>
+     * 제출할 때마다 증가하는 저널 순번을 반환합니다.
+     *
+     * @return the sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getClientReferenceId() {
+        return clientReferenceId;
+    }
+
+    public String getCustomerKey() {
+        return customerKey;
+    }
+
+    public TaxInvoice getInvoice() {
+        return invoice;
+    }
+
+    /**
+     * Returns true if the issuance was recovered from the journal on startup
+     * rather than submitted by this process.
+     * <p>
+     * 이 프로세스에서 제출된 것이 아니라 시작 시 저널에서 복구된 발행 요청이면 true를 반환합니다.
+     *
+     * @return whether the issuance was replayed
+     */
+    public boolean isReplayed() {
+        return replayed;
+    }
+
+    /**
+     * Returns a future completed with the issuance key, or exceptionally with a
+     * {@link io.bolta.exception.BoltaException} once the outbox gives up. It is
+     * not completed if the outbox is closed first.
+     * <p>
+     * 발급 키로 완료되거나, outbox가 재시도를 포기하면 {@link io.bolta.exception.BoltaException}으로
+     * 예외 완료되는 future를 반환합니다. outbox가 먼저 닫히면 완료되지 않습니다.
+     *
+     * @return the issuance result
+     */
+    public CompletableFuture<IssuanceKey> getResult() {
+        return result;
+    }
+
+    TaxInvoiceIssuanceRequestOptions requestOptions() {
+        return TaxInvoiceIssuanceRequestOptions.builder()
+                .customerKey(customerKey)
+                .clientReferenceId(clientReferenceId)
+                .build();
+    }
+
+    int nextAttempt() {
+        return ++attempts;
+    }
+
+    long lastRetryDelayMillis() {
+        return lastRetryDelayMillis;
+    }
+
+    void lastRetryDelayMillis(long delayMillis) {
+        this.lastRetryDelayMillis = delayMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "PendingIssuance{" +
+                "sequence=" + sequence +
+                ", clientReferenceId='" + clientReferenceId + '\'' +
+                ", replayed=" + replayed +
+                '}';
+    }
+}
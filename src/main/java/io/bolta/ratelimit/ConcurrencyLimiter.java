@@ -0,0 +1,532 @@
+package io.bolta.ratelimit;
+
+import io.bolta.exception.BoltaException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps the number of requests in flight at a limit that adapts to how the
+ * API responds.
+ * <p>
+ * 동시에 진행 중인 요청 수를 API의 응답 상태에 맞춰 조정되는 한도로 제한합니다.
+ * <p>
+ * The limit follows additive increase, multiplicative decrease (AIMD): every
+ * response that arrives in time raises it by about one per round trip, while
+ * an overload signal lowers it by {@link Builder#backoffRatio(double)}. A 429
+ * or 5xx response, a timeout, or a response slower than
+ * {@link Builder#latencyTolerance(double)} times the recent best latency is an
+ * overload signal. Only requests sent after the last decrease can lower the
+ * limit again, so a burst of failures from one slow period counts once. The
+ * limit only grows while at least half of it is in use. Requests beyond the
+ * limit wait in FIFO order: synchronous calls on the calling thread,
+ * asynchronous calls without holding a thread.
+ * <p>
+ * 한도는 AIMD(additive increase, multiplicative decrease) 방식을 따릅니다. 제때 도착한
+ * 응답은 왕복마다 한도를 약 1씩 올리고, 과부하 신호는 {@link Builder#backoffRatio(double)}만큼
+ * 한도를 낮춥니다. 429 또는 5xx 응답, 타임아웃, 최근 최저 지연 시간의
+ * {@link Builder#latencyTolerance(double)}배보다 느린 응답이 과부하 신호입니다. 마지막으로
+ * 한도를 낮춘 뒤에 전송된 요청만 다시 한도를 낮출 수 있으므로, 한 번의 지연 구간에서 발생한
+ * 연속 실패는 한 번만 반영됩니다. 한도는 절반 이상 사용 중일 때만 올라갑니다. 한도를 넘는
+ * 요청은 FIFO 순서로 기다리며, 동기 호출은 호출 스레드에서, 비동기 호출은 스레드를 점유하지
+ * 않고 기다립니다.
+ *
+ * <pre>{@code
+ * ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+ *         .initialLimit(20)
+ *         .maxLimit(200)
+ *         .build();
+ *
+ * BoltaClient client = BoltaClient.builder()
+ *         .apiKey(apiKey)
+ *         .httpClient(httpClient)
+ *         .concurrencyLimiter(limiter)
+ *         .build();
+ * }</pre>
+ */
+public final class ConcurrencyLimiter {
+
+    /**
+     * Default limit before any response has been seen.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+    /**
+     * Default lowest limit.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /**
+     * Default highest limit.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 200;
+
+    /**
+     * Default factor applied to the limit on an overload signal.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    /**
+     * Default multiple of the best recent latency above which a response counts
+     * as an overload signal.
+     */
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+    /**
+     * Number of samples after which the best latency is taken from the latest
+     * window only, so that the baseline can rise when the API gets slower for good.
+     */
+    private static final int LATENCY_WINDOW = 500;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int maxQueueSize;
+    private final LongSupplier clock;
+
+    private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+    private long baselineNanos;
+    private long windowMinNanos = Long.MAX_VALUE;
+    private int windowSamples;
+    private long droppedCount;
+    private long rejectedCount;
+
+    private ConcurrencyLimiter(Builder builder) {
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+        this.maxQueueSize = builder.maxQueueSize;
+        this.clock = builder.clock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, builder.initialLimit));
+        this.lastDecreaseNanos = clock.getAsLong();
+    }
+
+    /**
+     * Waits on the calling thread until a request may be sent.
+     * <p>
+     * 요청을 전송할 수 있을 때까지 호출 스레드에서 기다립니다.
+     *
+     * @return the permit, to be released once the response arrives
+     * @throws BoltaException if the queue is full or the thread is interrupted
+     */
+    public Permit acquire() {
+        return tryAcquire(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Waits on the calling thread until a request may be sent, giving up after
+     * the timeout.
+     * <p>
+     * 요청을 전송할 수 있을 때까지 호출 스레드에서 기다리며, 제한 시간이 지나면 포기합니다.
+     *
+     * @param timeout the longest to wait
+     * @param unit    the unit of {@code timeout}
+     * @return the permit, to be released once the response arrives, or null if
+     *         none was granted in time
+     * @throws BoltaException if the queue is full or the thread is interrupted
+     */
+    public Permit tryAcquire(long timeout, TimeUnit unit) {
+        CompletableFuture<Permit> waiter = acquireAsync();
+        try {
+            return waiter.get(timeout, unit);
+        } catch (TimeoutException timeoutException) {
+            // Cancelling takes the waiter out of the queue, unless it was granted meanwhile.
+            // 취소하면 대기자가 큐에서 제거되며, 그 사이 허가되었다면 허가를 사용합니다.
+            return waiter.cancel(false) ? null : waiter.join();
+        } catch (InterruptedException interruptedException) {
+            if (!waiter.cancel(false)) {
+                // Granted while being interrupted; hand the slot back.
+                // 인터럽트와 동시에 허가되었으므로 자리를 반납합니다.
+                waiter.join().ignore();
+            }
+            Thread.currentThread().interrupt();
+            throw new BoltaException("Interrupted while waiting for a concurrency permit", interruptedException);
+        } catch (ExecutionException executionException) {
+            throw (BoltaException) executionException.getCause();
+        }
+    }
+
+    /**
+     * Returns a permit if a request may be sent right away, without queueing.
+     * <p>
+     * 요청을 바로 전송할 수 있으면 대기열에 넣지 않고 허가를 반환합니다.
+     *
+     * @return the permit, to be released once the response arrives, or null if
+     *         the limit is reached or other requests are waiting
+     */
+    public synchronized Permit tryAcquire() {
+        if (waiters.isEmpty() && inFlight < (int) limit) {
+            inFlight++;
+            return new Permit(clock.getAsLong());
+        }
+        return null;
+    }
+
+    /**
+     * Returns a future completed with a permit once a request may be sent.
+     * The future completes at once while the limit has room.
+     * <p>
+     * 요청을 전송할 수 있게 되면 허가로 완료되는 future를 반환합니다. 한도에 여유가 있으면
+     * future는 즉시 완료됩니다.
+     *
+     * @return a future completed with the permit, or with a
+     *         {@link BoltaException} if the queue is full
+     */
+    public CompletableFuture<Permit> acquireAsync() {
+        CompletableFuture<Permit> waiter = new CompletableFuture<>();
+        synchronized (this) {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                waiter.complete(new Permit(clock.getAsLong()));
+                return waiter;
+            }
+            if (waiters.size() >= maxQueueSize) {
+                rejectedCount++;
+                waiter.completeExceptionally(new BoltaException(
+                        "Concurrency limit queue is full (" + maxQueueSize + " waiting)"));
+                return waiter;
+            }
+            waiters.addLast(waiter);
+        }
+        // A cancelled waiter leaves the queue at once rather than when its turn comes.
+        // 취소된 대기자는 차례가 올 때가 아니라 즉시 큐에서 제거됩니다.
+        waiter.whenComplete((permit, throwable) -> {
+            if (waiter.isCancelled()) {
+                synchronized (this) {
+                    waiters.remove(waiter);
+                }
+            }
+        });
+        return waiter;
+    }
+
+    /**
+     * Returns the current limit.
+     * <p>
+     * 현재 한도를 반환합니다.
+     *
+     * @return the number of requests allowed in flight
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Returns the number of requests in flight.
+     * <p>
+     * 진행 중인 요청 수를 반환합니다.
+     *
+     * @return the in-flight count
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of requests waiting for a permit.
+     * <p>
+     * 허가를 기다리는 요청 수를 반환합니다.
+     *
+     * @return the queue depth
+     */
+    public synchronized int getQueueDepth() {
+        return waiters.size();
+    }
+
+    /**
+     * Returns the number of responses that counted as overload signals.
+     * <p>
+     * 과부하 신호로 간주된 응답 수를 반환합니다.
+     *
+     * @return the dropped count
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Returns the number of requests rejected because the queue was full.
+     * <p>
+     * 큐가 가득 차서 거절된 요청 수를 반환합니다.
+     *
+     * @return the rejected count
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    private void release(Permit permit, int outcome) {
+        List<CompletableFuture<Permit>> granted;
+        synchronized (this) {
+            long now = clock.getAsLong();
+            int wasInFlight = inFlight--;
+            if (outcome != Permit.IGNORED) {
+                update(permit.startNanos, now - permit.startNanos, outcome == Permit.DROPPED, wasInFlight, now);
+            }
+            granted = grant();
+        }
+        // Completed outside the lock, since completion runs the waiters' callbacks.
+        // 완료 시 대기자의 콜백이 실행되므로 락 밖에서 완료합니다.
+        while (!granted.isEmpty()) {
+            int unused = 0;
+            for (CompletableFuture<Permit> waiter : granted) {
+                if (!waiter.complete(new Permit(clock.getAsLong()))) {
+                    // The caller cancelled after the slot was granted.
+                    // 자리가 허가된 후 호출자가 취소했습니다.
+                    unused++;
+                }
+            }
+            if (unused == 0) {
+                return;
+            }
+            synchronized (this) {
+                inFlight -= unused;
+                granted = grant();
+            }
+        }
+    }
+
+    private void update(long startNanos, long latencyNanos, boolean dropped, int wasInFlight, long now) {
+        boolean slow = false;
+        if (!dropped) {
+            baselineNanos = baselineNanos == 0 ? latencyNanos : Math.min(baselineNanos, latencyNanos);
+            windowMinNanos = Math.min(windowMinNanos, latencyNanos);
+            if (++windowSamples >= LATENCY_WINDOW) {
+                baselineNanos = windowMinNanos;
+                windowMinNanos = Long.MAX_VALUE;
+                windowSamples = 0;
+            }
+            slow = latencyNanos > baselineNanos * latencyTolerance;
+        }
+
+        if (dropped || slow) {
+            droppedCount++;
+            if (startNanos - lastDecreaseNanos >= 0) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = now;
+            }
+        } else if (wasInFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private List<CompletableFuture<Permit>> grant() {
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        while (!waiters.isEmpty() && inFlight < (int) limit) {
+            CompletableFuture<Permit> waiter = waiters.pollFirst();
+            if (waiter.isDone()) {
+                // Cancelled, and not yet removed by its own callback.
+                continue;
+            }
+            inFlight++;
+            granted.add(waiter);
+        }
+        return granted;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A slot for one request. Release it exactly once with the outcome of the
+     * request; later calls are ignored.
+     * <p>
+     * 요청 하나를 위한 자리입니다. 요청 결과와 함께 정확히 한 번 반납하며, 이후 호출은
+     * 무시됩니다.
+     */
+    public final class Permit {
+        private static final int SUCCEEDED = 0;
+        private static final int DROPPED = 1;
+        private static final int IGNORED = 2;
+
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Releases the slot after a response that says nothing about overload.
+         * <p>
+         * 과부하와 무관한 응답 후 자리를 반납합니다.
+         */
+        public void success() {
+            release(SUCCEEDED);
+        }
+
+        /**
+         * Releases the slot after an overload signal, such as a 429 or 503
+         * response or a timeout.
+         * <p>
+         * 429나 503 응답, 타임아웃 같은 과부하 신호 후 자리를 반납합니다.
+         */
+        public void dropped() {
+            release(DROPPED);
+        }
+
+        /**
+         * Releases the slot without adjusting the limit, for failures unrelated
+         * to load.
+         * <p>
+         * 부하와 무관한 실패에 대해 한도를 조정하지 않고 자리를 반납합니다.
+         */
+        public void ignore() {
+            release(IGNORED);
+        }
+
+        private void release(int outcome) {
+            if (released.compareAndSet(false, true)) {
+                ConcurrencyLimiter.this.release(this, outcome);
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link ConcurrencyLimiter}.
+     * <p>
+     * {@link ConcurrencyLimiter} 빌더입니다.
+     */
+    public static final class Builder {
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+        private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+        private int maxQueueSize = Integer.MAX_VALUE;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the limit used before any response has been seen. Defaults to
+         * {@value #DEFAULT_INITIAL_LIMIT}.
+         * <p>
+         * 응답을 받기 전에 사용할 한도를 설정합니다.
+         *
+         * @param initialLimit the initial limit
+         * @return this builder
+         */
+        public Builder initialLimit(int initialLimit) {
+            if (initialLimit < 1) {
+                throw new IllegalArgumentException("initialLimit must be at least 1");
+            }
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Sets the lowest the limit can fall to. Defaults to
+         * {@value #DEFAULT_MIN_LIMIT}.
+         * <p>
+         * 한도의 최솟값을 설정합니다.
+         *
+         * @param minLimit the minimum limit
+         * @return this builder
+         */
+        public Builder minLimit(int minLimit) {
+            if (minLimit < 1) {
+                throw new IllegalArgumentException("minLimit must be at least 1");
+            }
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        /**
+         * Sets the highest the limit can grow to. Defaults to
+         * {@value #DEFAULT_MAX_LIMIT}.
+         * <p>
+         * 한도의 최댓값을 설정합니다.
+         *
+         * @param maxLimit the maximum limit
+         * @return this builder
+         */
+        public Builder maxLimit(int maxLimit) {
+            if (maxLimit < 1) {
+                throw new IllegalArgumentException("maxLimit must be at least 1");
+            }
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Sets the factor the limit is multiplied by on an overload signal.
+         * Defaults to {@value #DEFAULT_BACKOFF_RATIO}.
+         * <p>
+         * 과부하 신호 시 한도에 곱할 비율을 설정합니다.
+         *
+         * @param backoffRatio a ratio between 0 and 1, exclusive
+         * @return this builder
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            if (!(backoffRatio > 0 && backoffRatio < 1)) {
+                throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets how many times slower than the best recent latency a response
+         * may be before it counts as an overload signal. Defaults to
+         * {@value #DEFAULT_LATENCY_TOLERANCE}.
+         * <p>
+         * 최근 최저 지연 시간보다 몇 배 느린 응답부터 과부하 신호로 간주할지 설정합니다.
+         *
+         * @param latencyTolerance a multiple greater than 1
+         * @return this builder
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            if (!(latencyTolerance > 1)) {
+                throw new IllegalArgumentException("latencyTolerance must be greater than 1");
+            }
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * Fails requests that arrive while this many are already waiting. By
+         * default the queue is unbounded.
+         * <p>
+         * 이미 이 수만큼 대기 중일 때 도착한 요청을 실패시킵니다. 기본적으로 큐의 크기는
+         * 제한되지 않습니다.
+         *
+         * @param maxQueueSize the maximum number of waiting requests
+         * @return this builder
+         */
+        public Builder maxQueueSize(int maxQueueSize) {
+            if (maxQueueSize < 0) {
+                throw new IllegalArgumentException("maxQueueSize cannot be negative");
+            }
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public ConcurrencyLimiter build() {
+            if (minLimit > maxLimit) {
+                throw new IllegalArgumentException("minLimit cannot exceed maxLimit");
+            }
+            return new ConcurrencyLimiter(this);
+        }
+    }
+}
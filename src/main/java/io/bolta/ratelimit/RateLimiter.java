@@ -0,0 +1,567 @@
+package io.bolta.ratelimit;
+
+import io.bolta.exception.BoltaException;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Paces requests before they are sent so that they stay within configured
+ * rates, globally, per API key and per Customer-Key.
+ * <p>
+ * 설정된 속도를 전체, API 키별, Customer-Key별로 지키도록 요청을 전송 전에 조절합니다.
+ * <p>
+ * Each limit is a rate with a burst allowance, enforced with the generic cell
+ * rate algorithm (GCRA). A request passes its Customer-Key limit, then its API
+ * key limit, then the global limit, waiting at each for its turn, so a
+ * throttled customer queues behind its own requests only and does not hold
+ * back the others. Requests are delayed rather than rejected, so throughput
+ * settles at the configured rate instead of bursting into 429 responses and
+ * retries. Register the limiter on a {@link io.bolta.BoltaClient}; synchronous
+ * calls wait on the calling thread, while asynchronous calls are submitted
+ * after the delay without holding a thread. Every attempt, including retries, takes a
+ * permit; a request turned away at one limit gives back the permits it took
+ * at the earlier ones. A limiter may be shared by several clients, in which
+ * case the per-API-key limits apply to each key separately.
+ * <p>
+ * 각 제한은 버스트 허용량이 있는 속도이며 GCRA(generic cell rate algorithm)로 적용됩니다.
+ * 요청은 Customer-Key 제한, API 키 제한, 전체 제한을 차례로 통과하며 각 단계에서 차례를
+ * 기다리므로, 제한에 걸린 고객은 자신의 요청 뒤에만 대기하고 다른 고객을 막지 않습니다.
+ * 요청은 거절되지 않고 지연되므로, 처리량이 429 응답과 재시도로 요동치지 않고 설정된 속도에
+ * 맞춰집니다. {@link io.bolta.BoltaClient}에 등록하면 동기 호출은 호출 스레드에서
+ * 기다리고, 비동기 호출은 스레드를 점유하지 않고 지연 후 제출됩니다. 재시도를 포함한 모든 시도가
+ * 허가를 하나씩 사용하며, 어느 제한에서 거절된 요청은 앞선 제한에서 받은 허가를 돌려줍니다.
+ * 여러 클라이언트가 하나의 리미터를 공유할 수 있으며, 이 경우 API 키별 제한은 키마다 따로
+ * 적용됩니다.
+ *
+ * <pre>{@code
+ * RateLimiter limiter = RateLimiter.builder()
+ *         .perApiKey(20, 5)        // 20 requests/s, bursts of 5
+ *         .perCustomerKey(5, 2)
+ *         .maxWaitMillis(10_000)
+ *         .build();
+ *
+ * BoltaClient client = BoltaClient.builder()
+ *         .apiKey(apiKey)
+ *         .httpClient(httpClient)
+ *         .rateLimiter(limiter)
+ *         .build();
+ * }</pre>
+ */
+public final class RateLimiter {
+
+    /**
+     * Number of tracked keys above which keys that have been idle long enough
+     * to be back at full burst are dropped.
+     */
+    private static final int PRUNE_THRESHOLD = 1024;
+
+    private static final String GLOBAL_KEY = "";
+
+    /**
+     * Marks an asynchronous acquire whose permits have been given back.
+     */
+    private static final int ABANDONED = -1;
+
+    private final Tier customerKeyTier;
+    private final Tier apiKeyTier;
+    private final Tier globalTier;
+    private final long maxWaitNanos;
+    private final LongSupplier clock;
+    private final LongConsumer sleeper;
+
+    private final AtomicLong delayed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private RateLimiter(Builder builder) {
+        this.customerKeyTier = builder.customerKeyLimit != null ? new Tier(builder.customerKeyLimit) : null;
+        this.apiKeyTier = builder.apiKeyLimit != null ? new Tier(builder.apiKeyLimit) : null;
+        this.globalTier = builder.globalLimit != null ? new Tier(builder.globalLimit) : null;
+        this.maxWaitNanos = builder.maxWaitMillis >= 0
+                ? TimeUnit.MILLISECONDS.toNanos(builder.maxWaitMillis)
+                : Long.MAX_VALUE;
+        this.clock = builder.clock;
+        this.sleeper = builder.sleeper;
+    }
+
+    /**
+     * Waits on the calling thread until the request may be sent.
+     * <p>
+     * 요청을 전송할 수 있을 때까지 호출 스레드에서 기다립니다.
+     *
+     * @param apiKey      the API key the request is sent with
+     * @param customerKey the request's Customer-Key, or null
+     * @return the time waited in nanoseconds
+     * @throws BoltaException if the wait would exceed the maximum or the thread
+     *                        is interrupted
+     */
+    public long acquire(String apiKey, String customerKey) {
+        return acquire(apiKey, customerKey, Long.MAX_VALUE);
+    }
+
+    /**
+     * Waits on the calling thread until the request may be sent, unless the
+     * wait would exceed {@code timeoutMillis}. The limiter does not sleep out
+     * a wait it knows is too long; it returns at once.
+     * <p>
+     * 요청을 전송할 수 있을 때까지 호출 스레드에서 기다리며, 대기 시간이 {@code timeoutMillis}를
+     * 넘으면 기다리지 않고 즉시 반환합니다.
+     *
+     * @param apiKey        the API key the request is sent with
+     * @param customerKey   the request's Customer-Key, or null
+     * @param timeoutMillis the longest the caller is willing to wait
+     * @return true if the request may be sent, false if the wait would exceed
+     *         {@code timeoutMillis}
+     * @throws BoltaException if the wait would exceed the maximum or the thread
+     *                        is interrupted
+     */
+    public boolean tryAcquire(String apiKey, String customerKey, long timeoutMillis) {
+        return acquire(apiKey, customerKey, TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutMillis))) >= 0;
+    }
+
+    private long acquire(String apiKey, String customerKey, long timeoutNanos) {
+        if (expectedWait(apiKey, customerKey, timeoutNanos) > bound(timeoutNanos)) {
+            return reject(timeoutNanos);
+        }
+        long waited = 0;
+        int taken = 0;
+        boolean acquired = false;
+        try {
+            for (int stage = 0; stage < 3; stage++) {
+                Tier tier = tier(stage, apiKey, customerKey);
+                if (tier == null) {
+                    continue;
+                }
+                long delay = reserve(tier, key(stage, apiKey, customerKey), waited, timeoutNanos);
+                if (delay < 0) {
+                    return -1;
+                }
+                taken |= 1 << stage;
+                if (delay > 0) {
+                    sleeper.accept(delay);
+                    waited += delay;
+                }
+            }
+            acquired = true;
+        } finally {
+            if (!acquired) {
+                refund(taken, apiKey, customerKey);
+            }
+        }
+        if (waited > 0) {
+            delayed.incrementAndGet();
+        }
+        return waited;
+    }
+
+    /**
+     * Completes the returned future once the request may be sent, waiting on
+     * {@code scheduler} rather than on a thread. The future completes at once
+     * when no wait is needed. Cancelling it gives back the permits taken so
+     * far.
+     * <p>
+     * 요청을 전송할 수 있게 되면 반환된 future를 완료하며, 스레드 대신 {@code scheduler}에서
+     * 기다립니다. 기다릴 필요가 없으면 future는 즉시 완료됩니다. future를 취소하면 그때까지 받은
+     * 허가를 돌려줍니다.
+     *
+     * @param apiKey      the API key the request is sent with
+     * @param customerKey the request's Customer-Key, or null
+     * @param scheduler   runs the later stages after each wait
+     * @return a future completed when the request may be sent, or with a
+     *         {@link BoltaException} if the wait would exceed the maximum
+     */
+    public CompletableFuture<Void> acquireAsync(String apiKey, String customerKey,
+            ScheduledExecutorService scheduler) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            if (expectedWait(apiKey, customerKey, Long.MAX_VALUE) > maxWaitNanos) {
+                reject(Long.MAX_VALUE);
+            }
+        } catch (BoltaException exception) {
+            future.completeExceptionally(exception);
+            return future;
+        }
+        AtomicInteger taken = new AtomicInteger();
+        future.whenComplete((ignored, throwable) -> {
+            if (future.isCancelled()) {
+                abandon(taken, apiKey, customerKey);
+            }
+        });
+        acquireAsync(apiKey, customerKey, scheduler, 0, 0, taken, future);
+        return future;
+    }
+
+    private void acquireAsync(String apiKey, String customerKey, ScheduledExecutorService scheduler,
+            int firstStage, long waited, AtomicInteger taken, CompletableFuture<Void> future) {
+        for (int stage = firstStage; stage < 3; stage++) {
+            Tier tier = tier(stage, apiKey, customerKey);
+            if (tier == null) {
+                continue;
+            }
+            if (future.isDone()) {
+                // Cancelled while waiting for the previous stage.
+                // 이전 단계를 기다리는 동안 취소되었습니다.
+                return;
+            }
+
+            String key = key(stage, apiKey, customerKey);
+            long delay;
+            try {
+                delay = reserve(tier, key, waited, Long.MAX_VALUE);
+            } catch (BoltaException exception) {
+                abandon(taken, apiKey, customerKey);
+                future.completeExceptionally(exception);
+                return;
+            }
+            int stageBit = 1 << stage;
+            if (taken.getAndAccumulate(stageBit, (current, bit) -> current == ABANDONED ? current : current | bit)
+                    == ABANDONED) {
+                // Cancelled while this stage was being reserved.
+                // 이 단계를 예약하는 동안 취소되었습니다.
+                tier.refund(key);
+                return;
+            }
+            if (delay > 0) {
+                int nextStage = stage + 1;
+                long totalWaited = waited + delay;
+                try {
+                    scheduler.schedule(
+                            () -> acquireAsync(apiKey, customerKey, scheduler, nextStage, totalWaited, taken, future),
+                            delay, TimeUnit.NANOSECONDS);
+                } catch (Exception exception) {
+                    abandon(taken, apiKey, customerKey);
+                    future.completeExceptionally(new BoltaException("Failed to schedule rate-limited request",
+                            exception));
+                }
+                return;
+            }
+        }
+        if (waited > 0) {
+            delayed.incrementAndGet();
+        }
+        future.complete(null);
+    }
+
+    /**
+     * Returns the number of requests that had to wait for a permit.
+     * <p>
+     * 허가를 기다려야 했던 요청 수를 반환합니다.
+     *
+     * @return the delayed request count
+     */
+    public long getDelayedCount() {
+        return delayed.get();
+    }
+
+    /**
+     * Returns the number of requests rejected because their wait would have
+     * exceeded the maximum.
+     * <p>
+     * 대기 시간이 최대값을 넘어 거절된 요청 수를 반환합니다.
+     *
+     * @return the rejected request count
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    private Tier tier(int stage, String apiKey, String customerKey) {
+        switch (stage) {
+            case 0:
+                return customerKey != null ? customerKeyTier : null;
+            case 1:
+                return apiKey != null ? apiKeyTier : null;
+            default:
+                return globalTier;
+        }
+    }
+
+    private static String key(int stage, String apiKey, String customerKey) {
+        switch (stage) {
+            case 0:
+                return customerKey;
+            case 1:
+                return apiKey;
+            default:
+                return GLOBAL_KEY;
+        }
+    }
+
+    /**
+     * Returns how long a request would wait across its tiers as things stand,
+     * without taking any permits. Only worked out when the wait is bounded,
+     * since an unbounded wait cannot exceed it.
+     */
+    private long expectedWait(String apiKey, String customerKey, long timeoutNanos) {
+        if (bound(timeoutNanos) == Long.MAX_VALUE) {
+            return 0;
+        }
+        long now = clock.getAsLong();
+        long waited = 0;
+        for (int stage = 0; stage < 3; stage++) {
+            Tier tier = tier(stage, apiKey, customerKey);
+            if (tier != null) {
+                waited += tier.delay(key(stage, apiKey, customerKey), now + waited);
+            }
+        }
+        return waited;
+    }
+
+    /**
+     * Takes a permit from the tier and returns its delay, or -1 without taking
+     * it if the delay would exceed the caller's {@code timeoutNanos}.
+     */
+    private long reserve(Tier tier, String key, long waited, long timeoutNanos) {
+        long delay = tier.reserve(key, clock.getAsLong(), bound(timeoutNanos) - waited);
+        return delay >= 0 ? delay : reject(timeoutNanos);
+    }
+
+    private long bound(long timeoutNanos) {
+        return Math.min(timeoutNanos, maxWaitNanos);
+    }
+
+    /**
+     * Returns -1 when the caller's {@code timeoutNanos} was the tighter bound,
+     * and otherwise counts the rejection and throws.
+     */
+    private long reject(long timeoutNanos) {
+        if (timeoutNanos < maxWaitNanos) {
+            return -1;
+        }
+        rejected.incrementAndGet();
+        throw new BoltaException("Rate limit wait exceeds the maximum of "
+                + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + " ms");
+    }
+
+    /**
+     * Gives back the permits an asynchronous acquire has taken so far, once;
+     * stages reserved afterwards give back their own.
+     */
+    private void abandon(AtomicInteger taken, String apiKey, String customerKey) {
+        int stages = taken.getAndSet(ABANDONED);
+        if (stages != ABANDONED) {
+            refund(stages, apiKey, customerKey);
+        }
+    }
+
+    /**
+     * Gives back the permits of the stages set in {@code taken}, for a request
+     * that did not get through every tier.
+     */
+    private void refund(int taken, String apiKey, String customerKey) {
+        for (int stage = 0; stage < 3; stage++) {
+            if ((taken & 1 << stage) != 0) {
+                tier(stage, apiKey, customerKey).refund(key(stage, apiKey, customerKey));
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * One limit, tracking the theoretical arrival time (TAT) of each key.
+     */
+    private static final class Tier {
+        private final Limit limit;
+        private final Map<String, long[]> tats = new HashMap<>();
+        private int pruneAt = PRUNE_THRESHOLD;
+
+        Tier(Limit limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * Takes a permit and returns the delay before it may be used, or -1
+         * without taking it if the delay would exceed {@code maxDelay}.
+         */
+        synchronized long reserve(String key, long now, long maxDelay) {
+            long[] tat = tats.get(key);
+            long current = tat != null ? tat[0] : now;
+            long start = Math.max(now, current - limit.toleranceNanos);
+            long delay = start - now;
+            if (delay > maxDelay) {
+                return -1;
+            }
+
+            long next = Math.max(current, now) + limit.emissionIntervalNanos;
+            if (tat != null) {
+                tat[0] = next;
+            } else {
+                prune(now);
+                tats.put(key, new long[] {next});
+            }
+            return delay;
+        }
+
+        /**
+         * Returns the delay a permit taken at {@code at} would have, without
+         * taking it.
+         */
+        synchronized long delay(String key, long at) {
+            long[] tat = tats.get(key);
+            return tat != null ? Math.max(0, tat[0] - limit.toleranceNanos - at) : 0;
+        }
+
+        /**
+         * Gives back a permit taken by {@link #reserve}, moving the key's
+         * arrival time back by one interval.
+         */
+        synchronized void refund(String key) {
+            long[] tat = tats.get(key);
+            if (tat != null) {
+                tat[0] -= limit.emissionIntervalNanos;
+            }
+        }
+
+        /**
+         * Drops keys already back at full burst once the map grows large, since
+         * a missing key behaves identically.
+         */
+        private void prune(long now) {
+            if (tats.size() < pruneAt) {
+                return;
+            }
+            for (Iterator<long[]> iterator = tats.values().iterator(); iterator.hasNext(); ) {
+                if (iterator.next()[0] - now <= 0) {
+                    iterator.remove();
+                }
+            }
+            pruneAt = Math.max(PRUNE_THRESHOLD, tats.size() * 2);
+        }
+    }
+
+    /**
+     * A rate with a burst allowance, in GCRA terms an emission interval and a
+     * tolerance.
+     */
+    private static final class Limit {
+        private final long emissionIntervalNanos;
+        private final long toleranceNanos;
+
+        Limit(double permitsPerSecond, int burst) {
+            if (!(permitsPerSecond > 0)) {
+                throw new IllegalArgumentException("permitsPerSecond must be positive");
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be at least 1");
+            }
+            this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+            this.toleranceNanos = emissionIntervalNanos * (burst - 1);
+        }
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new BoltaException("Interrupted while waiting for a rate limit permit", interruptedException);
+        }
+    }
+
+    /**
+     * Builder for {@link RateLimiter}. At least one limit must be set.
+     * <p>
+     * {@link RateLimiter} 빌더입니다. 하나 이상의 제한을 설정해야 합니다.
+     */
+    public static final class Builder {
+        private Limit globalLimit;
+        private Limit apiKeyLimit;
+        private Limit customerKeyLimit;
+        private long maxWaitMillis = -1;
+        private LongSupplier clock = System::nanoTime;
+        private LongConsumer sleeper = RateLimiter::sleep;
+
+        private Builder() {
+        }
+
+        /**
+         * Limits all requests through this limiter.
+         * <p>
+         * 이 리미터를 거치는 모든 요청을 제한합니다.
+         *
+         * @param permitsPerSecond the sustained rate
+         * @param burst            how many requests may go at once after a quiet period
+         * @return this builder
+         */
+        public Builder global(double permitsPerSecond, int burst) {
+            this.globalLimit = new Limit(permitsPerSecond, burst);
+            return this;
+        }
+
+        /**
+         * Limits the requests sent with each API key.
+         * <p>
+         * API 키별로 요청을 제한합니다.
+         *
+         * @param permitsPerSecond the sustained rate
+         * @param burst            how many requests may go at once after a quiet period
+         * @return this builder
+         */
+        public Builder perApiKey(double permitsPerSecond, int burst) {
+            this.apiKeyLimit = new Limit(permitsPerSecond, burst);
+            return this;
+        }
+
+        /**
+         * Limits the requests sent with each Customer-Key header value.
+         * Requests without a Customer-Key are not subject to this limit.
+         * <p>
+         * Customer-Key 헤더 값별로 요청을 제한합니다. Customer-Key가 없는 요청에는 적용되지
+         * 않습니다.
+         *
+         * @param permitsPerSecond the sustained rate
+         * @param burst            how many requests may go at once after a quiet period
+         * @return this builder
+         */
+        public Builder perCustomerKey(double permitsPerSecond, int burst) {
+            this.customerKeyLimit = new Limit(permitsPerSecond, burst);
+            return this;
+        }
+
+        /**
+         * Fails requests whose wait would exceed this many milliseconds instead
+         * of queueing them. By default requests wait as long as needed.
+         * <p>
+         * 대기 시간이 이 값(밀리초)을 넘는 요청은 대기시키지 않고 실패시킵니다. 기본적으로
+         * 요청은 필요한 만큼 기다립니다.
+         *
+         * @param maxWaitMillis the maximum wait in milliseconds
+         * @return this builder
+         */
+        public Builder maxWaitMillis(long maxWaitMillis) {
+            if (maxWaitMillis < 0) {
+                throw new IllegalArgumentException("maxWaitMillis cannot be negative");
+            }
+            this.maxWaitMillis = maxWaitMillis;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        Builder sleeper(LongConsumer sleeper) {
+            this.sleeper = sleeper;
+            return this;
+        }
+
+        public RateLimiter build() {
+            if (globalLimit == null && apiKeyLimit == null && customerKeyLimit == null) {
+                throw new IllegalArgumentException("At least one limit is required");
+            }
+            return new RateLimiter(this);
+        }
+    }
+}
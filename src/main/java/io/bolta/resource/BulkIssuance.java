@@ -0,0 +1,207 @@
+package io.bolta.resource;
+
+import io.bolta.exception.BoltaException;
+import io.bolta.model.BulkIssueResult;
+import io.bolta.model.BulkOptions;
+import io.bolta.model.BulkProgress;
+import io.bolta.model.IssuanceKey;
+import io.bolta.model.TaxInvoice;
+import io.bolta.model.TaxInvoiceIssuanceRequestOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Issues a sequence of invoices with at most {@code maxConcurrency} requests in
+ * flight, pulling the next invoice from the input as each request completes.
+ * <p>
+ * No thread waits for a permit: {@link #drain()} is re-entered from completion
+ * callbacks, and a work-in-progress counter ensures only one caller at a time
+ * reads the iterator and launches requests, even if a request completes
+ * synchronously.
+ * <p>
+ * Each outcome is handed to an item listener as it completes. Outcomes are
+ * only kept for the final {@link BulkIssueResult} when {@code retainItems} is
+ * set, so a streaming caller needs memory proportional to the concurrency cap,
+ * not to the input.
+ */
+final class BulkIssuance {
+    private static final Logger logger = LoggerFactory.getLogger(BulkIssuance.class);
+
+    private final Iterator<? extends TaxInvoice> invoices;
+    private final BulkOptions options;
+    private final BiFunction<TaxInvoice, TaxInvoiceIssuanceRequestOptions, CompletableFuture<IssuanceKey>> issuer;
+    private final Consumer<? super BulkIssueResult.Item> itemListener;
+    private final boolean retainItems;
+    private final CompletableFuture<BulkProgress> result = new CompletableFuture<>();
+    private final long startNanos = System.nanoTime();
+
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    // Only accessed inside drain(), which the wip counter serializes.
+    private final List<Slot> slots = new ArrayList<>();
+    private int launched;
+    private boolean exhausted;
+    private RuntimeException iterationError;
+
+    BulkIssuance(Iterable<? extends TaxInvoice> invoices, BulkOptions options,
+            BiFunction<TaxInvoice, TaxInvoiceIssuanceRequestOptions, CompletableFuture<IssuanceKey>> issuer,
+            Consumer<? super BulkIssueResult.Item> itemListener, boolean retainItems) {
+        this.invoices = invoices.iterator();
+        this.options = options;
+        this.issuer = issuer;
+        this.itemListener = itemListener;
+        this.retainItems = retainItems;
+    }
+
+    /**
+     * Starts issuing and returns a future completed with the final progress.
+     */
+    CompletableFuture<BulkProgress> start() {
+        drain();
+        return result;
+    }
+
+    /**
+     * Returns the retained outcomes in input order. Only valid once the future
+     * returned by {@link #start()} has completed.
+     */
+    List<BulkIssueResult.Item> items() {
+        List<BulkIssueResult.Item> items = new ArrayList<>(slots.size());
+        for (Slot slot : slots) {
+            items.add(slot.toItem());
+        }
+        return items;
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            while (!exhausted && inFlight.get() < options.getMaxConcurrency()) {
+                TaxInvoice invoice;
+                try {
+                    if (!invoices.hasNext()) {
+                        exhausted = true;
+                        break;
+                    }
+                    invoice = invoices.next();
+                } catch (RuntimeException e) {
+                    iterationError = e;
+                    exhausted = true;
+                    break;
+                }
+                launch(new Slot(launched++, invoice));
+            }
+            if (exhausted && inFlight.get() == 0 && !result.isDone()) {
+                finish();
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private void launch(Slot slot) {
+        if (retainItems) {
+            slots.add(slot);
+        }
+        inFlight.incrementAndGet();
+
+        CompletableFuture<IssuanceKey> future;
+        try {
+            if (slot.invoice == null) {
+                throw new IllegalArgumentException("invoice cannot be null");
+            }
+            future = issuer.apply(slot.invoice, options.optionsFor(slot.invoice));
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        future.whenComplete((issuanceKey, throwable) -> complete(slot, issuanceKey, throwable));
+    }
+
+    private void complete(Slot slot, IssuanceKey issuanceKey, Throwable throwable) {
+        if (throwable == null) {
+            slot.issuanceKey = issuanceKey;
+            succeeded.incrementAndGet();
+        } else {
+            slot.exception = toBoltaException(throwable);
+            failed.incrementAndGet();
+        }
+        notifyItem(slot.toItem());
+        int remaining = inFlight.decrementAndGet();
+        notifyProgress(remaining);
+        drain();
+    }
+
+    private void notifyItem(BulkIssueResult.Item item) {
+        if (itemListener == null) {
+            return;
+        }
+        try {
+            itemListener.accept(item);
+        } catch (RuntimeException e) {
+            logger.warn("Bulk item listener threw an exception", e);
+        }
+    }
+
+    private void notifyProgress(int remaining) {
+        BulkProgress.Listener listener = options.getProgressListener();
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.onProgress(new BulkProgress(succeeded.get(), failed.get(), remaining,
+                    System.nanoTime() - startNanos));
+        } catch (RuntimeException e) {
+            logger.warn("Bulk progress listener threw an exception", e);
+        }
+    }
+
+    private void finish() {
+        if (iterationError != null) {
+            result.completeExceptionally(new BoltaException("Failed to read tax invoices", iterationError));
+            return;
+        }
+        BulkProgress progress = new BulkProgress(succeeded.get(), failed.get(), 0, System.nanoTime() - startNanos);
+        logger.info("Bulk issuance finished: {}", progress);
+        result.complete(progress);
+    }
+
+    private static BoltaException toBoltaException(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        return cause instanceof BoltaException
+                ? (BoltaException) cause
+                : new BoltaException("Failed to issue tax invoice", cause);
+    }
+
+    private static final class Slot {
+        final int index;
+        final TaxInvoice invoice;
+        volatile IssuanceKey issuanceKey;
+        volatile BoltaException exception;
+
+        Slot(int index, TaxInvoice invoice) {
+            this.index = index;
+            this.invoice = invoice;
+        }
+
+        BulkIssueResult.Item toItem() {
+            return exception == null
+                    ? BulkIssueResult.Item.success(index, invoice, issuanceKey)
+                    : BulkIssueResult.Item.failure(index, invoice, exception);
+        }
+    }
+}
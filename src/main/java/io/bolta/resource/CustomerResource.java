@@ -1,10 +1,14 @@
 package io.bolta.resource;
 
 import io.bolta.BoltaClient;
+import io.bolta.cache.CustomerCache;
+import io.bolta.exception.BoltaApiException;
 import io.bolta.exception.BoltaException;
 import io.bolta.http.BoltaHttpHeader;
 import io.bolta.http.HttpMethod;
 import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpRequestBody;
+import io.bolta.http.RouteTemplate;
 import io.bolta.model.Customer;
 import io.bolta.model.RequestOptions;
 
@@ -14,8 +18,8 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Resource for managing customers in the Bolta system.
@@ -41,6 +45,10 @@ import java.util.concurrent.CompletableFuture;
 public final class CustomerResource {
     private static final Logger logger = LoggerFactory.getLogger(CustomerResource.class);
     private static final String BASE_PATH = "/v1/customers";
+    private static final RouteTemplate CUSTOMERS = RouteTemplate.compile(BASE_PATH);
+    private static final RouteTemplate CUSTOMER = RouteTemplate.compile(BASE_PATH + "/{identificationNumber}");
+    private static final RouteTemplate CERTIFICATE_URL = RouteTemplate.compile(BASE_PATH + "/{customerKey}/certificates/url");
+    private static final RouteTemplate CERTIFICATES = RouteTemplate.compile(BASE_PATH + "/{customerKey}/certificates");
 
     private final BoltaClient client;
 
@@ -76,22 +84,16 @@ public final class CustomerResource {
      */
     public void create(Customer customer, RequestOptions options) {
         logger.info("Creating customer with ID: {}", customer.getIdentificationNumber());
-        try {
-            String json = client.getObjectMapper().writeValueAsString(customer);
-
-            HttpRequest request = HttpRequest.builder()
-                    .url(client.buildUrl(BASE_PATH))
-                    .method(HttpMethod.POST)
-                    .header(BoltaHttpHeader.CONTENT_TYPE, BoltaHttpHeader.APPLICATION_JSON)
-                    .body(json)
-                    .build();
+        HttpRequest request = HttpRequest.builder()
+                .url(client.buildUrl(CUSTOMERS))
+                .route(CUSTOMERS)
+                .method(HttpMethod.POST)
+                .body(HttpRequestBody.json(client.getObjectMapper(), customer))
+                .build();
 
-            client.execute(request, Void.class, options);
-            logger.debug("Successfully created customer: {}", customer.getIdentificationNumber());
-        } catch (IOException ioException) {
-            logger.error("Failed to serialize customer: {}", customer.getIdentificationNumber(), ioException);
-            throw new BoltaException("Failed to serialize customer", ioException);
-        }
+        client.execute(request, Void.class, options);
+        logger.debug("Successfully created customer: {}", customer.getIdentificationNumber());
+        recordCreated(customer, options);
     }
 
     /**
@@ -116,22 +118,164 @@ public final class CustomerResource {
      * @return a CompletableFuture that completes when the creation is finished
      */
     public CompletableFuture<Void> createAsync(Customer customer, RequestOptions options) {
-        CompletableFuture<Void> future = new CompletableFuture<>();
+        CompletableFuture<Void> response = new CompletableFuture<>();
         try {
-            String json = client.getObjectMapper().writeValueAsString(customer);
-
             HttpRequest request = HttpRequest.builder()
-                    .url(client.buildUrl(BASE_PATH))
+                    .url(client.buildUrl(CUSTOMERS))
+                    .route(CUSTOMERS)
                     .method(HttpMethod.POST)
-                    .header(BoltaHttpHeader.CONTENT_TYPE, BoltaHttpHeader.APPLICATION_JSON)
-                    .body(json)
+                    .body(HttpRequestBody.json(client.getObjectMapper(), customer))
                     .build();
 
-            client.enqueueRequest(request, Void.class, future);
+            client.enqueueRequest(request, Void.class, options, response);
         } catch (Exception exception) {
-            future.completeExceptionally(exception);
+            response.completeExceptionally(exception);
         }
-        return future;
+        return Futures.map(response, ignored -> {
+            recordCreated(customer, options);
+            return null;
+        });
+    }
+
+    /**
+     * Makes sure a customer exists, creating it only if it is not found.
+     * <p>
+     * 고객이 존재하도록 보장하며, 찾을 수 없는 경우에만 생성합니다.
+     * <p>
+     * The customer is looked up first and created on a 404; a 409 Conflict from
+     * the creation is taken to mean that someone else created it first. With a
+     * {@link CustomerCache} on the client, customers known to exist are skipped
+     * without a request and concurrent calls for the same customer share one
+     * lookup and creation.
+     * <p>
+     * 먼저 고객을 조회하고 404이면 생성합니다. 생성 시 409 Conflict는 다른 곳에서 먼저 생성한
+     * 것으로 간주합니다. 클라이언트에 {@link CustomerCache}가 있으면 존재하는 것으로 알려진 고객은
+     * 요청 없이 건너뛰며, 같은 고객에 대한 동시 호출은 하나의 조회와 생성을 공유합니다.
+     *
+     * @param customer the customer to create if missing
+     * @throws BoltaException if the lookup or creation fails
+     */
+    public void ensureExists(Customer customer) {
+        ensureExists(customer, null);
+    }
+
+    /**
+     * Makes sure a customer exists with options.
+     * <p>
+     * 옵션과 함께 고객이 존재하도록 보장합니다.
+     *
+     * @param customer the customer to create if missing
+     * @param options  request options
+     * @throws BoltaException if the lookup or creation fails
+     * @see #ensureExists(Customer)
+     */
+    public void ensureExists(Customer customer, RequestOptions options) {
+        CustomerCache cache = client.getCustomerCache();
+        if (cache == null) {
+            createIfMissing(customer, options);
+            return;
+        }
+        cache.ensureExists(customerKey(options), customer.getIdentificationNumber(),
+                () -> createIfMissing(customer, options));
+    }
+
+    /**
+     * Makes sure a customer exists asynchronously.
+     * <p>
+     * 비동기적으로 고객이 존재하도록 보장합니다.
+     *
+     * @param customer the customer to create if missing
+     * @return a CompletableFuture that completes once the customer exists
+     * @see #ensureExists(Customer)
+     */
+    public CompletableFuture<Void> ensureExistsAsync(Customer customer) {
+        return ensureExistsAsync(customer, null);
+    }
+
+    /**
+     * Makes sure a customer exists asynchronously with options.
+     * <p>
+     * 옵션과 함께 비동기적으로 고객이 존재하도록 보장합니다.
+     *
+     * @param customer the customer to create if missing
+     * @param options  request options
+     * @return a CompletableFuture that completes once the customer exists
+     * @see #ensureExists(Customer)
+     */
+    public CompletableFuture<Void> ensureExistsAsync(Customer customer, RequestOptions options) {
+        CustomerCache cache = client.getCustomerCache();
+        if (cache == null) {
+            return createIfMissingAsync(customer, options);
+        }
+        return cache.ensureExistsAsync(customerKey(options), customer.getIdentificationNumber(),
+                () -> createIfMissingAsync(customer, options));
+    }
+
+    private void createIfMissing(Customer customer, RequestOptions options) {
+        try {
+            get(customer.getIdentificationNumber(), options);
+            return;
+        } catch (BoltaApiException exception) {
+            if (exception.getStatusCode() != 404) {
+                throw exception;
+            }
+        }
+
+        try {
+            create(customer, options);
+        } catch (BoltaApiException exception) {
+            if (exception.getStatusCode() != 409) {
+                throw exception;
+            }
+            recordCreated(customer, options);
+        }
+    }
+
+    private CompletableFuture<Void> createIfMissingAsync(Customer customer, RequestOptions options) {
+        return getAsync(customer.getIdentificationNumber(), options)
+                .handle((found, throwable) -> {
+                    if (throwable == null) {
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    if (!isStatus(throwable, 404)) {
+                        throw new CompletionException(unwrap(throwable));
+                    }
+                    return createAsync(customer, options).handle((ignored, createFailure) -> {
+                        if (createFailure != null && !isStatus(createFailure, 409)) {
+                            throw new CompletionException(unwrap(createFailure));
+                        }
+                        if (createFailure != null) {
+                            recordCreated(customer, options);
+                        }
+                        return (Void) null;
+                    });
+                })
+                .thenCompose(created -> created);
+    }
+
+    private void recordCreated(Customer customer, RequestOptions options) {
+        CustomerCache cache = client.getCustomerCache();
+        if (cache != null) {
+            cache.recordCreated(customerKey(options), customer.getIdentificationNumber());
+        }
+    }
+
+    private static String customerKey(RequestOptions options) {
+        return (options != null && options.getHeaders() != null)
+                ? options.getHeaders().get(BoltaHttpHeader.CUSTOMER_KEY)
+                : null;
+    }
+
+    private static boolean isStatus(Throwable throwable, int statusCode) {
+        Throwable cause = unwrap(throwable);
+        return cause instanceof BoltaApiException && ((BoltaApiException) cause).getStatusCode() == statusCode;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
     }
 
     /**
@@ -151,6 +295,17 @@ public final class CustomerResource {
      * Retrieves customer information by business registration number with options.
      * <p>
      * 옵션과 함께 사업자등록번호로 고객 정보를 조회합니다.
+     * <p>
+     * Concurrent calls for the same number and Customer-Key share a single
+     * request; see {@link BoltaClient#executeCoalesced(HttpRequest, Class, RequestOptions)}.
+     * <p>
+     * 같은 번호와 Customer-Key에 대한 동시 호출은 하나의 요청을 공유합니다.
+     * <p>
+     * With a {@link CustomerCache} on the client, cached customers and cached
+     * 404s are returned without a request.
+     * <p>
+     * 클라이언트에 {@link CustomerCache}가 있으면 캐시된 고객과 캐시된 404는 요청 없이
+     * 반환됩니다.
      *
      * @param identificationNumber the business registration number (사업자등록번호)
      * @param options              request options (retry configuration only)
@@ -158,13 +313,22 @@ public final class CustomerResource {
      * @throws BoltaException if the retrieval fails
      */
     public Customer get(String identificationNumber, RequestOptions options) {
+        CustomerCache cache = client.getCustomerCache();
+        if (cache == null) {
+            return fetch(identificationNumber, options);
+        }
+        return cache.get(customerKey(options), identificationNumber, number -> fetch(number, options));
+    }
+
+    private Customer fetch(String identificationNumber, RequestOptions options) {
         logger.info("Fetching customer with ID: {}", identificationNumber);
         HttpRequest request = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s", identificationNumber))
+                .url(client.buildUrl(CUSTOMER, identificationNumber))
+                .route(CUSTOMER)
                 .method(HttpMethod.GET)
                 .build();
 
-        Customer customer = client.execute(request, Customer.class, options);
+        Customer customer = client.executeCoalesced(request, Customer.class, options);
         logger.debug("Successfully fetched customer: {}", identificationNumber);
         return customer;
     }
@@ -191,13 +355,22 @@ public final class CustomerResource {
      * @return a CompletableFuture containing the customer information
      */
     public CompletableFuture<Customer> getAsync(String identificationNumber, RequestOptions options) {
+        CustomerCache cache = client.getCustomerCache();
+        if (cache == null) {
+            return fetchAsync(identificationNumber, options);
+        }
+        return cache.getAsync(customerKey(options), identificationNumber, number -> fetchAsync(number, options));
+    }
+
+    private CompletableFuture<Customer> fetchAsync(String identificationNumber, RequestOptions options) {
         CompletableFuture<Customer> future = new CompletableFuture<>();
         HttpRequest request = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s", identificationNumber))
+                .url(client.buildUrl(CUSTOMER, identificationNumber))
+                .route(CUSTOMER)
                 .method(HttpMethod.GET)
                 .build();
 
-        client.enqueueRequest(request, Customer.class, future);
+        client.enqueueCoalescedRequest(request, Customer.class, options, future);
         return future;
     }
 
@@ -227,7 +400,8 @@ public final class CustomerResource {
     public String getCertificateRegistrationUrl(String customerKey, RequestOptions options) {
         logger.info("Fetching certificate registration URL for customer: {}", customerKey);
         HttpRequest request = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s/certificates/url", customerKey))
+                .url(client.buildUrl(CERTIFICATE_URL, customerKey))
+                .route(CERTIFICATE_URL)
                 .method(HttpMethod.GET)
                 .build();
 
@@ -258,25 +432,15 @@ public final class CustomerResource {
      * @return a CompletableFuture containing the certificate registration URL
      */
     public CompletableFuture<String> getCertificateRegistrationUrlAsync(String customerKey, RequestOptions options) {
-        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<CertificateUrlResponse> response = new CompletableFuture<>();
         HttpRequest request = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s/certificates/url", customerKey))
+                .url(client.buildUrl(CERTIFICATE_URL, customerKey))
+                .route(CERTIFICATE_URL)
                 .method(HttpMethod.GET)
                 .build();
 
-        client.enqueueRequest(request, CertificateUrlResponse.class,
-                new CompletableFuture<CertificateUrlResponse>() {
-                    @Override
-                    public boolean complete(CertificateUrlResponse value) {
-                        return future.complete(value.url);
-                    }
-
-                    @Override
-                    public boolean completeExceptionally(Throwable ex) {
-                        return future.completeExceptionally(ex);
-                    }
-                });
-        return future;
+        client.enqueueRequest(request, CertificateUrlResponse.class, options, response);
+        return Futures.map(response, value -> value.url);
     }
 
     /**
@@ -303,7 +467,8 @@ public final class CustomerResource {
     public void deleteCertificate(String customerKey, RequestOptions options) {
         logger.info("Deleting certificate for customer: {}", customerKey);
         HttpRequest request = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s/certificates", customerKey))
+                .url(client.buildUrl(CERTIFICATES, customerKey))
+                .route(CERTIFICATES)
                 .method(HttpMethod.DELETE)
                 .build();
 
@@ -335,11 +500,12 @@ public final class CustomerResource {
     public CompletableFuture<Void> deleteCertificateAsync(String customerKey, RequestOptions options) {
         CompletableFuture<Void> future = new CompletableFuture<>();
         HttpRequest request = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s/certificates", customerKey))
+                .url(client.buildUrl(CERTIFICATES, customerKey))
+                .route(CERTIFICATES)
                 .method(HttpMethod.DELETE)
                 .build();
 
-        client.enqueueRequest(request, Void.class, future);
+        client.enqueueRequest(request, Void.class, options, future);
         return future;
     }
 
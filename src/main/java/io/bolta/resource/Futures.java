@@ -0,0 +1,58 @@
+package io.bolta.resource;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Links the futures the resources return to the futures of the requests
+ * behind them, so that cancelling one cancels the request.
+ * <p>
+ * 리소스가 반환하는 future를 그 뒤의 요청 future와 연결하여, 반환된 future를 취소하면 요청도
+ * 취소되도록 합니다.
+ */
+final class Futures {
+    private Futures() {
+    }
+
+    /**
+     * Returns a future completed with {@code mapper} applied to the source's
+     * result, or with the source's exception. Cancelling the returned future
+     * cancels the source.
+     *
+     * @param source the future of the request
+     * @param mapper maps the response to the result
+     * @param <T>    the type of the response
+     * @param <R>    the type of the result
+     * @return the future of the result
+     */
+    static <T, R> CompletableFuture<R> map(CompletableFuture<T> source, Function<? super T, ? extends R> mapper) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        source.whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+                return;
+            }
+            try {
+                future.complete(mapper.apply(value));
+            } catch (RuntimeException exception) {
+                future.completeExceptionally(exception);
+            }
+        });
+        cancelWith(future, source);
+        return future;
+    }
+
+    /**
+     * Cancels {@code source} once {@code dependent} is cancelled.
+     *
+     * @param dependent the future handed to the caller
+     * @param source    the future of the request behind it
+     */
+    static void cancelWith(CompletableFuture<?> dependent, CompletableFuture<?> source) {
+        dependent.whenComplete((ignored, throwable) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(false);
+            }
+        });
+    }
+}
@@ -3,10 +3,10 @@ package io.bolta.resource;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.bolta.BoltaClient;
-import io.bolta.exception.BoltaException;
-import io.bolta.http.BoltaHttpHeader;
 import io.bolta.http.HttpMethod;
 import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpRequestBody;
+import io.bolta.http.RouteTemplate;
 import io.bolta.model.IssuanceKey;
 import io.bolta.model.TaxInvoiceIssuanceRequest;
 import io.bolta.model.TaxInvoiceIssuanceRequestOptions;
@@ -14,7 +14,6 @@ import io.bolta.model.TaxInvoiceIssuanceRequestOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -30,6 +29,9 @@ import java.util.concurrent.CompletableFuture;
 public final class TaxInvoiceIssuanceRequestResource {
     private static final Logger logger = LoggerFactory.getLogger(TaxInvoiceIssuanceRequestResource.class);
     private static final String BASE_PATH = "/v1/taxInvoices";
+    private static final RouteTemplate ISSUE_REQUEST = RouteTemplate.compile(BASE_PATH + "/issueRequest");
+    private static final RouteTemplate GRANT_URL = RouteTemplate.compile(BASE_PATH + "/{issuanceKey}/issueRequest/grant");
+    private static final RouteTemplate CANCEL = RouteTemplate.compile(BASE_PATH + "/{issuanceKey}/issueRequest/cancel");
 
     private final BoltaClient client;
 
@@ -69,22 +71,15 @@ public final class TaxInvoiceIssuanceRequestResource {
                 request.getSupplied().getOrganizationName(),
                 request.getPurpose());
 
-        try {
-            String json = client.getObjectMapper().writeValueAsString(request);
+        HttpRequest.Builder requestBuilder = HttpRequest.builder()
+                .url(client.buildUrl(ISSUE_REQUEST))
+                .route(ISSUE_REQUEST)
+                .method(HttpMethod.POST)
+                .body(HttpRequestBody.json(client.getObjectMapper(), request));
 
-            HttpRequest.Builder requestBuilder = HttpRequest.builder()
-                    .url(client.buildUrl(BASE_PATH + "/issueRequest"))
-                    .method(HttpMethod.POST)
-                    .header(BoltaHttpHeader.CONTENT_TYPE, BoltaHttpHeader.APPLICATION_JSON)
-                    .body(json);
-
-            IssueResponse response = client.execute(requestBuilder.build(), IssueResponse.class, options);
-            logger.info("Successfully requested reverse issuance with key: {}", response.issuanceKey.getValue());
-            return response.issuanceKey;
-        } catch (IOException ioException) {
-            logger.error("Failed to serialize reverse issuance request", ioException);
-            throw new BoltaException("Failed to serialize reverse issuance request", ioException);
-        }
+        IssueResponse response = client.execute(requestBuilder.build(), IssueResponse.class, options);
+        logger.info("Successfully requested reverse issuance with key: {}", response.issuanceKey.getValue());
+        return response.issuanceKey;
     }
 
     /**
@@ -109,32 +104,19 @@ public final class TaxInvoiceIssuanceRequestResource {
      * @return a CompletableFuture containing the issuance key
      */
     public CompletableFuture<IssuanceKey> requestAsync(TaxInvoiceIssuanceRequest request, TaxInvoiceIssuanceRequestOptions options) {
-        CompletableFuture<IssuanceKey> future = new CompletableFuture<>();
+        CompletableFuture<IssueResponse> response = new CompletableFuture<>();
         try {
-            String json = client.getObjectMapper().writeValueAsString(request);
-
             HttpRequest.Builder requestBuilder = HttpRequest.builder()
-                    .url(client.buildUrl(BASE_PATH + "/issueRequest"))
+                    .url(client.buildUrl(ISSUE_REQUEST))
+                    .route(ISSUE_REQUEST)
                     .method(HttpMethod.POST)
-                    .header(BoltaHttpHeader.CONTENT_TYPE, BoltaHttpHeader.APPLICATION_JSON)
-                    .body(json);
-
-            client.enqueueRequest(requestBuilder.build(), IssueResponse.class,
-                    new CompletableFuture<IssueResponse>() {
-                        @Override
-                        public boolean complete(IssueResponse value) {
-                            return future.complete(value.issuanceKey);
-                        }
-
-                        @Override
-                        public boolean completeExceptionally(Throwable ex) {
-                            return future.completeExceptionally(ex);
-                        }
-                    });
+                    .body(HttpRequestBody.json(client.getObjectMapper(), request));
+
+            client.enqueueRequest(requestBuilder.build(), IssueResponse.class, options, response);
         } catch (Exception exception) {
-            future.completeExceptionally(exception);
+            response.completeExceptionally(exception);
         }
-        return future;
+        return Futures.map(response, value -> value.issuanceKey);
     }
 
     /**
@@ -168,7 +150,8 @@ public final class TaxInvoiceIssuanceRequestResource {
         logger.info("Fetching grant URL for issuance key: {}", issuanceKey);
 
         HttpRequest.Builder requestBuilder = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s/issueRequest/grant", issuanceKey))
+                .url(client.buildUrl(GRANT_URL, issuanceKey))
+                .route(GRANT_URL)
                 .method(HttpMethod.GET);
 
         GrantUrlResponse response = client.execute(requestBuilder.build(), GrantUrlResponse.class, options);
@@ -202,24 +185,14 @@ public final class TaxInvoiceIssuanceRequestResource {
      */
     public CompletableFuture<String> getGrantUrlAsync(String issuanceKey,
             TaxInvoiceIssuanceRequestOptions options) {
-        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<GrantUrlResponse> response = new CompletableFuture<>();
         HttpRequest.Builder requestBuilder = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s/issueRequest/grant", issuanceKey))
+                .url(client.buildUrl(GRANT_URL, issuanceKey))
+                .route(GRANT_URL)
                 .method(HttpMethod.GET);
 
-        client.enqueueRequest(requestBuilder.build(), GrantUrlResponse.class,
-                new CompletableFuture<GrantUrlResponse>() {
-                    @Override
-                    public boolean complete(GrantUrlResponse value) {
-                        return future.complete(value.url);
-                    }
-
-                    @Override
-                    public boolean completeExceptionally(Throwable ex) {
-                        return future.completeExceptionally(ex);
-                    }
-                });
-        return future;
+        client.enqueueRequest(requestBuilder.build(), GrantUrlResponse.class, options, response);
+        return Futures.map(response, value -> value.url);
     }
 
     /**
@@ -253,7 +226,8 @@ public final class TaxInvoiceIssuanceRequestResource {
         logger.info("Cancelling reverse issuance request: {}", issuanceKey);
 
         HttpRequest.Builder requestBuilder = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s/issueRequest/cancel", issuanceKey))
+                .url(client.buildUrl(CANCEL, issuanceKey))
+                .route(CANCEL)
                 .method(HttpMethod.PUT)
                 .body("");
 
@@ -287,25 +261,15 @@ public final class TaxInvoiceIssuanceRequestResource {
      */
     public CompletableFuture<IssuanceKey> cancelAsync(String issuanceKey,
             TaxInvoiceIssuanceRequestOptions options) {
-        CompletableFuture<IssuanceKey> future = new CompletableFuture<>();
+        CompletableFuture<IssueResponse> response = new CompletableFuture<>();
         HttpRequest.Builder requestBuilder = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s/issueRequest/cancel", issuanceKey))
+                .url(client.buildUrl(CANCEL, issuanceKey))
+                .route(CANCEL)
                 .method(HttpMethod.PUT)
                 .body(""); // Empty body for POST
 
-        client.enqueueRequest(requestBuilder.build(), IssueResponse.class,
-                new CompletableFuture<IssueResponse>() {
-                    @Override
-                    public boolean complete(IssueResponse value) {
-                        return future.complete(value.issuanceKey);
-                    }
-
-                    @Override
-                    public boolean completeExceptionally(Throwable ex) {
-                        return future.completeExceptionally(ex);
-                    }
-                });
-        return future;
+        client.enqueueRequest(requestBuilder.build(), IssueResponse.class, options, response);
+        return Futures.map(response, value -> value.issuanceKey);
     }
 
     private static class IssueResponse {
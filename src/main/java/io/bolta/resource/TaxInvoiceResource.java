@@ -3,10 +3,16 @@ package io.bolta.resource;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.bolta.BoltaClient;
+import io.bolta.cache.TaxInvoiceCache;
 import io.bolta.exception.BoltaException;
-import io.bolta.http.BoltaHttpHeader;
 import io.bolta.http.HttpMethod;
 import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpRequestBody;
+import io.bolta.http.RouteTemplate;
+import io.bolta.idempotency.IdempotencyRegistry;
+import io.bolta.model.BulkIssueResult;
+import io.bolta.model.BulkOptions;
+import io.bolta.model.BulkProgress;
 import io.bolta.model.ContractTerminationRequest;
 import io.bolta.model.IssuanceKey;
 import io.bolta.model.SupplyCostChangeRequest;
@@ -16,8 +22,9 @@ import io.bolta.model.TaxInvoiceIssuanceRequestOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 /**
  * Resource for e-tax invoice operations.
@@ -57,6 +64,10 @@ import java.util.concurrent.CompletableFuture;
 public final class TaxInvoiceResource {
     private static final Logger logger = LoggerFactory.getLogger(TaxInvoiceResource.class);
     private static final String BASE_PATH = "/v1/taxInvoices";
+    private static final RouteTemplate ISSUE = RouteTemplate.compile(BASE_PATH + "/issue");
+    private static final RouteTemplate TAX_INVOICE = RouteTemplate.compile(BASE_PATH + "/{issuanceKey}");
+    private static final RouteTemplate AMEND_TERMINATION = RouteTemplate.compile(BASE_PATH + "/{issuanceKey}/amend/termination");
+    private static final RouteTemplate AMEND_SUPPLY_COST = RouteTemplate.compile(BASE_PATH + "/{issuanceKey}/amend/changeSupplyCost");
 
     private final BoltaClient client;
 
@@ -88,6 +99,13 @@ public final class TaxInvoiceResource {
      * <p>
      * TaxInvoiceRequestOptions를 사용하여 다중 고객 플랫폼 시나리오에서
      * Customer-Key 헤더를 지정할 수 있습니다.
+     * <p>
+     * If the client has an {@link IdempotencyRegistry} and the options carry a
+     * client reference ID, a reference ID that was already issued returns its
+     * remembered key, and concurrent calls with the same ID share one request.
+     * <p>
+     * 클라이언트에 {@link IdempotencyRegistry}가 있고 옵션에 클라이언트 관리번호가 있으면, 이미
+     * 발행된 관리번호는 기억된 키를 반환하고 같은 관리번호의 동시 호출은 하나의 요청을 공유합니다.
      *
      * @param invoice the tax invoice to issue
      * @param options request options (e.g., customer key for platform scenarios)
@@ -95,7 +113,11 @@ public final class TaxInvoiceResource {
      * @throws BoltaException if the issuance fails
      */
     public IssuanceKey issue(TaxInvoice invoice, TaxInvoiceIssuanceRequestOptions options) {
-        logger.info("Issuing tax invoice for date: {}", invoice.getDate());
+        IdempotencyRegistry registry = client.getIdempotencyRegistry();
+        if (registry != null && options != null && options.getClientReferenceId() != null) {
+            return registry.execute(options.getCustomerKey(), options.getClientReferenceId(),
+                    () -> executeIssue(invoice, options));
+        }
         return executeIssue(invoice, options);
     }
 
@@ -122,78 +144,161 @@ public final class TaxInvoiceResource {
      */
     public CompletableFuture<IssuanceKey> issueAsync(TaxInvoice invoice,
             TaxInvoiceIssuanceRequestOptions options) {
-        CompletableFuture<IssuanceKey> future = new CompletableFuture<>();
+        IdempotencyRegistry registry = client.getIdempotencyRegistry();
+        if (registry != null && options != null && options.getClientReferenceId() != null) {
+            return registry.executeAsync(options.getCustomerKey(), options.getClientReferenceId(),
+                    () -> enqueueIssue(invoice, options));
+        }
+        return enqueueIssue(invoice, options);
+    }
+
+    private CompletableFuture<IssuanceKey> enqueueIssue(TaxInvoice invoice,
+            TaxInvoiceIssuanceRequestOptions options) {
+        CompletableFuture<TaxInvoiceIssueResponse> response = new CompletableFuture<>();
         try {
-            HttpRequest request = buildIssueRequest(invoice, options);
-            client.enqueueRequest(request, TaxInvoiceIssueResponse.class,
-                    new CompletableFuture<TaxInvoiceIssueResponse>() {
-                        @Override
-                        public boolean complete(TaxInvoiceIssueResponse value) {
-                            return future.complete(value.issuanceKey);
-                        }
-
-                        @Override
-                        public boolean completeExceptionally(Throwable ex) {
-                            return future.completeExceptionally(ex);
-                        }
-                    });
+            HttpRequest request = buildIssueRequest(invoice);
+            client.enqueueRequest(request, TaxInvoiceIssueResponse.class, options, response);
         } catch (Exception exception) {
-            future.completeExceptionally(exception);
+            response.completeExceptionally(exception);
         }
-        return future;
+        return Futures.map(response, value -> value.issuanceKey);
+    }
+
+    /**
+     * Issues many e-tax invoices with bounded parallelism and waits for all of
+     * them.
+     * <p>
+     * Invoices are read from {@code invoices} as capacity frees up, so the input
+     * may be a lazy sequence. A failed invoice is recorded in the result and does
+     * not stop the others.
+     * <p>
+     * 제한된 병렬성으로 여러 전자세금계산서를 정발행하고 모두 끝날 때까지 기다립니다.
+     * <p>
+     * 세금계산서는 처리 여유가 생길 때마다 {@code invoices}에서 읽으므로 지연 시퀀스를 입력으로
+     * 사용할 수 있습니다. 실패한 세금계산서는 결과에 기록되며 나머지 처리를 중단하지 않습니다.
+     *
+     * @param invoices the invoices to issue
+     * @param options  bulk options (concurrency cap, per-invoice request options,
+     *                 progress listener), or null for the defaults
+     * @return the issuance key or exception for each invoice, in input order,
+     *         with throughput stats
+     * @throws BoltaException if reading the invoices fails
+     */
+    public BulkIssueResult issueAll(Iterable<? extends TaxInvoice> invoices, BulkOptions options) {
+        try {
+            return issueAllAsync(invoices, options).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BoltaException) {
+                throw (BoltaException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Issues many e-tax invoices with bounded parallelism asynchronously.
+     * <p>
+     * 제한된 병렬성으로 여러 전자세금계산서를 비동기적으로 정발행합니다.
+     *
+     * @param invoices the invoices to issue
+     * @param options  bulk options, or null for the defaults
+     * @return a CompletableFuture completed with the result once every invoice
+     *         has been processed
+     * @see #issueAll(Iterable, BulkOptions)
+     */
+    public CompletableFuture<BulkIssueResult> issueAllAsync(Iterable<? extends TaxInvoice> invoices,
+            BulkOptions options) {
+        if (invoices == null) {
+            throw new IllegalArgumentException("invoices is required");
+        }
+        BulkOptions effectiveOptions = options != null ? options : BulkOptions.defaults();
+        logger.info("Starting bulk issuance with max concurrency {}", effectiveOptions.getMaxConcurrency());
+        BulkIssuance issuance = new BulkIssuance(invoices, effectiveOptions, this::issueAsync, null, true);
+        return issuance.start()
+                .thenApply(progress -> new BulkIssueResult(issuance.items(), progress.getElapsedNanos()));
+    }
+
+    /**
+     * Issues many e-tax invoices with bounded parallelism, handing each outcome
+     * to {@code itemListener} as it completes instead of collecting them.
+     * <p>
+     * Memory use is bounded by the concurrency cap rather than the number of
+     * invoices, which suits very large inputs. The listener is called from the
+     * threads that complete the requests, in completion order.
+     * <p>
+     * 제한된 병렬성으로 여러 전자세금계산서를 정발행하고, 결과를 모으지 않고 완료될 때마다
+     * {@code itemListener}에 전달합니다. 메모리 사용량은 세금계산서 수가 아닌 동시성 한도에
+     * 비례하므로 매우 큰 입력에 적합합니다. 리스너는 요청을 완료한 스레드에서 완료 순서대로
+     * 호출됩니다.
+     *
+     * @param invoices     the invoices to issue
+     * @param options      bulk options, or null for the defaults
+     * @param itemListener receives the outcome of each invoice
+     * @return a CompletableFuture completed with the final progress once every
+     *         invoice has been processed
+     */
+    public CompletableFuture<BulkProgress> issueEachAsync(Iterable<? extends TaxInvoice> invoices,
+            BulkOptions options, Consumer<? super BulkIssueResult.Item> itemListener) {
+        if (invoices == null) {
+            throw new IllegalArgumentException("invoices is required");
+        }
+        if (itemListener == null) {
+            throw new IllegalArgumentException("itemListener is required");
+        }
+        BulkOptions effectiveOptions = options != null ? options : BulkOptions.defaults();
+        return new BulkIssuance(invoices, effectiveOptions, this::issueAsync, itemListener, false).start();
     }
 
     private IssuanceKey executeIssue(TaxInvoice invoice, TaxInvoiceIssuanceRequestOptions options) {
         logger.info("Issuing tax invoice for date: {}", invoice.getDate());
-        HttpRequest request = buildIssueRequest(invoice, options);
+        HttpRequest request = buildIssueRequest(invoice);
         TaxInvoiceIssueResponse response = client.execute(request, TaxInvoiceIssueResponse.class, options);
         logger.info("Successfully issued tax invoice with key: {}", response.issuanceKey.getValue());
         return response.issuanceKey;
     }
 
-    private HttpRequest buildIssueRequest(TaxInvoice invoice, TaxInvoiceIssuanceRequestOptions options) {
-        try {
-            String json = client.getObjectMapper().writeValueAsString(invoice);
-
-            String url = client.buildUrl(BASE_PATH + "/issue");
-            HttpRequest.Builder builder = HttpRequest.builder()
-                    .url(url)
-                    .method(HttpMethod.POST)
-                    .header(BoltaHttpHeader.CONTENT_TYPE, BoltaHttpHeader.APPLICATION_JSON)
-                    .body(json);
-
-            if (options != null) {
-                if (options.getCustomerKey() != null) {
-                    builder.header(BoltaHttpHeader.CUSTOMER_KEY, options.getCustomerKey());
-                }
-                if (options.getClientReferenceId() != null) {
-                    builder.header(BoltaHttpHeader.BOLTA_CLIENT_REFERENCE_ID, options.getClientReferenceId());
-                }
-            }
-
-            return builder.build();
-        } catch (IOException ioException) {
-            throw new BoltaException("Failed to serialize tax invoice", ioException);
-        }
+    private HttpRequest buildIssueRequest(TaxInvoice invoice) {
+        return HttpRequest.builder()
+                .url(client.buildUrl(ISSUE))
+                .route(ISSUE)
+                .method(HttpMethod.POST)
+                .body(HttpRequestBody.json(client.getObjectMapper(), invoice))
+                .build();
     }
 
     /**
      * Retrieves e-tax invoice details by issuance key.
      * <p>
      * 발급 키로 전자세금계산서 상세 정보를 조회합니다 (전자세금계산서 조회).
+     * <p>
+     * Concurrent calls for the same key share a single request; see
+     * {@link BoltaClient#executeCoalesced(HttpRequest, Class, io.bolta.model.RequestOptions)}.
+     * <p>
+     * 같은 키에 대한 동시 호출은 하나의 요청을 공유합니다.
+     * <p>
+     * When the client has a {@link TaxInvoiceCache}, cached invoices are
+     * returned without a request.
+     * <p>
+     * 클라이언트에 {@link TaxInvoiceCache}가 있으면 캐시된 세금계산서는 요청 없이 반환됩니다.
      *
      * @param issuanceKey the issuance key returned when the invoice was issued
      * @return the tax invoice details
      * @throws BoltaException if the retrieval fails
      */
     public TaxInvoice get(String issuanceKey) {
+        TaxInvoiceCache cache = client.getTaxInvoiceCache();
+        return cache != null ? cache.get(issuanceKey, this::fetch) : fetch(issuanceKey);
+    }
+
+    private TaxInvoice fetch(String issuanceKey) {
         logger.info("Retrieving tax invoice for key: {}", issuanceKey);
         HttpRequest request = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s", issuanceKey))
+                .url(client.buildUrl(TAX_INVOICE, issuanceKey))
+                .route(TAX_INVOICE)
                 .method(HttpMethod.GET)
                 .build();
 
-        TaxInvoice invoice = client.execute(request, TaxInvoice.class);
+        TaxInvoice invoice = client.executeCoalesced(request, TaxInvoice.class, null);
         logger.debug("Retrieved tax invoice for supplier: {}", invoice.getSupplier().getOrganizationName());
         return invoice;
     }
@@ -232,29 +337,18 @@ public final class TaxInvoiceResource {
             throw new IllegalArgumentException("request is required");
         }
 
-        try {
-            String json = client.getObjectMapper().writeValueAsString(request);
-
-            HttpRequest.Builder requestBuilder = HttpRequest.builder()
-                    .url(client.buildUrl(BASE_PATH + "/%s/amend/termination", issuanceKey))
-                    .method(HttpMethod.POST)
-                    .header(BoltaHttpHeader.CONTENT_TYPE, BoltaHttpHeader.APPLICATION_JSON)
-                    .body(json);
-
-            if (options != null) {
-                if (options.getCustomerKey() != null) {
-                    requestBuilder.header(BoltaHttpHeader.CUSTOMER_KEY, options.getCustomerKey());
-                }
-                if (options.getClientReferenceId() != null) {
-                    requestBuilder.header(BoltaHttpHeader.BOLTA_CLIENT_REFERENCE_ID, options.getClientReferenceId());
-                }
-            }
+        HttpRequest.Builder requestBuilder = HttpRequest.builder()
+                .url(client.buildUrl(AMEND_TERMINATION, issuanceKey))
+                .route(AMEND_TERMINATION)
+                .method(HttpMethod.POST)
+                .body(HttpRequestBody.json(client.getObjectMapper(), request));
 
+        try {
             TaxInvoiceIssueResponse response = client.execute(requestBuilder.build(), TaxInvoiceIssueResponse.class,
                     options);
             return response.issuanceKey;
-        } catch (IOException ioException) {
-            throw new BoltaException("Failed to serialize contract cancellation request", ioException);
+        } finally {
+            invalidateCached(issuanceKey);
         }
     }
 
@@ -292,29 +386,18 @@ public final class TaxInvoiceResource {
             throw new IllegalArgumentException("request is required");
         }
 
-        try {
-            String json = client.getObjectMapper().writeValueAsString(request);
-
-            HttpRequest.Builder requestBuilder = HttpRequest.builder()
-                    .url(client.buildUrl(BASE_PATH + "/%s/amend/changeSupplyCost", issuanceKey))
-                    .method(HttpMethod.POST)
-                    .header(BoltaHttpHeader.CONTENT_TYPE, BoltaHttpHeader.APPLICATION_JSON)
-                    .body(json);
-
-            if (options != null) {
-                if (options.getCustomerKey() != null) {
-                    requestBuilder.header(BoltaHttpHeader.CUSTOMER_KEY, options.getCustomerKey());
-                }
-                if (options.getClientReferenceId() != null) {
-                    requestBuilder.header(BoltaHttpHeader.BOLTA_CLIENT_REFERENCE_ID, options.getClientReferenceId());
-                }
-            }
+        HttpRequest.Builder requestBuilder = HttpRequest.builder()
+                .url(client.buildUrl(AMEND_SUPPLY_COST, issuanceKey))
+                .route(AMEND_SUPPLY_COST)
+                .method(HttpMethod.POST)
+                .body(HttpRequestBody.json(client.getObjectMapper(), request));
 
+        try {
             TaxInvoiceIssueResponse response = client.execute(requestBuilder.build(), TaxInvoiceIssueResponse.class,
                     options);
             return response.issuanceKey;
-        } catch (IOException ioException) {
-            throw new BoltaException("Failed to serialize supply cost change request", ioException);
+        } finally {
+            invalidateCached(issuanceKey);
         }
     }
 
@@ -325,18 +408,39 @@ public final class TaxInvoiceResource {
      *
      * @param issuanceKey the issuance key returned when the invoice was issued
      * @return a CompletableFuture containing the tax invoice details
+     * @see #get(String)
      */
     public CompletableFuture<TaxInvoice> getAsync(String issuanceKey) {
+        TaxInvoiceCache cache = client.getTaxInvoiceCache();
+        return cache != null ? cache.getAsync(issuanceKey, this::fetchAsync) : fetchAsync(issuanceKey);
+    }
+
+    private CompletableFuture<TaxInvoice> fetchAsync(String issuanceKey) {
         CompletableFuture<TaxInvoice> future = new CompletableFuture<>();
         HttpRequest request = HttpRequest.builder()
-                .url(client.buildUrl(BASE_PATH + "/%s", issuanceKey))
+                .url(client.buildUrl(TAX_INVOICE, issuanceKey))
+                .route(TAX_INVOICE)
                 .method(HttpMethod.GET)
                 .build();
 
-        client.enqueueRequest(request, TaxInvoice.class, future);
+        client.enqueueCoalescedRequest(request, TaxInvoice.class, null, future);
         return future;
     }
 
+    /**
+     * Drops the original invoice from the cache once an amendment has been
+     * attempted; a failed attempt may still have reached the server.
+     * <p>
+     * 수정발행을 시도한 뒤 원본 세금계산서를 캐시에서 제거합니다. 실패한 시도도 서버에
+     * 도달했을 수 있습니다.
+     */
+    private void invalidateCached(String issuanceKey) {
+        TaxInvoiceCache cache = client.getTaxInvoiceCache();
+        if (cache != null) {
+            cache.invalidate(issuanceKey);
+        }
+    }
+
     private static class TaxInvoiceIssueResponse {
         final IssuanceKey issuanceKey;
 
@@ -15,4 +15,23 @@ public interface BackoffStrategy {
      *         밀리초 단위의 지연 시간
      */
     long calculateDelay(int attemptNumber);
+
+    /**
+     * Calculates the delay before the next retry attempt, given the delay
+     * that preceded the failed attempt. Strategies whose delay depends on the
+     * previous one override this; the default ignores it.
+     * 실패한 시도 이전의 지연 시간을 바탕으로 다음 재시도 전 지연 시간을 계산합니다. 이전
+     * 지연 시간에 따라 달라지는 전략은 이 메서드를 재정의하며, 기본 구현은 이를 무시합니다.
+     *
+     * @param attemptNumber       the current attempt number (starting from 1)
+     *                            현재 시도 횟수 (1부터 시작)
+     * @param previousDelayMillis the delay before the failed attempt, or 0 for
+     *                            the first retry
+     *                            실패한 시도 이전의 지연 시간, 첫 재시도의 경우 0
+     * @return delay in milliseconds
+     *         밀리초 단위의 지연 시간
+     */
+    default long calculateDelay(int attemptNumber, long previousDelayMillis) {
+        return calculateDelay(attemptNumber);
+    }
 }
@@ -0,0 +1,72 @@
+package io.bolta.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decorrelated jitter backoff strategy, where each delay is drawn at random
+ * between the base delay and three times the previous delay.
+ * 각 지연 시간을 기본 지연 시간과 이전 지연 시간의 세 배 사이에서 무작위로 정하는 decorrelated
+ * jitter 백오프 전략입니다.
+ * <p>
+ * The delay is calculated as: min(maxDelay, random(baseDelay, previousDelay * 3))
+ * 지연 시간은 다음과 같이 계산됩니다: min(maxDelay, random(baseDelay, previousDelay * 3))
+ * <p>
+ * Delays still grow on average, but since each one starts from the previous
+ * random draw, clients that failed together drift apart instead of retrying
+ * in lockstep. Jitter is built in, so {@code RetryOption.Builder.enableJitter}
+ * is not needed. Random numbers come from {@link ThreadLocalRandom}.
+ * 지연 시간은 평균적으로 증가하지만, 각 지연이 이전의 무작위 값에서 출발하므로 함께 실패한
+ * 클라이언트가 동시에 재시도하지 않고 점차 흩어집니다. jitter가 내장되어 있으므로
+ * {@code RetryOption.Builder.enableJitter}는 필요하지 않습니다. 난수는
+ * {@link ThreadLocalRandom}에서 얻습니다.
+ */
+public final class DecorrelatedJitterBackoffStrategy implements BackoffStrategy {
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public DecorrelatedJitterBackoffStrategy(long baseDelayMillis, long maxDelayMillis) {
+        if (baseDelayMillis <= 0) {
+            throw new IllegalArgumentException("baseDelayMillis must be positive");
+        }
+        if (maxDelayMillis < baseDelayMillis) {
+            throw new IllegalArgumentException("maxDelayMillis must be >= baseDelayMillis");
+        }
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Calculates the delay assuming every earlier delay was at the top of its
+     * range, for callers that do not track the previous delay.
+     * 이전 지연 시간을 추적하지 않는 호출자를 위해, 앞선 지연 시간이 모두 범위의 최댓값이었다고
+     * 가정하고 지연 시간을 계산합니다.
+     *
+     * @param attemptNumber the current attempt number (starting from 1)
+     *                      현재 시도 횟수 (1부터 시작)
+     * @return delay in milliseconds
+     *         밀리초 단위의 지연 시간
+     */
+    @Override
+    public long calculateDelay(int attemptNumber) {
+        double previous = baseDelayMillis * Math.pow(3, Math.max(0, attemptNumber - 1));
+        return calculateDelay(attemptNumber, previous >= maxDelayMillis ? maxDelayMillis : (long) previous);
+    }
+
+    @Override
+    public long calculateDelay(int attemptNumber, long previousDelayMillis) {
+        long previous = Math.max(baseDelayMillis, previousDelayMillis);
+        long upper = previous >= maxDelayMillis / 3 ? maxDelayMillis : previous * 3;
+        if (upper <= baseDelayMillis) {
+            return baseDelayMillis;
+        }
+        return ThreadLocalRandom.current().nextLong(baseDelayMillis, upper + 1);
+    }
+
+    public long getBaseDelayMillis() {
+        return baseDelayMillis;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+}
@@ -0,0 +1,52 @@
+package io.bolta.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Full jitter backoff strategy, where each delay is drawn at random between
+ * zero and an exponentially growing ceiling.
+ * 각 지연 시간을 0과 지수적으로 증가하는 상한 사이에서 무작위로 정하는 full jitter 백오프
+ * 전략입니다.
+ * <p>
+ * The delay is calculated as: random(0, min(maxDelay, baseDelay * 2 ^ (attemptNumber - 1)))
+ * 지연 시간은 다음과 같이 계산됩니다: random(0, min(maxDelay, baseDelay * 2 ^ (attemptNumber - 1)))
+ * <p>
+ * Spreading each retry over the whole range keeps the total load lowest when
+ * many clients fail at once, at the cost of an occasional very short delay.
+ * Jitter is built in, so {@code RetryOption.Builder.enableJitter} is not
+ * needed. Random numbers come from {@link ThreadLocalRandom}.
+ * 각 재시도를 전체 범위에 분산하므로 많은 클라이언트가 동시에 실패할 때 전체 부하가 가장
+ * 낮으며, 대신 가끔 매우 짧은 지연이 발생합니다. jitter가 내장되어 있으므로
+ * {@code RetryOption.Builder.enableJitter}는 필요하지 않습니다. 난수는
+ * {@link ThreadLocalRandom}에서 얻습니다.
+ */
+public final class FullJitterBackoffStrategy implements BackoffStrategy {
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public FullJitterBackoffStrategy(long baseDelayMillis, long maxDelayMillis) {
+        if (baseDelayMillis <= 0) {
+            throw new IllegalArgumentException("baseDelayMillis must be positive");
+        }
+        if (maxDelayMillis < baseDelayMillis) {
+            throw new IllegalArgumentException("maxDelayMillis must be >= baseDelayMillis");
+        }
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    @Override
+    public long calculateDelay(int attemptNumber) {
+        double ceiling = baseDelayMillis * Math.pow(2, Math.max(0, attemptNumber - 1));
+        long upper = ceiling >= maxDelayMillis ? maxDelayMillis : (long) ceiling;
+        return ThreadLocalRandom.current().nextLong(upper + 1);
+    }
+
+    public long getBaseDelayMillis() {
+        return baseDelayMillis;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+}
@@ -0,0 +1,344 @@
+package io.bolta.retry;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends a second copy of a slow GET request and takes whichever response
+ * arrives first, cutting the tail latency of lookups.
+ * <p>
+ * 느린 GET 요청의 사본을 하나 더 보내 먼저 도착한 응답을 사용하여, 조회의 꼬리 지연 시간을
+ * 줄입니다.
+ * <p>
+ * Only GET requests are hedged, since they can be sent twice without
+ * side effects. The hedge goes out after {@link Builder#delayMillis(long)}, or,
+ * if no delay is set, after the {@link Builder#percentile(double)} of the
+ * latest {@link Builder#windowSize(int)} response times; until
+ * {@link Builder#minimumSamples(int)} responses have been seen, nothing is
+ * hedged. The request that loses is cancelled. Hedges are paid for from a
+ * token bucket: each GET deposits {@link Builder#ratio(double)} tokens, up to
+ * {@link Builder#maxHedges(int)}, and each hedge withdraws one, so hedging
+ * adds at most that share of extra load even when every response is slow.
+ * <p>
+ * 부작용 없이 두 번 보낼 수 있는 GET 요청만 헤지합니다. 헤지 요청은
+ * {@link Builder#delayMillis(long)} 후에, 지연 시간을 설정하지 않았다면 최근
+ * {@link Builder#windowSize(int)}개 응답 시간의 {@link Builder#percentile(double)} 후에
+ * 전송되며, {@link Builder#minimumSamples(int)}개의 응답을 보기 전에는 헤지하지 않습니다. 늦은
+ * 요청은 취소됩니다. 헤지는 토큰 버킷으로 제한됩니다. GET 요청마다
+ * {@link Builder#ratio(double)}개의 토큰이 최대 {@link Builder#maxHedges(int)}개까지 쌓이고
+ * 헤지마다 하나씩 사용되므로, 모든 응답이 느려도 추가 부하는 그 비율을 넘지 않습니다.
+ *
+ * <pre>{@code
+ * BoltaClient client = BoltaClient.builder()
+ *         .apiKey(apiKey)
+ *         .httpClient(httpClient)
+ *         .hedgingPolicy(HedgingPolicy.builder()
+ *                 .percentile(0.95)
+ *                 .ratio(0.05)     // at most one hedge per twenty GETs
+ *                 .build())
+ *         .build();
+ * }</pre>
+ */
+public final class HedgingPolicy {
+
+    /**
+     * Default percentile of response times after which a hedge is sent.
+     */
+    public static final double DEFAULT_PERCENTILE = 0.95;
+
+    /**
+     * Default number of response times the percentile is taken over.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 200;
+
+    /**
+     * Default number of response times needed before hedging starts.
+     */
+    public static final int DEFAULT_MINIMUM_SAMPLES = 20;
+
+    /**
+     * Default hedges each GET request earns.
+     */
+    public static final double DEFAULT_RATIO = 0.05;
+
+    /**
+     * Default bucket capacity.
+     */
+    public static final int DEFAULT_MAX_HEDGES = 10;
+
+    /**
+     * The percentile is recomputed after this many new response times.
+     */
+    private static final int RECOMPUTE_INTERVAL = 10;
+
+    private final long delayMillis;
+    private final double percentile;
+    private final int minimumSamples;
+    private final TokenBucket bucket;
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    private final long[] window;
+    private int windowCount;
+    private int windowNext;
+    private int sinceRecompute;
+    private volatile long observedDelayMillis = -1;
+
+    private HedgingPolicy(Builder builder) {
+        this.delayMillis = builder.delayMillis;
+        this.percentile = builder.percentile;
+        this.minimumSamples = Math.min(builder.minimumSamples, builder.windowSize);
+        this.bucket = new TokenBucket(builder.ratio, builder.maxHedges);
+        this.window = new long[builder.windowSize];
+    }
+
+    /**
+     * Returns how long to wait for a response before hedging.
+     * <p>
+     * 헤지하기 전에 응답을 기다릴 시간을 반환합니다.
+     *
+     * @return the delay in milliseconds, or -1 if too few response times have
+     *         been recorded to tell
+     */
+    public long getHedgeDelayMillis() {
+        return delayMillis > 0 ? delayMillis : observedDelayMillis;
+    }
+
+    /**
+     * Records the response time of a GET request.
+     * <p>
+     * GET 요청의 응답 시간을 기록합니다.
+     *
+     * @param latencyNanos the response time in nanoseconds
+     */
+    public void recordLatency(long latencyNanos) {
+        if (delayMillis > 0) {
+            return;
+        }
+        synchronized (window) {
+            window[windowNext] = latencyNanos;
+            windowNext = (windowNext + 1) % window.length;
+            if (windowCount < window.length) {
+                windowCount++;
+            }
+            if (windowCount < minimumSamples) {
+                return;
+            }
+            if (observedDelayMillis >= 0 && ++sinceRecompute < RECOMPUTE_INTERVAL) {
+                return;
+            }
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(window, windowCount);
+            Arrays.sort(sorted);
+            int index = Math.min(windowCount - 1, (int) Math.ceil(percentile * windowCount) - 1);
+            observedDelayMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, index)]));
+        }
+    }
+
+    /**
+     * Records a GET request, refilling the budget.
+     * <p>
+     * GET 요청을 기록하여 예산을 채웁니다.
+     */
+    public void recordRequest() {
+        bucket.deposit();
+    }
+
+    /**
+     * Takes one hedge from the budget.
+     * <p>
+     * 예산에서 헤지 하나를 가져갑니다.
+     *
+     * @return true if the hedge may be sent, false if the budget is exhausted
+     */
+    public boolean tryAcquire() {
+        if (!bucket.tryWithdraw()) {
+            exhausted.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records that a hedge was sent. A hedge the budget allowed may still be
+     * held back by the client's rate or concurrency limiter.
+     * <p>
+     * 헤지가 전송되었음을 기록합니다. 예산이 허용한 헤지도 클라이언트의 속도 제한기나 동시성
+     * 리미터에 의해 보류될 수 있습니다.
+     */
+    public void recordHedge() {
+        hedges.incrementAndGet();
+    }
+
+    /**
+     * Records that a hedge answered before the request it was sent for.
+     * <p>
+     * 헤지 요청이 원래 요청보다 먼저 응답했음을 기록합니다.
+     */
+    public void recordHedgeWin() {
+        hedgeWins.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of hedges sent.
+     * <p>
+     * 전송된 헤지 수를 반환합니다.
+     *
+     * @return the hedge count
+     */
+    public long getHedgeCount() {
+        return hedges.get();
+    }
+
+    /**
+     * Returns the number of hedges that answered first.
+     * <p>
+     * 먼저 응답한 헤지 수를 반환합니다.
+     *
+     * @return the hedge win count
+     */
+    public long getHedgeWinCount() {
+        return hedgeWins.get();
+    }
+
+    /**
+     * Returns the number of hedges skipped because the budget was exhausted.
+     * <p>
+     * 예산 소진으로 건너뛴 헤지 수를 반환합니다.
+     *
+     * @return the exhausted count
+     */
+    public long getExhaustedCount() {
+        return exhausted.get();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link HedgingPolicy}.
+     * <p>
+     * {@link HedgingPolicy} 빌더입니다.
+     */
+    public static final class Builder {
+        private long delayMillis;
+        private double percentile = DEFAULT_PERCENTILE;
+        private int windowSize = DEFAULT_WINDOW_SIZE;
+        private int minimumSamples = DEFAULT_MINIMUM_SAMPLES;
+        private double ratio = DEFAULT_RATIO;
+        private int maxHedges = DEFAULT_MAX_HEDGES;
+
+        private Builder() {
+        }
+
+        /**
+         * Sends the hedge after a fixed delay instead of the observed
+         * percentile.
+         * <p>
+         * 관측된 백분위 대신 고정된 지연 시간 후에 헤지를 전송합니다.
+         *
+         * @param delayMillis the delay in milliseconds
+         * @return this builder
+         */
+        public Builder delayMillis(long delayMillis) {
+            if (delayMillis <= 0) {
+                throw new IllegalArgumentException("delayMillis must be positive");
+            }
+            this.delayMillis = delayMillis;
+            return this;
+        }
+
+        /**
+         * Sets the percentile of response times after which a hedge is sent.
+         * Defaults to {@value #DEFAULT_PERCENTILE}.
+         * <p>
+         * 헤지를 전송하는 응답 시간 백분위를 설정합니다.
+         *
+         * @param percentile a share between 0 and 1, both exclusive
+         * @return this builder
+         */
+        public Builder percentile(double percentile) {
+            if (!(percentile > 0 && percentile < 1)) {
+                throw new IllegalArgumentException("percentile must be greater than 0 and less than 1");
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Sets how many recent response times the percentile is taken over.
+         * Defaults to {@value #DEFAULT_WINDOW_SIZE}.
+         * <p>
+         * 백분위를 계산할 최근 응답 시간 수를 설정합니다.
+         *
+         * @param windowSize the number of response times
+         * @return this builder
+         */
+        public Builder windowSize(int windowSize) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("windowSize must be at least 1");
+            }
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Sets how many response times are needed before hedging starts.
+         * Defaults to {@value #DEFAULT_MINIMUM_SAMPLES}, capped at the window
+         * size.
+         * <p>
+         * 헤지를 시작하기 전에 필요한 응답 시간 수를 설정합니다.
+         *
+         * @param minimumSamples the number of response times
+         * @return this builder
+         */
+        public Builder minimumSamples(int minimumSamples) {
+            if (minimumSamples < 1) {
+                throw new IllegalArgumentException("minimumSamples must be at least 1");
+            }
+            this.minimumSamples = minimumSamples;
+            return this;
+        }
+
+        /**
+         * Sets how many hedges each GET request earns. Defaults to
+         * {@value #DEFAULT_RATIO}.
+         * <p>
+         * GET 요청마다 얻는 헤지 수를 설정합니다.
+         *
+         * @param ratio hedges per request
+         * @return this builder
+         */
+        public Builder ratio(double ratio) {
+            if (!(ratio > 0)) {
+                throw new IllegalArgumentException("ratio must be positive");
+            }
+            this.ratio = ratio;
+            return this;
+        }
+
+        /**
+         * Sets how many hedges can be saved up. Defaults to
+         * {@value #DEFAULT_MAX_HEDGES}.
+         * <p>
+         * 모아 둘 수 있는 헤지 수를 설정합니다.
+         *
+         * @param maxHedges the bucket capacity
+         * @return this builder
+         */
+        public Builder maxHedges(int maxHedges) {
+            if (maxHedges < 1) {
+                throw new IllegalArgumentException("maxHedges must be at least 1");
+            }
+            this.maxHedges = maxHedges;
+            return this;
+        }
+
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
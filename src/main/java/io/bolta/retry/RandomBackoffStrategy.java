@@ -1,11 +1,18 @@
 package io.bolta.retry;
 
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Random delay backoff strategy that returns a random delay within a specified
  * range.
  * 지정된 범위 내에서 무작위 지연 시간을 반환하는 랜덤 지연 백오프 전략입니다.
+ * <p>
+ * Unless a {@link Random} is given, each thread draws from its own
+ * {@link ThreadLocalRandom}, so threads retrying at once do not contend on a
+ * shared seed.
+ * {@link Random}을 지정하지 않으면 각 스레드가 자신의 {@link ThreadLocalRandom}을 사용하므로,
+ * 동시에 재시도하는 스레드가 공유 시드를 두고 경합하지 않습니다.
  */
 public final class RandomBackoffStrategy implements BackoffStrategy {
     private final long minDelayMillis;
@@ -13,9 +20,21 @@ public final class RandomBackoffStrategy implements BackoffStrategy {
     private final Random random;
 
     public RandomBackoffStrategy(long minDelayMillis, long maxDelayMillis) {
-        this(minDelayMillis, maxDelayMillis, new Random());
+        this(minDelayMillis, maxDelayMillis, null);
     }
 
+    /**
+     * Creates a strategy that draws from the given random number generator.
+     * 주어진 난수 생성기를 사용하는 전략을 생성합니다.
+     *
+     * @param minDelayMillis minimum delay in milliseconds
+     *                       밀리초 단위의 최소 지연 시간
+     * @param maxDelayMillis maximum delay in milliseconds
+     *                       밀리초 단위의 최대 지연 시간
+     * @param random         the random number generator, or null to use
+     *                       {@link ThreadLocalRandom}
+     *                       난수 생성기, null이면 {@link ThreadLocalRandom} 사용
+     */
     public RandomBackoffStrategy(long minDelayMillis, long maxDelayMillis, Random random) {
         if (minDelayMillis < 0) {
             throw new IllegalArgumentException("minDelayMillis must be non-negative");
@@ -33,7 +52,8 @@ public final class RandomBackoffStrategy implements BackoffStrategy {
         if (minDelayMillis == maxDelayMillis) {
             return minDelayMillis;
         }
-        return minDelayMillis + (long) (random.nextDouble() * (maxDelayMillis - minDelayMillis));
+        double fraction = random != null ? random.nextDouble() : ThreadLocalRandom.current().nextDouble();
+        return minDelayMillis + (long) (fraction * (maxDelayMillis - minDelayMillis));
     }
 
     public long getMinDelayMillis() {
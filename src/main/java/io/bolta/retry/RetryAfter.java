@@ -0,0 +1,75 @@
+package io.bolta.retry;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parses the {@code Retry-After} response header.
+ * {@code Retry-After} 응답 헤더를 해석합니다.
+ * <p>
+ * The header is either a number of seconds ({@code Retry-After: 120}) or an
+ * HTTP-date ({@code Retry-After: Wed, 21 Oct 2015 07:28:00 GMT}).
+ * 헤더 값은 초 단위 숫자 또는 HTTP 날짜 형식입니다.
+ */
+public final class RetryAfter {
+
+    /**
+     * The header name.
+     * 헤더 이름입니다.
+     */
+    public static final String HEADER = "Retry-After";
+
+    private RetryAfter() {
+    }
+
+    /**
+     * Returns the delay the header asks for, in milliseconds. A date in the past
+     * yields 0.
+     * 헤더가 요청하는 지연 시간을 밀리초 단위로 반환합니다. 지난 날짜는 0입니다.
+     *
+     * @param value     the header value, or null
+     *                  헤더 값 또는 null
+     * @param nowMillis the current time, in milliseconds since the epoch
+     *                  에포크 기준 현재 시각(밀리초)
+     * @return the delay in milliseconds, or -1 if the value is missing or malformed
+     *         밀리초 단위의 지연 시간, 값이 없거나 잘못된 경우 -1
+     */
+    public static long parseMillis(String value, long nowMillis) {
+        if (value == null) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return -1;
+        }
+
+        if (isDigits(trimmed)) {
+            try {
+                long seconds = Long.parseLong(trimmed);
+                return seconds > Long.MAX_VALUE / 1000 ? Long.MAX_VALUE : seconds * 1000;
+            } catch (NumberFormatException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+        try {
+            long dateMillis = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toInstant()
+                    .toEpochMilli();
+            return Math.max(0, dateMillis - nowMillis);
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private static boolean isDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,158 @@
+package io.bolta.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket shared by every request on a client, which limits retries to
+ * a fraction of successful requests.
+ * 클라이언트의 모든 요청이 공유하는 토큰 버킷으로, 재시도를 성공한 요청의 일정 비율로
+ * 제한합니다.
+ * <p>
+ * Each successful response deposits {@link Builder#ratio(double)} tokens, up
+ * to {@link Builder#maxRetries(int)}, and each retry withdraws one. When the
+ * bucket is empty the failure is returned to the caller instead of being
+ * retried, so an outage does not multiply the load by the number of attempts.
+ * The bucket starts full.
+ * 성공한 응답마다 {@link Builder#ratio(double)}개의 토큰이 최대
+ * {@link Builder#maxRetries(int)}개까지 쌓이고, 재시도마다 하나씩 사용됩니다. 버킷이 비면
+ * 실패를 재시도하지 않고 호출자에게 반환하므로, 장애 중에도 부하가 시도 횟수만큼 늘어나지
+ * 않습니다. 버킷은 가득 찬 상태로 시작합니다.
+ * <p>
+ * Example:
+ *
+ * <pre>{@code
+ * BoltaClient client = BoltaClient.builder()
+ *         .apiKey(apiKey)
+ *         .httpClient(httpClient)
+ *         .retryBudget(RetryBudget.builder()
+ *                 .ratio(0.1)      // one retry per ten successful requests
+ *                 .maxRetries(20)
+ *                 .build())
+ *         .build();
+ * }</pre>
+ */
+public final class RetryBudget {
+    /**
+     * Default tokens deposited per successful response.
+     * 성공한 응답마다 쌓이는 기본 토큰 수입니다.
+     */
+    public static final double DEFAULT_RATIO = 0.1;
+
+    /**
+     * Default bucket capacity.
+     * 기본 버킷 용량입니다.
+     */
+    public static final int DEFAULT_MAX_RETRIES = 10;
+
+    private final TokenBucket bucket;
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    private RetryBudget(Builder builder) {
+        this.bucket = new TokenBucket(builder.ratio, builder.maxRetries);
+    }
+
+    /**
+     * Records a successful response, refilling the budget.
+     * 성공한 응답을 기록하여 예산을 채웁니다.
+     */
+    public void recordSuccess() {
+        bucket.deposit();
+    }
+
+    /**
+     * Takes one retry from the budget.
+     * 예산에서 재시도 하나를 가져갑니다.
+     *
+     * @return true if the retry may go ahead, false if the budget is exhausted
+     *         재시도할 수 있으면 true, 예산이 소진되었으면 false
+     */
+    public boolean tryAcquire() {
+        if (!bucket.tryWithdraw()) {
+            exhausted.incrementAndGet();
+            return false;
+        }
+        retries.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Returns the number of retries currently available.
+     * 현재 사용할 수 있는 재시도 수를 반환합니다.
+     *
+     * @return the available retries
+     */
+    public double getAvailableRetries() {
+        return bucket.getAvailable();
+    }
+
+    /**
+     * Returns the number of retries the budget allowed.
+     * 예산이 허용한 재시도 수를 반환합니다.
+     *
+     * @return the retry count
+     */
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    /**
+     * Returns the number of retries refused because the budget was exhausted.
+     * 예산 소진으로 거절된 재시도 수를 반환합니다.
+     *
+     * @return the exhausted count
+     */
+    public long getExhaustedCount() {
+        return exhausted.get();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private double ratio = DEFAULT_RATIO;
+        private int maxRetries = DEFAULT_MAX_RETRIES;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how many retries each successful response earns. Defaults to
+         * {@value #DEFAULT_RATIO}.
+         * 성공한 응답마다 얻는 재시도 수를 설정합니다.
+         *
+         * @param ratio retries per successful response
+         *              성공한 응답당 재시도 수
+         * @return this builder
+         */
+        public Builder ratio(double ratio) {
+            if (!(ratio > 0)) {
+                throw new IllegalArgumentException("ratio must be positive");
+            }
+            this.ratio = ratio;
+            return this;
+        }
+
+        /**
+         * Sets how many retries can be saved up. Defaults to
+         * {@value #DEFAULT_MAX_RETRIES}.
+         * 모아 둘 수 있는 재시도 수를 설정합니다.
+         *
+         * @param maxRetries the bucket capacity
+         *                   버킷 용량
+         * @return this builder
+         */
+        public Builder maxRetries(int maxRetries) {
+            if (maxRetries < 1) {
+                throw new IllegalArgumentException("maxRetries must be at least 1");
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public RetryBudget build() {
+            return new RetryBudget(this);
+        }
+    }
+}
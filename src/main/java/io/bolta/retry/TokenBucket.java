@@ -0,0 +1,72 @@
+package io.bolta.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket that fills with a fraction of a token per deposit
+ * and pays out whole tokens, shared by {@link RetryBudget} and
+ * {@link HedgingPolicy}.
+ * 입금마다 토큰의 일부가 쌓이고 온전한 토큰 단위로 사용되는 락 없는 토큰 버킷으로,
+ * {@link RetryBudget}과 {@link HedgingPolicy}가 함께 사용합니다.
+ * <p>
+ * The bucket starts full.
+ * 버킷은 가득 찬 상태로 시작합니다.
+ */
+final class TokenBucket {
+    /**
+     * Tokens are counted in thousandths so that the bucket fits in one atomic
+     * long.
+     */
+    private static final long SCALE = 1000;
+
+    private final long depositPerCall;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    TokenBucket(double ratio, int maxTokens) {
+        this.depositPerCall = Math.max(1, Math.round(ratio * SCALE));
+        this.capacity = maxTokens * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Adds the per-call share of a token, up to the capacity.
+     * 호출당 토큰 몫을 용량까지 더합니다.
+     */
+    void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(capacity, current + depositPerCall)));
+    }
+
+    /**
+     * Takes one whole token.
+     * 온전한 토큰 하나를 가져갑니다.
+     *
+     * @return true if a token was taken, false if less than one was left
+     */
+    boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * Returns the number of tokens in the bucket.
+     * 버킷에 남은 토큰 수를 반환합니다.
+     *
+     * @return the available tokens
+     */
+    double getAvailable() {
+        return (double) balance.get() / SCALE;
+    }
+}
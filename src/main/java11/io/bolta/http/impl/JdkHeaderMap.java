@@ -0,0 +1,80 @@
+package io.bolta.http.impl;
+
+import java.net.http.HttpHeaders;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only {@code Map} view over JDK {@link HttpHeaders}.
+ * <p>
+ * Behaves like {@link OkHttpHeaderMap}: lookups are case-insensitive and for
+ * repeated headers the last value wins.
+ */
+final class JdkHeaderMap extends AbstractMap<String, String> {
+    private final Map<String, List<String>> headers;
+    private Set<Entry<String, String>> entrySet;
+
+    JdkHeaderMap(HttpHeaders headers) {
+        // HttpHeaders.map() is already ordered case-insensitively.
+        this.headers = headers.map();
+    }
+
+    @Override
+    public String get(Object key) {
+        return key instanceof String ? lastValue(headers.get(key)) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return headers.size();
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private static String lastValue(List<String> values) {
+        return values == null || values.isEmpty() ? null : values.get(values.size() - 1);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, String>> {
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+            Iterator<Entry<String, List<String>>> delegate = headers.entrySet().iterator();
+            return new Iterator<Entry<String, String>>() {
+                @Override
+                public boolean hasNext() {
+                    return delegate.hasNext();
+                }
+
+                @Override
+                public Entry<String, String> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, List<String>> entry = delegate.next();
+                    return new SimpleImmutableEntry<>(entry.getKey(), lastValue(entry.getValue()));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return JdkHeaderMap.this.size();
+        }
+    }
+}
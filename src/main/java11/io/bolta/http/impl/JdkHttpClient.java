@@ -0,0 +1,167 @@
+package io.bolta.http.impl;
+
+import io.bolta.http.BoltaHttpHeader;
+import io.bolta.http.HttpClient;
+import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpRequestBody;
+import io.bolta.http.HttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * HttpClient implementation backed by {@code java.net.http.HttpClient}.
+ * <p>
+ * {@code java.net.http.HttpClient} 기반의 HttpClient 구현입니다.
+ * <p>
+ * With HTTP/2 enabled, concurrent requests are multiplexed as streams over a
+ * small number of connections instead of each holding a pooled connection.
+ * Response bodies are collected as bytes and handed to Jackson without being
+ * decoded into a {@code String}.
+ * <p>
+ * HTTP/2를 사용하면 동시 요청이 각각 연결을 점유하지 않고 소수의 연결 위에서 스트림으로
+ * 다중화됩니다. 응답 본문은 {@code String}으로 디코딩되지 않고 바이트로 수집되어 Jackson에
+ * 전달됩니다.
+ *
+ * @see io.bolta.http.HttpClients#jdkBuilder()
+ */
+public final class JdkHttpClient implements HttpClient {
+    private static final BodyHandler<byte[]> BODY_HANDLER = BodyHandlers.ofByteArray();
+
+    private final java.net.http.HttpClient client;
+    private final Duration requestTimeout;
+
+    /**
+     * Creates a JdkHttpClient.
+     *
+     * @param connectTimeoutMillis connection timeout in milliseconds, or a
+     *                             non-positive value for the JDK default
+     * @param requestTimeoutMillis per-request timeout in milliseconds, or a
+     *                             non-positive value for no timeout
+     * @param executor             executor for asynchronous work, or null for
+     *                             the JDK default
+     * @param http2                whether to prefer HTTP/2
+     */
+    public JdkHttpClient(long connectTimeoutMillis, long requestTimeoutMillis, Executor executor, boolean http2) {
+        java.net.http.HttpClient.Builder builder = java.net.http.HttpClient.newBuilder()
+                .version(http2 ? Version.HTTP_2 : Version.HTTP_1_1)
+                .followRedirects(Redirect.NORMAL);
+        if (connectTimeoutMillis > 0) {
+            builder.connectTimeout(Duration.ofMillis(connectTimeoutMillis));
+        }
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        this.client = builder.build();
+        this.requestTimeout = requestTimeoutMillis > 0 ? Duration.ofMillis(requestTimeoutMillis) : null;
+    }
+
+    /**
+     * Returns true if the running JVM provides {@code java.net.http}.
+     * <p>
+     * 실행 중인 JVM이 {@code java.net.http}를 제공하면 true를 반환합니다.
+     *
+     * @return whether JdkHttpClient can be created
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) throws IOException {
+        java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
+        try {
+            return toHttpResponse(client.send(jdkRequest, BODY_HANDLER));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Request interrupted");
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+        java.net.http.HttpRequest jdkRequest;
+        try {
+            jdkRequest = toJdkRequest(request);
+        } catch (IOException | RuntimeException e) {
+            CompletableFuture<HttpResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        CompletableFuture<java.net.http.HttpResponse<byte[]>> sent = client.sendAsync(jdkRequest, BODY_HANDLER);
+        CompletableFuture<HttpResponse> future = sent.thenApply(JdkHttpClient::toHttpResponse);
+        // The JDK aborts the exchange when the future from sendAsync is cancelled (Java 16+).
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                sent.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    private java.net.http.HttpRequest toJdkRequest(HttpRequest request) throws IOException {
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(URI.create(request.getUrl()));
+        Duration timeout = requestTimeout;
+        if (request.getTimeoutMillis() > 0
+                && (timeout == null || request.getTimeoutMillis() < timeout.toMillis())) {
+            timeout = Duration.ofMillis(request.getTimeoutMillis());
+        }
+        if (timeout != null) {
+            builder.timeout(timeout);
+        }
+
+        boolean hasContentType = false;
+        for (Map.Entry<String, String> header : request.getHeaders().getHeaders().entrySet()) {
+            builder.setHeader(header.getKey(), header.getValue());
+            hasContentType |= BoltaHttpHeader.CONTENT_TYPE.equalsIgnoreCase(header.getKey());
+        }
+
+        BodyPublisher body = toBodyPublisher(request.getBody());
+        if (body != null && !hasContentType) {
+            builder.setHeader(BoltaHttpHeader.CONTENT_TYPE, BoltaHttpHeader.APPLICATION_JSON);
+        }
+
+        switch (request.getMethod()) {
+            case GET:
+                builder.GET();
+                break;
+            case POST:
+                builder.POST(body != null ? body : BodyPublishers.noBody());
+                break;
+            case PUT:
+                builder.PUT(body != null ? body : BodyPublishers.noBody());
+                break;
+            case DELETE:
+                builder.method("DELETE", body != null ? body : BodyPublishers.noBody());
+                break;
+        }
+        return builder.build();
+    }
+
+    private static BodyPublisher toBodyPublisher(HttpRequestBody body) throws IOException {
+        if (body == null) {
+            return null;
+        }
+        // The JDK client reads the publisher on its own threads, so JSON bodies are
+        // serialized up front; this also gives HTTP/2 a known content length.
+        // JDK 클라이언트는 자체 스레드에서 본문을 읽으므로 JSON 본문은 미리 직렬화됩니다.
+        return BodyPublishers.ofByteArray(body.toByteArray());
+    }
+
+    private static HttpResponse toHttpResponse(java.net.http.HttpResponse<byte[]> response) {
+        return HttpResponse.of(response.statusCode(), new JdkHeaderMap(response.headers()), response.body());
+    }
+}
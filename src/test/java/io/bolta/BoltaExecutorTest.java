@@ -0,0 +1,95 @@
+package io.bolta;
+
+import io.bolta.exception.BoltaApiException;
+import io.bolta.http.VirtualThreads;
+import io.bolta.model.Customer;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for {@link BoltaExecutor}.
+ */
+class BoltaExecutorTest extends ClientTestSupport {
+        private static final String CUSTOMER_JSON = "{\"identificationNumber\":\"1234567890\"}";
+
+        @Test
+        void testSubmit_RunsBlockingCallOnExecutor() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setBody(CUSTOMER_JSON).setResponseCode(200));
+                ExecutorService pool = Executors.newSingleThreadExecutor();
+
+                try {
+                        // Act
+                        CompletableFuture<Customer> future;
+                        try (BoltaExecutor executor = app.newExecutor(pool)) {
+                                future = executor.submit(bolta -> bolta.customers().get("1234567890"));
+                        }
+
+                        // Assert
+                        assertEquals("1234567890", future.get(5, TimeUnit.SECONDS).getIdentificationNumber());
+                        assertFalse(pool.isShutdown());
+                } finally {
+                        pool.shutdownNow();
+                }
+        }
+
+        @Test
+        void testSubmit_PropagatesApiException() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+                ExecutorService pool = Executors.newSingleThreadExecutor();
+
+                try {
+                        // Act
+                        CompletableFuture<Customer> future = app.newExecutor(pool)
+                                        .submit(bolta -> bolta.customers().get("1234567890"));
+
+                        // Assert
+                        ExecutionException exception = assertThrows(ExecutionException.class,
+                                        () -> future.get(5, TimeUnit.SECONDS));
+                        assertTrue(exception.getCause() instanceof BoltaApiException);
+                        assertEquals(404, ((BoltaApiException) exception.getCause()).getStatusCode());
+                } finally {
+                        pool.shutdownNow();
+                }
+        }
+
+        @Test
+        void testNewVirtualThreadExecutor_CloseWaitsForCalls() throws Exception {
+                assumeTrue(VirtualThreads.isAvailable(), "virtual threads require Java 21");
+
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+                CompletableFuture<Void> future;
+                String[] threadName = new String[1];
+
+                // Act
+                try (BoltaExecutor executor = app.newVirtualThreadExecutor()) {
+                        future = executor.run(bolta -> {
+                                threadName[0] = Thread.currentThread().getName();
+                                bolta.customers().deleteCertificate("customer_bf8paz");
+                        });
+                }
+
+                // Assert
+                assertTrue(future.isDone());
+                assertTrue(threadName[0].startsWith("bolta-vt-"));
+                assertEquals("DELETE", mockWebServer.takeRequest().getMethod());
+        }
+
+        @Test
+        void testNewVirtualThreadExecutor_UnsupportedBeforeJava21() {
+                if (!VirtualThreads.isAvailable()) {
+                        assertThrows(UnsupportedOperationException.class, () -> app.newVirtualThreadExecutor());
+                }
+        }
+}
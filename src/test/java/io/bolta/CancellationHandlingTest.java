@@ -0,0 +1,175 @@
+package io.bolta;
+
+import io.bolta.http.HttpClient;
+import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpResponse;
+import io.bolta.model.BoltaApiKey;
+import io.bolta.model.Customer;
+import io.bolta.model.RequestOptions;
+import io.bolta.model.RetryOption;
+import io.bolta.ratelimit.ConcurrencyLimiter;
+import io.bolta.ratelimit.RateLimiter;
+import io.bolta.retry.RangeStatusCodeMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that cancelling a future returned by the resources cancels the
+ * request behind it.
+ */
+class CancellationHandlingTest {
+
+        private final RecordingHttpClient httpClient = new RecordingHttpClient();
+        private final BoltaClient client = BoltaClient.builder()
+                        .apiKey(BoltaApiKey.of("test_api_key"))
+                        .baseUrl("https://xapi.bolta.io")
+                        .httpClient(httpClient)
+                        .build();
+        private final BoltaApp app = BoltaApp.builder().client(client).build();
+
+        @Test
+        void testGetCertificateRegistrationUrlAsync_CancelCancelsInFlightRequest() {
+                // Arrange
+                CompletableFuture<String> future = app.customers().getCertificateRegistrationUrlAsync("customer_a");
+
+                // Act
+                future.cancel(true);
+
+                // Assert
+                assertEquals(1, httpClient.sent.size());
+                assertTrue(httpClient.sent.get(0).isCancelled());
+        }
+
+        @Test
+        void testDeleteCertificateAsync_CancelStopsPendingRetry() throws Exception {
+                // Arrange
+                httpClient.statusCodes.add(503);
+                RequestOptions options = RequestOptions.builder()
+                                .retryOption(RetryOption.builder()
+                                                .maxAttempts(3)
+                                                .fixedBackoff(200)
+                                                .retryOnStatusCodes(RangeStatusCodeMatcher.of(500, 599))
+                                                .build())
+                                .build();
+                CompletableFuture<Void> future = app.customers().deleteCertificateAsync("customer_a", options);
+
+                // Act
+                future.cancel(true);
+                TimeUnit.MILLISECONDS.sleep(400);
+
+                // Assert
+                assertTrue(future.isCancelled());
+                assertEquals(1, httpClient.sent.size());
+        }
+
+        @Test
+        void testGetAsync_CoalescedReadCancelledOnceEveryCallerCancels() {
+                // Arrange
+                CompletableFuture<Customer> first = app.customers().getAsync("1234567890");
+                CompletableFuture<Customer> second = app.customers().getAsync("1234567890");
+                assertEquals(1, httpClient.sent.size());
+
+                // Act
+                first.cancel(true);
+                boolean cancelledAfterFirst = httpClient.sent.get(0).isCancelled();
+                second.cancel(true);
+                CompletableFuture<Customer> third = app.customers().getAsync("1234567890");
+
+                // Assert
+                assertFalse(cancelledAfterFirst);
+                assertTrue(httpClient.sent.get(0).isCancelled());
+                assertEquals(2, httpClient.sent.size());
+                assertFalse(third.isDone());
+        }
+
+        @Test
+        void testGetCertificateRegistrationUrlAsync_CancelLeavesConcurrencyQueue() {
+                // Arrange
+                ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+                                .initialLimit(1)
+                                .maxLimit(1)
+                                .maxQueueSize(1)
+                                .build();
+                BoltaApp limitedApp = BoltaApp.builder()
+                                .client(BoltaClient.builder()
+                                                .apiKey(BoltaApiKey.of("test_api_key"))
+                                                .baseUrl("https://xapi.bolta.io")
+                                                .httpClient(httpClient)
+                                                .concurrencyLimiter(limiter)
+                                                .build())
+                                .build();
+                limitedApp.customers().getCertificateRegistrationUrlAsync("customer_a");
+                CompletableFuture<String> queued = limitedApp.customers().getCertificateRegistrationUrlAsync("customer_b");
+
+                // Act
+                queued.cancel(true);
+                CompletableFuture<String> next = limitedApp.customers().getCertificateRegistrationUrlAsync("customer_c");
+
+                // Assert
+                assertEquals(1, limiter.getQueueDepth());
+                assertFalse(next.isDone());
+                assertEquals(0, limiter.getRejectedCount());
+                assertEquals(1, httpClient.sent.size());
+        }
+
+        @Test
+        void testGetCertificateRegistrationUrlAsync_CancelReturnsRateLimitPermit() {
+                // Arrange
+                RateLimiter limiter = RateLimiter.builder()
+                                .perApiKey(1, 1)
+                                .maxWaitMillis(1500)
+                                .build();
+                BoltaApp limitedApp = BoltaApp.builder()
+                                .client(BoltaClient.builder()
+                                                .apiKey(BoltaApiKey.of("test_api_key"))
+                                                .baseUrl("https://xapi.bolta.io")
+                                                .httpClient(httpClient)
+                                                .rateLimiter(limiter)
+                                                .build())
+                                .build();
+                limitedApp.customers().getCertificateRegistrationUrlAsync("customer_a");
+                CompletableFuture<String> paced = limitedApp.customers().getCertificateRegistrationUrlAsync("customer_b");
+
+                // Act
+                paced.cancel(true);
+                CompletableFuture<String> next = limitedApp.customers().getCertificateRegistrationUrlAsync("customer_c");
+
+                // Assert
+                assertFalse(next.isDone());
+                assertEquals(0, limiter.getRejectedCount());
+                assertEquals(1, httpClient.sent.size());
+        }
+
+        /**
+         * Answers with the queued status codes, then leaves requests pending.
+         */
+        private static final class RecordingHttpClient implements HttpClient {
+                private final Queue<Integer> statusCodes = new ConcurrentLinkedQueue<>();
+                private final List<CompletableFuture<HttpResponse>> sent = new CopyOnWriteArrayList<>();
+
+                @Override
+                public HttpResponse execute(HttpRequest request) {
+                        throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+                        Integer statusCode = statusCodes.poll();
+                        CompletableFuture<HttpResponse> future = statusCode != null
+                                        ? CompletableFuture.completedFuture(
+                                                        HttpResponse.of(statusCode, Collections.emptyMap(), null))
+                                        : new CompletableFuture<>();
+                        sent.add(future);
+                        return future;
+                }
+        }
+}
@@ -0,0 +1,166 @@
+package io.bolta;
+
+import io.bolta.circuitbreaker.CircuitBreaker;
+import io.bolta.exception.BoltaApiException;
+import io.bolta.exception.CircuitBreakerOpenException;
+import io.bolta.http.impl.DefaultHttpClient;
+import io.bolta.model.BoltaApiKey;
+import io.bolta.model.Customer;
+import io.bolta.model.RequestOptions;
+import io.bolta.model.RetryOption;
+import io.bolta.ratelimit.ConcurrencyLimiter;
+import io.bolta.retry.RangeStatusCodeMatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that a {@link CircuitBreaker} on {@link BoltaClient} fails requests
+ * fast per route.
+ */
+class CircuitBreakerHandlingTest extends ClientTestSupport {
+
+        private static final String CUSTOMERS = "/v1/customers";
+        private static final String CUSTOMER = "/v1/customers/{identificationNumber}";
+
+        private CircuitBreaker breaker;
+        private final List<String> transitions = new CopyOnWriteArrayList<>();
+        private BoltaApp guardedApp;
+
+        @BeforeEach
+        void setUpBreaker() {
+                breaker = CircuitBreaker.builder()
+                                .windowSize(2)
+                                .minimumCalls(2)
+                                .openDurationMillis(60_000)
+                                .build();
+                breaker.addListener((route, from, to) -> transitions.add(route + " " + from + "->" + to));
+                String baseUrl = mockWebServer.url("/").toString();
+                guardedApp = BoltaApp.builder()
+                                .client(BoltaClient.builder()
+                                                .apiKey(BoltaApiKey.of("test_api_key"))
+                                                .baseUrl(baseUrl.substring(0, baseUrl.length() - 1))
+                                                .httpClient(new DefaultHttpClient(new OkHttpClient()))
+                                                .circuitBreaker(breaker)
+                                                .build())
+                                .build();
+        }
+
+        @Test
+        void testCreate_FailsFastOnceRouteKeepsFailing() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+                // Act
+                assertThrows(BoltaApiException.class, () -> guardedApp.customers().create(customer()));
+                assertThrows(BoltaApiException.class, () -> guardedApp.customers().create(customer()));
+                CircuitBreakerOpenException sync = assertThrows(CircuitBreakerOpenException.class,
+                                () -> guardedApp.customers().create(customer()));
+                ExecutionException async = assertThrows(ExecutionException.class,
+                                () -> guardedApp.customers().createAsync(customer()).get(5, TimeUnit.SECONDS));
+
+                // Assert
+                assertEquals(CUSTOMERS, sync.getRoute());
+                assertTrue(async.getCause() instanceof CircuitBreakerOpenException);
+                assertEquals(2, mockWebServer.getRequestCount());
+                assertEquals(CircuitBreaker.State.OPEN, breaker.getState(CUSTOMERS));
+                assertEquals(2, breaker.getRejectedCount());
+                List<String> expected = new ArrayList<>();
+                expected.add(CUSTOMERS + " CLOSED->OPEN");
+                assertEquals(expected, transitions);
+        }
+
+        @Test
+        void testCreate_OpenCircuitStopsRetries() {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+                RequestOptions options = RequestOptions.builder()
+                                .retryOption(RetryOption.builder()
+                                                .maxAttempts(5)
+                                                .fixedBackoff(0)
+                                                .retryOnStatusCodes(RangeStatusCodeMatcher.of(500, 599))
+                                                .build())
+                                .build();
+
+                // Act & Assert
+                assertThrows(CircuitBreakerOpenException.class,
+                                () -> guardedApp.customers().create(customer(), options));
+                assertEquals(2, mockWebServer.getRequestCount());
+        }
+
+        @Test
+        void testGetAsync_OtherRoutesStayClosed() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody("{\"identificationNumber\":\"1234567890\"}")
+                                .setResponseCode(200));
+                assertThrows(ExecutionException.class,
+                                () -> guardedApp.customers().createAsync(customer()).get(5, TimeUnit.SECONDS));
+                assertThrows(ExecutionException.class,
+                                () -> guardedApp.customers().createAsync(customer()).get(5, TimeUnit.SECONDS));
+
+                // Act
+                Customer found = guardedApp.customers().getAsync("1234567890").get(5, TimeUnit.SECONDS);
+
+                // Assert
+                assertEquals("1234567890", found.getIdentificationNumber());
+                assertEquals(CircuitBreaker.State.OPEN, breaker.getState(CUSTOMERS));
+                assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(CUSTOMER));
+        }
+
+        @Test
+        void testGetAsync_HalfOpenTrialIsNotHeldWhileQueued() throws Exception {
+                // Arrange
+                CircuitBreaker halfOpening = CircuitBreaker.builder()
+                                .windowSize(2)
+                                .minimumCalls(2)
+                                .openDurationMillis(100)
+                                .halfOpenCalls(1)
+                                .build();
+                ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(1).maxLimit(1).build();
+                String baseUrl = mockWebServer.url("/").toString();
+                BoltaApp limitedApp = BoltaApp.builder()
+                                .client(BoltaClient.builder()
+                                                .apiKey(BoltaApiKey.of("test_api_key"))
+                                                .baseUrl(baseUrl.substring(0, baseUrl.length() - 1))
+                                                .httpClient(new DefaultHttpClient(new OkHttpClient()))
+                                                .circuitBreaker(halfOpening)
+                                                .concurrencyLimiter(limiter)
+                                                .build())
+                                .build();
+                mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody("{\"identificationNumber\":\"1234567890\"}")
+                                .setResponseCode(200));
+                assertThrows(BoltaApiException.class, () -> limitedApp.customers().get("1234567890"));
+                assertThrows(BoltaApiException.class, () -> limitedApp.customers().get("1234567890"));
+                Thread.sleep(150);
+                ConcurrencyLimiter.Permit held = limiter.acquire();
+
+                // Act
+                CompletableFuture<Customer> queued = limitedApp.customers().getAsync("1234567890");
+
+                // Assert
+                assertEquals(1, limiter.getQueueDepth());
+                assertEquals(CircuitBreaker.State.OPEN, halfOpening.getState(CUSTOMER));
+                held.ignore();
+                assertEquals("1234567890", queued.get(5, TimeUnit.SECONDS).getIdentificationNumber());
+                assertEquals(CircuitBreaker.State.CLOSED, halfOpening.getState(CUSTOMER));
+                assertEquals(0, halfOpening.getRejectedCount());
+        }
+}
@@ -1,5 +1,6 @@
 package io.bolta;
 
+import io.bolta.model.Customer;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.mockwebserver.MockWebServer;
@@ -48,4 +49,14 @@ public class ClientTestSupport {
         void tearDown() throws IOException {
                 mockWebServer.shutdown();
         }
+
+        protected static Customer customer() {
+                return Customer.builder()
+                                .identificationNumber("1234567890")
+                                .representativeName("John Doe")
+                                .organizationName("My Company")
+                                .email1("test@example.com")
+                                .address("123 Main St")
+                                .build();
+        }
 }
@@ -0,0 +1,117 @@
+package io.bolta;
+
+import io.bolta.http.HttpClient;
+import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpResponse;
+import io.bolta.model.BoltaApiKey;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BoltaApp#warmUp(int)} and {@link BoltaApp#keepAlive(int, long)}.
+ */
+class ConnectionWarmUpTest extends ClientTestSupport {
+
+        @Test
+        void testWarmUp_OpensConnectionsReusedByLaterRequests() throws Exception {
+                // Arrange
+                for (int i = 0; i < 3; i++) {
+                        mockWebServer.enqueue(new MockResponse()
+                                        .setResponseCode(404)
+                                        .setHeadersDelay(200, TimeUnit.MILLISECONDS));
+                }
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody("{\"identificationNumber\":\"1234567890\"}")
+                                .setResponseCode(200));
+
+                // Act
+                int answered = app.warmUp(3);
+                app.customers().get("1234567890");
+
+                // Assert
+                assertEquals(3, answered);
+                for (int i = 0; i < 3; i++) {
+                        RecordedRequest warmUp = mockWebServer.takeRequest();
+                        assertEquals("/", warmUp.getPath());
+                        assertNull(warmUp.getHeader("Authorization"));
+                        assertEquals(0, warmUp.getSequenceNumber());
+                }
+                assertEquals(1, mockWebServer.takeRequest().getSequenceNumber());
+        }
+
+        @Test
+        void testWarmUp_RejectsNonPositiveCount() {
+                assertThrows(IllegalArgumentException.class, () -> app.warmUp(0));
+        }
+
+        private static BoltaApp countingApp(AtomicInteger requests) {
+                HttpClient httpClient = new HttpClient() {
+                        @Override
+                        public HttpResponse execute(HttpRequest request) {
+                                throw new UnsupportedOperationException();
+                        }
+
+                        @Override
+                        public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+                                requests.incrementAndGet();
+                                return CompletableFuture.completedFuture(
+                                                HttpResponse.of(404, Collections.emptyMap(), null));
+                        }
+                };
+                return BoltaApp.builder()
+                                .client(BoltaClient.builder()
+                                                .apiKey(BoltaApiKey.of("test_api_key"))
+                                                .baseUrl("https://xapi.bolta.io")
+                                                .httpClient(httpClient)
+                                                .build())
+                                .build();
+        }
+
+        @Test
+        void testKeepAlive_RefreshesUntilClosed() throws Exception {
+                // Arrange
+                AtomicInteger requests = new AtomicInteger();
+                BoltaApp keptApp = countingApp(requests);
+
+                // Act
+                ConnectionKeepAlive keepAlive = keptApp.keepAlive(2, 20);
+                TimeUnit.MILLISECONDS.sleep(200);
+                keepAlive.close();
+                int afterClose = requests.get();
+                TimeUnit.MILLISECONDS.sleep(100);
+
+                // Assert
+                assertTrue(keepAlive.isClosed());
+                assertTrue(keepAlive.getRefreshCount() >= 2, "refreshes: " + keepAlive.getRefreshCount());
+                assertEquals(2 * keepAlive.getRefreshCount(), afterClose);
+                assertEquals(afterClose, requests.get());
+        }
+
+        @Test
+        void testKeepAlive_StopsWhenAppIsClosed() throws Exception {
+                // Arrange
+                AtomicInteger requests = new AtomicInteger();
+                BoltaApp keptApp = countingApp(requests);
+                ConnectionKeepAlive first = keptApp.keepAlive(1, 20);
+                ConnectionKeepAlive second = keptApp.keepAlive(1, 20);
+
+                // Act
+                keptApp.close();
+                int afterClose = requests.get();
+                TimeUnit.MILLISECONDS.sleep(100);
+
+                // Assert
+                assertTrue(first.isClosed());
+                assertTrue(second.isClosed());
+                assertEquals(afterClose, requests.get());
+                assertThrows(IllegalStateException.class, () -> keptApp.keepAlive(1, 20));
+        }
+}
@@ -94,6 +94,39 @@ class CustomerTest extends ClientTestSupport {
                 assertEquals("/v1/customers", request.getPath());
         }
 
+        @Test
+        void testCreateCustomerAsyncWithRetry() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503)); // Fail once
+                mockWebServer.enqueue(new MockResponse().setResponseCode(201)); // Succeed
+
+                Customer customer = Customer.builder()
+                                .identificationNumber("1234567890")
+                                .representativeName("John Doe")
+                                .organizationName("My Company")
+                                .email1("test@example.com")
+                                .address("123 Main St")
+                                .build();
+
+                RequestOptions options = RequestOptions.builder()
+                                .retryOption(RetryOption.builder()
+                                                .maxAttempts(2)
+                                                .fixedBackoff(10)
+                                                .retryOnStatusCodes(RangeStatusCodeMatcher.of(500, 599))
+                                                .build())
+                                .build();
+
+                // Act
+                CompletableFuture<Void> future = app.customers().createAsync(customer, options);
+                future.get(); // Wait for completion
+
+                // Assert
+                assertEquals(2, mockWebServer.getRequestCount());
+                mockWebServer.takeRequest(); // First failed request
+                RecordedRequest request = mockWebServer.takeRequest(); // Second successful request
+                assertEquals("/v1/customers", request.getPath());
+        }
+
         @Test
         void testGetCustomer() throws Exception {
                 // Arrange
@@ -202,4 +235,55 @@ class CustomerTest extends ClientTestSupport {
                 assertEquals("/v1/customers/customer_bf8paz/certificates", request.getPath());
                 assertEquals("DELETE", request.getMethod());
         }
+
+        @Test
+        void testEnsureExistsCreatesMissingCustomer() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody("{\"error\":{\"code\":\"NOT_FOUND\",\"message\":\"Customer not found\"}}")
+                                .setResponseCode(404));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(201));
+
+                Customer customer = Customer.builder()
+                                .identificationNumber("1234567890")
+                                .representativeName("John Doe")
+                                .organizationName("My Company")
+                                .email1("test@example.com")
+                                .address("123 Main St")
+                                .build();
+
+                // Act
+                app.customers().ensureExists(customer);
+
+                // Assert
+                assertEquals(2, mockWebServer.getRequestCount());
+                assertEquals("GET", mockWebServer.takeRequest().getMethod());
+                RecordedRequest request = mockWebServer.takeRequest();
+                assertEquals("POST", request.getMethod());
+                assertEquals("/v1/customers", request.getPath());
+        }
+
+        @Test
+        void testEnsureExistsAsyncSkipsCreateForExistingCustomer() throws Exception {
+                // Arrange
+                String jsonResponse = "{\"identificationNumber\":\"1234567890\",\"representativeName\":\"John Doe\",\"organizationName\":\"My Company\",\"email1\":\"test@example.com\",\"address\":\"123 Main St\"}";
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody(jsonResponse)
+                                .setResponseCode(200));
+
+                Customer customer = Customer.builder()
+                                .identificationNumber("1234567890")
+                                .representativeName("John Doe")
+                                .organizationName("My Company")
+                                .email1("test@example.com")
+                                .address("123 Main St")
+                                .build();
+
+                // Act
+                app.customers().ensureExistsAsync(customer).get();
+
+                // Assert
+                assertEquals(1, mockWebServer.getRequestCount());
+                assertEquals("GET", mockWebServer.takeRequest().getMethod());
+        }
 }
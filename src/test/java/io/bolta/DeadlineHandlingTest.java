@@ -0,0 +1,234 @@
+package io.bolta;
+
+import io.bolta.circuitbreaker.CircuitBreaker;
+import io.bolta.exception.BoltaApiException;
+import io.bolta.exception.DeadlineExceededException;
+import io.bolta.http.impl.DefaultHttpClient;
+import io.bolta.model.BoltaApiKey;
+import io.bolta.model.Customer;
+import io.bolta.model.RequestOptions;
+import io.bolta.model.RetryOption;
+import io.bolta.ratelimit.ConcurrencyLimiter;
+import io.bolta.ratelimit.RateLimiter;
+import io.bolta.retry.RangeStatusCodeMatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that {@link RequestOptions#getTimeoutMillis()} bounds a call across
+ * all of its attempts.
+ */
+class DeadlineHandlingTest extends ClientTestSupport {
+
+        private static final String CUSTOMER_BODY = "{\"identificationNumber\":\"1234567890\"}";
+        private static final String CUSTOMER_ROUTE = "/v1/customers/{identificationNumber}";
+
+        private static RequestOptions options(long timeoutMillis, long backoffMillis) {
+                return RequestOptions.builder()
+                                .timeoutMillis(timeoutMillis)
+                                .retryOption(RetryOption.builder()
+                                                .maxAttempts(3)
+                                                .fixedBackoff(backoffMillis)
+                                                .retryOnStatusCodes(RangeStatusCodeMatcher.of(500, 599))
+                                                .build())
+                                .build();
+        }
+
+        private BoltaApp limitedApp(RateLimiter rateLimiter, ConcurrencyLimiter concurrencyLimiter) {
+                return limitedApp(rateLimiter, concurrencyLimiter, null);
+        }
+
+        private BoltaApp limitedApp(RateLimiter rateLimiter, ConcurrencyLimiter concurrencyLimiter,
+                        CircuitBreaker circuitBreaker) {
+                String baseUrl = mockWebServer.url("/").toString();
+                return BoltaApp.builder()
+                                .client(BoltaClient.builder()
+                                                .apiKey(BoltaApiKey.of("test_api_key"))
+                                                .baseUrl(baseUrl.substring(0, baseUrl.length() - 1))
+                                                .httpClient(new DefaultHttpClient(new OkHttpClient()))
+                                                .rateLimiter(rateLimiter)
+                                                .concurrencyLimiter(concurrencyLimiter)
+                                                .circuitBreaker(circuitBreaker)
+                                                .build())
+                                .build();
+        }
+
+        @Test
+        void testGet_ConcurrencyWaitEndsAtDeadline() {
+                // Arrange
+                ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(1).maxLimit(1).build();
+                ConcurrencyLimiter.Permit held = limiter.acquire();
+                long startedAt = System.nanoTime();
+
+                // Act
+                DeadlineExceededException exception = assertThrows(DeadlineExceededException.class,
+                                () -> limitedApp(null, limiter).customers().get("1234567890", options(300, 0)));
+
+                // Assert
+                assertEquals(300, exception.getTimeoutMillis());
+                assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 3000);
+                assertEquals(0, limiter.getQueueDepth());
+                assertEquals(0, mockWebServer.getRequestCount());
+                held.ignore();
+                assertEquals(0, limiter.getInFlight());
+        }
+
+        @Test
+        void testGet_RateLimitWaitBeyondDeadlineFailsAtOnce() {
+                // Arrange
+                RateLimiter limiter = RateLimiter.builder().perApiKey(0.1, 1).build();
+                mockWebServer.enqueue(new MockResponse().setBody(CUSTOMER_BODY));
+                BoltaApp limited = limitedApp(limiter, null);
+                limited.customers().get("1234567890");
+                long startedAt = System.nanoTime();
+
+                // Act
+                assertThrows(DeadlineExceededException.class,
+                                () -> limited.customers().get("1234567890", options(300, 0)));
+
+                // Assert
+                assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 3000);
+                assertEquals(1, mockWebServer.getRequestCount());
+                assertEquals(0, limiter.getRejectedCount());
+        }
+
+        @Test
+        void testGet_SlowResponseExceedsDeadline() {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody(CUSTOMER_BODY)
+                                .setHeadersDelay(5, TimeUnit.SECONDS));
+                long startedAt = System.nanoTime();
+
+                // Act
+                DeadlineExceededException exception = assertThrows(DeadlineExceededException.class,
+                                () -> app.customers().get("1234567890", options(300, 0)));
+
+                // Assert
+                assertEquals(300, exception.getTimeoutMillis());
+                assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 3000);
+        }
+
+        @Test
+        void testGet_TimeoutFromDeadlineIsNotHeldAgainstRoute() throws Exception {
+                // Arrange
+                ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(4).build();
+                CircuitBreaker breaker = CircuitBreaker.builder().windowSize(1).minimumCalls(1).build();
+                BoltaApp guarded = limitedApp(null, limiter, breaker);
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody(CUSTOMER_BODY)
+                                .setHeadersDelay(5, TimeUnit.SECONDS));
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody(CUSTOMER_BODY)
+                                .setHeadersDelay(5, TimeUnit.SECONDS));
+
+                // Act
+                assertThrows(DeadlineExceededException.class,
+                                () -> guarded.customers().get("1234567890", options(300, 0)));
+                ExecutionException async = assertThrows(ExecutionException.class,
+                                () -> guarded.customers().getAsync("0987654321", options(300, 0))
+                                                .get(3, TimeUnit.SECONDS));
+
+                // Assert
+                assertTrue(async.getCause() instanceof DeadlineExceededException);
+                assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(CUSTOMER_ROUTE));
+                assertEquals(0, limiter.getDroppedCount());
+                assertEquals(4, limiter.getLimit());
+        }
+
+        @Test
+        void testGet_DoesNotJoinReadThatOutlastsDeadline() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody(CUSTOMER_BODY)
+                                .setHeadersDelay(5, TimeUnit.SECONDS));
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody(CUSTOMER_BODY)
+                                .setHeadersDelay(5, TimeUnit.SECONDS));
+                CompletableFuture<Customer> unbounded = app.customers().getAsync("1234567890");
+                mockWebServer.takeRequest(3, TimeUnit.SECONDS);
+                long startedAt = System.nanoTime();
+
+                // Act
+                DeadlineExceededException exception = assertThrows(DeadlineExceededException.class,
+                                () -> app.customers().get("1234567890", options(300, 0)));
+
+                // Assert
+                assertEquals(300, exception.getTimeoutMillis());
+                assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 3000);
+                assertEquals(2, mockWebServer.getRequestCount());
+                assertFalse(unbounded.isDone());
+                unbounded.cancel(true);
+        }
+
+        @Test
+        void testGet_SkipsRetryThatCannotFinishInTime() {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+                mockWebServer.enqueue(new MockResponse().setBody(CUSTOMER_BODY));
+
+                // Act
+                BoltaApiException exception = assertThrows(BoltaApiException.class,
+                                () -> app.customers().get("1234567890", options(1000, 5000)));
+
+                // Assert
+                assertEquals(503, exception.getStatusCode());
+                assertEquals(1, mockWebServer.getRequestCount());
+        }
+
+        @Test
+        void testGet_RetriesWithinDeadline() {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+                mockWebServer.enqueue(new MockResponse().setBody(CUSTOMER_BODY));
+
+                // Act
+                Customer customer = app.customers().get("1234567890", options(5000, 10));
+
+                // Assert
+                assertEquals("1234567890", customer.getIdentificationNumber());
+                assertEquals(2, mockWebServer.getRequestCount());
+        }
+
+        @Test
+        void testGetAsync_CompletesExceptionallyAtDeadline() {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody(CUSTOMER_BODY)
+                                .setHeadersDelay(5, TimeUnit.SECONDS));
+
+                // Act
+                ExecutionException exception = assertThrows(ExecutionException.class,
+                                () -> app.customers().getAsync("1234567890", options(300, 0))
+                                                .get(3, TimeUnit.SECONDS));
+
+                // Assert
+                assertTrue(exception.getCause() instanceof DeadlineExceededException);
+        }
+
+        @Test
+        void testGetAsync_DeadlineCallbacksDoNotRunOnScheduler() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse()
+                                .setBody(CUSTOMER_BODY)
+                                .setHeadersDelay(5, TimeUnit.SECONDS));
+                AtomicReference<String> callbackThread = new AtomicReference<>();
+
+                // Act
+                CompletableFuture<Customer> future = app.customers().getAsync("1234567890", options(300, 0));
+                CompletableFuture<Customer> observed = future.whenComplete(
+                                (customer, throwable) -> callbackThread.set(Thread.currentThread().getName()));
+                assertThrows(ExecutionException.class, () -> observed.get(3, TimeUnit.SECONDS));
+
+                // Assert
+                assertFalse(callbackThread.get().startsWith("bolta-retry-"), callbackThread.get());
+        }
+}
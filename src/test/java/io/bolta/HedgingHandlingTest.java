@@ -0,0 +1,195 @@
+package io.bolta;
+
+import io.bolta.http.HttpClient;
+import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpResponse;
+import io.bolta.model.BoltaApiKey;
+import io.bolta.model.Customer;
+import io.bolta.ratelimit.ConcurrencyLimiter;
+import io.bolta.ratelimit.RateLimiter;
+import io.bolta.retry.HedgingPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that a {@link HedgingPolicy} on {@link BoltaClient} hedges slow GET
+ * requests.
+ */
+class HedgingHandlingTest {
+
+        private static final byte[] CUSTOMER_BODY = "{\"identificationNumber\":\"1234567890\"}"
+                        .getBytes(StandardCharsets.UTF_8);
+
+        private final ScriptedHttpClient httpClient = new ScriptedHttpClient();
+
+        private BoltaApp app(HedgingPolicy policy) {
+                return app(policy, null, null);
+        }
+
+        private BoltaApp app(HedgingPolicy policy, RateLimiter rateLimiter, ConcurrencyLimiter concurrencyLimiter) {
+                return BoltaApp.builder()
+                                .client(BoltaClient.builder()
+                                                .apiKey(BoltaApiKey.of("test_api_key"))
+                                                .baseUrl("https://xapi.bolta.io")
+                                                .httpClient(httpClient)
+                                                .hedgingPolicy(policy)
+                                                .rateLimiter(rateLimiter)
+                                                .concurrencyLimiter(concurrencyLimiter)
+                                                .build())
+                                .build();
+        }
+
+        @Test
+        void testGetAsync_HedgeWinsAndSlowRequestIsCancelled() throws Exception {
+                // Arrange
+                HedgingPolicy policy = HedgingPolicy.builder().delayMillis(50).build();
+                httpClient.script.add(new CompletableFuture<>());
+                httpClient.script.add(CompletableFuture.completedFuture(
+                                HttpResponse.of(200, Collections.emptyMap(), CUSTOMER_BODY)));
+
+                // Act
+                Customer customer = app(policy).customers().getAsync("1234567890").get(5, TimeUnit.SECONDS);
+
+                // Assert
+                assertEquals("1234567890", customer.getIdentificationNumber());
+                assertEquals(2, httpClient.sent.size());
+                assertTrue(httpClient.sent.get(0).isCancelled());
+                assertEquals(1, policy.getHedgeCount());
+                assertEquals(1, policy.getHedgeWinCount());
+        }
+
+        @Test
+        void testGet_FastResponseIsNotHedged() throws Exception {
+                // Arrange
+                HedgingPolicy policy = HedgingPolicy.builder().delayMillis(200).build();
+                httpClient.script.add(CompletableFuture.completedFuture(
+                                HttpResponse.of(200, Collections.emptyMap(), CUSTOMER_BODY)));
+
+                // Act
+                Customer customer = app(policy).customers().get("1234567890");
+                TimeUnit.MILLISECONDS.sleep(300);
+
+                // Assert
+                assertEquals("1234567890", customer.getIdentificationNumber());
+                assertEquals(1, httpClient.sent.size());
+                assertEquals(0, policy.getHedgeCount());
+        }
+
+        @Test
+        void testGetAsync_ExhaustedBudgetSkipsHedge() throws Exception {
+                // Arrange
+                HedgingPolicy policy = HedgingPolicy.builder().delayMillis(20).maxHedges(1).build();
+                assertTrue(policy.tryAcquire());
+                CompletableFuture<HttpResponse> slow = new CompletableFuture<>();
+                httpClient.script.add(slow);
+
+                // Act
+                CompletableFuture<Customer> future = app(policy).customers().getAsync("1234567890");
+                TimeUnit.MILLISECONDS.sleep(100);
+                slow.complete(HttpResponse.of(200, Collections.emptyMap(), CUSTOMER_BODY));
+
+                // Assert
+                assertEquals("1234567890", future.get(5, TimeUnit.SECONDS).getIdentificationNumber());
+                assertEquals(1, httpClient.sent.size());
+                assertEquals(1, policy.getExhaustedCount());
+        }
+
+        @Test
+        void testGetAsync_HedgeNeedsRateLimitPermitAtOnce() throws Exception {
+                // Arrange
+                HedgingPolicy policy = HedgingPolicy.builder().delayMillis(20).build();
+                RateLimiter limiter = RateLimiter.builder().perApiKey(1, 1).build();
+                CompletableFuture<HttpResponse> slow = new CompletableFuture<>();
+                httpClient.script.add(slow);
+
+                // Act
+                CompletableFuture<Customer> future = app(policy, limiter, null).customers().getAsync("1234567890");
+                TimeUnit.MILLISECONDS.sleep(100);
+                slow.complete(HttpResponse.of(200, Collections.emptyMap(), CUSTOMER_BODY));
+
+                // Assert
+                assertEquals("1234567890", future.get(5, TimeUnit.SECONDS).getIdentificationNumber());
+                assertEquals(1, httpClient.sent.size());
+                assertEquals(0, policy.getHedgeCount());
+                assertEquals(0, limiter.getRejectedCount());
+        }
+
+        @Test
+        void testGetAsync_HedgeIsCountedAgainstConcurrencyLimit() throws Exception {
+                // Arrange
+                HedgingPolicy policy = HedgingPolicy.builder().delayMillis(20).build();
+                ConcurrencyLimiter full = ConcurrencyLimiter.builder().initialLimit(1).maxLimit(1).build();
+                ConcurrencyLimiter roomy = ConcurrencyLimiter.builder().initialLimit(2).maxLimit(2).build();
+                CompletableFuture<HttpResponse> slow = new CompletableFuture<>();
+                CompletableFuture<HttpResponse> slowHedged = new CompletableFuture<>();
+                CompletableFuture<HttpResponse> hedge = new CompletableFuture<>();
+                httpClient.script.add(slow);
+                httpClient.script.add(slowHedged);
+                httpClient.script.add(hedge);
+
+                // Act
+                CompletableFuture<Customer> alone = app(policy, null, full).customers().getAsync("1234567890");
+                CompletableFuture<Customer> hedged = app(policy, null, roomy).customers().getAsync("1234567890");
+                TimeUnit.MILLISECONDS.sleep(100);
+                int inFlightWithHedge = roomy.getInFlight();
+                slow.complete(HttpResponse.of(200, Collections.emptyMap(), CUSTOMER_BODY));
+                hedge.complete(HttpResponse.of(200, Collections.emptyMap(), CUSTOMER_BODY));
+                alone.get(5, TimeUnit.SECONDS);
+                hedged.get(5, TimeUnit.SECONDS);
+
+                // Assert
+                assertEquals(3, httpClient.sent.size());
+                assertEquals(1, policy.getHedgeCount());
+                assertEquals(2, inFlightWithHedge);
+                assertEquals(0, full.getInFlight());
+                assertEquals(0, roomy.getInFlight());
+        }
+
+        @Test
+        void testDeleteCertificateAsync_IsNeverHedged() throws Exception {
+                // Arrange
+                HedgingPolicy policy = HedgingPolicy.builder().delayMillis(20).build();
+                CompletableFuture<HttpResponse> slow = new CompletableFuture<>();
+                httpClient.script.add(slow);
+
+                // Act
+                CompletableFuture<Void> future = app(policy).customers().deleteCertificateAsync("customer_a");
+                TimeUnit.MILLISECONDS.sleep(100);
+                slow.complete(HttpResponse.of(200, Collections.emptyMap(), null));
+                future.get(5, TimeUnit.SECONDS);
+
+                // Assert
+                assertEquals(1, httpClient.sent.size());
+                assertEquals(0, policy.getHedgeCount());
+        }
+
+        /**
+         * Answers asynchronous requests with the scripted futures in order.
+         */
+        private static final class ScriptedHttpClient implements HttpClient {
+                private final Queue<CompletableFuture<HttpResponse>> script = new ConcurrentLinkedQueue<>();
+                private final List<CompletableFuture<HttpResponse>> sent = new CopyOnWriteArrayList<>();
+
+                @Override
+                public HttpResponse execute(HttpRequest request) {
+                        throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+                        CompletableFuture<HttpResponse> future = script.poll();
+                        sent.add(future);
+                        return future;
+                }
+        }
+}
@@ -0,0 +1,75 @@
+package io.bolta;
+
+import io.bolta.ingest.IngestionSummary;
+import io.bolta.ingest.InvoiceFileFormat;
+import io.bolta.ingest.InvoiceIngestion;
+import io.bolta.model.BulkOptions;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link InvoiceIngestion}.
+ */
+class InvoiceIngestionTest extends ClientTestSupport {
+        private static final String INVOICE = "{\"customerKey\":\"customer_%s\","
+                        + "\"date\":\"2024-01-01\",\"purpose\":\"RECEIPT\","
+                        + "\"supplier\":{\"identificationNumber\":\"1234567890\",\"organizationName\":\"My Company\","
+                        + "\"representativeName\":\"John Doe\",\"manager\":{\"email\":\"manager@example.com\"}},"
+                        + "\"supplied\":{\"identificationNumber\":\"0987654321\",\"organizationName\":\"%s\","
+                        + "\"representativeName\":\"Jane Doe\"},"
+                        + "\"items\":[{\"date\":\"2024-01-01\",\"name\":\"Service Fee\",\"supplyCost\":10000}]}";
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        void testRun_WritesOneResultLinePerRecord() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("{\"issuanceKey\":\"KEY_1\"}"));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(400).setBody("{\"error\":\"invalid\"}"));
+
+                Path input = tempDir.resolve("invoices.jsonl");
+                Path output = tempDir.resolve("invoices.result.jsonl");
+                Files.write(input, Arrays.asList(
+                                String.format(INVOICE, "A", "A"),
+                                "{broken",
+                                String.format(INVOICE, "B", "B")), StandardCharsets.UTF_8);
+
+                // Act
+                IngestionSummary summary = InvoiceIngestion.builder()
+                                .taxInvoices(app.taxInvoices())
+                                .input(input, InvoiceFileFormat.JSON_LINES)
+                                .resultFile(output)
+                                .bulkOptions(BulkOptions.builder().maxConcurrency(1).build())
+                                .build()
+                                .run();
+
+                // Assert
+                assertEquals(3, summary.getRecordsRead());
+                assertEquals(1, summary.getIssuedCount());
+                assertEquals(1, summary.getInvalidCount());
+                assertEquals(1, summary.getFailedCount());
+                assertFalse(summary.isAllIssued());
+
+                List<String> results = Files.readAllLines(output, StandardCharsets.UTF_8);
+                assertEquals(3, results.size());
+                assertEquals("{\"line\":1,\"status\":\"ISSUED\",\"issuanceKey\":\"KEY_1\"}", results.get(0));
+                assertTrue(results.get(1).startsWith("{\"line\":2,\"status\":\"INVALID\",\"error\":\"Malformed JSON"));
+                assertTrue(results.get(2).startsWith("{\"line\":3,\"status\":\"FAILED\",\"httpStatus\":400,"));
+
+                RecordedRequest first = mockWebServer.takeRequest();
+                assertEquals("customer_A", first.getHeader("Customer-Key"));
+                assertTrue(first.getBody().readUtf8().contains("\"supplyCost\":10000"));
+                assertEquals("customer_B", mockWebServer.takeRequest().getHeader("Customer-Key"));
+        }
+}
@@ -0,0 +1,174 @@
+package io.bolta;
+
+import io.bolta.exception.BoltaApiException;
+import io.bolta.model.IssuanceKey;
+import io.bolta.model.IssuancePurpose;
+import io.bolta.model.Manager;
+import io.bolta.model.RetryOption;
+import io.bolta.model.Supplied;
+import io.bolta.model.Supplier;
+import io.bolta.model.TaxInvoice;
+import io.bolta.model.TaxInvoiceIssuanceRequestOptions;
+import io.bolta.model.TaxInvoiceLineItem;
+import io.bolta.outbox.IssuanceOutbox;
+import io.bolta.outbox.OutboxListener;
+import io.bolta.outbox.PendingIssuance;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link IssuanceOutbox}.
+ */
+class IssuanceOutboxTest extends ClientTestSupport {
+        private static final RetryOption FAST_RETRY = RetryOption.builder()
+                        .maxAttempts(3)
+                        .fixedBackoff(10)
+                        .retryOnStatusCodes(statusCode -> statusCode >= 500)
+                        .build();
+        private static final RetryOption SLOW_RETRY = RetryOption.builder()
+                        .maxAttempts(3)
+                        .fixedBackoff(60_000)
+                        .retryOnStatusCodes(statusCode -> statusCode >= 500)
+                        .build();
+
+        @TempDir
+        Path directory;
+
+        @Test
+        void testSubmit_IssuesWithClientReferenceIdAndRetries() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("{\"issuanceKey\":\"KEY_1\"}"));
+                CompletableFuture<IssuanceKey> notified = new CompletableFuture<>();
+
+                try (IssuanceOutbox outbox = outbox(new OutboxListener() {
+                        @Override
+                        public void onIssued(PendingIssuance issuance, IssuanceKey issuanceKey) {
+                                notified.complete(issuanceKey);
+                        }
+                })) {
+                        // Act
+                        PendingIssuance issuance = outbox.submit(invoice(), TaxInvoiceIssuanceRequestOptions.builder()
+                                        .customerKey("customer_bf8paz")
+                                        .build());
+                        IssuanceKey issuanceKey = issuance.getResult().get(5, TimeUnit.SECONDS);
+
+                        // Assert
+                        assertEquals("KEY_1", issuanceKey.getValue());
+                        assertEquals("KEY_1", notified.get(5, TimeUnit.SECONDS).getValue());
+                        assertNotNull(issuance.getClientReferenceId());
+                        assertEquals(0, outbox.getPendingCount());
+
+                        for (int i = 0; i < 2; i++) {
+                                RecordedRequest request = mockWebServer.takeRequest();
+                                assertEquals("/v1/taxInvoices/issue", request.getPath());
+                                assertEquals(issuance.getClientReferenceId(),
+                                                request.getHeader("Bolta-Client-Reference-Id"));
+                                assertEquals("customer_bf8paz", request.getHeader("Customer-Key"));
+                        }
+                }
+        }
+
+        @Test
+        void testSubmit_DoesNotRetryClientErrors() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(400).setBody("{\"error\":\"invalid\"}"));
+
+                try (IssuanceOutbox outbox = outbox(null)) {
+                        // Act
+                        PendingIssuance issuance = outbox.submit(invoice());
+                        ExecutionException exception = assertThrows(ExecutionException.class,
+                                        () -> issuance.getResult().get(5, TimeUnit.SECONDS));
+
+                        // Assert
+                        assertEquals(400, ((BoltaApiException) exception.getCause()).getStatusCode());
+                        assertEquals(1, mockWebServer.getRequestCount());
+                        assertEquals(0, outbox.getPendingCount());
+                }
+        }
+
+        @Test
+        void testBuild_ReplaysIssuancesWithoutOutcome() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+                PendingIssuance original;
+                try (IssuanceOutbox outbox = outbox(null, SLOW_RETRY)) {
+                        original = outbox.submit(invoice(), TaxInvoiceIssuanceRequestOptions.builder()
+                                        .clientReferenceId("order-42")
+                                        .build());
+                        // The outbox closes while the retry is still scheduled.
+                        mockWebServer.takeRequest(5, TimeUnit.SECONDS);
+                }
+                assertFalse(original.getResult().isDone());
+                mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("{\"issuanceKey\":\"KEY_42\"}"));
+                CompletableFuture<PendingIssuance> replayed = new CompletableFuture<>();
+
+                // Act
+                try (IssuanceOutbox outbox = outbox(new OutboxListener() {
+                        @Override
+                        public void onIssued(PendingIssuance issuance, IssuanceKey issuanceKey) {
+                                replayed.complete(issuance);
+                        }
+                })) {
+                        PendingIssuance issuance = replayed.get(5, TimeUnit.SECONDS);
+
+                        // Assert
+                        assertTrue(issuance.isReplayed());
+                        assertEquals("order-42", issuance.getClientReferenceId());
+                        assertEquals("KEY_42", issuance.getResult().get().getValue());
+                        assertEquals(2, mockWebServer.getRequestCount());
+                        assertEquals("order-42", mockWebServer.takeRequest().getHeader("Bolta-Client-Reference-Id"));
+                        assertEquals(0, outbox.getPendingCount());
+                }
+        }
+
+        private IssuanceOutbox outbox(OutboxListener listener) {
+                return outbox(listener, FAST_RETRY);
+        }
+
+        private IssuanceOutbox outbox(OutboxListener listener, RetryOption retryOption) {
+                return IssuanceOutbox.builder()
+                                .taxInvoices(app.taxInvoices())
+                                .directory(directory)
+                                .workers(1)
+                                .segmentSize(64 * 1024)
+                                .retryOption(retryOption)
+                                .listener(listener)
+                                .build();
+        }
+
+        private static TaxInvoice invoice() {
+                return TaxInvoice.builder()
+                                .date("2024-01-01")
+                                .purpose(IssuancePurpose.RECEIPT)
+                                .supplier(Supplier.builder()
+                                                .identificationNumber("1234567890")
+                                                .organizationName("My Company")
+                                                .representativeName("John Doe")
+                                                .manager(Manager.builder()
+                                                                .email("manager@example.com")
+                                                                .build())
+                                                .build())
+                                .supplied(Supplied.builder()
+                                                .identificationNumber("0987654321")
+                                                .organizationName("Customer")
+                                                .representativeName("Jane Doe")
+                                                .build())
+                                .items(Collections.singletonList(TaxInvoiceLineItem.builder()
+                                                .date("2024-01-01")
+                                                .name("Service Fee")
+                                                .supplyCost(10000L)
+                                                .build()))
+                                .build();
+        }
+}
@@ -0,0 +1,182 @@
+package io.bolta;
+
+import io.bolta.exception.BoltaApiException;
+import io.bolta.http.BoltaHttpHeader;
+import io.bolta.model.Customer;
+import io.bolta.model.RequestOptions;
+import io.bolta.model.RetryOption;
+import io.bolta.model.TaxInvoice;
+import io.bolta.retry.RangeStatusCodeMatcher;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for request coalescing in {@link BoltaClient}.
+ */
+class RequestCoalescingTest extends ClientTestSupport {
+
+        private static final String CUSTOMER_JSON = "{\"identificationNumber\":\"1234567890\",\"representativeName\":\"John Doe\",\"organizationName\":\"My Company\",\"email1\":\"test@example.com\",\"address\":\"123 Main St\"}";
+
+        private static final String TAX_INVOICE_JSON = "{\"date\":\"2024-01-01\",\"purpose\":\"RECEIPT\",\"supplier\":{\"identificationNumber\":\"1234567890\",\"organizationName\":\"My Company\",\"representativeName\":\"John Doe\",\"manager\":{\"email\":\"manager@example.com\",\"name\":null,\"telephone\":null}},\"supplied\":{\"identificationNumber\":\"0987654321\",\"organizationName\":\"Your Company\",\"representativeName\":\"Jane Doe\",\"managers\":null},\"items\":[{\"date\":\"2024-01-01\",\"name\":\"Service Fee\",\"supplyCost\":10000}]}";
+
+        private static MockResponse delayed(MockResponse response) {
+                return response.setHeadersDelay(300, TimeUnit.MILLISECONDS);
+        }
+
+        @Test
+        void testGetAsync_ConcurrentCallsShareOneRequest() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(delayed(new MockResponse().setBody(TAX_INVOICE_JSON).setResponseCode(200)));
+
+                // Act
+                List<CompletableFuture<TaxInvoice>> futures = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                        futures.add(app.taxInvoices().getAsync("KEY123"));
+                }
+
+                // Assert
+                TaxInvoice first = futures.get(0).get(5, TimeUnit.SECONDS);
+                for (CompletableFuture<TaxInvoice> future : futures) {
+                        assertSame(first, future.get(5, TimeUnit.SECONDS));
+                }
+                assertEquals(1, mockWebServer.getRequestCount());
+                assertEquals("/v1/taxInvoices/KEY123", mockWebServer.takeRequest().getPath());
+        }
+
+        @Test
+        void testGetAsync_FailureIsDeliveredToEveryCaller() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(delayed(new MockResponse()
+                                .setBody("{\"error\":{\"code\":\"NOT_FOUND\",\"message\":\"Customer not found\"}}")
+                                .setResponseCode(404)));
+
+                // Act
+                List<CompletableFuture<Customer>> futures = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                        futures.add(app.customers().getAsync("1234567890"));
+                }
+
+                // Assert
+                for (CompletableFuture<Customer> future : futures) {
+                        ExecutionException exception = assertThrows(ExecutionException.class,
+                                        () -> future.get(5, TimeUnit.SECONDS));
+                        assertTrue(exception.getCause() instanceof BoltaApiException);
+                        assertEquals(404, ((BoltaApiException) exception.getCause()).getStatusCode());
+                }
+                assertEquals(1, mockWebServer.getRequestCount());
+        }
+
+        @Test
+        void testGet_BlockingCallersShareOneRequest() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(delayed(new MockResponse().setBody(CUSTOMER_JSON).setResponseCode(200)));
+                ExecutorService executor = Executors.newFixedThreadPool(4);
+                CountDownLatch start = new CountDownLatch(1);
+
+                try {
+                        // Act
+                        List<Future<Customer>> results = new ArrayList<>();
+                        for (int i = 0; i < 4; i++) {
+                                results.add(executor.submit(() -> {
+                                        start.await();
+                                        return app.customers().get("1234567890");
+                                }));
+                        }
+                        start.countDown();
+
+                        // Assert
+                        for (Future<Customer> result : results) {
+                                assertEquals("1234567890", result.get(5, TimeUnit.SECONDS).getIdentificationNumber());
+                        }
+                        assertEquals(1, mockWebServer.getRequestCount());
+                } finally {
+                        executor.shutdownNow();
+                }
+        }
+
+        @Test
+        void testGetAsync_DifferentCustomerKeysAreNotShared() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(delayed(new MockResponse().setBody(CUSTOMER_JSON).setResponseCode(200)));
+                mockWebServer.enqueue(delayed(new MockResponse().setBody(CUSTOMER_JSON).setResponseCode(200)));
+
+                // Act
+                CompletableFuture<Customer> first = app.customers().getAsync("1234567890",
+                                RequestOptions.builder().header(BoltaHttpHeader.CUSTOMER_KEY, "customer-a").build());
+                CompletableFuture<Customer> second = app.customers().getAsync("1234567890",
+                                RequestOptions.builder().header(BoltaHttpHeader.CUSTOMER_KEY, "customer-b").build());
+                first.get(5, TimeUnit.SECONDS);
+                second.get(5, TimeUnit.SECONDS);
+
+                // Assert
+                assertEquals(2, mockWebServer.getRequestCount());
+        }
+
+        @Test
+        void testGetAsync_CallerWithRetriesDoesNotJoinReadWithout() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(delayed(new MockResponse().setResponseCode(503)));
+                mockWebServer.enqueue(delayed(new MockResponse().setResponseCode(503)));
+                mockWebServer.enqueue(new MockResponse().setBody(CUSTOMER_JSON).setResponseCode(200));
+                RequestOptions retrying = RequestOptions.builder()
+                                .retryOption(RetryOption.builder()
+                                                .maxAttempts(3)
+                                                .fixedBackoff(10)
+                                                .retryOnStatusCodes(RangeStatusCodeMatcher.of(500, 599))
+                                                .build())
+                                .build();
+
+                // Act
+                CompletableFuture<Customer> once = app.customers().getAsync("1234567890");
+                CompletableFuture<Customer> withRetries = app.customers().getAsync("1234567890", retrying);
+
+                // Assert
+                assertEquals("1234567890", withRetries.get(5, TimeUnit.SECONDS).getIdentificationNumber());
+                ExecutionException exception = assertThrows(ExecutionException.class,
+                                () -> once.get(5, TimeUnit.SECONDS));
+                assertTrue(exception.getCause() instanceof BoltaApiException);
+                assertEquals(3, mockWebServer.getRequestCount());
+        }
+
+        @Test
+        void testGet_SequentialCallsSendSeparateRequests() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setBody(TAX_INVOICE_JSON).setResponseCode(200));
+                mockWebServer.enqueue(new MockResponse().setBody(TAX_INVOICE_JSON).setResponseCode(200));
+
+                // Act
+                app.taxInvoices().get("KEY123");
+                app.taxInvoices().getAsync("KEY123").get(5, TimeUnit.SECONDS);
+
+                // Assert
+                assertEquals(2, mockWebServer.getRequestCount());
+        }
+
+        @Test
+        void testGetAsync_CancellingOneCallerDoesNotAffectOthers() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(delayed(new MockResponse().setBody(CUSTOMER_JSON).setResponseCode(200)));
+
+                // Act
+                CompletableFuture<Customer> cancelled = app.customers().getAsync("1234567890");
+                CompletableFuture<Customer> other = app.customers().getAsync("1234567890");
+                cancelled.cancel(false);
+
+                // Assert
+                assertEquals("1234567890", other.get(5, TimeUnit.SECONDS).getIdentificationNumber());
+                assertTrue(cancelled.isCancelled());
+                assertEquals(1, mockWebServer.getRequestCount());
+        }
+}
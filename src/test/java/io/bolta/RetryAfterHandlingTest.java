@@ -0,0 +1,87 @@
+package io.bolta;
+
+import io.bolta.exception.BoltaApiException;
+import io.bolta.model.RequestOptions;
+import io.bolta.model.RetryOption;
+import io.bolta.retry.ListStatusCodeMatcher;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that retries wait as long as a {@code Retry-After} header asks.
+ */
+class RetryAfterHandlingTest extends ClientTestSupport {
+
+        private static RequestOptions retryOptions(long backoffMillis, long maxRetryAfterMillis) {
+                return RequestOptions.builder()
+                                .retryOption(RetryOption.builder()
+                                                .maxAttempts(2)
+                                                .fixedBackoff(backoffMillis)
+                                                .maxRetryAfterMillis(maxRetryAfterMillis)
+                                                .retryOnStatusCodes(ListStatusCodeMatcher.of(429, 503))
+                                                .build())
+                                .build();
+        }
+
+        @Test
+        void testCreate_WaitsForRetryAfterSeconds() {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503).setHeader("Retry-After", "1"));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(201));
+
+                // Act
+                long start = System.nanoTime();
+                app.customers().create(customer(), retryOptions(0, 60_000));
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                // Assert
+                assertEquals(2, mockWebServer.getRequestCount());
+                assertTrue(elapsedMillis >= 900, "waited " + elapsedMillis + " ms");
+        }
+
+        @Test
+        void testCreateAsync_CapsRetryAfterAtMaximum() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "3600"));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(201));
+
+                // Act
+                long start = System.nanoTime();
+                CompletableFuture<Void> future = app.customers().createAsync(customer(), retryOptions(60_000, 100));
+                future.get(5, TimeUnit.SECONDS);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                // Assert
+                assertEquals(2, mockWebServer.getRequestCount());
+                assertTrue(elapsedMillis >= 100, "waited " + elapsedMillis + " ms");
+        }
+
+        @Test
+        void testException_KeepsRetryHeaders() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse()
+                                .setResponseCode(429)
+                                .setHeader("Retry-After", "2")
+                                .setHeader("X-RateLimit-Remaining", "0")
+                                .setHeader("Content-Type", "application/json")
+                                .setBody("{}"));
+
+                // Act
+                CompletableFuture<Void> future = app.customers().createAsync(customer());
+                ExecutionException failure = assertThrows(ExecutionException.class, future::get);
+
+                // Assert
+                BoltaApiException exception = (BoltaApiException) failure.getCause();
+                assertEquals(429, exception.getStatusCode());
+                assertEquals("2", exception.getHeaders().get("retry-after"));
+                assertEquals("0", exception.getHeaders().get("X-RateLimit-Remaining"));
+                assertFalse(exception.getHeaders().containsKey("Content-Type"));
+                assertEquals(2000, exception.getRetryAfterMillis());
+        }
+}
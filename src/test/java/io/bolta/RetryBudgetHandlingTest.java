@@ -0,0 +1,110 @@
+package io.bolta;
+
+import io.bolta.exception.BoltaApiException;
+import io.bolta.http.impl.DefaultHttpClient;
+import io.bolta.model.BoltaApiKey;
+import io.bolta.model.RequestOptions;
+import io.bolta.model.RetryOption;
+import io.bolta.retry.RangeStatusCodeMatcher;
+import io.bolta.retry.RetryBudget;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that a {@link RetryBudget} on {@link BoltaClient} limits retries
+ * across requests.
+ */
+class RetryBudgetHandlingTest extends ClientTestSupport {
+
+        private RetryBudget budget;
+        private BoltaApp budgetedApp;
+
+        @BeforeEach
+        void setUpBudget() {
+                budget = RetryBudget.builder().ratio(0.5).maxRetries(1).build();
+                String baseUrl = mockWebServer.url("/").toString();
+                budgetedApp = BoltaApp.builder()
+                                .client(BoltaClient.builder()
+                                                .apiKey(BoltaApiKey.of("test_api_key"))
+                                                .baseUrl(baseUrl.substring(0, baseUrl.length() - 1))
+                                                .httpClient(new DefaultHttpClient(new OkHttpClient()))
+                                                .retryBudget(budget)
+                                                .build())
+                                .build();
+        }
+
+        private static RequestOptions retryThreeTimes() {
+                return RequestOptions.builder()
+                                .retryOption(RetryOption.builder()
+                                                .maxAttempts(3)
+                                                .fixedBackoff(0)
+                                                .retryOnStatusCodes(RangeStatusCodeMatcher.of(500, 599))
+                                                .build())
+                                .build();
+        }
+
+        @Test
+        void testCreate_StopsRetryingWhenBudgetIsExhausted() {
+                // Arrange
+                for (int i = 0; i < 3; i++) {
+                        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+                }
+
+                // Act
+                BoltaApiException first = assertThrows(BoltaApiException.class,
+                                () -> budgetedApp.customers().create(customer(), retryThreeTimes()));
+                BoltaApiException second = assertThrows(BoltaApiException.class,
+                                () -> budgetedApp.customers().create(customer(), retryThreeTimes()));
+
+                // Assert
+                assertEquals(503, first.getStatusCode());
+                assertEquals(503, second.getStatusCode());
+                assertEquals(3, mockWebServer.getRequestCount());
+                assertEquals(1, budget.getRetryCount());
+                assertEquals(2, budget.getExhaustedCount());
+        }
+
+        @Test
+        void testCreateAsync_SuccessesRefillBudget() throws Exception {
+                // Arrange
+                budget.tryAcquire();
+                mockWebServer.enqueue(new MockResponse().setResponseCode(201));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(201));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(201));
+
+                // Act
+                budgetedApp.customers().createAsync(customer()).get(5, TimeUnit.SECONDS);
+                budgetedApp.customers().createAsync(customer()).get(5, TimeUnit.SECONDS);
+                budgetedApp.customers().createAsync(customer(), retryThreeTimes()).get(5, TimeUnit.SECONDS);
+
+                // Assert
+                assertEquals(4, mockWebServer.getRequestCount());
+                assertEquals(2, budget.getRetryCount());
+                assertEquals(0, budget.getExhaustedCount());
+        }
+
+        @Test
+        void testCreateAsync_FailsWithoutRetryWhenBudgetIsExhausted() {
+                // Arrange
+                budget.tryAcquire();
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+                // Act
+                ExecutionException exception = assertThrows(ExecutionException.class,
+                                () -> budgetedApp.customers().createAsync(customer(), retryThreeTimes())
+                                                .get(5, TimeUnit.SECONDS));
+
+                // Assert
+                assertTrue(exception.getCause() instanceof BoltaApiException);
+                assertEquals(1, mockWebServer.getRequestCount());
+                assertEquals(1, budget.getExhaustedCount());
+        }
+}
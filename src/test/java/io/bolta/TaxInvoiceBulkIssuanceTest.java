@@ -0,0 +1,187 @@
+package io.bolta;
+
+import io.bolta.http.HttpClient;
+import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpResponse;
+import io.bolta.model.BoltaApiKey;
+import io.bolta.model.BulkIssueResult;
+import io.bolta.model.BulkOptions;
+import io.bolta.model.BulkProgress;
+import io.bolta.model.IssuancePurpose;
+import io.bolta.model.Manager;
+import io.bolta.model.Supplied;
+import io.bolta.model.Supplier;
+import io.bolta.model.TaxInvoice;
+import io.bolta.model.TaxInvoiceIssuanceRequestOptions;
+import io.bolta.model.TaxInvoiceLineItem;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link io.bolta.resource.TaxInvoiceResource#issueAll}.
+ */
+class TaxInvoiceBulkIssuanceTest extends ClientTestSupport {
+
+        @Test
+        void testIssueAll_PairsEachInvoiceWithItsOutcome() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("{\"issuanceKey\":\"KEY_1\"}"));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(400).setBody("{\"error\":\"invalid\"}"));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("{\"issuanceKey\":\"KEY_3\"}"));
+
+                List<TaxInvoice> invoices = Arrays.asList(invoice("A"), invoice("B"), invoice("C"));
+                List<BulkProgress> progress = Collections.synchronizedList(new ArrayList<>());
+
+                BulkOptions options = BulkOptions.builder()
+                                .maxConcurrency(1)
+                                .requestOptions(invoice -> TaxInvoiceIssuanceRequestOptions.builder()
+                                                .customerKey("customer_" + invoice.getSupplied().getOrganizationName())
+                                                .clientReferenceId("ref-" + invoice.getSupplied().getOrganizationName())
+                                                .build())
+                                .progressListener(progress::add)
+                                .build();
+
+                // Act
+                BulkIssueResult result = app.taxInvoices().issueAll(invoices, options);
+
+                // Assert
+                assertEquals(3, result.getTotalCount());
+                assertEquals(2, result.getSucceededCount());
+                assertEquals(1, result.getFailedCount());
+                assertFalse(result.isAllSucceeded());
+
+                List<BulkIssueResult.Item> items = result.getItems();
+                assertEquals("KEY_1", items.get(0).getIssuanceKey().getValue());
+                assertSame(invoices.get(1), items.get(1).getInvoice());
+                assertEquals(400, items.get(1).getApiException().getStatusCode());
+                assertEquals("KEY_3", items.get(2).getIssuanceKey().getValue());
+                assertEquals(1, result.getFailures().size());
+
+                assertEquals(3, progress.size());
+                assertEquals(3, progress.get(2).getCompleted());
+                assertEquals(1, progress.get(2).getFailed());
+
+                RecordedRequest first = mockWebServer.takeRequest();
+                assertEquals("customer_A", first.getHeader("Customer-Key"));
+                assertEquals("ref-A", first.getHeader("Bolta-Client-Reference-Id"));
+        }
+
+        @Test
+        void testIssueAll_NeverExceedsMaxConcurrency() {
+                // Arrange
+                ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(8);
+                try {
+                        DelayedHttpClient httpClient = new DelayedHttpClient(scheduler);
+                        BoltaApp bulkApp = BoltaApp.builder()
+                                        .client(BoltaClient.builder()
+                                                        .apiKey(BoltaApiKey.of("test_api_key"))
+                                                        .baseUrl("https://xapi.bolta.io")
+                                                        .httpClient(httpClient)
+                                                        .build())
+                                        .build();
+
+                        List<TaxInvoice> invoices = new ArrayList<>();
+                        for (int i = 0; i < 50; i++) {
+                                invoices.add(invoice("C" + i));
+                        }
+
+                        // Act
+                        BulkIssueResult result = bulkApp.taxInvoices().issueAll(invoices,
+                                        BulkOptions.builder().maxConcurrency(4).build());
+
+                        // Assert
+                        assertTrue(result.isAllSucceeded());
+                        assertEquals(50, result.getTotalCount());
+                        assertEquals(50, httpClient.requests.get());
+                        assertTrue(httpClient.maxInFlight.get() <= 4, "max in flight: " + httpClient.maxInFlight.get());
+                        assertTrue(result.getThroughputPerSecond() > 0);
+                } finally {
+                        scheduler.shutdownNow();
+                }
+        }
+
+        @Test
+        void testIssueAll_EmptyInput() {
+                // Act
+                BulkIssueResult result = app.taxInvoices().issueAll(Collections.<TaxInvoice>emptyList(), null);
+
+                // Assert
+                assertEquals(0, result.getTotalCount());
+                assertTrue(result.isAllSucceeded());
+        }
+
+        private static TaxInvoice invoice(String suppliedName) {
+                return TaxInvoice.builder()
+                                .date("2024-01-01")
+                                .purpose(IssuancePurpose.RECEIPT)
+                                .supplier(Supplier.builder()
+                                                .identificationNumber("1234567890")
+                                                .organizationName("My Company")
+                                                .representativeName("John Doe")
+                                                .manager(Manager.builder()
+                                                                .email("manager@example.com")
+                                                                .build())
+                                                .build())
+                                .supplied(Supplied.builder()
+                                                .identificationNumber("0987654321")
+                                                .organizationName(suppliedName)
+                                                .representativeName("Jane Doe")
+                                                .build())
+                                .items(Collections.singletonList(TaxInvoiceLineItem.builder()
+                                                .date("2024-01-01")
+                                                .name("Service Fee")
+                                                .supplyCost(10000L)
+                                                .build()))
+                                .build();
+        }
+
+        /**
+         * Completes each request after a short delay and records the peak number
+         * of requests in flight.
+         */
+        private static final class DelayedHttpClient implements HttpClient {
+                private final ScheduledExecutorService scheduler;
+                private final AtomicInteger inFlight = new AtomicInteger();
+                private final AtomicInteger maxInFlight = new AtomicInteger();
+                private final AtomicInteger requests = new AtomicInteger();
+
+                DelayedHttpClient(ScheduledExecutorService scheduler) {
+                        this.scheduler = scheduler;
+                }
+
+                @Override
+                public HttpResponse execute(HttpRequest request) {
+                        throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+                        int current = inFlight.incrementAndGet();
+                        maxInFlight.accumulateAndGet(current, Math::max);
+                        int number = requests.incrementAndGet();
+
+                        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+                        scheduler.schedule(() -> {
+                                inFlight.decrementAndGet();
+                                byte[] body = ("{\"issuanceKey\":\"KEY_" + number + "\"}")
+                                                .getBytes(StandardCharsets.UTF_8);
+                                future.complete(HttpResponse.of(200, Collections.emptyMap(), body));
+                        }, 2, TimeUnit.MILLISECONDS);
+                        return future;
+                }
+        }
+}
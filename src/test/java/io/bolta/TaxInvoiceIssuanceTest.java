@@ -66,6 +66,7 @@ class TaxInvoiceIssuanceTest extends ClientTestSupport {
                 assertEquals("/v1/taxInvoices/issue", request.getPath());
                 assertEquals("POST", request.getMethod());
                 assertEquals("Basic dGVzdF9hcGlfa2V5Og==", request.getHeader("Authorization"));
+                assertEquals("application/json; charset=utf-8", request.getHeader("Content-Type"));
                 assertEquals("my-idempotency-key", request.getHeader("Customer-Key"));
         }
 
@@ -0,0 +1,230 @@
+package io.bolta.cache;
+
+import io.bolta.exception.BoltaApiException;
+import io.bolta.exception.BoltaException;
+import io.bolta.model.Customer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CustomerCache}.
+ */
+class CustomerCacheTest {
+
+        private final AtomicLong now = new AtomicLong();
+
+        private CustomerCache cache() {
+                return CustomerCache.builder()
+                                .ttlMillis(1000)
+                                .negativeTtlMillis(100)
+                                .clock(now::get)
+                                .build();
+        }
+
+        private void advanceMillis(long millis) {
+                now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        private static Customer customer() {
+                return Customer.builder()
+                                .identificationNumber("1234567890")
+                                .representativeName("John Doe")
+                                .organizationName("My Company")
+                                .email1("test@example.com")
+                                .address("123 Main St")
+                                .build();
+        }
+
+        private static BoltaApiException notFound() {
+                return new BoltaApiException(404, "Customer not found", "{}");
+        }
+
+        @Test
+        void testGet_CachesUntilTtlExpires() {
+                // Arrange
+                CustomerCache cache = cache();
+                AtomicInteger loads = new AtomicInteger();
+
+                // Act
+                cache.get(null, "1234567890", number -> {
+                        loads.incrementAndGet();
+                        return customer();
+                });
+                cache.get(null, "1234567890", number -> {
+                        loads.incrementAndGet();
+                        return customer();
+                });
+                advanceMillis(1000);
+                cache.get(null, "1234567890", number -> {
+                        loads.incrementAndGet();
+                        return customer();
+                });
+
+                // Assert
+                assertEquals(2, loads.get());
+                assertEquals(1, cache.getHitCount());
+                assertEquals(2, cache.getMissCount());
+        }
+
+        @Test
+        void testGet_CachesNotFoundForNegativeTtl() {
+                // Arrange
+                CustomerCache cache = cache();
+                AtomicInteger loads = new AtomicInteger();
+
+                // Act & Assert
+                for (int i = 0; i < 3; i++) {
+                        BoltaApiException exception = assertThrows(BoltaApiException.class,
+                                        () -> cache.get(null, "1234567890", number -> {
+                                                loads.incrementAndGet();
+                                                throw notFound();
+                                        }));
+                        assertEquals(404, exception.getStatusCode());
+                }
+                assertEquals(1, loads.get());
+                assertEquals(2, cache.getNegativeHitCount());
+
+                advanceMillis(100);
+                assertEquals("1234567890", cache.get(null, "1234567890", number -> customer())
+                                .getIdentificationNumber());
+        }
+
+        @Test
+        void testGet_DoesNotCacheOtherErrors() {
+                // Arrange
+                CustomerCache cache = cache();
+
+                // Act
+                assertThrows(BoltaApiException.class, () -> cache.get(null, "1234567890", number -> {
+                        throw new BoltaApiException(500, "Internal error", "{}");
+                }));
+
+                // Assert
+                assertEquals(0, cache.size());
+        }
+
+        @Test
+        void testGet_ScopedByCustomerKey() {
+                // Arrange
+                CustomerCache cache = cache();
+                AtomicInteger loads = new AtomicInteger();
+
+                // Act
+                cache.get("customer-a", "1234567890", number -> {
+                        loads.incrementAndGet();
+                        return customer();
+                });
+                cache.get("customer-b", "1234567890", number -> {
+                        loads.incrementAndGet();
+                        return customer();
+                });
+
+                // Assert
+                assertEquals(2, loads.get());
+        }
+
+        @Test
+        void testRecordCreated_ReplacesCachedNotFound() {
+                // Arrange
+                CustomerCache cache = cache();
+                assertThrows(BoltaApiException.class, () -> cache.get(null, "1234567890", number -> {
+                        throw notFound();
+                }));
+
+                // Act
+                cache.recordCreated(null, "1234567890");
+
+                // Assert
+                assertEquals("1234567890", cache.get(null, "1234567890", number -> customer())
+                                .getIdentificationNumber());
+        }
+
+        @Test
+        void testGetAsync_NotFoundInFlightDuringCreateIsNotCached() {
+                // Arrange
+                CustomerCache cache = cache();
+                CompletableFuture<Customer> response = new CompletableFuture<>();
+                CompletableFuture<Customer> pending = cache.getAsync(null, "1234567890", number -> response);
+
+                // Act
+                cache.recordCreated(null, "1234567890");
+                response.completeExceptionally(notFound());
+
+                // Assert
+                assertTrue(pending.isCompletedExceptionally());
+                AtomicInteger creates = new AtomicInteger();
+                cache.ensureExists(null, "1234567890", creates::incrementAndGet);
+                assertEquals(0, creates.get());
+        }
+
+        @Test
+        void testEnsureExists_SkipsKnownCustomers() {
+                // Arrange
+                CustomerCache cache = cache();
+                AtomicInteger creates = new AtomicInteger();
+
+                // Act
+                cache.ensureExists(null, "1234567890", creates::incrementAndGet);
+                cache.ensureExists(null, "1234567890", creates::incrementAndGet);
+                advanceMillis(1000);
+                cache.ensureExists(null, "1234567890", creates::incrementAndGet);
+
+                // Assert
+                assertEquals(2, creates.get());
+                assertEquals(1, cache.getSkippedCreateCount());
+        }
+
+        @Test
+        void testEnsureExistsAsync_CoalescesConcurrentCreates() throws Exception {
+                // Arrange
+                CustomerCache cache = cache();
+                CompletableFuture<Void> response = new CompletableFuture<>();
+                AtomicInteger creates = new AtomicInteger();
+
+                // Act
+                CompletableFuture<Void> first = cache.ensureExistsAsync(null, "1234567890", () -> {
+                        creates.incrementAndGet();
+                        return response;
+                });
+                CompletableFuture<Void> second = cache.ensureExistsAsync(null, "1234567890", () -> {
+                        creates.incrementAndGet();
+                        return response;
+                });
+                response.complete(null);
+
+                // Assert
+                first.get();
+                second.get();
+                assertEquals(1, creates.get());
+                assertEquals(1, cache.getSkippedCreateCount());
+        }
+
+        @Test
+        void testEnsureExistsAsync_FailureIsSharedAndNotRemembered() {
+                // Arrange
+                CustomerCache cache = cache();
+                CompletableFuture<Void> response = new CompletableFuture<>();
+
+                // Act
+                CompletableFuture<Void> first = cache.ensureExistsAsync(null, "1234567890", () -> response);
+                CompletableFuture<Void> second = cache.ensureExistsAsync(null, "1234567890", () -> response);
+                response.completeExceptionally(new BoltaException("Network error"));
+
+                // Assert
+                ExecutionException firstFailure = assertThrows(ExecutionException.class, first::get);
+                ExecutionException secondFailure = assertThrows(ExecutionException.class, second::get);
+                assertTrue(firstFailure.getCause() instanceof BoltaException);
+                assertTrue(secondFailure.getCause() instanceof BoltaException);
+
+                AtomicInteger creates = new AtomicInteger();
+                cache.ensureExists(null, "1234567890", creates::incrementAndGet);
+                assertEquals(1, creates.get());
+        }
+}
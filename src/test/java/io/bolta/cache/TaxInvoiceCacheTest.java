@@ -0,0 +1,167 @@
+package io.bolta.cache;
+
+import io.bolta.exception.BoltaException;
+import io.bolta.model.IssuancePurpose;
+import io.bolta.model.Manager;
+import io.bolta.model.Supplied;
+import io.bolta.model.Supplier;
+import io.bolta.model.TaxInvoice;
+import io.bolta.model.TaxInvoiceLineItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TaxInvoiceCache}.
+ */
+class TaxInvoiceCacheTest {
+
+        private static TaxInvoice invoice(String organizationName) {
+                return TaxInvoice.builder()
+                                .date("2024-01-01")
+                                .purpose(IssuancePurpose.RECEIPT)
+                                .supplier(Supplier.builder()
+                                                .identificationNumber("1234567890")
+                                                .organizationName(organizationName)
+                                                .representativeName("John Doe")
+                                                .manager(Manager.builder().email("manager@example.com").build())
+                                                .build())
+                                .supplied(Supplied.builder()
+                                                .identificationNumber("0987654321")
+                                                .organizationName("Your Company")
+                                                .representativeName("Jane Doe")
+                                                .build())
+                                .items(Collections.singletonList(TaxInvoiceLineItem.builder()
+                                                .date("2024-01-01")
+                                                .name("Service Fee")
+                                                .supplyCost(10000L)
+                                                .build()))
+                                .build();
+        }
+
+        @Test
+        void testGet_LoadsOnceAndCountsHits() {
+                // Arrange
+                TaxInvoiceCache cache = TaxInvoiceCache.builder().build();
+                TaxInvoice invoice = invoice("My Company");
+                AtomicInteger loads = new AtomicInteger();
+
+                // Act
+                for (int i = 0; i < 5; i++) {
+                        assertSame(invoice, cache.get("KEY_1", key -> {
+                                loads.incrementAndGet();
+                                return invoice;
+                        }));
+                }
+
+                // Assert
+                assertEquals(1, loads.get());
+                assertEquals(4, cache.getHitCount());
+                assertEquals(1, cache.getMissCount());
+                assertEquals(0.8, cache.getHitRate(), 1e-9);
+        }
+
+        @Test
+        void testGet_FailedLoadIsNotCached() {
+                // Arrange
+                TaxInvoiceCache cache = TaxInvoiceCache.builder().build();
+
+                // Act & Assert
+                assertThrows(BoltaException.class, () -> cache.get("KEY_1", key -> {
+                        throw new BoltaException("Network error");
+                }));
+                assertEquals(0, cache.size());
+        }
+
+        @Test
+        void testGetAsync_CachesCompletedLoad() throws Exception {
+                // Arrange
+                TaxInvoiceCache cache = TaxInvoiceCache.builder().build();
+                CompletableFuture<TaxInvoice> response = new CompletableFuture<>();
+
+                // Act
+                CompletableFuture<TaxInvoice> first = cache.getAsync("KEY_1", key -> response);
+                assertFalse(first.isDone());
+                response.complete(invoice("My Company"));
+
+                // Assert
+                assertEquals("My Company", first.get().getSupplier().getOrganizationName());
+                CompletableFuture<TaxInvoice> second = cache.getAsync("KEY_1", key -> {
+                        throw new AssertionError("should be cached");
+                });
+                assertTrue(second.isDone());
+                assertSame(first.get(), second.get());
+        }
+
+        @Test
+        void testInvalidate_DiscardsLoadInFlight() {
+                // Arrange
+                TaxInvoiceCache cache = TaxInvoiceCache.builder().build();
+                CompletableFuture<TaxInvoice> response = new CompletableFuture<>();
+                CompletableFuture<TaxInvoice> pending = cache.getAsync("KEY_1", key -> response);
+
+                // Act
+                cache.invalidate("KEY_1");
+                response.complete(invoice("Before Amendment"));
+
+                // Assert
+                assertEquals("Before Amendment", pending.join().getSupplier().getOrganizationName());
+                assertNull(cache.getIfPresent("KEY_1"));
+        }
+
+        @Test
+        void testEviction_KeepsFrequentlyReadEntries() {
+                // Arrange
+                TaxInvoiceCache cache = TaxInvoiceCache.builder().maxEntries(10).build();
+                TaxInvoice invoice = invoice("My Company");
+                for (int i = 0; i < 5; i++) {
+                        cache.put("HOT_" + i, invoice);
+                        cache.getIfPresent("HOT_" + i);
+                }
+
+                // Act
+                for (int i = 0; i < 100; i++) {
+                        cache.put("SCAN_" + i, invoice);
+                }
+
+                // Assert
+                assertEquals(10, cache.size());
+                assertEquals(95, cache.getEvictionCount());
+                for (int i = 0; i < 5; i++) {
+                        assertNotNull(cache.getIfPresent("HOT_" + i));
+                }
+        }
+
+        @Test
+        void testSerialized_ReturnsEqualCopies() {
+                // Arrange
+                TaxInvoiceCache cache = TaxInvoiceCache.builder().serialized(true).build();
+                TaxInvoice invoice = invoice("My Company");
+
+                // Act
+                cache.put("KEY_1", invoice);
+                TaxInvoice first = cache.getIfPresent("KEY_1");
+                TaxInvoice second = cache.getIfPresent("KEY_1");
+
+                // Assert
+                assertNotSame(invoice, first);
+                assertNotSame(first, second);
+                assertEquals("My Company", first.getSupplier().getOrganizationName());
+                assertEquals("manager@example.com", first.getSupplier().getManager().getEmail());
+                assertEquals(1, first.getTaxInvoiceLineItems().size());
+                assertEquals(Long.valueOf(10000L), first.getTaxInvoiceLineItems().get(0).getSupplyCost());
+        }
+
+        @Test
+        void testGetIfPresent_RequiresKey() {
+                // Arrange
+                TaxInvoiceCache cache = TaxInvoiceCache.builder().build();
+
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class, () -> cache.getIfPresent(""));
+        }
+}
@@ -0,0 +1,190 @@
+package io.bolta.circuitbreaker;
+
+import io.bolta.exception.CircuitBreakerOpenException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CircuitBreaker}.
+ */
+class CircuitBreakerTest {
+
+        private static final String ISSUE = "/v1/taxInvoices/issue";
+        private static final String CUSTOMER = "/v1/customers/{identificationNumber}";
+        private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+        private static final long SLOW = TimeUnit.SECONDS.toNanos(20);
+
+        private final AtomicLong now = new AtomicLong();
+        private final List<String> transitions = new ArrayList<>();
+
+        private CircuitBreaker breaker() {
+                CircuitBreaker breaker = CircuitBreaker.builder()
+                                .windowSize(10)
+                                .minimumCalls(4)
+                                .openDurationMillis(1000)
+                                .halfOpenCalls(2)
+                                .clock(now::get)
+                                .build();
+                breaker.addListener((route, from, to) -> transitions.add(route + " " + from + "->" + to));
+                return breaker;
+        }
+
+        @Test
+        void testAcquire_OpensWhenFailureRateReachesThreshold() {
+                // Arrange
+                CircuitBreaker breaker = breaker();
+
+                // Act
+                breaker.acquire(ISSUE).success(FAST);
+                breaker.acquire(ISSUE).failure(FAST);
+                breaker.acquire(ISSUE).success(FAST);
+                CircuitBreaker.State beforeMinimum = breaker.getState(ISSUE);
+                breaker.acquire(ISSUE).failure(FAST);
+
+                // Assert
+                assertEquals(CircuitBreaker.State.CLOSED, beforeMinimum);
+                assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ISSUE));
+                CircuitBreakerOpenException exception = assertThrows(CircuitBreakerOpenException.class,
+                                () -> breaker.acquire(ISSUE));
+                assertEquals(ISSUE, exception.getRoute());
+                assertEquals(1000, exception.getRemainingMillis());
+                assertEquals(1, breaker.getRejectedCount());
+                assertEquals(1, transitions.size());
+                assertEquals(ISSUE + " CLOSED->OPEN", transitions.get(0));
+        }
+
+        @Test
+        void testAcquire_OpensWhenSlowCallRateReachesThreshold() {
+                // Arrange
+                CircuitBreaker breaker = breaker();
+
+                // Act
+                for (int i = 0; i < 4; i++) {
+                        breaker.acquire(ISSUE).success(SLOW);
+                }
+
+                // Assert
+                assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ISSUE));
+        }
+
+        @Test
+        void testAcquire_KeepsRoutesApart() {
+                // Arrange
+                CircuitBreaker breaker = breaker();
+
+                // Act
+                for (int i = 0; i < 4; i++) {
+                        breaker.acquire(ISSUE).failure(FAST);
+                }
+
+                // Assert
+                assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ISSUE));
+                assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(CUSTOMER));
+                assertDoesNotThrow(() -> breaker.acquire(CUSTOMER).success(FAST));
+        }
+
+        @Test
+        void testAcquire_ClosesAfterSuccessfulTrialCalls() {
+                // Arrange
+                CircuitBreaker breaker = breaker();
+                for (int i = 0; i < 4; i++) {
+                        breaker.acquire(ISSUE).failure(FAST);
+                }
+                now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+                // Act
+                CircuitBreaker.Permit first = breaker.acquire(ISSUE);
+                CircuitBreaker.Permit second = breaker.acquire(ISSUE);
+                CircuitBreakerOpenException rejected = assertThrows(CircuitBreakerOpenException.class,
+                                () -> breaker.acquire(ISSUE));
+                first.success(FAST);
+                second.success(FAST);
+
+                // Assert
+                assertEquals(0, rejected.getRemainingMillis());
+                assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ISSUE));
+                assertEquals(3, transitions.size());
+                assertEquals(ISSUE + " OPEN->HALF_OPEN", transitions.get(1));
+                assertEquals(ISSUE + " HALF_OPEN->CLOSED", transitions.get(2));
+        }
+
+        @Test
+        void testAcquire_ReopensWhenTrialCallsFail() {
+                // Arrange
+                CircuitBreaker breaker = breaker();
+                for (int i = 0; i < 4; i++) {
+                        breaker.acquire(ISSUE).failure(FAST);
+                }
+                now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+                // Act
+                breaker.acquire(ISSUE).success(FAST);
+                breaker.acquire(ISSUE).failure(FAST);
+
+                // Assert
+                assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ISSUE));
+                assertEquals(ISSUE + " HALF_OPEN->OPEN", transitions.get(transitions.size() - 1));
+                assertThrows(CircuitBreakerOpenException.class, () -> breaker.acquire(ISSUE));
+        }
+
+        @Test
+        void testPermit_IgnoredTrialCallIsHandedBack() {
+                // Arrange
+                CircuitBreaker breaker = breaker();
+                for (int i = 0; i < 4; i++) {
+                        breaker.acquire(ISSUE).failure(FAST);
+                }
+                now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+                CircuitBreaker.Permit first = breaker.acquire(ISSUE);
+                CircuitBreaker.Permit second = breaker.acquire(ISSUE);
+
+                // Act
+                first.ignore();
+                first.failure(FAST);
+                CircuitBreaker.Permit third = breaker.acquire(ISSUE);
+                second.success(FAST);
+                third.success(FAST);
+
+                // Assert
+                assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ISSUE));
+        }
+
+        @Test
+        void testPermit_OutcomeFromBeforeTransitionIsDiscarded() {
+                // Arrange
+                CircuitBreaker breaker = breaker();
+                CircuitBreaker.Permit stale = breaker.acquire(ISSUE);
+                for (int i = 0; i < 4; i++) {
+                        breaker.acquire(ISSUE).failure(FAST);
+                }
+                now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+                CircuitBreaker.Permit trial = breaker.acquire(ISSUE);
+
+                // Act
+                stale.failure(FAST);
+                trial.success(FAST);
+                breaker.acquire(ISSUE).success(FAST);
+
+                // Assert
+                assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ISSUE));
+        }
+
+        @Test
+        void testBuild_ValidatesSettings() {
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class,
+                                () -> CircuitBreaker.builder().failureRateThreshold(0));
+                assertThrows(IllegalArgumentException.class,
+                                () -> CircuitBreaker.builder().slowCallRateThreshold(1.5));
+                assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().windowSize(0));
+                assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().halfOpenCalls(0));
+                assertThrows(IllegalArgumentException.class,
+                                () -> CircuitBreaker.builder().build().addListener(null));
+        }
+}
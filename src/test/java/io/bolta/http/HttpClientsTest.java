@@ -0,0 +1,206 @@
+package io.bolta.http;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for {@link HttpClients.Builder}.
+ */
+class HttpClientsTest {
+        private MockWebServer mockWebServer;
+
+        @BeforeEach
+        void setUp() throws IOException {
+                mockWebServer = new MockWebServer();
+                mockWebServer.start();
+        }
+
+        @AfterEach
+        void tearDown() throws IOException {
+                mockWebServer.shutdown();
+        }
+
+        @Test
+        void testBuild_DefaultsAreSizedForServerUse() {
+                // Act
+                OkHttpClient client = HttpClients.builder().newOkHttpClient();
+
+                // Assert
+                assertEquals(256, client.dispatcher().getMaxRequests());
+                assertEquals(256, client.dispatcher().getMaxRequestsPerHost());
+                assertEquals(64, HttpClients.DEFAULT_MAX_IDLE_CONNECTIONS);
+                assertEquals(TimeUnit.MINUTES.toMillis(5), HttpClients.DEFAULT_KEEP_ALIVE_MILLIS);
+        }
+
+        @Test
+        void testBuild_DefaultPoolKeepsAtMost64IdleConnections() throws Exception {
+                // Arrange
+                OkHttpClient client = HttpClients.builder().newOkHttpClient();
+
+                // Act
+                openConnections(client, 65);
+
+                // Assert
+                awaitTrue(() -> client.connectionPool().idleConnectionCount() == 64);
+                assertEquals(64, client.connectionPool().connectionCount());
+        }
+
+        @Test
+        void testBuild_AppliesDispatcherAndPoolLimits() throws Exception {
+                // Arrange
+                OkHttpClient client = HttpClients.builder()
+                                .maxRequests(8)
+                                .maxRequestsPerHost(4)
+                                .maxIdleConnections(2)
+                                .keepAliveMillis(200)
+                                .connectTimeoutMillis(1_000)
+                                .readTimeoutMillis(2_000)
+                                .writeTimeoutMillis(3_000)
+                                .newOkHttpClient();
+
+                // Act
+                openConnections(client, 4);
+
+                // Assert
+                assertEquals(8, client.dispatcher().getMaxRequests());
+                assertEquals(4, client.dispatcher().getMaxRequestsPerHost());
+                assertEquals(1_000, client.connectTimeoutMillis());
+                assertEquals(2_000, client.readTimeoutMillis());
+                assertEquals(3_000, client.writeTimeoutMillis());
+                awaitTrue(() -> client.connectionPool().idleConnectionCount() == 2);
+                awaitTrue(() -> client.connectionPool().connectionCount() == 0);
+        }
+
+        @Test
+        void testBuild_SharedConnectionPoolIsUsedByEveryClient() throws Exception {
+                // Arrange
+                ConnectionPool pool = HttpClients.newConnectionPool(4, 1, TimeUnit.MINUTES);
+                OkHttpClient first = HttpClients.builder().connectionPool(pool).newOkHttpClient();
+                OkHttpClient second = HttpClients.builder()
+                                .connectionPool(pool)
+                                .maxIdleConnections(0)
+                                .newOkHttpClient();
+                mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+                mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+                // Act
+                get(first);
+                get(second);
+
+                // Assert
+                assertSame(pool, first.connectionPool());
+                assertSame(pool, second.connectionPool());
+                assertEquals(0, mockWebServer.takeRequest(1, TimeUnit.SECONDS).getSequenceNumber());
+                assertEquals(1, mockWebServer.takeRequest(1, TimeUnit.SECONDS).getSequenceNumber());
+                assertEquals(1, pool.connectionCount());
+        }
+
+        @Test
+        void testVirtualThreads_RunsCallsOnVirtualThreads() throws Exception {
+                // Arrange
+                assumeTrue(VirtualThreads.isAvailable(), "virtual threads require Java 21");
+                OkHttpClient client = HttpClients.builder().virtualThreads().newOkHttpClient();
+
+                // Act
+                String threadName = client.dispatcher().executorService()
+                                .submit(() -> Thread.currentThread().getName())
+                                .get(5, TimeUnit.SECONDS);
+
+                // Assert
+                assertTrue(threadName.startsWith("bolta-okhttp-"));
+        }
+
+        @Test
+        void testVirtualThreads_ThrowsWithoutVirtualThreads() {
+                // Arrange
+                assumeFalse(VirtualThreads.isAvailable(), "virtual threads are available");
+
+                // Act & Assert
+                assertThrows(UnsupportedOperationException.class, () -> HttpClients.builder().virtualThreads());
+        }
+
+        @Test
+        void testBuilder_RejectsInvalidArguments() {
+                // Arrange
+                HttpClients.Builder builder = HttpClients.builder();
+
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class, () -> builder.connectTimeoutMillis(-1));
+                assertThrows(IllegalArgumentException.class, () -> builder.readTimeoutMillis(-1));
+                assertThrows(IllegalArgumentException.class, () -> builder.writeTimeoutMillis(-1));
+                assertThrows(IllegalArgumentException.class, () -> builder.maxRequests(0));
+                assertThrows(IllegalArgumentException.class, () -> builder.maxRequestsPerHost(0));
+                assertThrows(IllegalArgumentException.class, () -> builder.maxIdleConnections(-1));
+                assertThrows(IllegalArgumentException.class, () -> builder.keepAliveMillis(0));
+                assertDoesNotThrow(() -> builder.maxIdleConnections(0).connectTimeoutMillis(0));
+        }
+
+        private void get(OkHttpClient client) throws IOException {
+                Request request = new Request.Builder().url(mockWebServer.url("/v1/customers")).build();
+                try (Response response = client.newCall(request).execute()) {
+                        assertEquals(200, response.code());
+                }
+        }
+
+        /**
+         * Sends {@code count} requests that the server holds until all of them
+         * have arrived, so each one opens its own connection.
+         */
+        private void openConnections(OkHttpClient client, int count) throws InterruptedException {
+                CountDownLatch arrived = new CountDownLatch(count);
+                CountDownLatch done = new CountDownLatch(count);
+                mockWebServer.setDispatcher(new Dispatcher() {
+                        @Override
+                        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                                arrived.countDown();
+                                arrived.await(5, TimeUnit.SECONDS);
+                                return new MockResponse().setResponseCode(200);
+                        }
+                });
+                Request request = new Request.Builder().url(mockWebServer.url("/v1/customers")).build();
+                for (int i = 0; i < count; i++) {
+                        client.newCall(request).enqueue(new Callback() {
+                                @Override
+                                public void onResponse(Call call, Response response) {
+                                        response.close();
+                                        done.countDown();
+                                }
+
+                                @Override
+                                public void onFailure(Call call, IOException e) {
+                                        done.countDown();
+                                }
+                        });
+                }
+                assertTrue(arrived.await(5, TimeUnit.SECONDS));
+                assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+
+        private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (!condition.getAsBoolean()) {
+                        assertTrue(System.nanoTime() < deadline, "condition not met within 5 seconds");
+                        TimeUnit.MILLISECONDS.sleep(10);
+                }
+        }
+}
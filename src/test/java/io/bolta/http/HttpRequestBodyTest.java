@@ -0,0 +1,70 @@
+package io.bolta.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HttpRequestBody}.
+ */
+class HttpRequestBodyTest {
+
+        @Test
+        void testJsonBody_WritesWithoutClosingStream() throws Exception {
+                // Arrange
+                HttpRequestBody body = HttpRequestBody.json(new ObjectMapper(),
+                                Collections.singletonMap("name", "Service Fee"));
+                CloseTrackingOutputStream out = new CloseTrackingOutputStream();
+
+                // Act
+                body.writeTo(out);
+                body.writeTo(out);
+
+                // Assert
+                assertFalse(out.closed, "The transport stream must stay open");
+                assertEquals("{\"name\":\"Service Fee\"}{\"name\":\"Service Fee\"}",
+                                new String(out.toByteArray(), StandardCharsets.UTF_8));
+                assertEquals(-1, body.contentLength());
+        }
+
+        @Test
+        void testJsonBody_Buffered() throws Exception {
+                // Arrange
+                HttpRequestBody body = HttpRequestBody.json(new ObjectMapper(),
+                                Collections.singletonMap("name", "Service Fee"));
+
+                // Act
+                HttpRequestBody buffered = body.buffered();
+
+                // Assert
+                assertEquals(buffered.toByteArray().length, buffered.contentLength());
+                assertSame(buffered, buffered.buffered());
+                assertArrayEquals(body.toByteArray(), buffered.toByteArray());
+        }
+
+        @Test
+        void testStringBody_EncodedAsUtf8() throws Exception {
+                // Arrange & Act
+                HttpRequestBody body = HttpRequestBody.of("세금계산서");
+
+                // Assert
+                assertArrayEquals("세금계산서".getBytes(StandardCharsets.UTF_8), body.toByteArray());
+                assertSame(HttpRequestBody.empty(), HttpRequestBody.of(""));
+        }
+
+        private static final class CloseTrackingOutputStream extends ByteArrayOutputStream {
+                private boolean closed;
+
+                @Override
+                public void close() throws IOException {
+                        closed = true;
+                        super.close();
+                }
+        }
+}
@@ -0,0 +1,113 @@
+package io.bolta.http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HttpRequest}.
+ */
+class HttpRequestTest {
+
+        @Test
+        void testBuilderReuse_DoesNotAffectBuiltRequest() {
+                // Arrange
+                HttpRequest.Builder builder = HttpRequest.builder()
+                                .url("https://xapi.bolta.io/v1/customers")
+                                .method(HttpMethod.GET)
+                                .header("Customer-Key", "customer_a");
+                HttpRequest first = builder.build();
+
+                // Act
+                HttpRequest second = builder.header("Customer-Key", "customer_b").build();
+
+                // Assert
+                assertEquals("customer_a", first.getHeaders().getHeaders().get("Customer-Key"));
+                assertEquals("customer_b", second.getHeaders().getHeaders().get("Customer-Key"));
+        }
+
+        @Test
+        void testBuiltRequestHeaders_AreReadOnly() {
+                // Arrange
+                HttpRequest.Builder builder = HttpRequest.builder()
+                                .url("https://xapi.bolta.io/v1/customers")
+                                .method(HttpMethod.GET)
+                                .header("Customer-Key", "customer_a");
+                HttpRequest first = builder.build();
+                HttpRequest second = builder.build();
+
+                // Act & Assert
+                assertThrows(UnsupportedOperationException.class,
+                                () -> first.getHeaders().add("Customer-Key", "customer_b"));
+                assertThrows(UnsupportedOperationException.class,
+                                () -> first.withHeaders(new HttpHeaders()).getHeaders().add("X-Trace", "1"));
+                assertEquals("customer_a", second.getHeaders().getHeaders().get("Customer-Key"));
+        }
+
+        @Test
+        void testNewBuilder_DoesNotAffectOriginalRequest() {
+                // Arrange
+                HttpRequest original = HttpRequest.builder()
+                                .url("https://xapi.bolta.io/v1/customers")
+                                .method(HttpMethod.GET)
+                                .header("Customer-Key", "customer_a")
+                                .build();
+
+                // Act
+                HttpRequest copy = original.newBuilder()
+                                .header("Bolta-Client-Reference-Id", "ref-1")
+                                .build();
+
+                // Assert
+                assertEquals(1, original.getHeaders().size());
+                assertEquals(2, copy.getHeaders().size());
+                assertEquals("customer_a", copy.getHeaders().getHeaders().get("Customer-Key"));
+        }
+
+        @Test
+        void testGetRoute_UsesTemplatePatternOrUrlPath() {
+                // Arrange
+                RouteTemplate route = RouteTemplate.compile("/v1/customers/{identificationNumber}");
+                HttpRequest templated = HttpRequest.builder()
+                                .url("https://xapi.bolta.io/v1/customers/1234567890")
+                                .route(route)
+                                .method(HttpMethod.GET)
+                                .build();
+                HttpRequest plain = HttpRequest.builder()
+                                .url("https://xapi.bolta.io/v1/customers/1234567890?page=2")
+                                .method(HttpMethod.GET)
+                                .build();
+
+                // Act
+                HttpRequest copy = templated.newBuilder().header("Customer-Key", "customer_a").build();
+
+                // Assert
+                assertEquals("/v1/customers/{identificationNumber}", templated.getRoute());
+                assertEquals("/v1/customers/{identificationNumber}", copy.getRoute());
+                assertEquals("/v1/customers/{identificationNumber}",
+                                templated.withHeaders(new HttpHeaders()).getRoute());
+                assertEquals("/v1/customers/1234567890", plain.getRoute());
+        }
+
+        @Test
+        void testWithTimeoutMillis_KeepsRequestAndRoute() {
+                // Arrange
+                HttpRequest original = HttpRequest.builder()
+                                .url("https://xapi.bolta.io/v1/customers/1234567890")
+                                .route(RouteTemplate.compile("/v1/customers/{identificationNumber}"))
+                                .method(HttpMethod.GET)
+                                .header("Customer-Key", "customer_a")
+                                .build();
+
+                // Act
+                HttpRequest limited = original.withTimeoutMillis(250);
+
+                // Assert
+                assertEquals(0, original.getTimeoutMillis());
+                assertEquals(250, limited.getTimeoutMillis());
+                assertEquals(250, limited.newBuilder().build().getTimeoutMillis());
+                assertEquals(original.getUrl(), limited.getUrl());
+                assertEquals(original.getRoute(), limited.getRoute());
+                assertEquals("customer_a", limited.getHeaders().getHeaders().get("Customer-Key"));
+        }
+}
@@ -0,0 +1,84 @@
+package io.bolta.http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RouteTemplate}.
+ */
+class RouteTemplateTest {
+
+        @Test
+        void testExpand_WithBaseUrl() {
+                // Arrange
+                RouteTemplate route = RouteTemplate.compile("/v1/taxInvoices/{issuanceKey}/amend/termination");
+
+                // Act
+                String url = route.expandUrl("https://xapi.bolta.io", "IK_123");
+
+                // Assert
+                assertEquals("https://xapi.bolta.io/v1/taxInvoices/IK_123/amend/termination", url);
+        }
+
+        @Test
+        void testExpand_WithoutVariables() {
+                // Arrange
+                RouteTemplate route = RouteTemplate.compile("/v1/customers");
+
+                // Act & Assert
+                assertEquals(0, route.getVariableCount());
+                assertEquals("/v1/customers", route.expand());
+        }
+
+        @Test
+        void testExpand_EncodesReservedCharacters() {
+                // Arrange
+                RouteTemplate route = RouteTemplate.compile("/v1/customers/{customerKey}/certificates");
+
+                // Act
+                String path = route.expand("a/b?c#d e%");
+
+                // Assert
+                assertEquals("/v1/customers/a%2Fb%3Fc%23d%20e%25/certificates", path);
+        }
+
+        @Test
+        void testExpand_EncodesNonAsciiAsUtf8() {
+                // Arrange
+                RouteTemplate route = RouteTemplate.compile("/v1/customers/{customerKey}");
+
+                // Act
+                String path = route.expand("key-볼타");
+
+                // Assert
+                assertEquals("/v1/customers/key-%EB%B3%BC%ED%83%80", path);
+        }
+
+        @Test
+        void testExpand_RejectsDotSegments() {
+                RouteTemplate route = RouteTemplate.compile("/v1/taxInvoices/{issuanceKey}");
+
+                assertThrows(IllegalArgumentException.class, () -> route.expand(".."));
+                assertThrows(IllegalArgumentException.class, () -> route.expand("."));
+        }
+
+        @Test
+        void testExpand_RejectsMissingValues() {
+                RouteTemplate route = RouteTemplate.compile("/v1/taxInvoices/{issuanceKey}");
+
+                assertThrows(IllegalArgumentException.class, () -> route.expand((String) null));
+                assertThrows(IllegalArgumentException.class, () -> route.expand(""));
+                assertThrows(IllegalArgumentException.class, () -> route.expand());
+                assertThrows(IllegalArgumentException.class, () -> route.expand("a", "b"));
+        }
+
+        @Test
+        void testCompile_RejectsMalformedPatterns() {
+                assertThrows(IllegalArgumentException.class, () -> RouteTemplate.compile(null));
+                assertThrows(IllegalArgumentException.class, () -> RouteTemplate.compile("v1/customers"));
+                assertThrows(IllegalArgumentException.class, () -> RouteTemplate.compile("/v1/{}"));
+                assertThrows(IllegalArgumentException.class, () -> RouteTemplate.compile("/v1/{key"));
+                assertThrows(IllegalArgumentException.class, () -> RouteTemplate.compile("/v1/{a{b}}"));
+        }
+}
@@ -0,0 +1,84 @@
+package io.bolta.http.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bolta.http.HttpClient;
+import io.bolta.http.HttpClients;
+import io.bolta.http.HttpMethod;
+import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpRequestBody;
+import io.bolta.http.HttpResponse;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link DefaultHttpClient}.
+ */
+class DefaultHttpClientTest {
+        private MockWebServer mockWebServer;
+        private HttpClient httpClient;
+
+        @BeforeEach
+        void setUp() throws IOException {
+                mockWebServer = new MockWebServer();
+                mockWebServer.start();
+                httpClient = HttpClients.builder().build();
+        }
+
+        @AfterEach
+        void tearDown() throws IOException {
+                mockWebServer.shutdown();
+        }
+
+        @Test
+        void testExecute_StringBodyIsSentAsUtf8Json() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+                // Act
+                HttpResponse response = httpClient.execute(HttpRequest.builder()
+                                .url(mockWebServer.url("/v1/customers").toString())
+                                .method(HttpMethod.POST)
+                                .body("{\"name\":\"볼타\"}")
+                                .build());
+
+                // Assert
+                assertEquals(200, response.getStatusCode());
+
+                RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+                assertEquals("application/json; charset=utf-8", request.getHeader("Content-Type"));
+                assertEquals("{\"name\":\"볼타\"}", request.getBody().readUtf8());
+                assertEquals(request.getBodySize(), Long.parseLong(request.getHeader("Content-Length")));
+        }
+
+        @Test
+        void testExecuteAsync_StreamingJsonBodyKeepsCharset() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(201));
+
+                // Act
+                HttpResponse response = httpClient.executeAsync(HttpRequest.builder()
+                                .url(mockWebServer.url("/v1/customers").toString())
+                                .method(HttpMethod.POST)
+                                .body(HttpRequestBody.json(new ObjectMapper(),
+                                                Collections.singletonMap("identificationNumber", "1234567890")))
+                                .build())
+                                .get(5, TimeUnit.SECONDS);
+
+                // Assert
+                assertEquals(201, response.getStatusCode());
+
+                RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+                assertEquals("application/json; charset=utf-8", request.getHeader("Content-Type"));
+                assertEquals("{\"identificationNumber\":\"1234567890\"}", request.getBody().readUtf8());
+        }
+}
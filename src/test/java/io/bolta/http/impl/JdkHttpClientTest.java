@@ -0,0 +1,112 @@
+package io.bolta.http.impl;
+
+import io.bolta.http.HttpClient;
+import io.bolta.http.HttpClients;
+import io.bolta.http.HttpMethod;
+import io.bolta.http.HttpRequest;
+import io.bolta.http.HttpResponse;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for {@link JdkHttpClient}.
+ */
+class JdkHttpClientTest {
+        private MockWebServer mockWebServer;
+        private HttpClient httpClient;
+
+        @BeforeEach
+        void setUp() throws IOException {
+                assumeTrue(JdkHttpClient.isSupported(), "java.net.http is not available");
+
+                mockWebServer = new MockWebServer();
+                mockWebServer.start();
+                httpClient = HttpClients.jdkBuilder()
+                                .connectTimeoutMillis(5000)
+                                .requestTimeoutMillis(5000)
+                                .build();
+        }
+
+        @AfterEach
+        void tearDown() throws IOException {
+                if (mockWebServer != null) {
+                        mockWebServer.shutdown();
+                }
+        }
+
+        @Test
+        void testExecute_Get() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse()
+                                .setResponseCode(200)
+                                .addHeader("Retry-After", "1")
+                                .addHeader("Retry-After", "2")
+                                .setBody("{\"issuanceKey\":\"IK_123\"}"));
+
+                // Act
+                HttpResponse response = httpClient.execute(HttpRequest.builder()
+                                .url(mockWebServer.url("/v1/taxInvoices/IK_123").toString())
+                                .method(HttpMethod.GET)
+                                .header("Customer-Key", "customer_bf8paz")
+                                .build());
+
+                // Assert
+                assertEquals(200, response.getStatusCode());
+                assertEquals("{\"issuanceKey\":\"IK_123\"}", response.getBody());
+                assertEquals("2", response.getHeaders().get("retry-after"));
+
+                RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+                assertEquals("GET", request.getMethod());
+                assertEquals("/v1/taxInvoices/IK_123", request.getPath());
+                assertEquals("customer_bf8paz", request.getHeader("Customer-Key"));
+        }
+
+        @Test
+        void testExecuteAsync_PostWithBody() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(201));
+
+                // Act
+                HttpResponse response = httpClient.executeAsync(HttpRequest.builder()
+                                .url(mockWebServer.url("/v1/customers").toString())
+                                .method(HttpMethod.POST)
+                                .body("{\"identificationNumber\":\"1234567890\"}")
+                                .build())
+                                .get(5, TimeUnit.SECONDS);
+
+                // Assert
+                assertEquals(201, response.getStatusCode());
+                assertFalse(response.hasBody());
+
+                RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+                assertEquals("POST", request.getMethod());
+                assertEquals("application/json", request.getHeader("Content-Type"));
+                assertEquals("{\"identificationNumber\":\"1234567890\"}", request.getBody().readUtf8());
+        }
+
+        @Test
+        void testExecute_Delete() throws Exception {
+                // Arrange
+                mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+
+                // Act
+                HttpResponse response = httpClient.execute(HttpRequest.builder()
+                                .url(mockWebServer.url("/v1/customers/customer_bf8paz/certificates").toString())
+                                .method(HttpMethod.DELETE)
+                                .build());
+
+                // Assert
+                assertEquals(204, response.getStatusCode());
+                assertEquals("DELETE", mockWebServer.takeRequest(1, TimeUnit.SECONDS).getMethod());
+        }
+}
@@ -0,0 +1,55 @@
+package io.bolta.http.impl;
+
+import okhttp3.Headers;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OkHttpHeaderMap}.
+ */
+class OkHttpHeaderMapTest {
+
+        @Test
+        void testLookupIsCaseInsensitive() {
+                // Arrange
+                Map<String, String> headers = new OkHttpHeaderMap(Headers.of(
+                                "Content-Type", "application/json",
+                                "Retry-After", "5"));
+
+                // Act & Assert
+                assertEquals("5", headers.get("retry-after"));
+                assertEquals("application/json", headers.get("CONTENT-TYPE"));
+                assertTrue(headers.containsKey("Retry-After"));
+                assertNull(headers.get("X-Missing"));
+                assertEquals(2, headers.size());
+        }
+
+        @Test
+        void testRepeatedHeaderKeepsLastValue() {
+                // Arrange
+                Map<String, String> headers = new OkHttpHeaderMap(Headers.of(
+                                "Set-Cookie", "a=1",
+                                "Set-Cookie", "b=2"));
+
+                // Act
+                Map<String, String> copy = new HashMap<>(headers);
+
+                // Assert
+                assertEquals("b=2", headers.get("Set-Cookie"));
+                assertEquals(1, copy.size());
+                assertEquals("b=2", copy.get("Set-Cookie"));
+        }
+
+        @Test
+        void testViewIsReadOnly() {
+                // Arrange
+                Map<String, String> headers = new OkHttpHeaderMap(Headers.of("Retry-After", "5"));
+
+                // Act & Assert
+                assertThrows(UnsupportedOperationException.class, () -> headers.put("Retry-After", "1"));
+        }
+}
@@ -0,0 +1,148 @@
+package io.bolta.idempotency;
+
+import io.bolta.exception.BoltaException;
+import io.bolta.model.IssuanceKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link IdempotencyRegistry}.
+ */
+class IdempotencyRegistryTest {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        void testExecuteAsync_CoalescesConcurrentCalls() {
+                // Arrange
+                IdempotencyRegistry registry = IdempotencyRegistry.builder().build();
+                CompletableFuture<IssuanceKey> response = new CompletableFuture<>();
+                AtomicInteger calls = new AtomicInteger();
+
+                // Act
+                CompletableFuture<IssuanceKey> first = registry.executeAsync(null, "order-1", () -> {
+                        calls.incrementAndGet();
+                        return response;
+                });
+                CompletableFuture<IssuanceKey> second = registry.executeAsync(null, "order-1", () -> {
+                        calls.incrementAndGet();
+                        return response;
+                });
+                response.complete(IssuanceKey.of("KEY_1"));
+
+                // Assert
+                assertEquals(1, calls.get());
+                assertNotSame(first, second);
+                assertEquals("KEY_1", first.join().getValue());
+                assertEquals("KEY_1", second.join().getValue());
+                assertEquals(1, registry.getCoalescedCount());
+        }
+
+        @Test
+        void testExecuteAsync_CancellingOneCallerLeavesTheOthers() {
+                // Arrange
+                IdempotencyRegistry registry = IdempotencyRegistry.builder().build();
+                CompletableFuture<IssuanceKey> response = new CompletableFuture<>();
+                CompletableFuture<IssuanceKey> first = registry.executeAsync(null, "order-1", () -> response);
+                CompletableFuture<IssuanceKey> second = registry.executeAsync(null, "order-1", () -> response);
+
+                // Act
+                first.cancel(false);
+                CompletableFuture<IssuanceKey> third = registry.executeAsync(null, "order-1", () -> {
+                        throw new AssertionError("should not be called");
+                });
+                response.complete(IssuanceKey.of("KEY_1"));
+
+                // Assert
+                assertTrue(first.isCancelled());
+                assertEquals("KEY_1", second.join().getValue());
+                assertEquals("KEY_1", third.join().getValue());
+                assertEquals("KEY_1", registry.get(null, "order-1").getValue());
+                assertEquals(2, registry.getCoalescedCount());
+        }
+
+        @Test
+        void testExecute_ReturnsRememberedKeyWithoutCalling() {
+                // Arrange
+                IdempotencyRegistry registry = IdempotencyRegistry.builder().build();
+                registry.execute("customer_1", "order-1", () -> IssuanceKey.of("KEY_1"));
+
+                // Act
+                IssuanceKey replayed = registry.execute("customer_1", "order-1", () -> {
+                        throw new AssertionError("should not be called");
+                });
+                IssuanceKey otherCustomer = registry.execute("customer_2", "order-1", () -> IssuanceKey.of("KEY_2"));
+
+                // Assert
+                assertEquals("KEY_1", replayed.getValue());
+                assertEquals("KEY_2", otherCustomer.getValue());
+                assertEquals(1, registry.getHitCount());
+                assertEquals(2, registry.getMissCount());
+        }
+
+        @Test
+        void testExecuteAsync_SharesFailureWithoutRememberingIt() {
+                // Arrange
+                IdempotencyRegistry registry = IdempotencyRegistry.builder().build();
+                CompletableFuture<IssuanceKey> response = new CompletableFuture<>();
+                CompletableFuture<IssuanceKey> first = registry.executeAsync(null, "order-1", () -> response);
+                CompletableFuture<IssuanceKey> second = registry.executeAsync(null, "order-1", () -> response);
+
+                // Act
+                response.completeExceptionally(new BoltaException("Network error"));
+
+                // Assert
+                CompletionException exception = assertThrows(CompletionException.class, second::join);
+                assertEquals("Network error", exception.getCause().getMessage());
+                assertTrue(first.isCompletedExceptionally());
+                assertNull(registry.get(null, "order-1"));
+                assertEquals("KEY_1", registry.execute(null, "order-1", () -> IssuanceKey.of("KEY_1")).getValue());
+        }
+
+        @Test
+        void testMaxEntries_EvictsLeastRecentlyUsed() {
+                // Arrange
+                IdempotencyRegistry registry = IdempotencyRegistry.builder().maxEntries(2).build();
+                registry.put(null, "order-1", IssuanceKey.of("KEY_1"));
+                registry.put(null, "order-2", IssuanceKey.of("KEY_2"));
+
+                // Act
+                registry.get(null, "order-1");
+                registry.put(null, "order-3", IssuanceKey.of("KEY_3"));
+
+                // Assert
+                assertEquals(2, registry.size());
+                assertNotNull(registry.get(null, "order-1"));
+                assertNull(registry.get(null, "order-2"));
+        }
+
+        @Test
+        void testPersistTo_ReloadsRememberedKeys() throws IOException {
+                // Arrange
+                Path file = tempDir.resolve("issued.jsonl");
+                IdempotencyRegistry registry = IdempotencyRegistry.builder().maxEntries(2).persistTo(file).build();
+                for (int i = 1; i <= 5; i++) {
+                        registry.put("customer_1", "order-" + i, IssuanceKey.of("KEY_" + i));
+                }
+                registry.close();
+
+                // Act
+                IdempotencyRegistry reloaded = IdempotencyRegistry.builder().maxEntries(2).persistTo(file).build();
+
+                // Assert
+                assertEquals(2, reloaded.size());
+                assertEquals("KEY_5", reloaded.get("customer_1", "order-5").getValue());
+                assertEquals("KEY_4", reloaded.get("customer_1", "order-4").getValue());
+                assertNull(reloaded.get(null, "order-5"));
+                reloaded.close();
+        }
+}
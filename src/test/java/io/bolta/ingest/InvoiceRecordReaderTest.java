@@ -0,0 +1,132 @@
+package io.bolta.ingest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bolta.model.IssuancePurpose;
+import io.bolta.model.TaxInvoice;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link JsonLinesInvoiceReader} and {@link CsvInvoiceReader}.
+ */
+class InvoiceRecordReaderTest {
+        private static final ObjectMapper MAPPER = new ObjectMapper()
+                        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        private static final String JSON_INVOICE = "{\"customerKey\":\"customer_1\",\"clientReferenceId\":\"ref-1\","
+                        + "\"date\":\"2024-01-01\",\"purpose\":\"RECEIPT\","
+                        + "\"supplier\":{\"identificationNumber\":\"1234567890\",\"organizationName\":\"My Company\","
+                        + "\"representativeName\":\"John Doe\",\"manager\":{\"email\":\"manager@example.com\"}},"
+                        + "\"supplied\":{\"identificationNumber\":\"0987654321\",\"organizationName\":\"Customer\","
+                        + "\"representativeName\":\"Jane Doe\"},"
+                        + "\"items\":[{\"date\":\"2024-01-01\",\"name\":\"Service Fee\",\"supplyCost\":10000}]}";
+
+        private static final String CSV_HEADER = "invoiceId,date,purpose,customerKey,"
+                        + "supplier.identificationNumber,supplier.organizationName,supplier.representativeName,"
+                        + "supplier.manager.email,supplied.identificationNumber,supplied.organizationName,"
+                        + "supplied.representativeName,item.date,item.name,item.supplyCost,item.description\n";
+
+        @Test
+        void testJsonLines_ReadsInvoiceAndRequestOptions() throws IOException {
+                // Arrange
+                JsonLinesInvoiceReader reader = jsonLines("\n" + JSON_INVOICE + "\n");
+
+                // Act
+                InvoiceRecord record = reader.read();
+
+                // Assert
+                assertTrue(record.isValid());
+                assertEquals(2, record.getLineNumber());
+                TaxInvoice invoice = record.getInvoice();
+                assertEquals(IssuancePurpose.RECEIPT, invoice.getPurpose());
+                assertEquals("manager@example.com", invoice.getSupplier().getManager().getEmail());
+                assertEquals(Long.valueOf(10000L), invoice.getTaxInvoiceLineItems().get(0).getSupplyCost());
+                assertEquals("customer_1", record.getOptions().getCustomerKey());
+                assertEquals("ref-1", record.getOptions().getClientReferenceId());
+                assertNull(reader.read());
+        }
+
+        @Test
+        void testJsonLines_ReportsBadLinesAndContinues() throws IOException {
+                // Arrange
+                String missingSupplier = JSON_INVOICE.replace("\"supplier\":", "\"ignored\":");
+                JsonLinesInvoiceReader reader = jsonLines("{not json\n[1,2]\n" + missingSupplier + "\n" + JSON_INVOICE);
+
+                // Act
+                InvoiceRecord malformed = reader.read();
+                InvoiceRecord notAnObject = reader.read();
+                InvoiceRecord invalid = reader.read();
+                InvoiceRecord valid = reader.read();
+
+                // Assert
+                assertFalse(malformed.isValid());
+                assertTrue(malformed.getError().startsWith("Malformed JSON"));
+                assertFalse(notAnObject.isValid());
+                assertEquals("supplier is required", invalid.getError());
+                assertEquals(3, invalid.getLineNumber());
+                assertTrue(valid.isValid());
+                assertEquals(4, valid.getLineNumber());
+        }
+
+        @Test
+        void testCsv_GroupsRowsByInvoiceId() throws IOException {
+                // Arrange
+                CsvInvoiceReader reader = csv(CSV_HEADER
+                                + "A,2024-01-01,receipt,customer_1,1234567890,My Company,John Doe,manager@example.com,"
+                                + "0987654321,Customer,Jane Doe,2024-01-01,Service Fee,10000,\n"
+                                + "A,,,,,,,,,,,2024-01-02,Support,5000,\"Weekend, \"\"urgent\"\"\nsupport\"\n"
+                                + "B,2024-01-03,CLAIM,,1234567890,My Company,John Doe,manager@example.com,"
+                                + "0987654321,Other,Jane Doe,2024-01-03,License,20000,\n");
+
+                // Act
+                InvoiceRecord first = reader.read();
+                InvoiceRecord second = reader.read();
+
+                // Assert
+                assertTrue(first.isValid());
+                assertEquals(2, first.getLineNumber());
+                assertEquals(IssuancePurpose.RECEIPT, first.getInvoice().getPurpose());
+                assertEquals(2, first.getInvoice().getTaxInvoiceLineItems().size());
+                assertEquals("Weekend, \"urgent\"\nsupport",
+                                first.getInvoice().getTaxInvoiceLineItems().get(1).getDescription());
+                assertEquals("customer_1", first.getOptions().getCustomerKey());
+
+                assertTrue(second.isValid());
+                assertEquals(5, second.getLineNumber());
+                assertEquals("Other", second.getInvoice().getSupplied().getOrganizationName());
+                assertNull(second.getOptions());
+                assertNull(reader.read());
+        }
+
+        @Test
+        void testCsv_ReportsInvalidRows() throws IOException {
+                // Arrange
+                CsvInvoiceReader reader = csv(CSV_HEADER
+                                + "A,2024-01-01,RECEIPT,,1234567890,My Company,John Doe,,"
+                                + "0987654321,Customer,Jane Doe,2024-01-01,Service Fee,10000,\n"
+                                + "B,2024-01-01,RECEIPT,,1234567890,My Company,John Doe,manager@example.com,"
+                                + "0987654321,Customer,Jane Doe,2024-01-01,Service Fee,ten,\n"
+                                + "C,2024-01-01,REFUND,,1234567890,My Company,John Doe,manager@example.com,"
+                                + "0987654321,Customer,Jane Doe,2024-01-01,Service Fee,10000,\n");
+
+                // Act & Assert
+                assertEquals("supplier.manager.email is required", reader.read().getError());
+                assertEquals("item.supplyCost is not a number: ten", reader.read().getError());
+                assertEquals("purpose must be RECEIPT or CLAIM: REFUND", reader.read().getError());
+                assertNull(reader.read());
+        }
+
+        private static JsonLinesInvoiceReader jsonLines(String content) {
+                return new JsonLinesInvoiceReader(new BufferedReader(new StringReader(content)), MAPPER);
+        }
+
+        private static CsvInvoiceReader csv(String content) {
+                return new CsvInvoiceReader(new BufferedReader(new StringReader(content)));
+        }
+}
@@ -0,0 +1,116 @@
+package io.bolta.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OutboxJournal}.
+ */
+class OutboxJournalTest {
+        private static final int SEGMENT_SIZE = 4096;
+
+        @TempDir
+        Path directory;
+
+        @Test
+        void testOpen_RecoversRecordsWithoutCompletion() throws IOException {
+                // Arrange
+                OutboxJournal journal = OutboxJournal.open(directory, SEGMENT_SIZE, false, new ArrayList<>());
+                long first = journal.appendPending(bytes("first"));
+                long second = journal.appendPending(bytes("second"));
+                journal.appendCompletion(first, OutboxJournal.ISSUED, bytes("KEY_1"));
+                journal.close();
+
+                // Act
+                List<OutboxJournal.Record> recovered = new ArrayList<>();
+                OutboxJournal reopened = OutboxJournal.open(directory, SEGMENT_SIZE, false, recovered);
+
+                // Assert
+                assertEquals(1, recovered.size());
+                assertEquals(second, recovered.get(0).sequence);
+                assertEquals("second", new String(recovered.get(0).payload, StandardCharsets.UTF_8));
+                assertEquals(1, reopened.pendingCount());
+                assertTrue(reopened.appendPending(bytes("third")) > second);
+                reopened.close();
+        }
+
+        @Test
+        void testAppend_RollsAndDeletesCompletedSegments() throws IOException {
+                // Arrange
+                OutboxJournal journal = OutboxJournal.open(directory, SEGMENT_SIZE, false, new ArrayList<>());
+                List<Long> sequences = new ArrayList<>();
+
+                // Act
+                for (int i = 0; i < 200; i++) {
+                        sequences.add(journal.appendPending(new byte[100]));
+                }
+                int filesWhilePending = segments().size();
+                for (long sequence : sequences) {
+                        journal.appendCompletion(sequence, OutboxJournal.ISSUED, new byte[0]);
+                }
+
+                // Assert
+                assertTrue(filesWhilePending > 1);
+                assertEquals(1, segments().size());
+                assertEquals(0, journal.pendingCount());
+                journal.close();
+        }
+
+        @Test
+        void testOpen_StopsAtCorruptRecord() throws IOException {
+                // Arrange
+                OutboxJournal journal = OutboxJournal.open(directory, SEGMENT_SIZE, false, new ArrayList<>());
+                journal.appendPending(bytes("intact"));
+                journal.close();
+                Path segment = segments().get(0);
+                try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+                        file.seek(8 + 13); // first payload byte
+                        file.write('X');
+                }
+
+                // Act
+                List<OutboxJournal.Record> recovered = new ArrayList<>();
+                OutboxJournal reopened = OutboxJournal.open(directory, SEGMENT_SIZE, false, recovered);
+
+                // Assert
+                assertTrue(recovered.isEmpty());
+                reopened.close();
+        }
+
+        @Test
+        void testAppend_RejectsRecordLargerThanSegment() throws IOException {
+                // Arrange
+                OutboxJournal journal = OutboxJournal.open(directory, SEGMENT_SIZE, false, new ArrayList<>());
+
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class, () -> journal.appendPending(new byte[SEGMENT_SIZE]));
+                journal.close();
+        }
+
+        private List<Path> segments() throws IOException {
+                List<Path> paths = new ArrayList<>();
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                        for (Path path : stream) {
+                                paths.add(path);
+                        }
+                }
+                Collections.sort(paths);
+                return paths;
+        }
+
+        private static byte[] bytes(String value) {
+                return value.getBytes(StandardCharsets.UTF_8);
+        }
+}
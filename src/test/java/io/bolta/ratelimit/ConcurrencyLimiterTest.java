@@ -0,0 +1,218 @@
+package io.bolta.ratelimit;
+
+import io.bolta.exception.BoltaException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ConcurrencyLimiter}.
+ */
+class ConcurrencyLimiterTest {
+
+        private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+        private ConcurrencyLimiter.Builder builder() {
+                return ConcurrencyLimiter.builder().clock(now::get);
+        }
+
+        private void advanceMillis(long millis) {
+                now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        @Test
+        void testAcquire_QueuesBeyondLimitInOrder() {
+                // Arrange
+                ConcurrencyLimiter limiter = builder().initialLimit(1).build();
+                ConcurrencyLimiter.Permit first = limiter.acquire();
+
+                // Act
+                CompletableFuture<ConcurrencyLimiter.Permit> second = limiter.acquireAsync();
+                CompletableFuture<ConcurrencyLimiter.Permit> third = limiter.acquireAsync();
+
+                // Assert
+                assertFalse(second.isDone());
+                assertEquals(2, limiter.getQueueDepth());
+                first.ignore();
+                assertTrue(second.isDone());
+                assertFalse(third.isDone());
+                assertEquals(1, limiter.getInFlight());
+                assertEquals(1, limiter.getQueueDepth());
+        }
+
+        @Test
+        void testSuccess_RaisesLimitWhileInUse() {
+                // Arrange
+                ConcurrencyLimiter limiter = builder().initialLimit(2).build();
+
+                // Act
+                for (int i = 0; i < 10; i++) {
+                        ConcurrencyLimiter.Permit first = limiter.acquire();
+                        ConcurrencyLimiter.Permit second = limiter.acquire();
+                        advanceMillis(10);
+                        first.success();
+                        second.success();
+                }
+
+                // Assert
+                assertTrue(limiter.getLimit() > 2);
+        }
+
+        @Test
+        void testSuccess_DoesNotRaiseIdleLimit() {
+                // Arrange
+                ConcurrencyLimiter limiter = builder().initialLimit(10).build();
+
+                // Act
+                for (int i = 0; i < 100; i++) {
+                        ConcurrencyLimiter.Permit permit = limiter.acquire();
+                        advanceMillis(10);
+                        permit.success();
+                }
+
+                // Assert
+                assertEquals(10, limiter.getLimit());
+        }
+
+        @Test
+        void testDropped_LowersLimitOncePerOverloadPeriod() {
+                // Arrange
+                ConcurrencyLimiter limiter = builder().initialLimit(10).build();
+                advanceMillis(1);
+                ConcurrencyLimiter.Permit first = limiter.acquire();
+                ConcurrencyLimiter.Permit second = limiter.acquire();
+                advanceMillis(10);
+
+                // Act & Assert
+                first.dropped();
+                assertEquals(9, limiter.getLimit());
+                second.dropped();
+                assertEquals(9, limiter.getLimit());
+
+                ConcurrencyLimiter.Permit third = limiter.acquire();
+                advanceMillis(10);
+                third.dropped();
+                assertEquals(8, limiter.getLimit());
+                assertEquals(3, limiter.getDroppedCount());
+        }
+
+        @Test
+        void testSuccess_SlowResponseCountsAsOverload() {
+                // Arrange
+                ConcurrencyLimiter limiter = builder().initialLimit(10).latencyTolerance(2).build();
+                ConcurrencyLimiter.Permit fast = limiter.acquire();
+                advanceMillis(10);
+                fast.success();
+
+                // Act
+                ConcurrencyLimiter.Permit slow = limiter.acquire();
+                advanceMillis(50);
+                slow.success();
+
+                // Assert
+                assertEquals(9, limiter.getLimit());
+                assertEquals(1, limiter.getDroppedCount());
+        }
+
+        @Test
+        void testAcquireAsync_RejectsWhenQueueIsFull() {
+                // Arrange
+                ConcurrencyLimiter limiter = builder().initialLimit(1).maxQueueSize(0).build();
+                limiter.acquire();
+
+                // Act
+                CompletableFuture<ConcurrencyLimiter.Permit> rejected = limiter.acquireAsync();
+
+                // Assert
+                ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+                assertTrue(exception.getCause() instanceof BoltaException);
+                assertEquals(1, limiter.getRejectedCount());
+        }
+
+        @Test
+        void testRelease_SkipsCancelledWaitersAndIgnoresRepeats() {
+                // Arrange
+                ConcurrencyLimiter limiter = builder().initialLimit(1).build();
+                ConcurrencyLimiter.Permit permit = limiter.acquire();
+                limiter.acquireAsync().cancel(false);
+
+                // Act
+                permit.success();
+                permit.success();
+
+                // Assert
+                assertEquals(0, limiter.getInFlight());
+                assertEquals(0, limiter.getQueueDepth());
+                assertTrue(limiter.acquireAsync().isDone());
+        }
+
+        @Test
+        void testCancel_LeavesQueueAndFreesItsPlace() {
+                // Arrange
+                ConcurrencyLimiter limiter = builder().initialLimit(1).maxQueueSize(1).build();
+                ConcurrencyLimiter.Permit permit = limiter.acquire();
+                CompletableFuture<ConcurrencyLimiter.Permit> cancelled = limiter.acquireAsync();
+
+                // Act
+                cancelled.cancel(false);
+                CompletableFuture<ConcurrencyLimiter.Permit> next = limiter.acquireAsync();
+
+                // Assert
+                assertFalse(next.isCompletedExceptionally());
+                assertEquals(1, limiter.getQueueDepth());
+                assertEquals(0, limiter.getRejectedCount());
+                permit.success();
+                assertTrue(next.isDone());
+                assertEquals(1, limiter.getInFlight());
+        }
+
+        @Test
+        void testRelease_SkipsManyCancelledWaiters() {
+                // Arrange
+                ConcurrencyLimiter limiter = builder().initialLimit(1).build();
+                ConcurrencyLimiter.Permit permit = limiter.acquire();
+                for (int i = 0; i < 10_000; i++) {
+                        limiter.acquireAsync().cancel(false);
+                }
+                CompletableFuture<ConcurrencyLimiter.Permit> last = limiter.acquireAsync();
+
+                // Act
+                permit.success();
+
+                // Assert
+                assertTrue(last.isDone());
+                assertEquals(1, limiter.getInFlight());
+                assertEquals(0, limiter.getQueueDepth());
+        }
+
+        @Test
+        void testTryAcquire_GivesUpAfterTimeout() {
+                // Arrange
+                ConcurrencyLimiter limiter = builder().initialLimit(1).build();
+                ConcurrencyLimiter.Permit permit = limiter.acquire();
+
+                // Act
+                ConcurrencyLimiter.Permit timedOut = limiter.tryAcquire(10, TimeUnit.MILLISECONDS);
+
+                // Assert
+                assertNull(timedOut);
+                assertEquals(0, limiter.getQueueDepth());
+                permit.success();
+                assertNotNull(limiter.tryAcquire(0, TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void testBuild_ValidatesSettings() {
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.builder().initialLimit(0));
+                assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.builder().backoffRatio(1));
+                assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.builder().latencyTolerance(1));
+                assertThrows(IllegalArgumentException.class,
+                                () -> ConcurrencyLimiter.builder().minLimit(10).maxLimit(5).build());
+        }
+}
@@ -0,0 +1,220 @@
+package io.bolta.ratelimit;
+
+import io.bolta.exception.BoltaException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RateLimiter}.
+ */
+class RateLimiterTest {
+
+        private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+        private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+        private RateLimiter.Builder builder() {
+                return RateLimiter.builder()
+                                .clock(now::get)
+                                .sleeper(now::addAndGet);
+        }
+
+        @Test
+        void testAcquire_AllowsBurstThenPaces() {
+                // Arrange
+                RateLimiter limiter = builder().global(10, 3).build();
+
+                // Act & Assert
+                assertEquals(0, limiter.acquire("key", null));
+                assertEquals(0, limiter.acquire("key", null));
+                assertEquals(0, limiter.acquire("key", null));
+                assertEquals(100 * MILLIS, limiter.acquire("key", null));
+                assertEquals(100 * MILLIS, limiter.acquire("key", null));
+                assertEquals(2, limiter.getDelayedCount());
+        }
+
+        @Test
+        void testAcquire_RefillsOverTime() {
+                // Arrange
+                RateLimiter limiter = builder().global(10, 1).build();
+                limiter.acquire("key", null);
+
+                // Act
+                now.addAndGet(100 * MILLIS);
+
+                // Assert
+                assertEquals(0, limiter.acquire("key", null));
+        }
+
+        @Test
+        void testTryAcquire_ReturnsAtOnceWhenWaitExceedsTimeout() {
+                // Arrange
+                RateLimiter limiter = builder().global(10, 1).build();
+                limiter.acquire("key", null);
+                long before = now.get();
+
+                // Act & Assert
+                assertFalse(limiter.tryAcquire("key", null, 50));
+                assertEquals(before, now.get());
+                assertEquals(0, limiter.getRejectedCount());
+                assertTrue(limiter.tryAcquire("key", null, 100));
+                assertEquals(before + 100 * MILLIS, now.get());
+        }
+
+        @Test
+        void testAcquire_CustomerKeysAreLimitedSeparately() {
+                // Arrange
+                RateLimiter limiter = builder().perCustomerKey(1, 1).build();
+
+                // Act & Assert
+                assertEquals(0, limiter.acquire("key", "customer-a"));
+                assertEquals(0, limiter.acquire("key", "customer-b"));
+                assertEquals(1000 * MILLIS, limiter.acquire("key", "customer-a"));
+                assertEquals(0, limiter.acquire("key", null));
+        }
+
+        @Test
+        void testAcquire_ApiKeysAreLimitedSeparately() {
+                // Arrange
+                RateLimiter limiter = builder().perApiKey(2, 1).build();
+
+                // Act & Assert
+                assertEquals(0, limiter.acquire("key-a", null));
+                assertEquals(0, limiter.acquire("key-b", null));
+                assertEquals(500 * MILLIS, limiter.acquire("key-a", null));
+        }
+
+        @Test
+        void testAcquire_ThrottledCustomerDoesNotHoldBackOthers() {
+                // Arrange
+                RateLimiter limiter = builder()
+                                .global(100, 1)
+                                .perCustomerKey(1, 1)
+                                .build();
+                limiter.acquire("key", "customer-a");
+                CompletableFuture<Void> throttled = new CompletableFuture<>();
+
+                // Act
+                long scheduledDelay = reserveAsyncDelay(limiter, "customer-a", throttled);
+                now.addAndGet(10 * MILLIS);
+                long otherDelay = limiter.acquire("key", "customer-b");
+
+                // Assert
+                assertEquals(1000 * MILLIS, scheduledDelay);
+                assertEquals(0, otherDelay);
+                assertFalse(throttled.isDone());
+        }
+
+        @Test
+        void testAcquire_RejectsWithoutTakingPermitWhenWaitTooLong() {
+                // Arrange
+                RateLimiter limiter = RateLimiter.builder()
+                                .global(10, 1)
+                                .maxWaitMillis(50)
+                                .clock(now::get)
+                                .sleeper(nanos -> { })
+                                .build();
+                limiter.acquire("key", null);
+
+                // Act & Assert
+                assertThrows(BoltaException.class, () -> limiter.acquire("key", null));
+                assertEquals(1, limiter.getRejectedCount());
+                now.addAndGet(60 * MILLIS);
+                assertEquals(40 * MILLIS, limiter.acquire("key", null));
+        }
+
+        @Test
+        void testAcquire_ReturnsEarlierTierPermitWhenLaterTierRejects() {
+                // Arrange
+                RateLimiter limiter = builder()
+                                .perCustomerKey(1, 1)
+                                .perApiKey(10, 1)
+                                .maxWaitMillis(50)
+                                .build();
+                limiter.acquire("key", "customer-b");
+                long before = now.get();
+
+                // Act
+                assertThrows(BoltaException.class, () -> limiter.acquire("key", "customer-a"));
+                assertFalse(limiter.tryAcquire("key", "customer-a", 10));
+
+                // Assert
+                assertEquals(before, now.get());
+                now.addAndGet(100 * MILLIS);
+                assertEquals(0, limiter.acquire("key", "customer-a"));
+        }
+
+        @Test
+        void testAcquireAsync_ReturnsEarlierTierPermitWhenLaterTierRejects() {
+                // Arrange
+                RateLimiter limiter = builder()
+                                .perCustomerKey(1, 1)
+                                .perApiKey(10, 1)
+                                .maxWaitMillis(50)
+                                .build();
+                limiter.acquire("key", "customer-b");
+
+                // Act
+                CompletableFuture<Void> rejected = limiter.acquireAsync("key", "customer-a", null);
+
+                // Assert
+                assertTrue(rejected.isCompletedExceptionally());
+                assertEquals(1, limiter.getRejectedCount());
+                now.addAndGet(100 * MILLIS);
+                CompletableFuture<Void> retried = limiter.acquireAsync("key", "customer-a", null);
+                assertTrue(retried.isDone());
+                assertFalse(retried.isCompletedExceptionally());
+        }
+
+        @Test
+        void testAcquireAsync_CompletesAtOnceWithoutWait() {
+                // Arrange
+                RateLimiter limiter = builder().global(10, 2).build();
+
+                // Act
+                CompletableFuture<Void> future = limiter.acquireAsync("key", null, null);
+
+                // Assert
+                assertTrue(future.isDone());
+                assertFalse(future.isCompletedExceptionally());
+        }
+
+        @Test
+        void testBuild_RequiresALimit() {
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class, () -> RateLimiter.builder().build());
+                assertThrows(IllegalArgumentException.class, () -> RateLimiter.builder().global(0, 1));
+                assertThrows(IllegalArgumentException.class, () -> RateLimiter.builder().global(1, 0));
+                assertThrows(IllegalArgumentException.class, () -> RateLimiter.builder().maxWaitMillis(-1));
+        }
+
+        /**
+         * Starts an asynchronous acquire on a scheduler that records the first
+         * delay instead of running the task.
+         */
+        private static long reserveAsyncDelay(RateLimiter limiter, String customerKey,
+                        CompletableFuture<Void> observer) {
+                AtomicLong scheduled = new AtomicLong(-1);
+                ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1) {
+                        @Override
+                        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+                                scheduled.set(unit.toNanos(delay));
+                                return null;
+                        }
+                };
+                try {
+                        limiter.acquireAsync("key", customerKey, scheduler)
+                                        .whenComplete((ignored, throwable) -> observer.complete(null));
+                } finally {
+                        scheduler.shutdownNow();
+                }
+                return scheduled.get();
+        }
+}
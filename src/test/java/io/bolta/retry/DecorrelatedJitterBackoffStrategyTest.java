@@ -0,0 +1,62 @@
+package io.bolta.retry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link DecorrelatedJitterBackoffStrategy}.
+ */
+class DecorrelatedJitterBackoffStrategyTest {
+
+        @Test
+        void testCalculateDelay_StaysBetweenBaseAndThreeTimesPrevious() {
+                // Arrange
+                DecorrelatedJitterBackoffStrategy strategy = new DecorrelatedJitterBackoffStrategy(100, 60_000);
+
+                // Act & Assert
+                for (int i = 0; i < 1000; i++) {
+                        long first = strategy.calculateDelay(1, 0);
+                        assertTrue(first >= 100 && first <= 300, "first delay " + first);
+                        long next = strategy.calculateDelay(2, 1000);
+                        assertTrue(next >= 100 && next <= 3000, "next delay " + next);
+                }
+        }
+
+        @Test
+        void testCalculateDelay_FollowsPreviousDelay() {
+                // Arrange
+                DecorrelatedJitterBackoffStrategy strategy = new DecorrelatedJitterBackoffStrategy(100, 60_000);
+                long afterShort = 0;
+                long afterLong = 0;
+
+                // Act
+                for (int i = 0; i < 1000; i++) {
+                        afterShort += strategy.calculateDelay(3, 200);
+                        afterLong += strategy.calculateDelay(3, 10_000);
+                }
+
+                // Assert
+                assertTrue(afterLong > afterShort * 10);
+        }
+
+        @Test
+        void testCalculateDelay_CapsAtMaximum() {
+                // Arrange
+                DecorrelatedJitterBackoffStrategy strategy = new DecorrelatedJitterBackoffStrategy(100, 1000);
+
+                // Act & Assert
+                for (int i = 0; i < 1000; i++) {
+                        assertTrue(strategy.calculateDelay(5, Long.MAX_VALUE / 2) <= 1000);
+                        assertTrue(strategy.calculateDelay(40) <= 1000);
+                }
+                assertEquals(100, new DecorrelatedJitterBackoffStrategy(100, 100).calculateDelay(3, 100));
+        }
+
+        @Test
+        void testConstructor_ValidatesSettings() {
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class, () -> new DecorrelatedJitterBackoffStrategy(0, 1000));
+                assertThrows(IllegalArgumentException.class, () -> new DecorrelatedJitterBackoffStrategy(100, 50));
+        }
+}
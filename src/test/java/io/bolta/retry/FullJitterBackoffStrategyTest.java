@@ -0,0 +1,62 @@
+package io.bolta.retry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FullJitterBackoffStrategy}.
+ */
+class FullJitterBackoffStrategyTest {
+
+        @Test
+        void testCalculateDelay_StaysBelowExponentialCeiling() {
+                // Arrange
+                FullJitterBackoffStrategy strategy = new FullJitterBackoffStrategy(100, 60_000);
+
+                // Act & Assert
+                for (int i = 0; i < 1000; i++) {
+                        long first = strategy.calculateDelay(1);
+                        assertTrue(first >= 0 && first <= 100, "first delay " + first);
+                        long fourth = strategy.calculateDelay(4);
+                        assertTrue(fourth >= 0 && fourth <= 800, "fourth delay " + fourth);
+                }
+        }
+
+        @Test
+        void testCalculateDelay_SpreadsOverWholeRange() {
+                // Arrange
+                FullJitterBackoffStrategy strategy = new FullJitterBackoffStrategy(1000, 60_000);
+                long min = Long.MAX_VALUE;
+                long max = 0;
+
+                // Act
+                for (int i = 0; i < 1000; i++) {
+                        long delay = strategy.calculateDelay(1);
+                        min = Math.min(min, delay);
+                        max = Math.max(max, delay);
+                }
+
+                // Assert
+                assertTrue(min < 100);
+                assertTrue(max > 900);
+        }
+
+        @Test
+        void testCalculateDelay_CapsAtMaximum() {
+                // Arrange
+                FullJitterBackoffStrategy strategy = new FullJitterBackoffStrategy(100, 1000);
+
+                // Act & Assert
+                for (int i = 0; i < 1000; i++) {
+                        assertTrue(strategy.calculateDelay(2000) <= 1000);
+                }
+        }
+
+        @Test
+        void testConstructor_ValidatesSettings() {
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class, () -> new FullJitterBackoffStrategy(0, 1000));
+                assertThrows(IllegalArgumentException.class, () -> new FullJitterBackoffStrategy(100, 50));
+        }
+}
@@ -0,0 +1,74 @@
+package io.bolta.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HedgingPolicy}.
+ */
+class HedgingPolicyTest {
+
+        @Test
+        void testGetHedgeDelayMillis_FixedDelayIgnoresLatencies() {
+                // Arrange
+                HedgingPolicy policy = HedgingPolicy.builder().delayMillis(250).build();
+
+                // Act
+                policy.recordLatency(TimeUnit.SECONDS.toNanos(5));
+
+                // Assert
+                assertEquals(250, policy.getHedgeDelayMillis());
+        }
+
+        @Test
+        void testGetHedgeDelayMillis_UsesPercentileOnceEnoughSamples() {
+                // Arrange
+                HedgingPolicy policy = HedgingPolicy.builder()
+                                .percentile(0.9)
+                                .windowSize(10)
+                                .minimumSamples(10)
+                                .build();
+
+                // Act
+                for (int i = 1; i <= 9; i++) {
+                        policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(i * 10));
+                }
+                long beforeMinimum = policy.getHedgeDelayMillis();
+                policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(100));
+
+                // Assert
+                assertEquals(-1, beforeMinimum);
+                assertEquals(90, policy.getHedgeDelayMillis());
+        }
+
+        @Test
+        void testTryAcquire_BudgetRefillsWithRequests() {
+                // Arrange
+                HedgingPolicy policy = HedgingPolicy.builder().ratio(0.5).maxHedges(1).build();
+
+                // Act
+                boolean first = policy.tryAcquire();
+                boolean exhausted = policy.tryAcquire();
+                policy.recordRequest();
+                policy.recordRequest();
+                boolean refilled = policy.tryAcquire();
+
+                // Assert
+                assertTrue(first);
+                assertFalse(exhausted);
+                assertTrue(refilled);
+                assertEquals(1, policy.getExhaustedCount());
+        }
+
+        @Test
+        void testBuilder_RejectsInvalidValues() {
+                assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.builder().delayMillis(0));
+                assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.builder().percentile(1.0));
+                assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.builder().windowSize(0));
+                assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.builder().ratio(0));
+                assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.builder().maxHedges(0));
+        }
+}
@@ -0,0 +1,75 @@
+package io.bolta.retry;
+
+import io.bolta.exception.BoltaApiException;
+import io.bolta.model.RetryOption;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RetryAfter}.
+ */
+class RetryAfterTest {
+
+        private static final long NOW = 1445412480000L; // Wed, 21 Oct 2015 07:28:00 GMT
+
+        @Test
+        void testParseMillis_Seconds() {
+                // Act & Assert
+                assertEquals(120_000, RetryAfter.parseMillis("120", NOW));
+                assertEquals(0, RetryAfter.parseMillis(" 0 ", NOW));
+        }
+
+        @Test
+        void testParseMillis_HttpDate() {
+                // Act & Assert
+                assertEquals(90_000, RetryAfter.parseMillis("Wed, 21 Oct 2015 07:29:30 GMT", NOW));
+                assertEquals(0, RetryAfter.parseMillis("Wed, 21 Oct 2015 07:00:00 GMT", NOW));
+        }
+
+        @Test
+        void testParseMillis_MissingOrMalformed() {
+                // Act & Assert
+                assertEquals(-1, RetryAfter.parseMillis(null, NOW));
+                assertEquals(-1, RetryAfter.parseMillis("", NOW));
+                assertEquals(-1, RetryAfter.parseMillis("-5", NOW));
+                assertEquals(-1, RetryAfter.parseMillis("soon", NOW));
+        }
+
+        @Test
+        void testCalculateDelay_UsesRetryAfterCappedAtMaximum() {
+                // Arrange
+                RetryOption option = RetryOption.builder()
+                                .fixedBackoff(1000)
+                                .maxRetryAfterMillis(5000)
+                                .build();
+                BoltaApiException shortWait = new BoltaApiException(429, "Too many requests", "{}",
+                                Collections.singletonMap("retry-after", "2"));
+                BoltaApiException longWait = new BoltaApiException(503, "Unavailable", "{}",
+                                Collections.singletonMap("Retry-After", "3600"));
+                BoltaApiException otherStatus = new BoltaApiException(500, "Internal error", "{}",
+                                Collections.singletonMap("Retry-After", "2"));
+
+                // Act & Assert
+                assertEquals(2000, option.calculateDelay(1, shortWait));
+                assertEquals(5000, option.calculateDelay(1, longWait));
+                assertEquals(1000, option.calculateDelay(1, otherStatus));
+                assertEquals(1000, option.calculateDelay(1, null));
+        }
+
+        @Test
+        void testCalculateDelay_IgnoresRetryAfterWhenDisabled() {
+                // Arrange
+                RetryOption option = RetryOption.builder()
+                                .fixedBackoff(1000)
+                                .respectRetryAfter(false)
+                                .build();
+                BoltaApiException exception = new BoltaApiException(429, "Too many requests", "{}",
+                                Collections.singletonMap("Retry-After", "2"));
+
+                // Act & Assert
+                assertEquals(1000, option.calculateDelay(1, exception));
+        }
+}
@@ -0,0 +1,64 @@
+package io.bolta.retry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RetryBudget}.
+ */
+class RetryBudgetTest {
+
+        @Test
+        void testTryAcquire_StartsFullAndRunsOut() {
+                // Arrange
+                RetryBudget budget = RetryBudget.builder().maxRetries(2).build();
+
+                // Act & Assert
+                assertTrue(budget.tryAcquire());
+                assertTrue(budget.tryAcquire());
+                assertFalse(budget.tryAcquire());
+                assertEquals(2, budget.getRetryCount());
+                assertEquals(1, budget.getExhaustedCount());
+        }
+
+        @Test
+        void testRecordSuccess_EarnsRetriesAtRatio() {
+                // Arrange
+                RetryBudget budget = RetryBudget.builder().ratio(0.1).maxRetries(1).build();
+                budget.tryAcquire();
+
+                // Act
+                for (int i = 0; i < 9; i++) {
+                        budget.recordSuccess();
+                }
+                boolean afterNine = budget.tryAcquire();
+                budget.recordSuccess();
+                boolean afterTen = budget.tryAcquire();
+
+                // Assert
+                assertFalse(afterNine);
+                assertTrue(afterTen);
+        }
+
+        @Test
+        void testRecordSuccess_StopsAtCapacity() {
+                // Arrange
+                RetryBudget budget = RetryBudget.builder().ratio(1).maxRetries(3).build();
+
+                // Act
+                for (int i = 0; i < 100; i++) {
+                        budget.recordSuccess();
+                }
+
+                // Assert
+                assertEquals(3.0, budget.getAvailableRetries(), 1e-9);
+        }
+
+        @Test
+        void testBuild_ValidatesSettings() {
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class, () -> RetryBudget.builder().ratio(0));
+                assertThrows(IllegalArgumentException.class, () -> RetryBudget.builder().maxRetries(0));
+        }
+}